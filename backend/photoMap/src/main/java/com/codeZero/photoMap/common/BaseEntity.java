@@ -28,5 +28,9 @@ public abstract class BaseEntity {
         isDeleted = true;
     }
 
+    public void restore() {
+        isDeleted = false;
+    }
+
 }
 
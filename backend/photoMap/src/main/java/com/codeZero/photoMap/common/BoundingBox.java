@@ -0,0 +1,70 @@
+package com.codeZero.photoMap.common;
+
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+
+/**
+ * 지도 화면 영역 (위도/경도 사각형)
+ * 날짜 변경선을 넘는 영역은 minLng > maxLng로 표현한다.
+ * @param minLng 서쪽 경도
+ * @param minLat 남쪽 위도
+ * @param maxLng 동쪽 경도
+ * @param maxLat 북쪽 위도
+ */
+public record BoundingBox(double minLng, double minLat, double maxLng, double maxLat) {
+
+    /**
+     * "minLng,minLat,maxLng,maxLat" 형식의 문자열 파싱
+     * @param bbox 영역 문자열
+     * @return 영역
+     * @throws IllegalArgumentException 형식이 맞지 않거나 좌표 범위를 벗어난 경우
+     */
+    public static BoundingBox parse(String bbox) {
+        if (bbox == null || bbox.isBlank()) {
+            throw new IllegalArgumentException("영역(bbox)을 입력해주세요.");
+        }
+
+        String[] parts = bbox.split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("영역(bbox)은 minLng,minLat,maxLng,maxLat 형식이어야 합니다.");
+        }
+
+        try {
+            double minLng = Double.parseDouble(parts[0].trim());
+            double minLat = Double.parseDouble(parts[1].trim());
+            double maxLng = Double.parseDouble(parts[2].trim());
+            double maxLat = Double.parseDouble(parts[3].trim());
+
+            if (!isLng(minLng) || !isLng(maxLng) || !isLat(minLat) || !isLat(maxLat) || minLat > maxLat) {
+                throw new IllegalArgumentException("영역(bbox)의 좌표 범위가 올바르지 않습니다.");
+            }
+            return new BoundingBox(minLng, minLat, maxLng, maxLat);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("영역(bbox)은 minLng,minLat,maxLng,maxLat 형식이어야 합니다.");
+        }
+    }
+
+    /**
+     * 날짜 변경선(경도 180도)을 넘는 영역인지 여부
+     */
+    public boolean crossesAntimeridian() {
+        return minLng > maxLng;
+    }
+
+    /**
+     * 좌표가 영역 안에 있는지 확인 (경계 포함)
+     */
+    public boolean contains(double lat, double lng) {
+        if (lat < minLat || lat > maxLat) {
+            return false;
+        }
+        return crossesAntimeridian() ? (lng >= minLng || lng <= maxLng) : (lng >= minLng && lng <= maxLng);
+    }
+
+    private static boolean isLat(double value) {
+        return value >= -90 && value <= 90;
+    }
+
+    private static boolean isLng(double value) {
+        return value >= -180 && value <= 180;
+    }
+}
@@ -0,0 +1,115 @@
+package com.codeZero.photoMap.common;
+
+/**
+ * 위도/경도 좌표 계산 유틸리티
+ */
+public final class GeoUtils {
+
+    // 지구 평균 반지름 (m)
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    // 웹 메르카토르 투영에서 표현할 수 있는 최대 위도 (지도 타일의 위/아래 끝)
+    public static final double MAX_MERCATOR_LAT = 85.05112878;
+
+    // 모턴 코드(Z-order)를 만드는 기준 격자 줌 레벨 (적도 기준 약 2.4m 단위, 48비트)
+    public static final int MORTON_ZOOM = 24;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * 두 좌표 사이의 대원 거리 (Haversine 공식)
+     * @param lat1 첫 번째 좌표 위도
+     * @param lng1 첫 번째 좌표 경도
+     * @param lat2 두 번째 좌표 위도
+     * @param lng2 두 번째 좌표 경도
+     * @return 거리 (m)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * 경도를 웹 메르카토르 X 좌표로 변환
+     * @param lng 경도
+     * @return 0(서쪽 끝) 이상 1(동쪽 끝) 미만의 값
+     */
+    public static double mercatorX(double lng) {
+        double x = (lng + 180.0) / 360.0;
+        return Math.min(Math.max(x, 0.0), Math.nextDown(1.0));
+    }
+
+    /**
+     * 위도를 웹 메르카토르 Y 좌표로 변환 (최대 위도를 넘으면 끝으로 고정)
+     * @param lat 위도
+     * @return 0(북쪽 끝) 이상 1(남쪽 끝) 미만의 값
+     */
+    public static double mercatorY(double lat) {
+        double clamped = Math.max(-MAX_MERCATOR_LAT, Math.min(MAX_MERCATOR_LAT, lat));
+        double sin = Math.sin(Math.toRadians(clamped));
+        double y = 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+        return Math.min(Math.max(y, 0.0), Math.nextDown(1.0));
+    }
+
+    /**
+     * 좌표의 모턴 코드 (기준 격자의 x, y 인덱스 비트를 교차 배치)
+     * 같은 격자 칸에 속한 좌표들의 모턴 코드는 연속된 구간을 이루므로, 정렬하거나 인덱스를 걸면 칸 단위 범위 탐색이 가능하다.
+     * @param lat 위도
+     * @param lng 경도
+     * @return 0 이상 2^48 미만의 값
+     */
+    public static long mortonCode(double lat, double lng) {
+        long x = (long) (mercatorX(lng) * (1L << MORTON_ZOOM));
+        long y = (long) (mercatorY(lat) * (1L << MORTON_ZOOM));
+        return interleave(x, y);
+    }
+
+    /**
+     * 격자 칸의 모턴 코드 (zoom 레벨 칸에 속한 좌표들의 모턴 코드는 cellCode << 2 * (MORTON_ZOOM - zoom)부터 연속)
+     * @param x 칸의 x 인덱스
+     * @param y 칸의 y 인덱스
+     */
+    public static long interleave(long x, long y) {
+        return spread(x) | (spread(y) << 1);
+    }
+
+    /**
+     * 모턴 코드에서 격자 칸의 x 인덱스 복원 (interleave의 역)
+     */
+    public static long deinterleaveX(long code) {
+        return squash(code);
+    }
+
+    /**
+     * 모턴 코드에서 격자 칸의 y 인덱스 복원 (interleave의 역)
+     */
+    public static long deinterleaveY(long code) {
+        return squash(code >>> 1);
+    }
+
+    // 하위 32비트의 각 비트 사이에 0을 끼워 넣음
+    private static long spread(long v) {
+        v &= 0xFFFFFFFFL;
+        v = (v | (v << 16)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v << 8)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v << 2)) & 0x3333333333333333L;
+        v = (v | (v << 1)) & 0x5555555555555555L;
+        return v;
+    }
+
+    // 짝수 번째 비트만 모아 하위 32비트로 압축 (spread의 역)
+    private static long squash(long v) {
+        v &= 0x5555555555555555L;
+        v = (v | (v >>> 1)) & 0x3333333333333333L;
+        v = (v | (v >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v >>> 4)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v >>> 8)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v >>> 16)) & 0x00000000FFFFFFFFL;
+        return v;
+    }
+}
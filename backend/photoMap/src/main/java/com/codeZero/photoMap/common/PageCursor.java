@@ -0,0 +1,95 @@
+package com.codeZero.photoMap.common;
+
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션의 커서 인코딩/디코딩
+ * 클라이언트에는 마지막으로 조회한 ID(타임라인은 시각과 ID)를 Base64(URL-safe)로 감싼 불투명한 문자열로 전달한다.
+ */
+public final class PageCursor {
+
+    private static final String PREFIX = "id:";
+    private static final String TIMELINE_PREFIX = "t:";
+
+    private PageCursor() {
+    }
+
+    /**
+     * 마지막으로 조회한 ID를 커서 문자열로 인코딩
+     * @param lastId 마지막으로 조회한 엔티티 ID
+     * @return 커서 문자열
+     */
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 ID로 디코딩
+     * @param cursor 커서 문자열 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 커서 ID (첫 페이지면 Long.MAX_VALUE)
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (java.lang.IllegalArgumentException e) { // Base64 디코딩 실패, 숫자 변환 실패(NumberFormatException) 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 타임라인에서 마지막으로 조회한 사진의 시각과 ID를 커서 문자열로 인코딩
+     * @param takenAt 마지막으로 조회한 사진의 타임라인 시각
+     * @param lastId 마지막으로 조회한 사진 ID
+     * @return 커서 문자열
+     */
+    public static String encodeTimeline(LocalDateTime takenAt, Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TIMELINE_PREFIX + takenAt + "," + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 타임라인 커서 문자열을 시각과 ID로 디코딩
+     * @param cursor 커서 문자열 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 커서 위치 (첫 페이지면 null)
+     */
+    public static TimelinePosition decodeTimeline(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = decoded.indexOf(',');
+            if (!decoded.startsWith(TIMELINE_PREFIX) || comma < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new TimelinePosition(
+                    LocalDateTime.parse(decoded.substring(TIMELINE_PREFIX.length(), comma)),
+                    Long.parseLong(decoded.substring(comma + 1)));
+        } catch (java.lang.IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 타임라인 커서 위치
+     * @param takenAt 마지막으로 조회한 사진의 타임라인 시각
+     * @param id 마지막으로 조회한 사진 ID
+     */
+    public record TimelinePosition(LocalDateTime takenAt, long id) {
+    }
+}
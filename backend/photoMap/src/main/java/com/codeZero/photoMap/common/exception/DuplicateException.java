@@ -1,7 +1,20 @@
 package com.codeZero.photoMap.common.exception;
 
 public class DuplicateException extends RuntimeException {
+
+    // 충돌한 기존 리소스 (응답 data로 전달, 없으면 null)
+    private final Object existing;
+
     public DuplicateException(String message) {
+        this(message, null);
+    }
+
+    public DuplicateException(String message, Object existing) {
         super(message);
+        this.existing = existing;
+    }
+
+    public Object getExisting() {
+        return existing;
     }
 }
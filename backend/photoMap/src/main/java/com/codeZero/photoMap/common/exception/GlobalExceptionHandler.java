@@ -3,6 +3,7 @@ package com.codeZero.photoMap.common.exception;
 import com.codeZero.photoMap.common.ApiResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -17,6 +18,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    // 400 Bad Request error: @Valid 요청 본문 검증에 실패한 경우 사용 (첫 번째 검증 실패 메시지 반환)
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ApiResponse<String>> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
+        String message = ex.getBindingResult().getAllErrors().isEmpty()
+                ? "잘못된 요청입니다."
+                : ex.getBindingResult().getAllErrors().get(0).getDefaultMessage();
+        ApiResponse<String> response = ApiResponse.of(HttpStatus.BAD_REQUEST, message);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     // 401 Unauthorized error: 인증되지 않은 요청에 사용
     @ExceptionHandler(UnauthorizedException.class)
     public ResponseEntity<ApiResponse<String>> handleUnauthorizedException(UnauthorizedException ex) {
@@ -45,12 +56,22 @@ public class GlobalExceptionHandler {
     }
 
     // 409 Conflict error: 충돌이 발생 하는 경우 사용 (예 - 동일한 위치에 위치 폴더가 이미 존재하는 경우)
+    // 충돌한 기존 리소스가 있으면 message에 사유, data에 기존 리소스를 담아 반환 (예 - 근처에 이미 있는 위치 폴더)
     @ExceptionHandler(DuplicateException.class)
-    public ResponseEntity<ApiResponse<String>> handleDuplicateException(DuplicateException ex) {
-        ApiResponse<String> response = ApiResponse.of(HttpStatus.CONFLICT, ex.getMessage());
+    public ResponseEntity<ApiResponse<Object>> handleDuplicateException(DuplicateException ex) {
+        ApiResponse<Object> response = ex.getExisting() != null
+                ? ApiResponse.of(HttpStatus.CONFLICT, ex.getMessage(), ex.getExisting())
+                : ApiResponse.of(HttpStatus.CONFLICT, ex.getMessage());
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    // 503 Service Unavailable error: 작업 대기열이 가득 차 요청을 처리할 수 없는 경우 사용 (예 - 이미지 리사이즈 요청 폭주)
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<String>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        ApiResponse<String> response = ApiResponse.of(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     //500 Internal Server Error 중 메일 전송 에러
     @ExceptionHandler(EmailSendException.class)
     public ResponseEntity<ApiResponse<String>> handleEmailSendException(EmailSendException ex) {
@@ -0,0 +1,43 @@
+package com.codeZero.photoMap.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+/**
+ * 데이터베이스 종류 확인
+ * 일부 리포지토리가 MySQL 전용 네이티브 쿼리를 사용하므로, MySQL이 아닌 데이터베이스(H2 등)로는 서버를 시작하지 않는다.
+ * - PhotoBlobRepository.insertIfAbsent: INSERT IGNORE
+ * - PhotoHeatCellRepository.increment: INSERT ... ON DUPLICATE KEY UPDATE
+ * - PhotoHeatCellRepository.insertFromLocations: 비트 시프트 연산자(>>)
+ * H2의 MySQL 호환 모드도 위 구문을 모두 지원하지 않으므로 허용하지 않는다.
+ */
+@Slf4j
+@Configuration
+public class DatabaseConfig {
+
+    static final String REQUIRED_PRODUCT = "MySQL";
+
+    private final DataSource dataSource;
+
+    public DatabaseConfig(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    public void checkDatabaseProduct() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String product = metaData.getDatabaseProductName();
+            if (!REQUIRED_PRODUCT.equalsIgnoreCase(product)) {
+                throw new IllegalStateException("MySQL 전용 네이티브 쿼리를 사용하므로 MySQL 데이터베이스가 필요합니다. (현재: " + product + ")");
+            }
+            log.info("데이터베이스 확인: {} {}", product, metaData.getDatabaseProductVersion());
+        }
+    }
+}
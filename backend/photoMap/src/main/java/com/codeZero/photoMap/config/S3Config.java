@@ -1,5 +1,6 @@
 package com.codeZero.photoMap.config;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
@@ -7,10 +8,20 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.time.Duration;
 
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     @Value("${cloud.aws.credentials.accessKey}")
@@ -22,16 +33,61 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    /**
+     * 동기 S3 클라이언트 (서버 경유 업로드, 스트리밍 다운로드, 서명 URL 생성 및 비동기 클라이언트를 끈 경우의 대체 경로)
+     * 연결 풀 크기와 연결/소켓 타임아웃을 명시하여 S3가 느려질 때 호출 스레드가 무한정 기다리지 않도록 한다.
+     */
     @Bean
-    public AmazonS3Client amazonS3Client() {
+    public AmazonS3Client amazonS3Client(
+            @Value("${cloud.aws.s3.client.max-connections:100}") int maxConnections,
+            @Value("${cloud.aws.s3.client.connection-timeout-millis:2000}") int connectionTimeoutMillis,
+            @Value("${cloud.aws.s3.client.socket-timeout-millis:10000}") int socketTimeoutMillis) {
 
         AWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
 
+        ClientConfiguration clientConfiguration = new ClientConfiguration()
+                .withMaxConnections(maxConnections)
+                .withConnectionTimeout(connectionTimeoutMillis)
+                .withSocketTimeout(socketTimeoutMillis);
+
         return (AmazonS3Client) AmazonS3ClientBuilder
                 .standard()
                 .withCredentials(new AWSStaticCredentialsProvider(credentials))
+                .withClientConfiguration(clientConfiguration)
                 .withRegion(region)
                 .build();
     }
 
+    /**
+     * 비동기 S3 클라이언트 (AWS SDK v2, Netty 기반)
+     * 최대 동시 연결 수, 연결 획득 대기 시간, 연결/읽기 타임아웃과 API 호출 전체/시도별 타임아웃을 명시한다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cloud.aws.s3.async.enabled", havingValue = "true", matchIfMissing = true)
+    public S3AsyncClient s3AsyncClient(
+            @Value("${cloud.aws.s3.async.max-concurrency:64}") int maxConcurrency,
+            @Value("${cloud.aws.s3.async.max-pending-acquires:1000}") int maxPendingAcquires,
+            @Value("${cloud.aws.s3.async.connection-acquire-timeout-millis:2000}") long connectionAcquireTimeoutMillis,
+            @Value("${cloud.aws.s3.async.connection-timeout-millis:2000}") long connectionTimeoutMillis,
+            @Value("${cloud.aws.s3.async.read-timeout-millis:10000}") long readTimeoutMillis,
+            @Value("${cloud.aws.s3.async.api-call-timeout-millis:15000}") long apiCallTimeoutMillis,
+            @Value("${cloud.aws.s3.async.api-call-attempt-timeout-millis:5000}") long apiCallAttemptTimeoutMillis) {
+
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConcurrency)
+                        .maxPendingConnectionAcquires(maxPendingAcquires)
+                        .connectionAcquisitionTimeout(Duration.ofMillis(connectionAcquireTimeoutMillis))
+                        .connectionTimeout(Duration.ofMillis(connectionTimeoutMillis))
+                        .readTimeout(Duration.ofMillis(readTimeoutMillis))
+                        .writeTimeout(Duration.ofMillis(readTimeoutMillis)))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .apiCallTimeout(Duration.ofMillis(apiCallTimeoutMillis))
+                        .apiCallAttemptTimeout(Duration.ofMillis(apiCallAttemptTimeoutMillis))
+                        .build())
+                .build();
+    }
+
 }
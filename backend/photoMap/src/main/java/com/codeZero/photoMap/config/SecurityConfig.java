@@ -72,6 +72,7 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.PATCH, "/api/members/delete").authenticated() //탈퇴 허용
                 .requestMatchers(HttpMethod.POST, "/api/groups/*/invite").authenticated() //초대URL
                 .requestMatchers(HttpMethod.GET, "/api/invitations/accept").permitAll() // 초대 수락 URL GET 요청 허용
+                .requestMatchers("/storage/**").permitAll() // 로컬/메모리 스토리지 서명 URL (서명으로 접근 제어)
                 .anyRequest().authenticated()); //나머지 요청은 로그인한 사용자만 접근 가능
 
         //예외 처리기 설정
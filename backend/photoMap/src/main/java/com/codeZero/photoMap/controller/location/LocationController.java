@@ -2,17 +2,26 @@ package com.codeZero.photoMap.controller.location;
 
 import com.codeZero.photoMap.common.ApiResponse;
 import com.codeZero.photoMap.dto.location.request.LocationCreateRequest;
+import com.codeZero.photoMap.dto.location.response.HeatmapTileResponse;
+import com.codeZero.photoMap.dto.location.response.LocationClusterResponse;
+import com.codeZero.photoMap.dto.location.response.LocationMergeResponse;
 import com.codeZero.photoMap.dto.location.response.LocationResponse;
+import com.codeZero.photoMap.dto.location.response.NearbyLocationResponse;
 import com.codeZero.photoMap.dto.location.request.LocationUpdateRequest;
 import com.codeZero.photoMap.security.CustomUserDetails;
 import com.codeZero.photoMap.service.location.LocationService;
+import com.codeZero.photoMap.service.location.LocationTileService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,7 +31,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class LocationController {
 
+    private static final MediaType MVT = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
+    // 위치가 바뀌면 타일 내용도 바뀌므로 매번 ETag로 재검증
+    private static final String TILE_CACHE_CONTROL = "private, no-cache";
+
     private final LocationService locationService;
+    private final LocationTileService locationTileService;
 
     /**
      * 위치 생성 API
@@ -53,6 +68,110 @@ public class LocationController {
         return ApiResponse.ok(locationService.getLocationsByMemberId(userDetails.getId()));
     }
 
+    /**
+     * 지도 화면 영역 안의 위치 리스트 조회 API
+     * @param userDetails JWT 토큰 정보 (memberId)
+     * @param bbox 화면 영역 ("minLng,minLat,maxLng,maxLat", 날짜 변경선을 넘으면 minLng > maxLng)
+     * @param groupId 그룹 ID (생략 시 사용자가 속한 모든 그룹)
+     * @return List<LocationResponse> 위치 응답 DTO 리스트
+     */
+    @GetMapping("/viewport")
+    public ApiResponse<List<LocationResponse>> getLocationsInViewport(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam String bbox,
+            @RequestParam(required = false) Long groupId
+    ) {
+        return ApiResponse.ok(locationService.getLocationsInViewport(userDetails.getId(), groupId, bbox));
+    }
+
+    /**
+     * 좌표에서 가까운 위치 조회 API
+     * @param userDetails JWT 토큰 정보 (memberId)
+     * @param lat 위도
+     * @param lng 경도
+     * @param k 최대 개수 (기본 10, 최대 100)
+     * @param radius 반경 (m, 생략 시 거리 제한 없음)
+     * @param groupId 그룹 ID (생략 시 사용자가 속한 모든 그룹)
+     * @return List<NearbyLocationResponse> 가까운 순 위치 응답 DTO 리스트
+     */
+    @GetMapping("/nearby")
+    public ApiResponse<List<NearbyLocationResponse>> getNearbyLocations(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(required = false) Double radius,
+            @RequestParam(required = false) Long groupId
+    ) {
+        return ApiResponse.ok(locationService.getNearbyLocations(userDetails.getId(), groupId, lat, lng, k, radius));
+    }
+
+    /**
+     * 지도 화면 영역의 위치 클러스터 조회 API
+     * @param userDetails JWT 토큰 정보 (memberId)
+     * @param bbox 화면 영역 ("minLng,minLat,maxLng,maxLat", 날짜 변경선을 넘으면 minLng > maxLng)
+     * @param zoom 지도 줌 레벨 (0 ~ 22)
+     * @return List<LocationClusterResponse> 클러스터 응답 DTO 리스트
+     */
+    @GetMapping("/clusters")
+    public ApiResponse<List<LocationClusterResponse>> getLocationClusters(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam String bbox,
+            @RequestParam int zoom
+    ) {
+        return ApiResponse.ok(locationService.getLocationClusters(userDetails.getId(), bbox, zoom));
+    }
+
+    /**
+     * 위치 벡터 타일 조회 API (Mapbox Vector Tile, 사용자가 속한 모든 그룹의 위치를 "locations" 점 레이어로 인코딩)
+     * @param userDetails JWT 토큰 정보 (memberId)
+     * @param z 줌 레벨 (0 ~ 22)
+     * @param x 타일 x 인덱스
+     * @param y 타일 y 인덱스 (북쪽이 0)
+     * @return 인코딩된 타일 (위치가 없으면 빈 본문)
+     */
+    @GetMapping("/tiles/{z}/{x}/{y}.mvt")
+    public ResponseEntity<byte[]> getLocationTile(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable int z,
+            @PathVariable long x,
+            @PathVariable long y,
+            WebRequest webRequest
+    ) {
+        LocationTileService.Tile tile = locationTileService.getTile(userDetails.getId(), z, x, y);
+        String eTag = "\"" + tile.eTag() + "\"";
+
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .header(HttpHeaders.CACHE_CONTROL, TILE_CACHE_CONTROL)
+                .contentType(MVT)
+                .body(tile.bytes());
+    }
+
+    /**
+     * 그룹 사진 밀도 히트맵 타일 조회 API
+     * @param userDetails JWT 토큰 정보 (memberId)
+     * @param groupId 그룹 ID (PathVariable)
+     * @param z 줌 레벨 (0 ~ 22)
+     * @param x 타일 x 인덱스
+     * @param y 타일 y 인덱스 (북쪽이 0)
+     * @return HeatmapTileResponse 격자 레벨과 [x, y, 사진 수] 칸 리스트
+     */
+    @GetMapping("/groups/{groupId}/heatmap/{z}/{x}/{y}")
+    public ApiResponse<HeatmapTileResponse> getHeatmapTile(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long groupId,
+            @PathVariable int z,
+            @PathVariable long x,
+            @PathVariable long y
+    ) {
+        return ApiResponse.ok(locationService.getHeatmapTile(userDetails.getId(), groupId, z, x, y));
+    }
+
     /**
      * 그룹 별 위치 리스트 조회 API
      * @param groupId 그룹 ID
@@ -67,6 +186,22 @@ public class LocationController {
         return ApiResponse.ok(locationService.getLocationsByGroupId(userDetails.getId(), groupId));
     }
 
+    /**
+     * 그룹 내 근접 중복 위치 병합 API (그룹 OWNER 전용)
+     * @param userDetails JWT 토큰 정보 (memberId)
+     * @param groupId 그룹 ID (PathVariable)
+     * @param radius 중복으로 볼 반경 (m, 생략 시 생성 시 중복 검사 반경)
+     * @return List<LocationMergeResponse> 병합 결과 리스트
+     */
+    @PostMapping("/groups/{groupId}/merge-duplicates")
+    public ApiResponse<List<LocationMergeResponse>> mergeNearDuplicates(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long groupId,
+            @RequestParam(required = false) Double radius
+    ) {
+        return ApiResponse.ok(locationService.mergeNearDuplicates(userDetails.getId(), groupId, radius));
+    }
+
     /**
      * 위치 이름, 위도, 경도 수정 API
      * @param locationId 위치 ID (PathVariable)
@@ -0,0 +1,193 @@
+package com.codeZero.photoMap.controller.photo;
+
+import com.codeZero.photoMap.service.photo.PhotoContent;
+import com.codeZero.photoMap.service.photo.PhotoResizeService;
+import com.codeZero.photoMap.service.photo.PhotoService;
+import com.codeZero.photoMap.service.photo.ResizeFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 사진 원본 및 리사이즈된 사진을 앱에서 직접 전송 (Pre-signed URL 대신 사용할 수 있는 선택적 엔드포인트)
+ * 원본은 ETag/If-None-Match 조건부 요청과 단일 구간 Range 요청을 지원하며,
+ * 로컬 디스크 캐시에 있는 사진은 sendfile(Tomcat) 또는 FileChannel.transferTo로 복사 없이 전송한다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/photos")
+@RequiredArgsConstructor
+public class PhotoContentController {
+
+    // Tomcat sendfile 요청 속성 (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    // 사진 원본은 같은 fileKey로 바뀌지 않으므로 브라우저 캐시 허용 (로그인 사용자 전용이므로 private)
+    private static final String CACHE_CONTROL = "private, max-age=86400";
+
+    private final PhotoService photoService;
+    private final PhotoResizeService photoResizeService;
+
+    @GetMapping("/{photoId}/content")
+    public void getPhotoContent(
+            @PathVariable Long photoId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        PhotoContent content = photoService.getPhotoContent(photoId);
+        String eTag = "\"" + content.eTag() + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long size = content.size();
+        long start = 0;
+        long end = size - 1;
+
+        // If-Range의 ETag가 다르면 Range를 무시하고 전체 전송
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(eTag))) {
+            long[] range = parseRange(rangeHeader, size);
+            if (range == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            start = range[0];
+            end = range[1];
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+
+        long length = Math.max(0, end - start + 1);
+        response.setContentType(content.contentType());
+        response.setContentLengthLong(length);
+        if (length == 0) {
+            return;
+        }
+
+        if (content.cachedFile() != null) {
+            writeCachedFile(content, start, length, request, response);
+        } else {
+            try (InputStream in = photoService.openPhotoContent(content, start, end)) {
+                in.transferTo(response.getOutputStream());
+            }
+        }
+    }
+
+    @GetMapping("/{photoId}/resized")
+    public ResponseEntity<byte[]> getResizedPhoto(
+            @PathVariable Long photoId,
+            @RequestParam int width,
+            @RequestParam(defaultValue = "jpeg") String format,
+            WebRequest webRequest
+    ) {
+        PhotoResizeService.Rendition rendition = photoResizeService.getResized(photoId, width, ResizeFormat.from(format));
+        String eTag = "\"" + rendition.eTag() + "\"";
+
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                .contentType(MediaType.parseMediaType(rendition.contentType()))
+                .body(rendition.bytes());
+    }
+
+    /**
+     * 캐시 파일 전송 - 컨테이너가 sendfile을 지원하면 위임하고, 아니면 FileChannel.transferTo 사용
+     */
+    private void writeCachedFile(PhotoContent content, long start, long length,
+                                 HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, content.cachedFile().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, start + length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(content.cachedFile(), StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, target);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * If-None-Match 헤더가 현재 ETag와 일치하는지 확인 (약한 비교)
+     */
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 단일 구간 Range 헤더 해석
+     * @return [시작, 끝] (포함), 만족할 수 없는 Range면 null
+     */
+    private long[] parseRange(String rangeHeader, long size) {
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            if (ranges.size() != 1 || size == 0) {
+                return null;
+            }
+            HttpRange range = ranges.get(0);
+            return new long[]{range.getRangeStart(size), range.getRangeEnd(size)};
+        } catch (java.lang.IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.codeZero.photoMap.controller.photo;
 
 import com.codeZero.photoMap.common.ApiResponse;
+import com.codeZero.photoMap.dto.photo.request.PhotoBatchCreateRequest;
+import com.codeZero.photoMap.dto.photo.request.PhotoBatchUploadRequest;
 import com.codeZero.photoMap.dto.photo.request.PhotoCreateRequest;
 import com.codeZero.photoMap.dto.photo.request.PhotoUpdateRequest;
 import com.codeZero.photoMap.dto.photo.request.PhotoUploadRequest;
+import com.codeZero.photoMap.dto.photo.response.OnThisDayResponse;
+import com.codeZero.photoMap.dto.photo.response.PhotoClusterResponse;
+import com.codeZero.photoMap.dto.photo.response.PhotoPageResponse;
 import com.codeZero.photoMap.dto.photo.response.PhotoResponse;
+import com.codeZero.photoMap.dto.photo.response.PhotoTimelineResponse;
 import com.codeZero.photoMap.security.CustomUserDetails;
 import com.codeZero.photoMap.service.photo.PhotoService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -34,6 +44,17 @@ public class PhotoController {
         return ApiResponse.ok(photo);
     }
 
+    @PostMapping("/locations/{locationId}/batch")
+    public ApiResponse<List<PhotoResponse>> createPhotos(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long locationId,
+            @Valid @RequestBody PhotoBatchCreateRequest request
+    ) {
+        List<PhotoResponse> photos = photoService.createPhotos(userDetails.getId(), locationId, request.toServiceRequests());
+
+        return ApiResponse.ok(photos);
+    }
+
     @PostMapping("/{photoId}")
     public ApiResponse<PhotoResponse> uploadPhoto(
             @PathVariable Long photoId,
@@ -42,6 +63,23 @@ public class PhotoController {
         return ApiResponse.ok(photoService.uploadPhoto(photoId, request));
     }
 
+    @PutMapping("/{photoId}/content")
+    public ApiResponse<PhotoResponse> uploadPhotoContent(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long photoId,
+            InputStream content
+    ) {
+        return ApiResponse.ok(photoService.uploadPhotoContent(userDetails.getId(), photoId, content));
+    }
+
+    @PostMapping("/batch/upload")
+    public ApiResponse<List<PhotoResponse>> uploadPhotos(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody PhotoBatchUploadRequest request
+    ) {
+        return ApiResponse.ok(photoService.uploadPhotos(userDetails.getId(), request));
+    }
+
     @GetMapping
     public ApiResponse<List<PhotoResponse>> getPhotosByMemberId(
         @AuthenticationPrincipal CustomUserDetails userDetails
@@ -49,6 +87,38 @@ public class PhotoController {
         return ApiResponse.ok(photoService.getPhotosByMemberId(userDetails.getId()));
     }
 
+    @GetMapping("/page")
+    public ApiResponse<PhotoPageResponse> getPhotoPageByMemberId(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ApiResponse.ok(photoService.getPhotoPageByMemberId(userDetails.getId(), cursor, size));
+    }
+
+    @GetMapping("/timeline")
+    public ApiResponse<PhotoTimelineResponse> getTimeline(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) Long groupId,
+            @RequestParam(defaultValue = "day") String unit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ApiResponse.ok(photoService.getTimeline(userDetails.getId(), groupId, unit, from, to, cursor, size));
+    }
+
+    @GetMapping("/on-this-day")
+    public ApiResponse<List<OnThisDayResponse>> getOnThisDay(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) Long groupId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ApiResponse.ok(photoService.getOnThisDay(userDetails.getId(), groupId, date, size));
+    }
+
     @GetMapping("/{photoId}")
     public ApiResponse<PhotoResponse> getPhotoById(
             @PathVariable Long photoId
@@ -63,6 +133,23 @@ public class PhotoController {
         return ApiResponse.ok(photoService.getPhotosByLocationId(locationId));
     }
 
+    @GetMapping("/locations/{locationId}/page")
+    public ApiResponse<PhotoPageResponse> getPhotoPageByLocationId(
+            @PathVariable Long locationId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ApiResponse.ok(photoService.getPhotoPageByLocationId(locationId, cursor, size));
+    }
+
+    @GetMapping("/locations/{locationId}/near-duplicates")
+    public ApiResponse<List<PhotoClusterResponse>> getNearDuplicateClusters(
+            @PathVariable Long locationId,
+            @RequestParam(defaultValue = "8") int maxDistance
+    ) {
+        return ApiResponse.ok(photoService.getNearDuplicateClusters(locationId, maxDistance));
+    }
+
     @PatchMapping("/{photoId}")
     public ApiResponse<PhotoResponse> updatePhoto(
             @PathVariable Long photoId,
@@ -77,4 +164,18 @@ public class PhotoController {
     ) {
         return ApiResponse.of(HttpStatus.NO_CONTENT, photoService.deletePhoto(photoId));
     }
+
+    @PatchMapping("/{photoId}/restore")
+    public ApiResponse<PhotoResponse> restorePhoto(
+            @PathVariable Long photoId
+    ) {
+        return ApiResponse.ok(photoService.restorePhoto(photoId));
+    }
+
+    @GetMapping("/trash")
+    public ApiResponse<List<PhotoResponse>> getTrashedPhotos(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return ApiResponse.ok(photoService.getTrashedPhotos(userDetails.getId()));
+    }
 }
@@ -0,0 +1,42 @@
+package com.codeZero.photoMap.controller.search;
+
+import com.codeZero.photoMap.common.ApiResponse;
+import com.codeZero.photoMap.dto.search.response.SearchResultResponse;
+import com.codeZero.photoMap.security.CustomUserDetails;
+import com.codeZero.photoMap.service.search.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * 위치/그룹/멤버 이름 검색 API (입력할 때마다 호출하는 자동완성용)
+     * @param userDetails JWT 토큰 정보 (memberId)
+     * @param q 검색어 (앞부분/중간 일치, 초성 검색 가능)
+     * @param type 검색 대상 (location, group, member - 없으면 전체)
+     * @param groupId 그룹 ID (없으면 사용자가 속한 모든 그룹)
+     * @param limit 최대 개수 (1 ~ 50)
+     * @return List<SearchResultResponse> 검색 결과 응답 DTO 리스트
+     */
+    @GetMapping
+    public ApiResponse<List<SearchResultResponse>> search(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Long groupId,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ApiResponse.ok(searchService.search(userDetails.getId(), q, type, groupId, limit));
+    }
+}
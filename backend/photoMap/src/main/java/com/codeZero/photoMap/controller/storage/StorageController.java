@@ -0,0 +1,136 @@
+package com.codeZero.photoMap.controller.storage;
+
+import com.codeZero.photoMap.common.exception.ForbiddenException;
+import com.codeZero.photoMap.common.exception.NotFoundException;
+import com.codeZero.photoMap.service.storage.AppServedObjectStorage;
+import com.codeZero.photoMap.service.storage.ObjectInfo;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriUtils;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 로컬/메모리 스토리지의 서명 URL 처리 (S3 pre-signed URL 대체)
+ * storage.type이 s3가 아닐 때만 등록되며, 서명과 만료 시각을 검증한 뒤 오브젝트를 조회하거나 저장한다.
+ */
+@Slf4j
+@RestController
+@RequestMapping(StorageController.BASE_PATH)
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${storage.type:s3}' != 's3'")
+public class StorageController {
+
+    static final String BASE_PATH = "/storage";
+
+    private final AppServedObjectStorage objectStorage;
+
+    @GetMapping("/**")
+    public ResponseEntity<StreamingResponseBody> getObject(
+            HttpServletRequest request,
+            @RequestParam long expires,
+            @RequestParam String signature,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader
+    ) {
+        String key = extractKey(request);
+        verify("GET", key, expires, signature);
+
+        ObjectInfo info = objectStorage.head(key)
+                .orElseThrow(() -> new NotFoundException("파일을 찾을 수 없습니다: " + key));
+        MediaType contentType = info.contentType() != null
+                ? MediaType.parseMediaType(info.contentType())
+                : MediaType.APPLICATION_OCTET_STREAM;
+
+        if (rangeHeader == null) {
+            return ResponseEntity.ok()
+                    .contentType(contentType)
+                    .contentLength(info.size())
+                    .eTag(info.eTag())
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .body(out -> {
+                        try (InputStream in = objectStorage.get(key)) {
+                            in.transferTo(out);
+                        }
+                    });
+        }
+
+        // 단일 구간 Range 요청만 지원
+        List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+        if (ranges.size() != 1 || info.size() == 0) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + info.size())
+                    .build();
+        }
+
+        long start;
+        long end;
+        try {
+            start = ranges.get(0).getRangeStart(info.size());
+            end = ranges.get(0).getRangeEnd(info.size());
+        } catch (java.lang.IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + info.size())
+                    .build();
+        }
+
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .contentType(contentType)
+                .contentLength(end - start + 1)
+                .eTag(info.eTag())
+                .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + info.size())
+                .body(out -> {
+                    try (InputStream in = objectStorage.getRange(key, start, end)) {
+                        in.transferTo(out);
+                    }
+                });
+    }
+
+    @PutMapping("/**")
+    public ResponseEntity<Void> putObject(
+            HttpServletRequest request,
+            @RequestParam long expires,
+            @RequestParam String signature,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream content
+    ) {
+        String key = extractKey(request);
+        verify("PUT", key, expires, signature);
+
+        objectStorage.put(key, content, contentType);
+        log.debug("스토리지 서명 URL 업로드 완료: {}", key);
+
+        return ResponseEntity.ok().build();
+    }
+
+    private void verify(String method, String key, long expires, String signature) {
+        if (!objectStorage.getSigner().verify(method, key, expires, signature)) {
+            throw new ForbiddenException("유효하지 않거나 만료된 URL입니다.");
+        }
+    }
+
+    /**
+     * 요청 경로에서 오브젝트 key 추출 (/storage/ 이후 경로)
+     * @param request HTTP 요청
+     * @return 디코딩된 오브젝트 key
+     */
+    private String extractKey(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return UriUtils.decode(path.substring(BASE_PATH.length() + 1), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,10 @@
+package com.codeZero.photoMap.domain.group;
+
+/**
+ * 그룹에 속한 멤버의 이름 조회 결과 (검색 색인 적재용)
+ * @param groupId 그룹 ID
+ * @param memberId 멤버 ID
+ * @param name 멤버 이름
+ */
+public record GroupMemberName(Long groupId, Long memberId, String name) {
+}
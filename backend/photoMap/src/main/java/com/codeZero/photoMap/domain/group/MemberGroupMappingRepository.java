@@ -22,6 +22,9 @@ public interface MemberGroupMappingRepository extends JpaRepository<MemberGroupM
     //특정 그룹과 멤버에 대한 매핑이 존재하고 소프트 삭제되지 않은지를 확인(Id기반)
     boolean existsByMemberGroupIdAndMemberIdAndIsDeletedFalse(Long groupId, Long memberId);
 
+    //특정 그룹에서 멤버가 해당 역할(예 - OWNER)로 속해 있는지 확인
+    boolean existsByMemberGroupIdAndMemberIdAndRoleAndIsDeletedFalse(Long groupId, Long memberId, Role role);
+
     //그룹 ID와 멤버 이메일을 기반으로, 소프트 삭제되지 않은 매핑이 존재하는지 확인하는 메서드
     boolean existsByMemberGroupIdAndMemberEmailAndIsDeletedFalse(Long memberGroupId, String memberEmail);
 
@@ -37,6 +40,11 @@ public interface MemberGroupMappingRepository extends JpaRepository<MemberGroupM
 //    List<Long> findMemberGroupIdsByMemberIdAndIsDeletedFalse(Long memberId);
     @Query("SELECT m.memberGroup.id FROM MemberGroupMapping m WHERE m.member.id = :memberId AND m.isDeleted = false")
     List<Long> findGroupIdsByMemberIdAndIsDeletedFalse(@Param("memberId") Long memberId);
+
+    //여러 그룹에 속한 (탈퇴하지 않은) 멤버들의 이름 조회 (검색 색인 적재용)
+    @Query("SELECT new com.codeZero.photoMap.domain.group.GroupMemberName(m.memberGroup.id, m.member.id, m.member.name) " +
+            "FROM MemberGroupMapping m WHERE m.memberGroup.id IN :groupIds AND m.isDeleted = false AND m.member.isDeleted = false")
+    List<GroupMemberName> findMemberNamesByGroupIdIn(@Param("groupIds") List<Long> groupIds);
     /*
     @Query("SELECT mgm.memberGroup.id FROM MemberGroupMapping mgm WHERE mgm.member.id = :memberId")
     List<Long> findMemberGroupIdsByMemberIdAndIsDeletedFalse(@Param("memberId") Long memberId);
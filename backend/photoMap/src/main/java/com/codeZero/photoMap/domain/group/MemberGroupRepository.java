@@ -1,6 +1,9 @@
 package com.codeZero.photoMap.domain.group;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +18,11 @@ public interface MemberGroupRepository extends JpaRepository<MemberGroup, Long>
     //특정 멤버가 그룹장으로 있는 소프트 딜리트되지 않은 그룹들을 조회
     List<MemberGroup> findByOwnerIdAndIsDeletedFalse(Long ownerId);
 
+    //여러 그룹 ID로 소프트 딜리트되지 않은 그룹들을 조회
+    List<MemberGroup> findByIdInAndIsDeletedFalse(List<Long> groupIds);
+
+    //afterId 이후의 소프트 딜리트되지 않은 그룹 ID를 오름차순으로 조회
+    @Query("SELECT g.id FROM MemberGroup g WHERE g.id > :afterId AND g.isDeleted = false ORDER BY g.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
 }
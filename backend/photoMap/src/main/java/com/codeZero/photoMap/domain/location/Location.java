@@ -1,6 +1,7 @@
 package com.codeZero.photoMap.domain.location;
 
 import com.codeZero.photoMap.common.BaseEntity;
+import com.codeZero.photoMap.common.GeoUtils;
 import com.codeZero.photoMap.domain.group.MemberGroup;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -8,7 +9,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_location_group_geo_cell", columnList = "group_id, is_deleted, geo_cell")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -32,10 +38,31 @@ public class Location extends BaseEntity {
     @Column(nullable = false)
     private double longitude;
 
+    // 위도/경도의 모턴 코드 (화면 영역 범위 조회용, GeoUtils.mortonCode)
+    @Column(name = "geo_cell")
+    private Long geoCell;
+
+    // 업로드 완료된(휴지통 제외) 사진 수, 가장 최근 사진의 생성 시각과 ID
+    // LocationPhotoCounter가 UPDATE 쿼리로만 갱신하므로, 위치 수정 시 엔티티의 이전 값으로 덮어쓰지 않도록 updatable = false
+    @Column(nullable = false, updatable = false)
+    private int photoCount;
+
+    @Column(updatable = false)
+    private LocalDateTime lastPhotoAt;
+
+    @Column(updatable = false)
+    private Long coverPhotoId;
+
+    @PrePersist
+    private void initGeoCell() {
+        this.geoCell = GeoUtils.mortonCode(latitude, longitude);
+    }
+
     public void updateLocation(String name, double latitude, double longitude) {
         this.name = name;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.geoCell = GeoUtils.mortonCode(latitude, longitude);
     }
 
 }
@@ -0,0 +1,10 @@
+package com.codeZero.photoMap.domain.location;
+
+/**
+ * 위치의 그룹과 모턴 코드 조회 결과 (사진 밀도 격자 갱신용)
+ * @param locationId 위치 ID
+ * @param groupId 그룹 ID
+ * @param geoCell 위도/경도의 모턴 코드 (채워지기 전이면 null)
+ */
+public record LocationCell(Long locationId, Long groupId, Long geoCell) {
+}
@@ -0,0 +1,10 @@
+package com.codeZero.photoMap.domain.location;
+
+/**
+ * 위치의 그룹과 이름 조회 결과 (검색 색인 적재용)
+ * @param groupId 그룹 ID
+ * @param locationId 위치 ID
+ * @param name 위치 이름
+ */
+public record LocationName(Long groupId, Long locationId, String name) {
+}
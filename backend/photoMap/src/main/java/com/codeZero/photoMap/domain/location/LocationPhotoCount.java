@@ -0,0 +1,10 @@
+package com.codeZero.photoMap.domain.location;
+
+/**
+ * 위치의 그룹과 사진 수 조회 결과 (위치 공간 색인 갱신용)
+ * @param locationId 위치 ID
+ * @param groupId 그룹 ID
+ * @param photoCount 사진 수
+ */
+public record LocationPhotoCount(Long locationId, Long groupId, int photoCount) {
+}
@@ -1,10 +1,14 @@
 package com.codeZero.photoMap.domain.location;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,11 +17,81 @@ public interface LocationRepository extends JpaRepository<Location, Long> {
 
     Optional<Location> findByIdAndIsDeletedFalse(Long locationId);
 
-    Optional<Location> findByMemberGroupIdAndLatitudeAndLongitudeAndIsDeletedFalse(Long groupId, double latitude, double longitude);
-
     List<Location> findByMemberGroupIdAndIsDeletedFalse(Long groupId);
 
     @Query("SELECT l FROM Location l WHERE l.memberGroup.id IN :groupIds AND l.isDeleted = false")
     List<Location> findByMemberGroupIdInAndIsDeletedFalse(@Param("groupIds") List<Long> groupIds);
 
+    // 모턴 코드가 채워지지 않은 위치 (컬럼 추가 이전에 생성된 행)
+    List<Location> findByGeoCellIsNull(Pageable pageable);
+
+    // 위치에 사진 추가: 사진 수 증가, 더 최근 사진이면 대표 사진과 마지막 사진 시각 변경
+    @Transactional
+    @Modifying
+    @Query("UPDATE Location l SET l.photoCount = l.photoCount + :count, " +
+            "l.coverPhotoId = CASE WHEN l.coverPhotoId IS NULL OR l.coverPhotoId < :photoId THEN :photoId ELSE l.coverPhotoId END, " +
+            "l.lastPhotoAt = CASE WHEN l.lastPhotoAt IS NULL OR l.lastPhotoAt < :photoAt THEN :photoAt ELSE l.lastPhotoAt END " +
+            "WHERE l.id = :locationId")
+    int addPhotos(@Param("locationId") Long locationId, @Param("count") int count,
+                  @Param("photoId") Long photoId, @Param("photoAt") LocalDateTime photoAt);
+
+    // 위치에서 사진 제거: 사진 수 감소 (0 미만이 되지 않도록)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Location l SET l.photoCount = CASE WHEN l.photoCount > :count THEN l.photoCount - :count ELSE 0 END " +
+            "WHERE l.id = :locationId")
+    int removePhotos(@Param("locationId") Long locationId, @Param("count") int count);
+
+    // 대표 사진이 제거된 사진 중 하나이면 남은 사진 중 가장 최근 사진으로 대표 사진과 마지막 사진 시각 재계산
+    @Transactional
+    @Modifying
+    @Query("UPDATE Location l SET " +
+            "l.coverPhotoId = (SELECT MAX(p.id) FROM Photo p WHERE p.location = l AND p.isDeleted = false AND p.uploadStatus = true), " +
+            "l.lastPhotoAt = (SELECT MAX(p.createdDate) FROM Photo p WHERE p.location = l AND p.isDeleted = false AND p.uploadStatus = true) " +
+            "WHERE l.id = :locationId AND l.coverPhotoId IN :photoIds")
+    int refreshCoverIfIn(@Param("locationId") Long locationId, @Param("photoIds") List<Long> photoIds);
+
+    // 사진 수, 대표 사진, 마지막 사진 시각을 사진 테이블 기준으로 다시 계산 (누락/중복 반영 보정용)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Location l SET " +
+            "l.photoCount = (SELECT COUNT(p) FROM Photo p WHERE p.location = l AND p.isDeleted = false AND p.uploadStatus = true), " +
+            "l.coverPhotoId = (SELECT MAX(p.id) FROM Photo p WHERE p.location = l AND p.isDeleted = false AND p.uploadStatus = true), " +
+            "l.lastPhotoAt = (SELECT MAX(p.createdDate) FROM Photo p WHERE p.location = l AND p.isDeleted = false AND p.uploadStatus = true) " +
+            "WHERE l.id IN :locationIds")
+    int recountPhotos(@Param("locationIds") List<Long> locationIds);
+
+    // afterId 이후의 위치 ID를 오름차순으로 조회 (삭제된 위치 제외)
+    @Query("SELECT l.id FROM Location l WHERE l.id > :afterId AND l.isDeleted = false ORDER BY l.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 위치들의 그룹과 모턴 코드 (사진 밀도 격자 갱신용)
+    @Query("SELECT new com.codeZero.photoMap.domain.location.LocationCell(l.id, l.memberGroup.id, l.geoCell) " +
+            "FROM Location l WHERE l.id IN :locationIds")
+    List<LocationCell> findCellsByIdIn(@Param("locationIds") List<Long> locationIds);
+
+    // 위치들의 그룹과 사진 수 (위치 공간 색인 갱신용, 벌크 UPDATE 후에도 영속성 컨텍스트가 아닌 DB 값을 읽음)
+    @Query("SELECT new com.codeZero.photoMap.domain.location.LocationPhotoCount(l.id, l.memberGroup.id, l.photoCount) " +
+            "FROM Location l WHERE l.id IN :locationIds")
+    List<LocationPhotoCount> findPhotoCountsByIdIn(@Param("locationIds") List<Long> locationIds);
+
+    // 그룹들의 삭제되지 않은 위치 이름 (검색 색인 적재용)
+    @Query("SELECT new com.codeZero.photoMap.domain.location.LocationName(l.memberGroup.id, l.id, l.name) " +
+            "FROM Location l WHERE l.memberGroup.id IN :groupIds AND l.isDeleted = false")
+    List<LocationName> findNamesByGroupIdIn(@Param("groupIds") List<Long> groupIds);
+
+    // 삭제되지 않은 위치가 있는 그룹 ID
+    @Query("SELECT DISTINCT l.memberGroup.id FROM Location l WHERE l.isDeleted = false")
+    List<Long> findGroupIdsWithLocations();
+
+    // 중복 위치 병합 시 흡수된 위치 일괄 삭제
+    @Modifying
+    @Query("UPDATE Location l SET l.isDeleted = true, l.updatedDate = CURRENT_TIMESTAMP WHERE l.id IN :locationIds")
+    int deleteByIdIn(@Param("locationIds") List<Long> locationIds);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Location l SET l.geoCell = :geoCell WHERE l.id = :locationId")
+    void updateGeoCell(@Param("locationId") Long locationId, @Param("geoCell") long geoCell);
+
 }
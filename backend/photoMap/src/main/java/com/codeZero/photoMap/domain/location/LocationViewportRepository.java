@@ -0,0 +1,154 @@
+package com.codeZero.photoMap.domain.location;
+
+import com.codeZero.photoMap.common.BoundingBox;
+import com.codeZero.photoMap.common.GeoUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 화면 영역(bbox) 기준 Location 조회용 Repository
+ * 영역을 덮는 모턴 코드 구간 몇 개로 바꿔 (group_id, is_deleted, geo_cell) 인덱스를 범위 탐색하고,
+ * 구간이 영역보다 조금 넓게 잡히므로 읽은 행은 실제 좌표로 한 번 더 거른다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LocationViewportRepository {
+
+    // 영역을 덮는 격자의 축별 최대 칸 수 (구간 수와 영역 밖까지 읽는 양 사이의 균형)
+    private static final int MAX_CELLS_PER_AXIS = 4;
+
+    private final EntityManager entityManager;
+
+    /**
+     * 그룹들의 위치 중 영역 안에 있는 위치 조회
+     * @param groupIds 그룹 ID 리스트
+     * @param bbox 화면 영역
+     * @return 영역 안의 Location 리스트
+     */
+    public List<Location> findInBoundingBox(List<Long> groupIds, BoundingBox bbox) {
+
+        List<long[]> ranges = coveringRanges(bbox);
+
+        StringBuilder jpql = new StringBuilder(
+                "SELECT l FROM Location l WHERE l.memberGroup.id IN :groupIds AND l.isDeleted = false AND (");
+        for (int i = 0; i < ranges.size(); i++) {
+            if (i > 0) {
+                jpql.append(" OR ");
+            }
+            jpql.append("(l.geoCell >= :start").append(i).append(" AND l.geoCell < :end").append(i).append(')');
+        }
+        jpql.append(')');
+
+        TypedQuery<Location> query = entityManager.createQuery(jpql.toString(), Location.class)
+                .setParameter("groupIds", groupIds);
+        for (int i = 0; i < ranges.size(); i++) {
+            query.setParameter("start" + i, ranges.get(i)[0]);
+            query.setParameter("end" + i, ranges.get(i)[1]);
+        }
+
+        return query.getResultList().stream()
+                .filter(l -> bbox.contains(l.getLatitude(), l.getLongitude()))
+                .toList();
+    }
+
+    /**
+     * 그룹들의 위치 중 좌표에서 반경 안에 있는 위치 조회
+     * 반경을 덮는 영역으로 범위 탐색한 뒤 실제 거리로 거른다.
+     * @param groupIds 그룹 ID 리스트
+     * @param lat 위도
+     * @param lng 경도
+     * @param radiusMeters 반경 (m)
+     * @return 가까운 순으로 정렬된 Location 리스트
+     */
+    public List<Location> findWithinRadius(List<Long> groupIds, double lat, double lng, double radiusMeters) {
+        return findInBoundingBox(groupIds, around(lat, lng, radiusMeters)).stream()
+                .filter(l -> distance(l, lat, lng) <= radiusMeters)
+                .sorted(Comparator.comparingDouble(l -> distance(l, lat, lng)))
+                .toList();
+    }
+
+    /**
+     * 좌표에서 반경 안을 모두 덮는 영역 (극 근처이거나 반경이 아주 크면 경도 전체)
+     */
+    static BoundingBox around(double lat, double lng, double radiusMeters) {
+        double dLat = Math.toDegrees(radiusMeters / GeoUtils.EARTH_RADIUS_METERS);
+        double minLat = Math.max(-90, lat - dLat);
+        double maxLat = Math.min(90, lat + dLat);
+
+        // 적도에서 가장 먼 위도에서 경도 1도의 길이가 가장 짧으므로 그 위도 기준으로 경도 폭을 잡음
+        double cos = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        double dLng = cos > 0 ? Math.toDegrees(radiusMeters / (GeoUtils.EARTH_RADIUS_METERS * cos)) : 180;
+        if (dLng >= 180) {
+            return new BoundingBox(-180, minLat, 180, maxLat);
+        }
+
+        double minLng = lng - dLng < -180 ? lng - dLng + 360 : lng - dLng;
+        double maxLng = lng + dLng > 180 ? lng + dLng - 360 : lng + dLng;
+        return new BoundingBox(minLng, minLat, maxLng, maxLat);
+    }
+
+    private static double distance(Location location, double lat, double lng) {
+        return GeoUtils.distanceMeters(location.getLatitude(), location.getLongitude(), lat, lng);
+    }
+
+    /**
+     * 영역을 덮는 모턴 코드 구간 리스트 ([start, end), 시작 순으로 정렬 후 이어지는 구간은 병합)
+     * 영역의 긴 변이 격자 MAX_CELLS_PER_AXIS 칸 이내가 되는 줌 레벨을 골라 그 격자의 칸들로 덮는다.
+     */
+    static List<long[]> coveringRanges(BoundingBox bbox) {
+
+        double minX = GeoUtils.mercatorX(bbox.minLng());
+        double maxX = GeoUtils.mercatorX(bbox.maxLng());
+        double minY = GeoUtils.mercatorY(bbox.maxLat());
+        double maxY = GeoUtils.mercatorY(bbox.minLat());
+
+        double width = bbox.crossesAntimeridian() ? (1 - minX) + maxX : maxX - minX;
+        double size = Math.max(width, maxY - minY);
+
+        int zoom = GeoUtils.MORTON_ZOOM;
+        if (size > 0) {
+            int fit = (int) Math.floor(Math.log(MAX_CELLS_PER_AXIS / size) / Math.log(2));
+            zoom = Math.max(0, Math.min(GeoUtils.MORTON_ZOOM, fit));
+        }
+        long cells = 1L << zoom;
+        int shift = 2 * (GeoUtils.MORTON_ZOOM - zoom);
+
+        long cellMinX = (long) (minX * cells);
+        long cellMaxX = (long) (maxX * cells);
+        long cellMinY = (long) (minY * cells);
+        long cellMaxY = (long) (maxY * cells);
+
+        // 날짜 변경선을 넘으면 서쪽 끝 ~ 180도, -180도 ~ 동쪽 끝 두 구간으로 나눔
+        List<long[]> xRanges = bbox.crossesAntimeridian()
+                ? List.of(new long[]{cellMinX, cells - 1}, new long[]{0, cellMaxX})
+                : List.of(new long[]{cellMinX, cellMaxX});
+
+        List<long[]> ranges = new ArrayList<>();
+        for (long[] xRange : xRanges) {
+            for (long y = cellMinY; y <= cellMaxY; y++) {
+                for (long x = xRange[0]; x <= xRange[1]; x++) {
+                    long start = GeoUtils.interleave(x, y) << shift;
+                    ranges.add(new long[]{start, start + (1L << shift)});
+                }
+            }
+        }
+        ranges.sort(Comparator.comparingLong(r -> r[0]));
+
+        List<long[]> merged = new ArrayList<>();
+        for (long[] range : ranges) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && last[1] >= range[0]) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(range);
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,41 @@
+package com.codeZero.photoMap.domain.location;
+
+import com.codeZero.photoMap.domain.group.MemberGroup;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 그룹별 사진 밀도 격자 한 칸 (히트맵용)
+ * 줌 레벨마다 웹 메르카토르 격자 칸의 사진 수를 미리 모아 두어, 히트맵 조회가 그룹의 사진 수와 무관하게
+ * 화면에 보이는 칸 수만큼만 읽도록 한다. PhotoHeatmap이 UPDATE/INSERT 쿼리로만 갱신한다.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_photo_heat_cell", columnNames = {"group_id", "zoom_level", "cell"}))
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PhotoHeatCell {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", nullable = false)
+    private MemberGroup memberGroup;
+
+    // 격자 줌 레벨 (2^zoomLevel x 2^zoomLevel 칸)
+    @Column(nullable = false)
+    private int zoomLevel;
+
+    // 칸의 모턴 코드 (GeoUtils.interleave(x, y), 위치의 geo_cell >> 2 * (MORTON_ZOOM - zoomLevel))
+    @Column(nullable = false)
+    private long cell;
+
+    @Column(nullable = false)
+    private long photoCount;
+}
@@ -0,0 +1,46 @@
+package com.codeZero.photoMap.domain.location;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface PhotoHeatCellRepository extends JpaRepository<PhotoHeatCell, Long> {
+
+    // 칸의 사진 수 증감 (칸이 없으면 생성, 0 미만이 되지 않도록)
+    // MySQL 전용 구문(ON DUPLICATE KEY UPDATE) - 다른 데이터베이스로는 DatabaseConfig가 서버 시작을 막음
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO photo_heat_cell (group_id, zoom_level, cell, photo_count) " +
+            "VALUES (:groupId, :zoomLevel, :cell, GREATEST(:delta, 0)) " +
+            "ON DUPLICATE KEY UPDATE photo_count = GREATEST(photo_count + :delta, 0)",
+            nativeQuery = true)
+    int increment(@Param("groupId") Long groupId, @Param("zoomLevel") int zoomLevel,
+                  @Param("cell") long cell, @Param("delta") long delta);
+
+    // 모턴 코드 구간 [start, end) 안의 사진이 있는 칸 조회
+    @Query("SELECT c FROM PhotoHeatCell c WHERE c.memberGroup.id = :groupId AND c.zoomLevel = :zoomLevel " +
+            "AND c.cell >= :start AND c.cell < :end AND c.photoCount > 0 ORDER BY c.cell")
+    List<PhotoHeatCell> findInRange(@Param("groupId") Long groupId, @Param("zoomLevel") int zoomLevel,
+                                    @Param("start") long start, @Param("end") long end);
+
+    @Modifying
+    @Query(value = "DELETE FROM photo_heat_cell WHERE group_id = :groupId", nativeQuery = true)
+    int deleteByGroupId(@Param("groupId") Long groupId);
+
+    // 그룹 위치들의 사진 수를 zoomLevel 격자 칸별로 합산해 저장 (재계산용, 먼저 deleteByGroupId 필요)
+    // MySQL 전용 연산자(>>) 사용
+    @Modifying
+    @Query(value = "INSERT INTO photo_heat_cell (group_id, zoom_level, cell, photo_count) " +
+            "SELECT :groupId, :zoomLevel, c.cell, SUM(c.photo_count) " +
+            "FROM (SELECT l.geo_cell >> :shift AS cell, l.photo_count FROM location l " +
+            "      WHERE l.group_id = :groupId AND l.is_deleted = false AND l.photo_count > 0 AND l.geo_cell IS NOT NULL) c " +
+            "GROUP BY c.cell",
+            nativeQuery = true)
+    int insertFromLocations(@Param("groupId") Long groupId, @Param("zoomLevel") int zoomLevel, @Param("shift") int shift);
+}
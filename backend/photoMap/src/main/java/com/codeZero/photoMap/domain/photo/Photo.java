@@ -1,6 +1,7 @@
 package com.codeZero.photoMap.domain.photo;
 
 import com.codeZero.photoMap.common.BaseEntity;
+import com.codeZero.photoMap.domain.group.MemberGroup;
 import com.codeZero.photoMap.domain.location.Location;
 import com.codeZero.photoMap.domain.member.Member;
 import jakarta.persistence.*;
@@ -9,8 +10,18 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_photo_member_id", columnList = "member_id, is_deleted, upload_status, id"),
+        @Index(name = "idx_photo_location_id", columnList = "location_id, is_deleted, upload_status, id"),
+        @Index(name = "idx_photo_trash", columnList = "is_deleted, purged, deleted_at"),
+        @Index(name = "idx_photo_pending", columnList = "upload_status, is_deleted, id"),
+        @Index(name = "idx_photo_updated_date", columnList = "updated_date"),
+        @Index(name = "idx_photo_group_taken_at", columnList = "group_id, is_deleted, upload_status, taken_at, id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
@@ -29,17 +40,87 @@ public class Photo extends BaseEntity {
     @JoinColumn(name = "location_id", nullable = false)
     private Location location;
 
+    // 위치가 속한 그룹 (타임라인 조회용 비정규화, 위치를 옮기면 함께 변경)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id")
+    private MemberGroup memberGroup;
+
+    // 타임라인 기준 시각 (EXIF 촬영 시각, 없으면 생성 시각)
+    private LocalDateTime takenAt;
+
     private String fileName;
 
     private String fileExtension;
 
     private String fileKey;
 
+    // 같은 내용의 사진들이 공유하는 오브젝트 (SHA-256 없이 생성된 사진은 null - fileKey를 단독으로 사용)
+    @ManyToOne
+    @JoinColumn(name = "blob_id")
+    private PhotoBlob blob;
+
     @Builder.Default
     private boolean uploadStatus = false;
 
+    // 썸네일, 미리보기 등 파생 이미지 생성 완료 여부
+    @Builder.Default
+    private boolean derivativesReady = false;
+
+    // 휴지통으로 이동한 시각 (복원 가능 기간 및 S3 파일 정리 시점 계산에 사용)
+    private LocalDateTime deletedAt;
+
+    // 휴지통 보관 기간이 지나 S3 파일까지 정리되었는지 여부 (true면 복원 불가)
+    @Builder.Default
+    private boolean purged = false;
+
+    // EXIF 메타데이터 추출 완료 여부 (읽을 메타데이터가 없어도 추출했으면 true)
+    @Builder.Default
+    private boolean metadataReady = false;
+
+    // EXIF 메타데이터 (업로드 후 추출, 없으면 null)
+    private LocalDateTime capturedAt;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private Integer width;
+
+    private Integer height;
+
+    private String cameraMake;
+
+    private String cameraModel;
+
+    // 이미지를 받기 전에 보여줄 자리 표시 정보 (파생 이미지 생성 시 계산, 없으면 null)
+    @Column(length = 64)
+    private String blurHash;
+
+    @Column(length = 7)
+    private String dominantColor; // #rrggbb
+
+    // 유사 사진 검색용 64비트 지각 해시 (파생 이미지 생성 시 계산, 없으면 null)
+    private Long phash;
+
+    // 촬영 위치와 가장 가까운 그룹 내 다른 위치 (사용자가 위치를 옮기면 초기화)
+    @ManyToOne
+    @JoinColumn(name = "suggested_location_id")
+    private Location suggestedLocation;
+
+    @PrePersist
+    private void initTimeline() {
+        if (this.memberGroup == null) {
+            this.memberGroup = location.getMemberGroup();
+        }
+        if (this.takenAt == null) {
+            this.takenAt = capturedAt != null ? capturedAt : (getCreatedDate() != null ? getCreatedDate() : LocalDateTime.now());
+        }
+    }
+
     public void updatePhoto(Location location) {
         this.location = location;
+        this.memberGroup = location.getMemberGroup();
+        this.suggestedLocation = null;
     }
 
     public void uploaded() {
@@ -50,5 +131,13 @@ public class Photo extends BaseEntity {
     public void delete() {
         super.delete();
         this.uploadStatus = false;
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public void restore() {
+        super.restore();
+        this.uploadStatus = true;
+        this.deletedAt = null;
     }
 }
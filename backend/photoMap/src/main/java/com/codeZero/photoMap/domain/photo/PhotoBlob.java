@@ -0,0 +1,52 @@
+package com.codeZero.photoMap.domain.photo;
+
+import com.codeZero.photoMap.common.BaseEntity;
+import com.codeZero.photoMap.domain.group.MemberGroup;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 같은 그룹에 올라온 동일한 내용의 사진들이 공유하는 스토리지 오브젝트 (SHA-256 기준)
+ * 참조하는 사진 수(refCount)가 0이 되면 논리 삭제되고, PhotoTrashPurger가 오브젝트를 정리한다.
+ * 논리 삭제 시 sha256을 비워 같은 내용의 새 사진이 정리 중인 오브젝트를 참조하지 않도록 한다.
+ */
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_photo_blob_group_sha256", columnNames = {"group_id", "sha256"}),
+        indexes = @Index(name = "idx_photo_blob_purge", columnList = "is_deleted, purged")
+)
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PhotoBlob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "group_id", nullable = false)
+    private MemberGroup memberGroup;
+
+    // 클라이언트가 계산한 SHA-256 (소문자 16진수, 업로드 후 검증 전까지는 중복 제거에 사용하지 않음)
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private String fileKey;
+
+    @Builder.Default
+    private int refCount = 1;
+
+    // 업로드된 내용의 SHA-256이 일치하는지 확인되었는지 여부
+    @Builder.Default
+    private boolean verified = false;
+
+    // 참조가 모두 사라진 뒤 스토리지 오브젝트까지 정리되었는지 여부
+    @Builder.Default
+    private boolean purged = false;
+}
@@ -0,0 +1,64 @@
+package com.codeZero.photoMap.domain.photo;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PhotoBlobRepository extends JpaRepository<PhotoBlob, Long> {
+
+    Optional<PhotoBlob> findByMemberGroupIdAndSha256AndIsDeletedFalse(Long groupId, String sha256);
+
+    // 그룹 내 같은 SHA-256의 blob이 없을 때만 참조 수 1로 생성 (동시 요청에도 행이 하나만 생기며, 이미 있으면 0건)
+    // MySQL 전용 구문(INSERT IGNORE) - 다른 데이터베이스로는 DatabaseConfig가 서버 시작을 막음
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO photo_blob (group_id, sha256, file_key, ref_count, verified, purged, is_deleted, created_date, updated_date) " +
+            "VALUES (:groupId, :sha256, :fileKey, 1, false, false, false, NOW(), NOW())",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("groupId") Long groupId, @Param("sha256") String sha256, @Param("fileKey") String fileKey);
+
+    // 검증된 blob의 참조 수 1 증가 (그 사이 논리 삭제되었으면 0건)
+    @Modifying
+    @Query("UPDATE PhotoBlob b SET b.refCount = b.refCount + 1, b.updatedDate = CURRENT_TIMESTAMP " +
+            "WHERE b.id = :blobId AND b.verified = true AND b.isDeleted = false")
+    int reference(@Param("blobId") Long blobId);
+
+    // 참조 수 1 감소
+    @Modifying
+    @Query("UPDATE PhotoBlob b SET b.refCount = b.refCount - 1 WHERE b.id = :blobId AND b.isDeleted = false")
+    int release(@Param("blobId") Long blobId);
+
+    // 참조가 모두 사라진 blob 논리 삭제 (SHA-256을 비워 새 사진이 참조하지 않도록 함)
+    @Modifying
+    @Query("UPDATE PhotoBlob b SET b.isDeleted = true, b.sha256 = null, b.updatedDate = CURRENT_TIMESTAMP " +
+            "WHERE b.id IN :blobIds AND b.refCount <= 0 AND b.isDeleted = false")
+    int deleteUnreferenced(@Param("blobIds") List<Long> blobIds);
+
+    // 업로드된 내용 검증 완료 (이후 같은 SHA-256의 사진은 업로드 없이 이 blob을 참조)
+    @Transactional
+    @Modifying
+    @Query("UPDATE PhotoBlob b SET b.verified = true WHERE b.id = :blobId AND b.sha256 = :sha256")
+    int markVerified(@Param("blobId") Long blobId, @Param("sha256") String sha256);
+
+    // 업로드된 내용이 SHA-256과 다르면 중복 제거 대상에서 제외 (참조 수는 유지)
+    @Transactional
+    @Modifying
+    @Query("UPDATE PhotoBlob b SET b.sha256 = null, b.verified = false WHERE b.id = :blobId")
+    int unlinkHash(@Param("blobId") Long blobId);
+
+    // 오브젝트 정리 대상 (참조가 모두 사라져 논리 삭제되었지만 아직 정리되지 않은 blob)
+    @Query("SELECT b FROM PhotoBlob b WHERE b.isDeleted = true AND b.purged = false ORDER BY b.id")
+    List<PhotoBlob> findPurgeCandidates(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PhotoBlob b SET b.purged = true WHERE b.id IN :blobIds")
+    int markPurgedByIdIn(@Param("blobIds") List<Long> blobIds);
+}
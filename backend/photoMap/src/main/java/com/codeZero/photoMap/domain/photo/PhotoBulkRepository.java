@@ -0,0 +1,89 @@
+package com.codeZero.photoMap.domain.photo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Photo 대량 저장용 Repository
+ * IDENTITY 전략에서는 Hibernate가 INSERT를 배치로 묶지 못하므로 JDBC 배치로 한 번에 저장한다.
+ * MySQL 드라이버는 rewriteBatchedStatements=true일 때만 배치를 다중 행 INSERT 하나로 보내므로 데이터소스에 이 설정이 필요하다. (application.yml)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PhotoBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO photo (member_id, location_id, group_id, file_name, file_extension, file_key, blob_id, upload_status, derivatives_ready, metadata_ready, purged, is_deleted, taken_at, created_date, updated_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Photo 리스트를 하나의 JDBC 배치로 저장
+     * 저장된 행의 나머지 컬럼(생성 시각, 기본값 등)은 DB가 채우므로 필요하면 반환된 ID로 다시 조회한다.
+     * @param photos 저장할 Photo 객체 리스트 (ID 없음)
+     * @return 생성된 ID 리스트 (입력 순서 유지)
+     */
+    public List<Long> saveAllInBatch(List<Photo> photos) {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Photo photo = photos.get(i);
+                        ps.setLong(1, photo.getMember().getId());
+                        ps.setLong(2, photo.getLocation().getId());
+                        ps.setLong(3, photo.getLocation().getMemberGroup().getId());
+                        ps.setString(4, photo.getFileName());
+                        ps.setString(5, photo.getFileExtension());
+                        ps.setString(6, photo.getFileKey());
+                        if (photo.getBlob() != null) {
+                            ps.setLong(7, photo.getBlob().getId());
+                        } else {
+                            ps.setNull(7, Types.BIGINT);
+                        }
+                        ps.setBoolean(8, photo.isUploadStatus());
+                        ps.setBoolean(9, photo.isDerivativesReady());
+                        ps.setBoolean(10, photo.isMetadataReady());
+                        ps.setBoolean(11, false);
+                        ps.setBoolean(12, false);
+                        ps.setTimestamp(13, now);
+                        ps.setTimestamp(14, now);
+                        ps.setTimestamp(15, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return photos.size();
+                    }
+                },
+                keyHolder);
+
+        // 생성된 ID를 입력 순서대로 반환
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<Long> savedIds = new ArrayList<>(photos.size());
+        for (Map<String, Object> key : keys) {
+            savedIds.add(((Number) key.values().iterator().next()).longValue());
+        }
+
+        return savedIds;
+    }
+}
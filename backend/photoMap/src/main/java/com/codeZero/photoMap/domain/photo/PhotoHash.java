@@ -0,0 +1,17 @@
+package com.codeZero.photoMap.domain.photo;
+
+/**
+ * 유사 사진 색인용 사진 지각 해시 조회 결과
+ * @param photoId 사진 ID
+ * @param groupId 사진이 속한 위치의 그룹 ID
+ * @param phash 64비트 지각 해시
+ * @param deleted 삭제(휴지통 이동) 여부
+ * @param uploaded 업로드 완료 여부
+ */
+public record PhotoHash(Long photoId, Long groupId, Long phash, boolean deleted, boolean uploaded) {
+
+    // 색인 대상 여부 (업로드 완료되고 삭제되지 않은 사진)
+    public boolean isLive() {
+        return uploaded && !deleted;
+    }
+}
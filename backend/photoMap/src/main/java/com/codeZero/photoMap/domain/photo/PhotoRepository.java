@@ -1,8 +1,15 @@
 package com.codeZero.photoMap.domain.photo;
 
+import com.codeZero.photoMap.domain.location.Location;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +23,172 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
     List<Photo> findByMemberIdAndIsDeletedFalseAndUploadStatusTrue(Long memberId);
 
     List<Photo> findByLocationIdAndIsDeletedFalseAndUploadStatusTrue(Long locationId);
+
+    // 멤버 ID로 cursorId보다 작은 ID의 사진을 ID 내림차순으로 조회 (커서 기반 페이지네이션)
+    @Query("SELECT p FROM Photo p WHERE p.member.id = :memberId AND p.isDeleted = false AND p.uploadStatus = true " +
+            "AND p.id < :cursorId ORDER BY p.id DESC")
+    List<Photo> findPageByMemberId(@Param("memberId") Long memberId, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 위치 ID로 cursorId보다 작은 ID의 사진을 ID 내림차순으로 조회 (커서 기반 페이지네이션)
+    @Query("SELECT p FROM Photo p WHERE p.location.id = :locationId AND p.isDeleted = false AND p.uploadStatus = true " +
+            "AND p.id < :cursorId ORDER BY p.id DESC")
+    List<Photo> findPageByLocationId(@Param("locationId") Long locationId, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    List<Photo> findByIdInAndMemberIdAndIsDeletedFalseAndUploadStatusTrue(List<Long> photoIds, Long memberId);
+
+    List<Photo> findByIdInAndMemberIdAndIsDeletedFalseAndUploadStatusFalse(List<Long> photoIds, Long memberId);
+
+    // 멤버가 생성한 사진들의 uploadStatus를 한 번의 UPDATE로 true로 변경
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Photo p SET p.uploadStatus = true, p.updatedDate = CURRENT_TIMESTAMP " +
+            "WHERE p.id IN :photoIds AND p.member.id = :memberId AND p.isDeleted = false AND p.uploadStatus = false")
+    int markUploadedByIdIn(@Param("photoIds") List<Long> photoIds, @Param("memberId") Long memberId);
+
+    // 휴지통에 있는(정리되지 않은) 사진 조회
+    Optional<Photo> findByIdAndIsDeletedTrueAndPurgedFalse(Long photoId);
+
+    // 멤버의 휴지통 사진 목록 조회 (삭제 시각 최신순)
+    List<Photo> findByMemberIdAndIsDeletedTrueAndPurgedFalseOrderByDeletedAtDesc(Long memberId);
+
+    // 휴지통 보관 기간(cutoff 이전 삭제)이 지나 S3 파일 정리 대상인 사진 조회
+    @Query("SELECT p FROM Photo p WHERE p.isDeleted = true AND p.purged = false AND p.deletedAt < :cutoff ORDER BY p.id")
+    List<Photo> findPurgeCandidates(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // S3 파일 정리 완료 표시 (이미 정리된 사진은 제외하므로 반환값은 이번에 정리 완료로 바뀐 행 수)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.purged = true WHERE p.id IN :photoIds AND p.purged = false")
+    int markPurgedByIdIn(@Param("photoIds") List<Long> photoIds);
+
+    // 생성 후 cutoff 시각이 지나도록 업로드 완료 처리되지 않은 사진을 afterId 이후부터 ID 오름차순으로 조회
+    @Query("SELECT p FROM Photo p WHERE p.uploadStatus = false AND p.isDeleted = false " +
+            "AND p.createdDate < :cutoff AND p.id > :afterId ORDER BY p.id")
+    List<Photo> findStalePendingPhotos(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 업로드 대기 중인 사진들의 uploadStatus를 한 번의 UPDATE로 true로 변경 (정합성 보정용)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.uploadStatus = true, p.updatedDate = CURRENT_TIMESTAMP " +
+            "WHERE p.id IN :photoIds AND p.isDeleted = false AND p.uploadStatus = false")
+    int markPendingUploadedByIdIn(@Param("photoIds") List<Long> photoIds);
+
+    // 업로드되지 않은 사진 행을 한 번의 DELETE로 물리 삭제 (그 사이 업로드 완료된 행은 제외)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Photo p WHERE p.id IN :photoIds AND p.uploadStatus = false")
+    int deletePendingByIdIn(@Param("photoIds") List<Long> photoIds);
+
+    // 같은 오브젝트를 공유하는 사진 중 파생 이미지가 생성된 사진 조회
+    Optional<Photo> findFirstByFileKeyAndDerivativesReadyTrue(String fileKey);
+
+    // 업로드 완료 후 cutoff 시각이 지나도록 파생 이미지가 생성되지 않은 사진 ID를 afterId 이후부터 ID 오름차순으로 조회 (누락된 작업 재등록용)
+    @Query("SELECT p.id FROM Photo p WHERE p.uploadStatus = true AND p.isDeleted = false AND p.derivativesReady = false " +
+            "AND p.updatedDate < :cutoff AND p.id > :afterId ORDER BY p.id")
+    List<Long> findDerivativesPendingIds(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 업로드 완료 후 cutoff 시각이 지나도록 메타데이터를 추출하지 않은 사진 ID를 afterId 이후부터 ID 오름차순으로 조회 (누락된 작업 재등록용)
+    @Query("SELECT p.id FROM Photo p WHERE p.uploadStatus = true AND p.isDeleted = false AND p.metadataReady = false " +
+            "AND p.updatedDate < :cutoff AND p.id > :afterId ORDER BY p.id")
+    List<Long> findMetadataPendingIds(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 파생 이미지 생성 완료 표시 (파생 이미지 생성 워커 스레드에서 호출)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.derivativesReady = true WHERE p.id = :photoId")
+    int markDerivativesReady(@Param("photoId") Long photoId);
+
+    // 지각 해시 저장 (유사 사진 색인이 변경분을 찾을 수 있도록 수정 시각 갱신)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.phash = :phash, p.updatedDate = CURRENT_TIMESTAMP WHERE p.id = :photoId")
+    int updatePerceptualHash(@Param("photoId") Long photoId, @Param("phash") Long phash);
+
+    // 색인 대상 사진(업로드 완료, 삭제되지 않음)의 지각 해시를 afterId 이후부터 ID 오름차순으로 조회 (전체 색인 생성용)
+    @Query("SELECT new com.codeZero.photoMap.domain.photo.PhotoHash(p.id, l.memberGroup.id, p.phash, p.isDeleted, p.uploadStatus) " +
+            "FROM Photo p JOIN p.location l WHERE p.phash IS NOT NULL AND p.isDeleted = false AND p.uploadStatus = true " +
+            "AND p.id > :afterId ORDER BY p.id")
+    List<PhotoHash> findLiveHashes(@Param("afterId") Long afterId, Pageable pageable);
+
+    // since 이후 수정된 사진의 지각 해시를 afterId 이후부터 ID 오름차순으로 조회 (삭제된 사진 포함, 변경분 반영용)
+    @Query("SELECT new com.codeZero.photoMap.domain.photo.PhotoHash(p.id, l.memberGroup.id, p.phash, p.isDeleted, p.uploadStatus) " +
+            "FROM Photo p JOIN p.location l WHERE p.phash IS NOT NULL AND p.updatedDate >= :since " +
+            "AND p.id > :afterId ORDER BY p.id")
+    List<PhotoHash> findHashesUpdatedSince(@Param("since") LocalDateTime since, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 자리 표시 정보 저장 (크기는 EXIF 메타데이터에서 읽지 못한 경우에만 채움)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.blurHash = :blurHash, p.dominantColor = :dominantColor, " +
+            "p.width = COALESCE(p.width, :width), p.height = COALESCE(p.height, :height) WHERE p.id = :photoId")
+    int updatePlaceholder(@Param("photoId") Long photoId,
+                          @Param("blurHash") String blurHash,
+                          @Param("dominantColor") String dominantColor,
+                          @Param("width") Integer width,
+                          @Param("height") Integer height);
+
+    // EXIF 메타데이터 저장 (메타데이터 추출 워커 스레드에서 호출, 읽지 못한 크기는 기존 값 유지, 타임라인 시각은 촬영 시각 우선)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.capturedAt = :capturedAt, p.takenAt = COALESCE(:capturedAt, p.createdDate), " +
+            "p.latitude = :latitude, p.longitude = :longitude, " +
+            "p.width = COALESCE(:width, p.width), p.height = COALESCE(:height, p.height), " +
+            "p.cameraMake = :cameraMake, p.cameraModel = :cameraModel, p.metadataReady = true " +
+            "WHERE p.id = :photoId")
+    int updateMetadata(@Param("photoId") Long photoId,
+                       @Param("capturedAt") LocalDateTime capturedAt,
+                       @Param("latitude") Double latitude,
+                       @Param("longitude") Double longitude,
+                       @Param("width") Integer width,
+                       @Param("height") Integer height,
+                       @Param("cameraMake") String cameraMake,
+                       @Param("cameraModel") String cameraModel);
+
+    // 그룹의 사진을 타임라인 시각 내림차순으로 조회 (커서 (cursorAt, cursorId) 이후, from 이후만)
+    @Query("SELECT p FROM Photo p WHERE p.memberGroup.id = :groupId AND p.isDeleted = false AND p.uploadStatus = true " +
+            "AND p.takenAt >= :from AND (p.takenAt < :cursorAt OR (p.takenAt = :cursorAt AND p.id < :cursorId)) " +
+            "ORDER BY p.takenAt DESC, p.id DESC")
+    List<Photo> findTimelinePage(@Param("groupId") Long groupId, @Param("from") LocalDateTime from,
+                                 @Param("cursorAt") LocalDateTime cursorAt, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 그룹들의 사진 중 타임라인 시각이 [start, end) 구간인 사진 조회 (최신순)
+    @Query("SELECT p FROM Photo p WHERE p.memberGroup.id IN :groupIds AND p.isDeleted = false AND p.uploadStatus = true " +
+            "AND p.takenAt >= :start AND p.takenAt < :end ORDER BY p.takenAt DESC, p.id DESC")
+    List<Photo> findTakenBetween(@Param("groupIds") List<Long> groupIds, @Param("start") LocalDateTime start,
+                                 @Param("end") LocalDateTime end, Pageable pageable);
+
+    // 그룹들의 가장 오래된 타임라인 시각
+    @Query("SELECT MIN(p.takenAt) FROM Photo p WHERE p.memberGroup.id IN :groupIds AND p.isDeleted = false AND p.uploadStatus = true")
+    Optional<LocalDateTime> findEarliestTakenAt(@Param("groupIds") List<Long> groupIds);
+
+    // 그룹/타임라인 시각이 채워지지 않은 사진 ID (컬럼 추가 이전에 생성된 행)
+    @Query("SELECT p.id FROM Photo p WHERE p.memberGroup IS NULL OR p.takenAt IS NULL")
+    List<Long> findIdsWithoutTimeline(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.memberGroup = (SELECT l.memberGroup FROM Location l WHERE l = p.location), " +
+            "p.takenAt = COALESCE(p.capturedAt, p.createdDate, CURRENT_TIMESTAMP) WHERE p.id IN :photoIds")
+    int fillTimeline(@Param("photoIds") List<Long> photoIds);
+
+    // 촬영 위치 기준으로 사진의 위치를 자동 지정 (추천 위치는 초기화)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.location = :location, p.suggestedLocation = null WHERE p.id = :photoId")
+    int attachLocation(@Param("photoId") Long photoId, @Param("location") Location location);
+
+    // 중복 위치 병합: 흡수된 위치들의 사진을 대상 위치로 일괄 이동
+    @Modifying
+    @Query("UPDATE Photo p SET p.location = :target, p.updatedDate = CURRENT_TIMESTAMP WHERE p.location.id IN :sourceIds")
+    int moveLocation(@Param("sourceIds") List<Long> sourceIds, @Param("target") Location target);
+
+    // 중복 위치 병합: 흡수된 위치를 가리키는 추천 위치 초기화
+    @Modifying
+    @Query("UPDATE Photo p SET p.suggestedLocation = null WHERE p.suggestedLocation.id IN :sourceIds")
+    int clearSuggestedLocation(@Param("sourceIds") List<Long> sourceIds);
+
+    // 촬영 위치와 가까운 추천 위치 저장
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.suggestedLocation = :location WHERE p.id = :photoId")
+    int suggestLocation(@Param("photoId") Long photoId, @Param("location") Location location);
 }
@@ -0,0 +1,29 @@
+package com.codeZero.photoMap.dto.location.response;
+
+import com.codeZero.photoMap.service.location.PhotoHeatmap;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사진 밀도 히트맵 타일 응답
+ * cells의 각 항목은 [x, y, 사진 수]이며, x, y는 level 줌 격자의 칸 인덱스이다.
+ * (칸의 서쪽 경계 경도 = x / 2^level * 360 - 180, 북쪽이 y = 0)
+ */
+@Builder
+@Getter
+public class HeatmapTileResponse {
+
+    private int level;
+    private List<long[]> cells;
+
+    public static HeatmapTileResponse of(PhotoHeatmap.Tile tile) {
+        return HeatmapTileResponse.builder()
+                .level(tile.level())
+                .cells(tile.cells().stream()
+                        .map(cell -> new long[]{cell.x(), cell.y(), cell.photoCount()})
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.codeZero.photoMap.dto.location.response;
+
+import com.codeZero.photoMap.service.location.LocationSpatialIndex;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 지도 화면의 위치 클러스터 응답
+ * 클러스터에 위치가 하나뿐이면 locationId, name이 채워지고 좌표는 해당 위치의 좌표이다.
+ */
+@Builder
+@Getter
+public class LocationClusterResponse {
+
+    private double latitude;
+    private double longitude;
+    private int count;
+    private Long locationId;
+    private String name;
+
+    public static LocationClusterResponse of(LocationSpatialIndex.Cluster cluster) {
+        return LocationClusterResponse.builder()
+                .latitude(cluster.latitude())
+                .longitude(cluster.longitude())
+                .count(cluster.count())
+                .locationId(cluster.locationId())
+                .name(cluster.name())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.codeZero.photoMap.dto.location.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 중복 위치 병합 결과 (남긴 위치 하나와 그 위치로 흡수된 위치들)
+ */
+@Builder
+@Getter
+public class LocationMergeResponse {
+
+    private Long targetId;
+    private String targetName;
+    private List<Long> mergedLocationIds;
+    private int movedPhotoCount;
+}
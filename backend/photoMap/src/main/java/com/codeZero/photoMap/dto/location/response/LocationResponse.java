@@ -4,6 +4,8 @@ import com.codeZero.photoMap.domain.location.Location;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Builder
 @Getter
 public class LocationResponse {
@@ -13,6 +15,9 @@ public class LocationResponse {
     private String name;
     private double latitude;
     private double longitude;
+    private int photoCount;             // 업로드 완료된(휴지통 제외) 사진 수
+    private LocalDateTime lastPhotoAt;  // 가장 최근 사진의 생성 시각 (사진이 없으면 null)
+    private Long coverPhotoId;          // 대표 사진(가장 최근 사진) ID (사진이 없으면 null)
 
     public static LocationResponse of(Location location) {
         return LocationResponse.builder()
@@ -21,6 +26,9 @@ public class LocationResponse {
                 .name(location.getName())
                 .latitude(location.getLatitude())
                 .longitude(location.getLongitude())
+                .photoCount(location.getPhotoCount())
+                .lastPhotoAt(location.getLastPhotoAt())
+                .coverPhotoId(location.getCoverPhotoId())
                 .build();
     }
 
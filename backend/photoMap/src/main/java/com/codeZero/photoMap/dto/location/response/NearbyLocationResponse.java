@@ -0,0 +1,31 @@
+package com.codeZero.photoMap.dto.location.response;
+
+import com.codeZero.photoMap.service.location.LocationSpatialIndex;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 근처 위치 응답 (기준 좌표로부터의 거리 포함)
+ */
+@Builder
+@Getter
+public class NearbyLocationResponse {
+
+    private Long id;
+    private Long groupId;
+    private String name;
+    private double latitude;
+    private double longitude;
+    private double distanceMeters;
+
+    public static NearbyLocationResponse of(LocationSpatialIndex.Nearby nearby) {
+        return NearbyLocationResponse.builder()
+                .id(nearby.locationId())
+                .groupId(nearby.groupId())
+                .name(nearby.name())
+                .latitude(nearby.latitude())
+                .longitude(nearby.longitude())
+                .distanceMeters(nearby.distanceMeters())
+                .build();
+    }
+}
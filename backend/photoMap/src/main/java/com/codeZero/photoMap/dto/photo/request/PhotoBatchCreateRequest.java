@@ -0,0 +1,28 @@
+package com.codeZero.photoMap.dto.photo.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PhotoBatchCreateRequest {
+
+    @Valid
+    @NotEmpty(message = "생성할 사진 목록은 필수입니다.")
+    private List<PhotoCreateRequest> photos;
+
+    public List<PhotoServiceRequest> toServiceRequests() {
+        return photos.stream()
+                .map(PhotoCreateRequest::toServiceRequest)
+                .collect(Collectors.toList());
+    }
+}
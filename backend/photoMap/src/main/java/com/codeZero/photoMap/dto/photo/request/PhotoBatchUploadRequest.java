@@ -0,0 +1,19 @@
+package com.codeZero.photoMap.dto.photo.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PhotoBatchUploadRequest {
+
+    @NotEmpty(message = "업로드 완료할 사진 ID 목록은 필수입니다.")
+    private List<Long> photoIds;
+}
@@ -14,10 +14,14 @@ public class PhotoCreateRequest {
     @NotBlank(message = "파일 확장자명은 필수입니다.")
     private String fileExtension;
 
+    // 클라이언트가 계산한 파일 내용의 SHA-256 (16진수, 선택 - 있으면 같은 그룹의 동일한 사진과 오브젝트를 공유)
+    private String sha256;
+
     public PhotoServiceRequest toServiceRequest() {
         return PhotoServiceRequest.builder()
                 .fileName(fileName)
                 .fileExtension(fileExtension)
+                .sha256(sha256)
                 .build();
     }
 }
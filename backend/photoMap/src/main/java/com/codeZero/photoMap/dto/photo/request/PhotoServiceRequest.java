@@ -3,6 +3,7 @@ package com.codeZero.photoMap.dto.photo.request;
 import com.codeZero.photoMap.domain.location.Location;
 import com.codeZero.photoMap.domain.member.Member;
 import com.codeZero.photoMap.domain.photo.Photo;
+import com.codeZero.photoMap.domain.photo.PhotoBlob;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -12,6 +13,7 @@ public class PhotoServiceRequest {
 
     private String fileName;
     private String fileExtension;
+    private String sha256;
 
     public Photo toEntity(Member member, Location location, String fileKey) {
         return Photo.builder()
@@ -22,4 +24,16 @@ public class PhotoServiceRequest {
                 .fileKey(fileKey)
                 .build();
     }
+
+    public Photo toEntity(Member member, Location location, PhotoBlob blob) {
+        return Photo.builder()
+                .member(member)
+                .location(location)
+                .fileName(fileName)
+                .fileExtension(fileExtension)
+                .fileKey(blob.getFileKey())
+                .blob(blob)
+                .uploadStatus(blob.isVerified()) // 검증된 blob이면 업로드 없이 바로 사용
+                .build();
+    }
 }
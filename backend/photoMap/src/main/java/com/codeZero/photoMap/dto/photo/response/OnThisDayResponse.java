@@ -0,0 +1,26 @@
+package com.codeZero.photoMap.dto.photo.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 지난 해 같은 날짜에 찍은 사진 묶음
+ */
+@Builder
+@Getter
+public class OnThisDayResponse {
+
+    private int year;
+    private int yearsAgo;
+    private List<PhotoResponse> photos; // 최신순
+
+    public static OnThisDayResponse of(int year, int yearsAgo, List<PhotoResponse> photos) {
+        return OnThisDayResponse.builder()
+                .year(year)
+                .yearsAgo(yearsAgo)
+                .photos(photos)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.codeZero.photoMap.dto.photo.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class PhotoClusterResponse {
+
+    private int maxDistance;            // 묶음 판정에 사용한 최대 해밍 거리
+    private List<PhotoResponse> photos; // 서로 유사한 사진 리스트 (사진 ID 오름차순)
+
+    public static PhotoClusterResponse of(int maxDistance, List<PhotoResponse> photos) {
+        return PhotoClusterResponse.builder()
+                .maxDistance(maxDistance)
+                .photos(photos)
+                .build();
+    }
+}
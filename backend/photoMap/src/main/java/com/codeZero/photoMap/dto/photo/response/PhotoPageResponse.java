@@ -0,0 +1,23 @@
+package com.codeZero.photoMap.dto.photo.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class PhotoPageResponse {
+
+    private List<PhotoResponse> photos;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static PhotoPageResponse of(List<PhotoResponse> photos, String nextCursor) {
+        return PhotoPageResponse.builder()
+                .photos(photos)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
@@ -4,6 +4,9 @@ import com.codeZero.photoMap.domain.photo.Photo;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
 @Builder
 @Getter
 public class PhotoResponse {
@@ -16,8 +19,24 @@ public class PhotoResponse {
     private String fileKey;
     private String url;
     private boolean uploadStatus;
+    private Map<String, String> derivativeUrls; // 파생 이미지 GET 메서드용 Pre-signed URL (thumbnail, preview)
+    private LocalDateTime capturedAt;   // 촬영 시각 (EXIF)
+    private LocalDateTime takenAt;      // 타임라인 시각 (촬영 시각, 없으면 생성 시각)
+    private Double latitude;            // 촬영 위치 위도 (EXIF GPS)
+    private Double longitude;           // 촬영 위치 경도 (EXIF GPS)
+    private Integer width;              // 방향 보정 후 원본 가로 크기 (px)
+    private Integer height;             // 방향 보정 후 원본 세로 크기 (px)
+    private String blurHash;            // 이미지를 받기 전에 그릴 흐린 미리보기 (BlurHash)
+    private String dominantColor;       // 대표 색상 (#rrggbb)
+    private String cameraMake;
+    private String cameraModel;
+    private Long suggestedLocationId;   // 촬영 위치와 가까운 추천 위치 ID
 
     public static PhotoResponse of(Photo photo, String url) {
+        return of(photo, url, null);
+    }
+
+    public static PhotoResponse of(Photo photo, String url, Map<String, String> derivativeUrls) {
         return PhotoResponse.builder()
                 .id(photo.getId())
                 .memberId(photo.getMember().getId())
@@ -27,6 +46,18 @@ public class PhotoResponse {
                 .fileKey(photo.getFileKey())
                 .url(url)
                 .uploadStatus(photo.isUploadStatus())
+                .derivativeUrls(derivativeUrls)
+                .capturedAt(photo.getCapturedAt())
+                .takenAt(photo.getTakenAt())
+                .latitude(photo.getLatitude())
+                .longitude(photo.getLongitude())
+                .width(photo.getWidth())
+                .height(photo.getHeight())
+                .blurHash(photo.getBlurHash())
+                .dominantColor(photo.getDominantColor())
+                .cameraMake(photo.getCameraMake())
+                .cameraModel(photo.getCameraModel())
+                .suggestedLocationId(photo.getSuggestedLocation() != null ? photo.getSuggestedLocation().getId() : null)
                 .build();
     }
 }
@@ -0,0 +1,25 @@
+package com.codeZero.photoMap.dto.photo.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 타임라인의 하루/한 달 묶음
+ * 한 묶음이 여러 페이지에 걸칠 수 있으므로 클라이언트는 같은 period의 묶음을 이어 붙인다.
+ */
+@Builder
+@Getter
+public class PhotoTimelineBucketResponse {
+
+    private String period; // DAY: "2024-07-01", MONTH: "2024-07"
+    private List<PhotoResponse> photos;
+
+    public static PhotoTimelineBucketResponse of(String period, List<PhotoResponse> photos) {
+        return PhotoTimelineBucketResponse.builder()
+                .period(period)
+                .photos(photos)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.codeZero.photoMap.dto.photo.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class PhotoTimelineResponse {
+
+    private List<PhotoTimelineBucketResponse> buckets; // 최신순
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static PhotoTimelineResponse of(List<PhotoTimelineBucketResponse> buckets, String nextCursor) {
+        return PhotoTimelineResponse.builder()
+                .buckets(buckets)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.codeZero.photoMap.dto.search.response;
+
+import com.codeZero.photoMap.service.search.SearchIndex;
+import com.codeZero.photoMap.service.search.SearchTargetType;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 이름 검색 결과 항목 (위치, 그룹, 멤버)
+ */
+@Builder
+@Getter
+public class SearchResultResponse {
+
+    private SearchTargetType type;
+    private Long id;
+    private Long groupId;
+    private String name;
+
+    public static SearchResultResponse of(SearchIndex.Hit hit) {
+        return SearchResultResponse.builder()
+                .type(hit.type())
+                .id(hit.id())
+                .groupId(hit.groupId())
+                .name(hit.name())
+                .build();
+    }
+}
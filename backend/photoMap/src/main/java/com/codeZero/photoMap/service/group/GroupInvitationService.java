@@ -5,6 +5,7 @@ import com.codeZero.photoMap.common.exception.NotFoundException;
 import com.codeZero.photoMap.domain.group.*;
 import com.codeZero.photoMap.domain.member.Member;
 import com.codeZero.photoMap.domain.member.MemberRepository;
+import com.codeZero.photoMap.service.search.SearchIndex;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
@@ -15,12 +16,14 @@ public class GroupInvitationService {
     private final MemberGroupRepository memberGroupRepository;
     private final MemberRepository memberRepository;
     private final MemberGroupMappingRepository memberGroupMappingRepository;
+    private final SearchIndex searchIndex;
 
-    public GroupInvitationService(GroupInvitationRepository groupInvitationRepository, MemberGroupRepository memberGroupRepository, MemberRepository memberRepository, MemberGroupMappingRepository memberGroupMappingRepository) {
+    public GroupInvitationService(GroupInvitationRepository groupInvitationRepository, MemberGroupRepository memberGroupRepository, MemberRepository memberRepository, MemberGroupMappingRepository memberGroupMappingRepository, SearchIndex searchIndex) {
         this.groupInvitationRepository = groupInvitationRepository;
         this.memberGroupRepository = memberGroupRepository;
         this.memberRepository = memberRepository;
         this.memberGroupMappingRepository = memberGroupMappingRepository;
+        this.searchIndex = searchIndex;
     }
 
     /**
@@ -73,6 +76,7 @@ public class GroupInvitationService {
                 .role(Role.MEMBER)
                 .build();
         memberGroupMappingRepository.save(mapping);
+        searchIndex.refreshGroup(group.getId());
 
         //그룹Id 반환
         return group.getId();
@@ -10,6 +10,7 @@ import com.codeZero.photoMap.domain.member.MemberRepository;
 import com.codeZero.photoMap.dto.group.request.GroupCreateRequest;
 import com.codeZero.photoMap.dto.group.request.GroupUpdateRequest;
 import com.codeZero.photoMap.dto.group.response.GroupResponse;
+import com.codeZero.photoMap.service.search.SearchIndex;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,13 +29,15 @@ public class GroupService {
     private final MemberGroupMappingRepository memberGroupMappingRepository;
     private final EmailService emailService;
     private final GroupInvitationRepository groupInvitationRepository;
+    private final SearchIndex searchIndex;
 
-    public GroupService(MemberGroupRepository memberGroupRepository, MemberRepository memberRepository, MemberGroupMappingRepository memberGroupMappingRepository, EmailService emailService, GroupInvitationRepository groupInvitationRepository) {
+    public GroupService(MemberGroupRepository memberGroupRepository, MemberRepository memberRepository, MemberGroupMappingRepository memberGroupMappingRepository, EmailService emailService, GroupInvitationRepository groupInvitationRepository, SearchIndex searchIndex) {
         this.memberGroupRepository = memberGroupRepository;
         this.memberRepository = memberRepository;
         this.memberGroupMappingRepository = memberGroupMappingRepository;
         this.emailService = emailService;
         this.groupInvitationRepository = groupInvitationRepository;
+        this.searchIndex = searchIndex;
     }
 
 
@@ -57,6 +60,7 @@ public class GroupService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new NotFoundException("Member를 찾을 수 없습니다."));
         savedGroup.addMemberWithRole(member, Role.OWNER);   //생성한 멤버에 ADIMIN역할(OWNER) 추가
+        searchIndex.refreshGroup(savedGroup.getId());
 
         return GroupResponse.from(savedGroup, List.of(member));
     }
@@ -120,6 +124,7 @@ public class GroupService {
 
         group.updateGroupName(request.getGroupName());
         MemberGroup updatedGroup = memberGroupRepository.save(group);
+        searchIndex.refreshGroup(groupId);
 
         //멤버 리스트 조회
         List<Member> members = memberGroupMappingRepository.findMembersByGroupIdIsDeletedFalse(updatedGroup.getId());
@@ -160,6 +165,7 @@ public class GroupService {
 
         //소프트 딜리트된 그룹 저장
         memberGroupRepository.save(group);
+        searchIndex.refreshGroup(groupId);
     }
 
     /**
@@ -256,6 +262,7 @@ public class GroupService {
                 }, () -> {
                     throw new NotFoundException("멤버를 찾을 수 없습니다.");
                 });
+        searchIndex.refreshGroup(groupId);
     }
 
     /**
@@ -285,6 +292,7 @@ public class GroupService {
         //매핑 소프트 딜리트
         mapping.delete();
         memberGroupMappingRepository.save(mapping);
+        searchIndex.refreshGroup(groupId);
     }
 
     /**
@@ -0,0 +1,91 @@
+package com.codeZero.photoMap.service.location;
+
+import com.codeZero.photoMap.domain.location.Location;
+import com.codeZero.photoMap.domain.location.LocationViewportRepository;
+import com.codeZero.photoMap.service.location.spatial.GroupLocations;
+import com.codeZero.photoMap.service.location.spatial.LocationRTree;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 그룹 내 근접 중복 위치 탐색
+ * 좌표가 정확히 같은 경우뿐 아니라 설정 반경(location.duplicate.radius-meters) 안의 위치를 중복으로 본다.
+ */
+@Component
+public class LocationDuplicateFinder {
+
+    private final LocationViewportRepository locationViewportRepository;
+    private final double radiusMeters;
+
+    public LocationDuplicateFinder(LocationViewportRepository locationViewportRepository,
+                                   @Value("${location.duplicate.radius-meters:20}") double radiusMeters) {
+        this.locationViewportRepository = locationViewportRepository;
+        this.radiusMeters = radiusMeters;
+    }
+
+    /**
+     * 좌표에서 중복 반경 안에 있는 가장 가까운 위치 조회 (geo_cell 인덱스 범위 탐색)
+     * @param groupId 그룹 ID
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param excludeId 제외할 위치 ID (수정 중인 위치, null 가능)
+     * @return 가장 가까운 중복 위치
+     */
+    public Optional<Location> findNear(Long groupId, double latitude, double longitude, Long excludeId) {
+        return locationViewportRepository.findWithinRadius(List.of(groupId), latitude, longitude, radiusMeters).stream()
+                .filter(location -> !location.getId().equals(excludeId))
+                .findFirst();
+    }
+
+    /**
+     * 위치들을 반경 기준 중복 묶음으로 나눔
+     * ID가 작은(먼저 만든) 위치부터 차례로 남길 위치로 정하고, 아직 묶이지 않은 반경 안의 위치를 흡수한다.
+     * @param locations 한 그룹의 위치 리스트
+     * @param radiusMeters 반경 (m)
+     * @return 묶음 리스트 (첫 번째가 남길 위치, 나머지가 흡수될 위치. 2개 이상인 묶음만)
+     */
+    public List<List<Location>> findClusters(List<Location> locations, double radiusMeters) {
+        Map<Long, Location> byId = new HashMap<>();
+        List<GroupLocations.Point> points = new ArrayList<>(locations.size());
+        for (Location location : locations) {
+            byId.put(location.getId(), location);
+            points.add(GroupLocations.Point.of(location));
+        }
+        LocationRTree tree = LocationRTree.of(points);
+
+        List<Location> ordered = new ArrayList<>(locations);
+        ordered.sort(Comparator.comparing(Location::getId));
+
+        Set<Long> assigned = new HashSet<>();
+        List<List<Location>> clusters = new ArrayList<>();
+        for (Location target : ordered) {
+            if (!assigned.add(target.getId())) {
+                continue;
+            }
+            List<Location> cluster = new ArrayList<>();
+            cluster.add(target);
+            for (LocationRTree.Neighbor neighbor : tree.within(target.getLatitude(), target.getLongitude(), radiusMeters)) {
+                if (assigned.add(neighbor.point().id())) {
+                    cluster.add(byId.get(neighbor.point().id()));
+                }
+            }
+            if (cluster.size() > 1) {
+                clusters.add(cluster);
+            }
+        }
+        return clusters;
+    }
+
+    public double getRadiusMeters() {
+        return radiusMeters;
+    }
+}
@@ -0,0 +1,58 @@
+package com.codeZero.photoMap.service.location;
+
+import com.codeZero.photoMap.common.GeoUtils;
+import com.codeZero.photoMap.domain.location.Location;
+import com.codeZero.photoMap.domain.location.LocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * geo_cell 컬럼 추가 이전에 생성된 위치의 모턴 코드 채우기
+ * 채워지기 전까지 해당 위치는 화면 영역 조회에 나타나지 않으므로, 애플리케이션 시작 후 별도 스레드에서 한 번 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationGeoCellBackfill {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final LocationRepository locationRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread worker = new Thread(this::backfill, "location-geo-cell-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void backfill() {
+        int updated = 0;
+        try {
+            while (true) {
+                // 처리한 행은 조건에서 빠지므로 항상 첫 페이지를 읽음
+                List<Location> locations = locationRepository.findByGeoCellIsNull(PageRequest.of(0, CHUNK_SIZE));
+                if (locations.isEmpty()) {
+                    break;
+                }
+                for (Location location : locations) {
+                    locationRepository.updateGeoCell(location.getId(),
+                            GeoUtils.mortonCode(location.getLatitude(), location.getLongitude()));
+                }
+                updated += locations.size();
+            }
+        } catch (RuntimeException e) {
+            log.warn("위치 모턴 코드 채우기 실패 ({}건 처리 후 중단)", updated, e);
+            return;
+        }
+        if (updated > 0) {
+            log.info("위치 모턴 코드 채우기 완료: {}건", updated);
+        }
+    }
+}
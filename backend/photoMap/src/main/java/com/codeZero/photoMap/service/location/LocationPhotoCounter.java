@@ -0,0 +1,168 @@
+package com.codeZero.photoMap.service.location;
+
+import com.codeZero.photoMap.domain.location.LocationPhotoCount;
+import com.codeZero.photoMap.domain.location.LocationRepository;
+import com.codeZero.photoMap.domain.photo.Photo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 위치별 사진 수, 대표 사진, 마지막 사진 시각 관리
+ * 사진이 업로드 완료/삭제/복원/이동될 때 위치마다 UPDATE 한 번(증감)으로 반영하여,
+ * 지도 화면에서 위치 목록만으로 사진 수와 대표 사진을 보여줄 수 있게 한다.
+ * 같은 증감을 그룹별 사진 밀도 격자(PhotoHeatmap)에도 반영하고, 바뀐 사진 수를 위치 공간 색인(LocationSpatialIndex)의 스냅샷에 반영한다.
+ * 반영 누락(동시 요청, 컬럼 추가 이전 데이터)은 재계산으로 보정하며, 전체 재계산은 설정한 경우에만 정해진 시각에 실행한다.
+ */
+@Slf4j
+@Component
+public class LocationPhotoCounter {
+
+    private final LocationRepository locationRepository;
+    private final PhotoHeatmap photoHeatmap;
+    private final LocationSpatialIndex locationSpatialIndex;
+    private final int chunkSize;
+
+    public LocationPhotoCounter(LocationRepository locationRepository,
+                                PhotoHeatmap photoHeatmap,
+                                LocationSpatialIndex locationSpatialIndex,
+                                @Value("${location.photo-count.recount-chunk-size:500}") int chunkSize) {
+        this.locationRepository = locationRepository;
+        this.photoHeatmap = photoHeatmap;
+        this.locationSpatialIndex = locationSpatialIndex;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 업로드 완료되었거나 복원된 사진 반영
+     * @param photos 사진 리스트 (위치별로 묶어 반영)
+     */
+    public void added(List<Photo> photos) {
+        Map<Long, List<Photo>> byLocation = byLocation(photos);
+        byLocation.forEach(this::add);
+        photoHeatmap.adjust(sizes(byLocation, 1));
+        refreshSpatialIndex(new ArrayList<>(byLocation.keySet()));
+    }
+
+    /**
+     * 휴지통으로 이동된 사진 반영 (대표 사진이 빠지면 남은 사진 중 가장 최근 사진으로 변경)
+     * @param photos 사진 리스트 (위치별로 묶어 반영)
+     */
+    public void removed(List<Photo> photos) {
+        Map<Long, List<Photo>> byLocation = byLocation(photos);
+        byLocation.forEach((locationId, group) -> {
+            locationRepository.removePhotos(locationId, group.size());
+            locationRepository.refreshCoverIfIn(locationId, group.stream().map(Photo::getId).toList());
+        });
+        photoHeatmap.adjust(sizes(byLocation, -1));
+        refreshSpatialIndex(new ArrayList<>(byLocation.keySet()));
+    }
+
+    /**
+     * 다른 위치로 옮겨진 사진 반영
+     * @param photo 옮겨진 사진
+     * @param fromLocationId 원래 위치 ID
+     * @param toLocationId 새 위치 ID
+     */
+    public void moved(Photo photo, Long fromLocationId, Long toLocationId) {
+        if (Objects.equals(fromLocationId, toLocationId)) {
+            return;
+        }
+        locationRepository.removePhotos(fromLocationId, 1);
+        locationRepository.refreshCoverIfIn(fromLocationId, List.of(photo.getId()));
+        add(toLocationId, List.of(photo));
+        photoHeatmap.adjust(Map.of(fromLocationId, -1, toLocationId, 1));
+        refreshSpatialIndex(List.of(fromLocationId, toLocationId));
+    }
+
+    /**
+     * 위치들의 사진 수, 대표 사진, 마지막 사진 시각을 사진 테이블 기준으로 다시 계산 (다시 계산된 사진 수는 위치 공간 색인에도 반영)
+     * @param locationIds 위치 ID 리스트
+     */
+    public void recount(List<Long> locationIds) {
+        if (!locationIds.isEmpty()) {
+            locationRepository.recountPhotos(locationIds);
+            refreshSpatialIndex(locationIds);
+        }
+    }
+
+    /**
+     * 전체 위치 재계산 후 그룹별 사진 밀도 격자 재생성
+     * 모든 위치와 그룹을 다시 읽으므로 기본으로는 실행하지 않으며, recount-cron을 설정하면 그 시각에만 실행한다. (서버 시작 시 실행하지 않음)
+     * 위치는 ID 순으로 chunkSize개씩 나누어 재계산한다.
+     */
+    @Scheduled(cron = "${location.photo-count.recount-cron:-}")
+    public void recountAll() {
+        long afterId = 0L;
+        int total = 0;
+        try {
+            while (true) {
+                List<Long> ids = locationRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                locationRepository.recountPhotos(ids);
+                refreshSpatialIndex(ids);
+                total += ids.size();
+                afterId = ids.get(ids.size() - 1);
+            }
+            log.info("위치별 사진 수 재계산 완료: 위치 {}개", total);
+        } catch (RuntimeException e) {
+            log.warn("위치별 사진 수 재계산 실패 (위치 {}개 처리 후 중단)", total, e);
+            return;
+        }
+
+        int groups = 0;
+        try {
+            for (Long groupId : locationRepository.findGroupIdsWithLocations()) {
+                photoHeatmap.rebuild(groupId);
+                groups++;
+            }
+            log.info("사진 밀도 격자 재생성 완료: 그룹 {}개", groups);
+        } catch (RuntimeException e) {
+            log.warn("사진 밀도 격자 재생성 실패 (그룹 {}개 처리 후 중단)", groups, e);
+        }
+    }
+
+    private void add(Long locationId, List<Photo> photos) {
+        Photo latest = photos.stream().max(Comparator.comparing(Photo::getId)).orElseThrow();
+        LocalDateTime photoAt = latest.getCreatedDate() != null ? latest.getCreatedDate() : LocalDateTime.now();
+        locationRepository.addPhotos(locationId, photos.size(), latest.getId(), photoAt);
+    }
+
+    /**
+     * 위치들의 현재 사진 수를 DB에서 읽어 위치 공간 색인에 반영 (벌크 UPDATE는 영속성 컨텍스트의 Location에 반영되지 않음)
+     */
+    private void refreshSpatialIndex(List<Long> locationIds) {
+        if (locationIds.isEmpty()) {
+            return;
+        }
+        locationRepository.findPhotoCountsByIdIn(locationIds).stream()
+                .collect(Collectors.groupingBy(LocationPhotoCount::groupId,
+                        Collectors.toMap(LocationPhotoCount::locationId, LocationPhotoCount::photoCount)))
+                .forEach(locationSpatialIndex::updatePhotoCounts);
+    }
+
+    private static Map<Long, Integer> sizes(Map<Long, List<Photo>> byLocation, int sign) {
+        Map<Long, Integer> sizes = new HashMap<>();
+        byLocation.forEach((locationId, group) -> sizes.put(locationId, sign * group.size()));
+        return sizes;
+    }
+
+    private Map<Long, List<Photo>> byLocation(List<Photo> photos) {
+        return photos.stream()
+                .collect(Collectors.groupingBy(p -> p.getLocation().getId(), LinkedHashMap::new, Collectors.toList()));
+    }
+}
@@ -1,22 +1,34 @@
 package com.codeZero.photoMap.service.location;
 
+import com.codeZero.photoMap.common.BoundingBox;
 import com.codeZero.photoMap.common.exception.DuplicateException;
 import com.codeZero.photoMap.common.exception.ForbiddenException;
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
 import com.codeZero.photoMap.common.exception.NotFoundException;
 import com.codeZero.photoMap.domain.group.MemberGroup;
 import com.codeZero.photoMap.domain.group.MemberGroupMappingRepository;
 import com.codeZero.photoMap.domain.group.MemberGroupRepository;
+import com.codeZero.photoMap.domain.group.Role;
 import com.codeZero.photoMap.domain.location.Location;
 import com.codeZero.photoMap.domain.location.LocationRepository;
+import com.codeZero.photoMap.domain.location.LocationViewportRepository;
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import com.codeZero.photoMap.dto.location.response.HeatmapTileResponse;
+import com.codeZero.photoMap.dto.location.response.LocationClusterResponse;
+import com.codeZero.photoMap.dto.location.response.LocationMergeResponse;
 import com.codeZero.photoMap.dto.location.response.LocationResponse;
+import com.codeZero.photoMap.dto.location.response.NearbyLocationResponse;
 import com.codeZero.photoMap.dto.location.request.LocationServiceRequest;
 import com.codeZero.photoMap.dto.location.request.LocationUpdateRequest;
+import com.codeZero.photoMap.service.search.SearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -29,6 +41,19 @@ public class LocationService {
     private final LocationRepository locationRepository;
     private final MemberGroupRepository memberGroupRepository;
     private final MemberGroupMappingRepository memberGroupMappingRepository;
+    private final LocationViewportRepository locationViewportRepository;
+    private final LocationSpatialIndex locationSpatialIndex;
+    private final LocationDuplicateFinder locationDuplicateFinder;
+    private final LocationPhotoCounter locationPhotoCounter;
+    private final PhotoHeatmap photoHeatmap;
+    private final PhotoRepository photoRepository;
+    private final SearchIndex searchIndex;
+
+    // 근처 위치 조회 최대 개수
+    private static final int MAX_NEARBY = 100;
+
+    // 중복 위치 병합 시 지정할 수 있는 최대 반경 (m)
+    private static final double MAX_MERGE_RADIUS_METERS = 1000;
 
     /**
      * 위치 생성
@@ -42,23 +67,30 @@ public class LocationService {
         // 해당 member가 실제로 group에 속해있는지 검증
         validateMemberInGroup(memberId, groupId);
 
-        // 그룹 내 동일한 위치에 폴더가 있을 경우 예외 처리
-        checkDuplicateLocationInGroup(groupId, request);
+        // 그룹 내 가까운 위치에 폴더가 있을 경우 예외 처리
+        checkDuplicateLocationInGroup(groupId, request.getLatitude(), request.getLongitude(), null);
 
         MemberGroup memberGroup = memberGroupRepository.findByIdAndIsDeletedFalse(groupId)
                 .orElseThrow(() -> new NotFoundException("해당 그룹을 찾을 수 없습니다."));
 
         Location location = request.toEntity(memberGroup);
         Location savedLocation = locationRepository.save(location);
+        locationSpatialIndex.put(savedLocation);
+        searchIndex.putLocation(savedLocation);
 
         return LocationResponse.of(savedLocation);
     }
 
-    private void checkDuplicateLocationInGroup(Long groupId, LocationServiceRequest request) {
-        Optional<Location> existingLocation = locationRepository.findByMemberGroupIdAndLatitudeAndLongitudeAndIsDeletedFalse(groupId, request.getLatitude(), request.getLongitude());
+    /**
+     * 그룹 내 중복 반경 안에 다른 위치 폴더가 있으면 예외 처리 (응답 data로 기존 위치를 전달)
+     * @param excludeId 제외할 위치 ID (수정 중인 위치, 생성 시 null)
+     */
+    private void checkDuplicateLocationInGroup(Long groupId, double latitude, double longitude, Long excludeId) {
+        Optional<Location> existingLocation = locationDuplicateFinder.findNear(groupId, latitude, longitude, excludeId);
 
         if (existingLocation.isPresent()) {
-            throw new DuplicateException("이미 동일한 위치에 폴더가 존재합니다.");
+            throw new DuplicateException("근처(" + (int) locationDuplicateFinder.getRadiusMeters() + "m 이내)에 이미 위치 폴더가 존재합니다.",
+                    LocationResponse.of(existingLocation.get()));
         }
     }
 
@@ -100,6 +132,100 @@ public class LocationService {
         return convertLocationsToResponses(locations);
     }
 
+    /**
+     * 지도 화면 영역 안의 위치 리스트 조회
+     * @param memberId 사용자 ID
+     * @param groupId 그룹 ID (null이면 사용자가 속한 모든 그룹)
+     * @param bbox 화면 영역 ("minLng,minLat,maxLng,maxLat")
+     * @return List<LocationResponse> 위치 응답 DTO 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<LocationResponse> getLocationsInViewport(Long memberId, Long groupId, String bbox) {
+
+        BoundingBox boundingBox = BoundingBox.parse(bbox);
+
+        List<Long> groupIds = resolveGroupIds(memberId, groupId);
+
+        List<Location> locations = locationViewportRepository.findInBoundingBox(groupIds, boundingBox);
+
+        return convertLocationsToResponses(locations);
+    }
+
+    /**
+     * 좌표에서 가까운 위치 조회
+     * radiusMeters가 있으면 반경 안의 위치를 가까운 순으로 최대 k개, 없으면 거리와 관계없이 가까운 순으로 k개 조회
+     * @param memberId 사용자 ID
+     * @param groupId 그룹 ID (null이면 사용자가 속한 모든 그룹)
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param k 최대 개수 (1 ~ 100)
+     * @param radiusMeters 반경 (m, null 가능)
+     * @return List<NearbyLocationResponse> 근처 위치 응답 DTO 리스트 (가까운 순)
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyLocationResponse> getNearbyLocations(Long memberId, Long groupId, double latitude, double longitude,
+                                                           int k, Double radiusMeters) {
+
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("좌표 범위가 올바르지 않습니다.");
+        }
+        if (k < 1 || k > MAX_NEARBY) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_NEARBY + " 이하여야 합니다.");
+        }
+        if (radiusMeters != null && radiusMeters <= 0) {
+            throw new IllegalArgumentException("반경은 0보다 커야 합니다.");
+        }
+
+        List<Long> groupIds = resolveGroupIds(memberId, groupId);
+        double maxDistance = radiusMeters != null ? radiusMeters : Double.MAX_VALUE;
+
+        return locationSpatialIndex.nearest(groupIds, latitude, longitude, k, maxDistance).stream()
+                .map(NearbyLocationResponse::of)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 지도 화면 영역의 위치를 격자 칸 단위 클러스터로 조회
+     * 위치 목록 대신 화면의 칸 수만큼의 클러스터만 내려주므로, 위치가 많아도 응답 크기가 화면 크기에 비례한다.
+     * @param memberId 사용자 ID
+     * @param bbox 화면 영역 ("minLng,minLat,maxLng,maxLat")
+     * @param zoom 지도 줌 레벨 (0 ~ 22)
+     * @return List<LocationClusterResponse> 클러스터 응답 DTO 리스트 (위치 수 내림차순)
+     */
+    @Transactional(readOnly = true)
+    public List<LocationClusterResponse> getLocationClusters(Long memberId, String bbox, int zoom) {
+
+        BoundingBox boundingBox = BoundingBox.parse(bbox);
+
+        // memberId로 해당 멤버가 속한 그룹들의 ID를 조회
+        List<Long> groupIds = memberGroupMappingRepository.findGroupIdsByMemberIdAndIsDeletedFalse(memberId);
+        if (groupIds.isEmpty()) {
+            throw new NotFoundException("해당 멤버가 속한 그룹을 찾을 수 없습니다.");
+        }
+
+        return locationSpatialIndex.cluster(groupIds, boundingBox, zoom).stream()
+                .map(LocationClusterResponse::of)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 그룹의 사진 밀도 히트맵 타일 조회
+     * @param memberId 사용자 ID
+     * @param groupId 그룹 ID
+     * @param z 줌 레벨 (0 ~ 22)
+     * @param x 타일 x 인덱스
+     * @param y 타일 y 인덱스 (북쪽이 0)
+     * @return HeatmapTileResponse 격자 레벨과 사진이 있는 칸 리스트
+     */
+    @Transactional(readOnly = true)
+    public HeatmapTileResponse getHeatmapTile(Long memberId, Long groupId, int z, long x, long y) {
+
+        // 해당 member가 실제로 group에 속해있는지 검증
+        validateMemberInGroup(memberId, groupId);
+
+        return HeatmapTileResponse.of(photoHeatmap.getTile(groupId, z, x, y));
+    }
+
     /**
      * Location 이름, 위도, 경도 수정
      * @param locationId Location ID
@@ -110,8 +236,23 @@ public class LocationService {
         Location location = locationRepository.findByIdAndIsDeletedFalse(locationId)
                 .orElseThrow(() -> new NotFoundException("해당 Location을 찾을 수 없습니다."));
 
+        // 좌표가 바뀌는 경우 그룹 내 가까운 위치에 다른 폴더가 있으면 예외 처리
+        if (location.getLatitude() != request.getLatitude() || location.getLongitude() != request.getLongitude()) {
+            checkDuplicateLocationInGroup(location.getMemberGroup().getId(), request.getLatitude(), request.getLongitude(), location.getId());
+        }
+
+        Long previousGeoCell = location.getGeoCell();
         location.updateLocation(request.getName(), request.getLatitude(), request.getLongitude());
         Location updatedLocation = locationRepository.save(location);
+        locationSpatialIndex.put(updatedLocation);
+        searchIndex.putLocation(updatedLocation);
+
+        // 위치가 옮겨지면 사진 밀도 격자에서도 위치의 사진 수를 새 칸으로 옮김
+        if (!Objects.equals(previousGeoCell, updatedLocation.getGeoCell())) {
+            Long groupId = updatedLocation.getMemberGroup().getId();
+            photoHeatmap.adjust(groupId, previousGeoCell, -updatedLocation.getPhotoCount());
+            photoHeatmap.adjust(groupId, updatedLocation.getGeoCell(), updatedLocation.getPhotoCount());
+        }
 
         return LocationResponse.of(updatedLocation);
     }
@@ -127,10 +268,70 @@ public class LocationService {
         location.delete();
 
         Location deletedLocation = locationRepository.save(location);
+        locationSpatialIndex.remove(location.getMemberGroup().getId(), location.getId());
+        searchIndex.removeLocation(location.getMemberGroup().getId(), location.getId());
+        photoHeatmap.adjust(location.getMemberGroup().getId(), location.getGeoCell(), -location.getPhotoCount());
 
         return LocationResponse.of(deletedLocation);
     }
 
+    /**
+     * 그룹 내 근접 중복 위치 병합 (그룹 OWNER만 가능)
+     * 반경 안의 위치들을 먼저 만든 위치 하나로 묶고, 흡수되는 위치들의 사진은 묶음마다 UPDATE 한 번으로 옮긴 뒤 위치를 삭제한다.
+     * @param memberId 사용자 ID
+     * @param groupId 그룹 ID
+     * @param radiusMeters 중복으로 볼 반경 (m, null이면 생성 시 중복 검사 반경)
+     * @return List<LocationMergeResponse> 병합 결과 리스트
+     */
+    public List<LocationMergeResponse> mergeNearDuplicates(Long memberId, Long groupId, Double radiusMeters) {
+
+        if (!memberGroupMappingRepository.existsByMemberGroupIdAndMemberIdAndRoleAndIsDeletedFalse(groupId, memberId, Role.OWNER)) {
+            throw new ForbiddenException("그룹 OWNER만 위치를 병합할 수 있습니다.");
+        }
+
+        double radius = radiusMeters != null ? radiusMeters : locationDuplicateFinder.getRadiusMeters();
+        if (radius <= 0 || radius > MAX_MERGE_RADIUS_METERS) {
+            throw new IllegalArgumentException("병합 반경은 0보다 크고 " + (int) MAX_MERGE_RADIUS_METERS + "m 이하여야 합니다.");
+        }
+
+        List<Location> locations = locationRepository.findByMemberGroupIdAndIsDeletedFalse(groupId);
+
+        List<LocationMergeResponse> responses = new ArrayList<>();
+        List<Long> targetIds = new ArrayList<>();
+        List<Long> mergedIds = new ArrayList<>();
+        for (List<Location> cluster : locationDuplicateFinder.findClusters(locations, radius)) {
+            Location target = cluster.get(0);
+            List<Long> sourceIds = cluster.subList(1, cluster.size()).stream()
+                    .map(Location::getId)
+                    .toList();
+
+            int moved = photoRepository.moveLocation(sourceIds, target);
+            photoRepository.clearSuggestedLocation(sourceIds);
+            targetIds.add(target.getId());
+            mergedIds.addAll(sourceIds);
+
+            responses.add(LocationMergeResponse.builder()
+                    .targetId(target.getId())
+                    .targetName(target.getName())
+                    .mergedLocationIds(sourceIds)
+                    .movedPhotoCount(moved)
+                    .build());
+        }
+
+        if (!mergedIds.isEmpty()) {
+            locationRepository.deleteByIdIn(mergedIds);
+            locationPhotoCounter.recount(targetIds); // 흡수한 사진 수를 대상 위치의 공간 색인 스냅샷에도 반영
+            photoHeatmap.rebuild(groupId);
+            mergedIds.forEach(locationId -> {
+                locationSpatialIndex.remove(groupId, locationId);
+                searchIndex.removeLocation(groupId, locationId);
+            });
+            log.info("위치 병합: groupId = {}, 묶음 {}개, 삭제된 위치 {}개", groupId, responses.size(), mergedIds.size());
+        }
+
+        return responses;
+    }
+
     /**
      * 해당 member가 실제로 group에 속해있는지 검증하는 메서드
      * @param memberId 멤버 ID
@@ -143,6 +344,25 @@ public class LocationService {
         }
     }
 
+    /**
+     * 조회 대상 그룹 ID 리스트 (groupId가 있으면 소속 검증 후 해당 그룹, 없으면 사용자가 속한 모든 그룹)
+     * @param memberId 멤버 ID
+     * @param groupId 그룹 ID (null 가능)
+     */
+    private List<Long> resolveGroupIds(Long memberId, Long groupId) {
+        if (groupId != null) {
+            // 해당 member가 실제로 group에 속해있는지 검증
+            validateMemberInGroup(memberId, groupId);
+            return List.of(groupId);
+        }
+
+        List<Long> groupIds = memberGroupMappingRepository.findGroupIdsByMemberIdAndIsDeletedFalse(memberId);
+        if (groupIds.isEmpty()) {
+            throw new NotFoundException("해당 멤버가 속한 그룹을 찾을 수 없습니다.");
+        }
+        return groupIds;
+    }
+
     /**
      * Location 리스트를 LocationResponse 리스트로 변환
      * @param locations
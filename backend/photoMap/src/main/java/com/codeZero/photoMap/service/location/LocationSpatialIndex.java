@@ -0,0 +1,350 @@
+package com.codeZero.photoMap.service.location;
+
+import com.codeZero.photoMap.common.BoundingBox;
+import com.codeZero.photoMap.common.GeoUtils;
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import com.codeZero.photoMap.domain.location.Location;
+import com.codeZero.photoMap.domain.location.LocationRepository;
+import com.codeZero.photoMap.service.location.spatial.GroupLocations;
+import com.codeZero.photoMap.service.location.spatial.LocationRTree;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 그룹별 위치 좌표 공간 색인 (지도 화면 단위 클러스터링, 최근접/반경 조회용)
+ * 그룹의 위치를 처음 조회할 때 DB에서 읽어 읽기 전용 스냅샷(GroupLocations, LocationRTree)을 만들고,
+ * 이 서버에서 위치가 생성/수정/삭제되거나 위치의 사진 수가 바뀌면 커밋 후 메모리의 위치 목록에 반영해 스냅샷을 새로 만든다.
+ * (다른 서버의 변경은 max-age가 지나면 DB에서 다시 읽어 반영)
+ * 그룹 수나 전체 위치 수가 최대치를 넘으면 가장 오래 조회되지 않은 그룹부터 제거한다.
+ */
+@Slf4j
+@Component
+public class LocationSpatialIndex {
+
+    // 클러스터 격자 한 칸의 크기 = 지도 타일(256px)의 1/4 = 64px
+    private static final int CELL_ZOOM_OFFSET = 2;
+
+    // 한 번의 조회에서 확인할 수 있는 최대 격자 칸 수 (화면 크기 기준으로 충분한 값)
+    private static final int MAX_CELLS = 16384;
+
+    public static final int MAX_ZOOM = 22;
+
+    private final LocationRepository locationRepository;
+    private final long maxAgeMillis;
+    private final int maxGroups;
+    private final long maxPoints;
+
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public LocationSpatialIndex(LocationRepository locationRepository,
+                                @Value("${location.spatial.max-age-seconds:60}") long maxAgeSeconds,
+                                @Value("${location.spatial.max-groups:1000}") int maxGroups,
+                                @Value("${location.spatial.max-points:1000000}") long maxPoints) {
+        this.locationRepository = locationRepository;
+        this.maxAgeMillis = maxAgeSeconds * 1000;
+        this.maxGroups = maxGroups;
+        this.maxPoints = maxPoints;
+    }
+
+    /**
+     * 화면 영역 안의 위치를 격자 칸 단위로 묶어 조회
+     * @param groupIds 조회할 그룹 ID 리스트
+     * @param bbox 화면 영역
+     * @param zoom 지도 줌 레벨 (0 ~ 22)
+     * @return 위치가 있는 칸별 클러스터 리스트 (위치 수 내림차순)
+     */
+    public List<Cluster> cluster(List<Long> groupIds, BoundingBox bbox, int zoom) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("줌 레벨은 0 이상 " + MAX_ZOOM + " 이하여야 합니다.");
+        }
+
+        int gridZoom = Math.min(GroupLocations.BASE_ZOOM, zoom + CELL_ZOOM_OFFSET);
+        long cells = 1L << gridZoom;
+
+        long minY = (long) (GeoUtils.mercatorY(bbox.maxLat()) * cells);
+        long maxY = (long) (GeoUtils.mercatorY(bbox.minLat()) * cells);
+        long minX = (long) (GeoUtils.mercatorX(bbox.minLng()) * cells);
+        long maxX = (long) (GeoUtils.mercatorX(bbox.maxLng()) * cells);
+
+        // 날짜 변경선을 넘으면 서쪽 끝 ~ 180도, -180도 ~ 동쪽 끝 두 구간으로 나눔
+        List<long[]> xRanges = bbox.crossesAntimeridian()
+                ? List.of(new long[]{minX, cells - 1}, new long[]{0, maxX})
+                : List.of(new long[]{minX, maxX});
+
+        long cellCount = (maxY - minY + 1) * xRanges.stream().mapToLong(r -> r[1] - r[0] + 1).sum();
+        if (cellCount > MAX_CELLS) {
+            throw new IllegalArgumentException("조회 영역이 줌 레벨에 비해 너무 넓습니다.");
+        }
+
+        List<GroupLocations> groups = groupIds.stream()
+                .map(groupId -> get(groupId).locations)
+                .filter(g -> g.size() > 0)
+                .toList();
+
+        List<Cluster> clusters = new ArrayList<>();
+        for (long[] xRange : xRanges) {
+            for (long y = minY; y <= maxY; y++) {
+                for (long x = xRange[0]; x <= xRange[1]; x++) {
+                    GroupLocations.CellAggregate aggregate = new GroupLocations.CellAggregate();
+                    for (GroupLocations group : groups) {
+                        group.aggregate(gridZoom, x, y, aggregate);
+                    }
+                    if (aggregate.getCount() > 0) {
+                        clusters.add(Cluster.of(aggregate));
+                    }
+                }
+            }
+        }
+
+        clusters.sort(Comparator.comparingInt(Cluster::count).reversed());
+        return clusters;
+    }
+
+    /**
+     * 좌표에서 가까운 순으로 최대 k개의 위치 조회 (여러 그룹의 결과를 합쳐 다시 k개로 자름)
+     * @param groupIds 조회할 그룹 ID 리스트
+     * @param lat 위도
+     * @param lng 경도
+     * @param k 최대 개수
+     * @param maxDistanceMeters 최대 거리 (m)
+     * @return 가까운 순으로 정렬된 위치 리스트
+     */
+    public List<Nearby> nearest(List<Long> groupIds, double lat, double lng, int k, double maxDistanceMeters) {
+        List<Nearby> result = new ArrayList<>();
+        for (Long groupId : groupIds) {
+            for (LocationRTree.Neighbor neighbor : get(groupId).tree.nearest(lat, lng, k, maxDistanceMeters)) {
+                result.add(Nearby.of(groupId, neighbor));
+            }
+        }
+        result.sort(Comparator.comparingDouble(Nearby::distanceMeters));
+        return result.size() > k ? new ArrayList<>(result.subList(0, k)) : result;
+    }
+
+    /**
+     * 좌표에서 반경 안의 위치 조회
+     * @param groupIds 조회할 그룹 ID 리스트
+     * @param lat 위도
+     * @param lng 경도
+     * @param radiusMeters 반경 (m)
+     * @return 가까운 순으로 정렬된 위치 리스트
+     */
+    public List<Nearby> within(List<Long> groupIds, double lat, double lng, double radiusMeters) {
+        List<Nearby> result = new ArrayList<>();
+        for (Long groupId : groupIds) {
+            for (LocationRTree.Neighbor neighbor : get(groupId).tree.within(lat, lng, radiusMeters)) {
+                result.add(Nearby.of(groupId, neighbor));
+            }
+        }
+        result.sort(Comparator.comparingDouble(Nearby::distanceMeters));
+        return result;
+    }
+
+    /**
+     * 그룹의 현재 스냅샷과 버전 조회 (타일 캐시 키용, 스냅샷이 새로 만들어질 때마다 버전이 바뀜)
+     * @param groupId 그룹 ID
+     * @return 스냅샷 버전과 위치 좌표
+     */
+    public GroupView view(Long groupId) {
+        Snapshot snapshot = get(groupId);
+        return new GroupView(snapshot.version, snapshot.locations);
+    }
+
+    /**
+     * 생성/수정된 위치를 그룹 스냅샷에 반영 (스냅샷이 없으면 다음 조회 때 DB에서 읽음)
+     * 트랜잭션 안에서 호출되면 커밋 후에 반영한다.
+     * @param location 생성/수정된 위치
+     */
+    public void put(Location location) {
+        Long groupId = location.getMemberGroup().getId();
+        GroupLocations.Point point = GroupLocations.Point.of(location);
+        afterCommit(() -> apply(groupId, point.id(), point));
+    }
+
+    /**
+     * 삭제된 위치를 그룹 스냅샷에서 제거
+     * 트랜잭션 안에서 호출되면 커밋 후에 반영한다.
+     * @param groupId 그룹 ID
+     * @param locationId 위치 ID
+     */
+    public void remove(Long groupId, Long locationId) {
+        afterCommit(() -> apply(groupId, locationId, null));
+    }
+
+    /**
+     * 사진 수가 바뀐 위치들을 그룹 스냅샷에 반영 (스냅샷이 없으면 다음 조회 때 DB에서 읽음)
+     * 트랜잭션 안에서 호출되면 커밋 후에 반영한다.
+     * @param groupId 그룹 ID
+     * @param photoCounts 위치 ID별 사진 수
+     */
+    public void updatePhotoCounts(Long groupId, Map<Long, Integer> photoCounts) {
+        afterCommit(() -> snapshots.computeIfPresent(groupId, (id, snapshot) -> {
+            List<GroupLocations.Point> points = new ArrayList<>(snapshot.points.size());
+            boolean changed = false;
+            for (GroupLocations.Point existing : snapshot.points) {
+                Integer photoCount = photoCounts.get(existing.id());
+                if (photoCount != null && photoCount != existing.photoCount()) {
+                    points.add(new GroupLocations.Point(existing.id(), existing.name(), existing.latitude(), existing.longitude(), photoCount));
+                    changed = true;
+                } else {
+                    points.add(existing);
+                }
+            }
+            if (!changed) {
+                return snapshot;
+            }
+            Snapshot updated = new Snapshot(points, snapshot.loadedAt);
+            updated.lastAccess = snapshot.lastAccess;
+            return updated;
+        }));
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+
+    /**
+     * 그룹 스냅샷의 위치 목록에서 locationId를 빼고 point(있으면)를 더해 스냅샷을 새로 만듦 (적재 시각은 유지)
+     */
+    private void apply(Long groupId, long locationId, GroupLocations.Point point) {
+        snapshots.computeIfPresent(groupId, (id, snapshot) -> {
+            List<GroupLocations.Point> points = new ArrayList<>(snapshot.points.size() + 1);
+            for (GroupLocations.Point existing : snapshot.points) {
+                if (existing.id() != locationId) {
+                    points.add(existing);
+                }
+            }
+            if (point != null) {
+                points.add(point);
+            }
+            Snapshot updated = new Snapshot(points, snapshot.loadedAt);
+            updated.lastAccess = snapshot.lastAccess;
+            return updated;
+        });
+    }
+
+    /**
+     * 그룹의 스냅샷 조회 (없거나 오래되었으면 DB에서 다시 읽음)
+     */
+    private Snapshot get(Long groupId) {
+        long now = System.currentTimeMillis();
+
+        Snapshot snapshot = snapshots.get(groupId);
+        if (snapshot != null && now - snapshot.loadedAt < maxAgeMillis) {
+            snapshot.lastAccess = now;
+            return snapshot;
+        }
+
+        List<GroupLocations.Point> points = locationRepository.findByMemberGroupIdAndIsDeletedFalse(groupId).stream()
+                .map(GroupLocations.Point::of)
+                .toList();
+        Snapshot loaded = new Snapshot(points, now);
+
+        snapshots.put(groupId, loaded);
+        evictColdest();
+        return loaded;
+    }
+
+    /**
+     * 그룹 수와 전체 위치 수가 최대치 이하가 될 때까지 가장 오래 조회되지 않은 그룹부터 제거
+     */
+    private void evictColdest() {
+        long totalPoints = snapshots.values().stream().mapToLong(snapshot -> snapshot.points.size()).sum();
+        if (snapshots.size() <= maxGroups && totalPoints <= maxPoints) {
+            return;
+        }
+
+        List<Map.Entry<Long, Snapshot>> entries = new ArrayList<>(snapshots.entrySet());
+        entries.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+
+        int removed = 0;
+        for (Map.Entry<Long, Snapshot> entry : entries) {
+            if (snapshots.size() <= maxGroups && totalPoints <= maxPoints) {
+                break;
+            }
+            if (snapshots.remove(entry.getKey(), entry.getValue())) {
+                totalPoints -= entry.getValue().points.size();
+                removed++;
+            }
+        }
+        log.debug("위치 공간 색인 정리: 그룹 {}개 제거, 현재 {}개 (위치 {}개)", removed, snapshots.size(), totalPoints);
+    }
+
+    private static final class Snapshot {
+
+        private static final AtomicLong VERSIONS = new AtomicLong();
+
+        private final long version = VERSIONS.incrementAndGet();
+        private final List<GroupLocations.Point> points;
+        private final GroupLocations locations;
+        private final LocationRTree tree;
+        private final long loadedAt;
+        private volatile long lastAccess;
+
+        private Snapshot(List<GroupLocations.Point> points, long loadedAt) {
+            this.points = points;
+            this.locations = GroupLocations.of(points);
+            this.tree = LocationRTree.of(points);
+            this.loadedAt = loadedAt;
+            this.lastAccess = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 격자 칸 하나의 클러스터
+     * @param latitude 칸에 속한 위치들의 평균 위도
+     * @param longitude 칸에 속한 위치들의 평균 경도
+     * @param count 위치 수
+     * @param locationId 위치가 하나뿐이면 위치 ID (아니면 null)
+     * @param name 위치가 하나뿐이면 위치 이름 (아니면 null)
+     */
+    public record Cluster(double latitude, double longitude, int count, Long locationId, String name) {
+
+        private static Cluster of(GroupLocations.CellAggregate aggregate) {
+            boolean single = aggregate.getCount() == 1;
+            return new Cluster(aggregate.getLatitude(), aggregate.getLongitude(), aggregate.getCount(),
+                    single ? aggregate.getFirstId() : null, single ? aggregate.getFirstName() : null);
+        }
+    }
+
+    /**
+     * 최근접/반경 조회 결과
+     * @param groupId 그룹 ID
+     * @param locationId 위치 ID
+     * @param name 위치 이름
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param distanceMeters 기준 좌표로부터의 거리 (m)
+     */
+    public record Nearby(Long groupId, long locationId, String name, double latitude, double longitude, double distanceMeters) {
+
+        private static Nearby of(Long groupId, LocationRTree.Neighbor neighbor) {
+            GroupLocations.Point point = neighbor.point();
+            return new Nearby(groupId, point.id(), point.name(), point.latitude(), point.longitude(), neighbor.distanceMeters());
+        }
+    }
+
+    /**
+     * 그룹 스냅샷의 버전과 위치 좌표
+     */
+    public record GroupView(long version, GroupLocations locations) {
+    }
+}
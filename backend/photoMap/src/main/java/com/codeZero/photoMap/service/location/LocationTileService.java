@@ -0,0 +1,211 @@
+package com.codeZero.photoMap.service.location;
+
+import com.codeZero.photoMap.common.GeoUtils;
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import com.codeZero.photoMap.common.exception.NotFoundException;
+import com.codeZero.photoMap.domain.group.MemberGroupMappingRepository;
+import com.codeZero.photoMap.service.location.spatial.GroupLocations;
+import com.codeZero.photoMap.service.location.tile.MvtEncoder;
+import com.codeZero.photoMap.service.photo.cache.ByteBudgetLruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 위치를 Mapbox Vector Tile(점 레이어 "locations")로 인코딩
+ * 타일 좌표계(4096 단위)의 SNAP_UNITS 격자 칸에 모인 위치는 하나의 점으로 합쳐(칸 내 평균 좌표, 위치 수/사진 수 합계)
+ * 낮은 줌에서도 타일 크기가 화면 픽셀 수에 비례하도록 한다.
+ * 인코딩된 타일은 (타일 좌표, 그룹별 스냅샷 버전)을 키로 캐시하며, 위치가 생성/수정/삭제되면
+ * LocationSpatialIndex가 그룹 스냅샷을 새 버전으로 바꾸므로 이전 타일은 더 이상 조회되지 않고 LRU로 밀려난다.
+ */
+@Slf4j
+@Service
+public class LocationTileService {
+
+    public static final String LAYER_NAME = "locations";
+
+    private static final int EXTENT = 4096;
+
+    // 타일 경계 밖으로 포함할 버퍼 (EXTENT의 1/64, 경계에 걸친 아이콘/라벨이 잘리지 않도록)
+    private static final int BUFFER_ZOOM_OFFSET = 6;
+    private static final int BUFFER = EXTENT >> BUFFER_ZOOM_OFFSET;
+
+    // 점 단순화 격자 크기 (256px 타일 기준 4px)
+    private static final int SNAP_UNITS = 64;
+
+    private final MemberGroupMappingRepository memberGroupMappingRepository;
+    private final LocationSpatialIndex locationSpatialIndex;
+    private final ByteBudgetLruCache<Tile> cache;
+
+    public LocationTileService(MemberGroupMappingRepository memberGroupMappingRepository,
+                               LocationSpatialIndex locationSpatialIndex,
+                               @Value("${location.tile.cache-size-mb:32}") long cacheSizeMb) {
+        this.memberGroupMappingRepository = memberGroupMappingRepository;
+        this.locationSpatialIndex = locationSpatialIndex;
+        this.cache = new ByteBudgetLruCache<>(cacheSizeMb * 1024 * 1024, tile -> tile.bytes().length);
+    }
+
+    /**
+     * 사용자가 속한 모든 그룹의 위치 타일 조회
+     * @param memberId 사용자 ID
+     * @param z 줌 레벨 (0 ~ 22)
+     * @param x 타일 x 인덱스
+     * @param y 타일 y 인덱스 (북쪽이 0)
+     * @return 인코딩된 타일
+     * @throws IllegalArgumentException 타일 좌표가 범위를 벗어난 경우
+     * @throws NotFoundException 사용자가 속한 그룹이 없을 경우
+     */
+    public Tile getTile(Long memberId, int z, long x, long y) {
+        if (z < 0 || z > LocationSpatialIndex.MAX_ZOOM) {
+            throw new IllegalArgumentException("줌 레벨은 0 이상 " + LocationSpatialIndex.MAX_ZOOM + " 이하여야 합니다.");
+        }
+        long tiles = 1L << z;
+        if (x < 0 || x >= tiles || y < 0 || y >= tiles) {
+            throw new IllegalArgumentException("타일 좌표가 줌 레벨 " + z + "의 범위를 벗어났습니다.");
+        }
+
+        List<Long> groupIds = memberGroupMappingRepository.findGroupIdsByMemberIdAndIsDeletedFalse(memberId);
+        if (groupIds.isEmpty()) {
+            throw new NotFoundException("해당 멤버가 속한 그룹을 찾을 수 없습니다.");
+        }
+
+        List<LocationSpatialIndex.GroupView> views = new ArrayList<>(groupIds.size());
+        StringBuilder key = new StringBuilder().append(z).append('/').append(x).append('/').append(y);
+        for (Long groupId : groupIds.stream().sorted().toList()) {
+            LocationSpatialIndex.GroupView view = locationSpatialIndex.view(groupId);
+            views.add(view);
+            key.append('|').append(groupId).append(':').append(view.version());
+        }
+
+        String cacheKey = key.toString();
+        Tile cached = cache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] bytes = render(views, z, x, y);
+        Tile tile = new Tile(bytes, md5Hex(bytes));
+        cache.put(cacheKey, tile);
+        return tile;
+    }
+
+    private byte[] render(List<LocationSpatialIndex.GroupView> views, int z, long x, long y) {
+        Map<Long, Bucket> buckets = new HashMap<>();
+        long tiles = 1L << z;
+
+        // 타일 자신과 버퍼가 걸치는 이웃 타일 8개 (경도 방향은 날짜 변경선을 넘어 이어짐)
+        for (int dy = -1; dy <= 1; dy++) {
+            long ny = y + dy;
+            if (ny < 0 || ny >= tiles) {
+                continue;
+            }
+            for (int dx = -1; dx <= 1; dx++) {
+                long nx = Math.floorMod(x + dx, tiles);
+                GroupLocations.PointVisitor visitor = collector(buckets, tiles, nx, ny, dx, dy);
+                for (LocationSpatialIndex.GroupView view : views) {
+                    visitNeighbor(view.locations(), z, nx, ny, dx, dy, visitor);
+                }
+            }
+        }
+
+        MvtEncoder encoder = new MvtEncoder(LAYER_NAME, EXTENT);
+        for (Bucket bucket : buckets.values()) {
+            Map<String, Object> properties = new LinkedHashMap<>();
+            properties.put("count", bucket.count);
+            properties.put("photo_count", bucket.photoCount);
+            if (bucket.count == 1) {
+                properties.put("location_id", bucket.firstId);
+                properties.put("name", bucket.firstName);
+            }
+            encoder.addPoint(bucket.count == 1 ? bucket.firstId : 0,
+                    (int) Math.round(bucket.xSum / bucket.count), (int) Math.round(bucket.ySum / bucket.count), properties);
+        }
+        return encoder.encode();
+    }
+
+    /**
+     * 이웃 타일에서 버퍼 안에 들어오는 부분만 방문
+     * 이웃 타일을 BUFFER 크기의 칸으로 나눠 맞닿은 줄(모서리 타일은 칸 하나)만 조회하므로 이웃 타일 전체를 읽지 않는다.
+     */
+    private static void visitNeighbor(GroupLocations locations, int z, long nx, long ny, int dx, int dy,
+                                      GroupLocations.PointVisitor visitor) {
+        if ((dx == 0 && dy == 0) || z + BUFFER_ZOOM_OFFSET > GroupLocations.BASE_ZOOM) {
+            locations.forEachInCell(z, nx, ny, visitor);
+            return;
+        }
+
+        long cells = 1L << BUFFER_ZOOM_OFFSET;
+        long fromX = dx < 0 ? cells - 1 : 0;
+        long toX = dx > 0 ? 0 : cells - 1;
+        long fromY = dy < 0 ? cells - 1 : 0;
+        long toY = dy > 0 ? 0 : cells - 1;
+
+        int cellZoom = z + BUFFER_ZOOM_OFFSET;
+        for (long cy = fromY; cy <= toY; cy++) {
+            for (long cx = fromX; cx <= toX; cx++) {
+                locations.forEachInCell(cellZoom, (nx << BUFFER_ZOOM_OFFSET) + cx, (ny << BUFFER_ZOOM_OFFSET) + cy, visitor);
+            }
+        }
+    }
+
+    /**
+     * 이웃 타일(nx, ny)의 위치를 요청 타일 기준 정수 좌표로 바꿔 단순화 격자 칸에 모으는 함수
+     */
+    private static GroupLocations.PointVisitor collector(Map<Long, Bucket> buckets, long tiles, long nx, long ny, int dx, int dy) {
+        return (id, name, latitude, longitude, photoCount) -> {
+            double px = (GeoUtils.mercatorX(longitude) * tiles - nx + dx) * EXTENT;
+            double py = (GeoUtils.mercatorY(latitude) * tiles - ny + dy) * EXTENT;
+            if (px < -BUFFER || px >= EXTENT + BUFFER || py < -BUFFER || py >= EXTENT + BUFFER) {
+                return;
+            }
+
+            long cellX = Math.floorDiv((long) Math.floor(px), SNAP_UNITS);
+            long cellY = Math.floorDiv((long) Math.floor(py), SNAP_UNITS);
+            Bucket bucket = buckets.computeIfAbsent((cellY << 32) | (cellX & 0xFFFFFFFFL), k -> new Bucket(id, name));
+            bucket.count++;
+            bucket.photoCount += photoCount;
+            bucket.xSum += px;
+            bucket.ySum += py;
+        };
+    }
+
+    private static String md5Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Bucket {
+
+        private final long firstId;
+        private final String firstName;
+        private int count;
+        private long photoCount;
+        private double xSum;
+        private double ySum;
+
+        private Bucket(long firstId, String firstName) {
+            this.firstId = firstId;
+            this.firstName = firstName;
+        }
+    }
+
+    /**
+     * 인코딩된 타일
+     * @param bytes protobuf로 인코딩된 타일 (위치가 없으면 빈 배열)
+     * @param eTag ETag (따옴표 제외)
+     */
+    public record Tile(byte[] bytes, String eTag) {
+    }
+}
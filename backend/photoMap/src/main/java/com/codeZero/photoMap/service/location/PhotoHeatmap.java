@@ -0,0 +1,148 @@
+package com.codeZero.photoMap.service.location;
+
+import com.codeZero.photoMap.common.GeoUtils;
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import com.codeZero.photoMap.domain.location.LocationCell;
+import com.codeZero.photoMap.domain.location.LocationRepository;
+import com.codeZero.photoMap.domain.location.PhotoHeatCell;
+import com.codeZero.photoMap.domain.location.PhotoHeatCellRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 그룹별 사진 밀도 격자 (히트맵) 관리
+ * 사진이 업로드 완료/삭제/이동되거나 위치가 옮겨지면 LEVELS의 각 줌 레벨에서 위치가 속한 칸의 사진 수를 증감하고,
+ * 히트맵 타일 조회는 타일 안의 칸들이 이루는 모턴 코드 구간 하나를 인덱스로 범위 탐색한다.
+ * 격자는 위치별 사진 수(Location.photoCount)의 칸별 합계이므로, 누락된 반영은 위치별 사진 수 재계산 후 그룹 단위로 다시 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PhotoHeatmap {
+
+    // 격자를 저장하는 줌 레벨 (한 단계마다 칸이 가로/세로 8배)
+    static final int[] LEVELS = {3, 6, 9, 12, 15, 18};
+
+    // 타일 한 변을 2^CELL_ZOOM_OFFSET 칸으로 나눈 격자를 우선 사용 (256px 타일 기준 8px 칸)
+    private static final int CELL_ZOOM_OFFSET = 5;
+
+    private final PhotoHeatCellRepository photoHeatCellRepository;
+    private final LocationRepository locationRepository;
+
+    /**
+     * 위치별 사진 수 증감 반영
+     * @param deltas 위치 ID별 사진 수 증감
+     */
+    public void adjust(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        for (LocationCell location : locationRepository.findCellsByIdIn(new ArrayList<>(deltas.keySet()))) {
+            adjust(location.groupId(), location.geoCell(), deltas.get(location.locationId()));
+        }
+    }
+
+    /**
+     * 한 좌표(모턴 코드)의 사진 수 증감 반영
+     * @param groupId 그룹 ID
+     * @param geoCell 위치의 모턴 코드 (null이면 무시)
+     * @param delta 사진 수 증감
+     */
+    public void adjust(Long groupId, Long geoCell, int delta) {
+        if (geoCell == null || delta == 0) {
+            return;
+        }
+        for (int level : LEVELS) {
+            photoHeatCellRepository.increment(groupId, level, geoCell >> shift(level), delta);
+        }
+    }
+
+    /**
+     * 그룹의 격자를 위치별 사진 수로 다시 만들기
+     * @param groupId 그룹 ID
+     */
+    @Transactional
+    public void rebuild(Long groupId) {
+        photoHeatCellRepository.deleteByGroupId(groupId);
+        for (int level : LEVELS) {
+            photoHeatCellRepository.insertFromLocations(groupId, level, shift(level));
+        }
+    }
+
+    /**
+     * 히트맵 타일 조회 - 타일 안의 사진이 있는 칸 리스트
+     * 격자 레벨은 타일 한 변이 2^CELL_ZOOM_OFFSET 칸 이하가 되는 가장 세밀한 저장 레벨을 사용한다.
+     * (타일보다 큰 칸이면 타일을 포함하는 칸 하나)
+     * @param groupId 그룹 ID
+     * @param z 줌 레벨 (0 ~ 22)
+     * @param x 타일 x 인덱스
+     * @param y 타일 y 인덱스 (북쪽이 0)
+     * @return 격자 레벨과 칸 리스트
+     * @throws IllegalArgumentException 타일 좌표가 범위를 벗어난 경우
+     */
+    public Tile getTile(Long groupId, int z, long x, long y) {
+        if (z < 0 || z > LocationSpatialIndex.MAX_ZOOM) {
+            throw new IllegalArgumentException("줌 레벨은 0 이상 " + LocationSpatialIndex.MAX_ZOOM + " 이하여야 합니다.");
+        }
+        long tiles = 1L << z;
+        if (x < 0 || x >= tiles || y < 0 || y >= tiles) {
+            throw new IllegalArgumentException("타일 좌표가 줌 레벨 " + z + "의 범위를 벗어났습니다.");
+        }
+
+        int level = levelFor(z);
+        long start;
+        long end;
+        if (level >= z) {
+            int shift = 2 * (level - z);
+            start = GeoUtils.interleave(x, y) << shift;
+            end = start + (1L << shift);
+        } else {
+            start = GeoUtils.interleave(x >> (z - level), y >> (z - level));
+            end = start + 1;
+        }
+
+        List<Cell> cells = photoHeatCellRepository.findInRange(groupId, level, start, end).stream()
+                .map(Cell::of)
+                .toList();
+        return new Tile(level, cells);
+    }
+
+    static int levelFor(int z) {
+        int level = LEVELS[0];
+        for (int candidate : LEVELS) {
+            if (candidate <= z + CELL_ZOOM_OFFSET) {
+                level = candidate;
+            }
+        }
+        return level;
+    }
+
+    private static int shift(int level) {
+        return 2 * (GeoUtils.MORTON_ZOOM - level);
+    }
+
+    /**
+     * 히트맵 타일
+     * @param level 격자 줌 레벨
+     * @param cells 사진이 있는 칸 리스트 (모턴 코드 순)
+     */
+    public record Tile(int level, List<Cell> cells) {
+    }
+
+    /**
+     * 격자 칸
+     * @param x 격자 레벨에서의 x 인덱스
+     * @param y 격자 레벨에서의 y 인덱스 (북쪽이 0)
+     * @param photoCount 사진 수
+     */
+    public record Cell(long x, long y, long photoCount) {
+
+        private static Cell of(PhotoHeatCell cell) {
+            return new Cell(GeoUtils.deinterleaveX(cell.getCell()), GeoUtils.deinterleaveY(cell.getCell()), cell.getPhotoCount());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.codeZero.photoMap.service.location.spatial;
+
+import com.codeZero.photoMap.common.GeoUtils;
+import com.codeZero.photoMap.domain.location.Location;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 그룹의 위치 좌표를 Z-order(모턴 코드) 순으로 정렬해 둔 읽기 전용 스냅샷
+ * 웹 메르카토르 격자의 한 칸에 속한 위치들은 모턴 코드가 연속된 구간을 이루므로,
+ * 이진 탐색 두 번과 누적 합으로 칸별 위치 수와 평균 좌표를 위치 수와 무관하게 계산할 수 있다.
+ */
+public final class GroupLocations {
+
+    // 모턴 코드를 만드는 기준 격자 줌 레벨
+    public static final int BASE_ZOOM = GeoUtils.MORTON_ZOOM;
+
+    private final long[] codes;
+    private final long[] ids;
+    private final String[] names;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] photoCounts;
+    private final double[] latitudeSums;  // latitudeSums[i] = latitudes[0..i) 합
+    private final double[] longitudeSums;
+
+    private GroupLocations(long[] codes, long[] ids, String[] names, double[] latitudes, double[] longitudes, int[] photoCounts) {
+        this.codes = codes;
+        this.ids = ids;
+        this.names = names;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.photoCounts = photoCounts;
+        this.latitudeSums = prefixSums(latitudes);
+        this.longitudeSums = prefixSums(longitudes);
+    }
+
+    /**
+     * 위치 리스트로 스냅샷 생성
+     * @param points 위치 좌표 리스트
+     * @return 모턴 코드 순으로 정렬된 스냅샷
+     */
+    public static GroupLocations of(List<Point> points) {
+        Point[] sorted = points.toArray(new Point[0]);
+        long[] sortKeys = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            sortKeys[i] = GeoUtils.mortonCode(sorted[i].latitude(), sorted[i].longitude());
+        }
+
+        Integer[] order = new Integer[sorted.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(sortKeys[a], sortKeys[b]));
+
+        int n = sorted.length;
+        long[] codes = new long[n];
+        long[] ids = new long[n];
+        String[] names = new String[n];
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        int[] photoCounts = new int[n];
+        for (int i = 0; i < n; i++) {
+            Point point = sorted[order[i]];
+            codes[i] = sortKeys[order[i]];
+            ids[i] = point.id();
+            names[i] = point.name();
+            latitudes[i] = point.latitude();
+            longitudes[i] = point.longitude();
+            photoCounts[i] = point.photoCount();
+        }
+        return new GroupLocations(codes, ids, names, latitudes, longitudes, photoCounts);
+    }
+
+    /**
+     * 격자 칸에 속한 위치 집계
+     * @param gridZoom 격자 줌 레벨 (0 ~ BASE_ZOOM)
+     * @param cellX 칸의 x 인덱스
+     * @param cellY 칸의 y 인덱스
+     * @param aggregate 결과를 더할 집계 객체
+     */
+    public void aggregate(int gridZoom, long cellX, long cellY, CellAggregate aggregate) {
+        int shift = 2 * (BASE_ZOOM - gridZoom);
+        long start = GeoUtils.interleave(cellX, cellY) << shift;
+        long end = start + (1L << shift);
+
+        int from = lowerBound(start);
+        int to = lowerBound(end);
+        if (from >= to) {
+            return;
+        }
+        aggregate.add(to - from, latitudeSums[to] - latitudeSums[from], longitudeSums[to] - longitudeSums[from],
+                ids[from], names[from]);
+    }
+
+    /**
+     * 격자 칸에 속한 위치를 모턴 코드 순으로 하나씩 방문
+     * @param gridZoom 격자 줌 레벨 (0 ~ BASE_ZOOM)
+     * @param cellX 칸의 x 인덱스
+     * @param cellY 칸의 y 인덱스
+     * @param visitor 위치마다 호출할 함수
+     */
+    public void forEachInCell(int gridZoom, long cellX, long cellY, PointVisitor visitor) {
+        int shift = 2 * (BASE_ZOOM - gridZoom);
+        long start = GeoUtils.interleave(cellX, cellY) << shift;
+
+        int from = lowerBound(start);
+        int to = lowerBound(start + (1L << shift));
+        for (int i = from; i < to; i++) {
+            visitor.visit(ids[i], names[i], latitudes[i], longitudes[i], photoCounts[i]);
+        }
+    }
+
+    /**
+     * 위치 수
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    private int lowerBound(long code) {
+        int low = 0;
+        int high = codes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (codes[mid] < code) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static double[] prefixSums(double[] values) {
+        double[] sums = new double[values.length + 1];
+        for (int i = 0; i < values.length; i++) {
+            sums[i + 1] = sums[i] + values[i];
+        }
+        return sums;
+    }
+
+    /**
+     * 위치 좌표와 사진 수
+     */
+    public record Point(long id, String name, double latitude, double longitude, int photoCount) {
+
+        public static Point of(Location location) {
+            return new Point(location.getId(), location.getName(), location.getLatitude(), location.getLongitude(), location.getPhotoCount());
+        }
+    }
+
+    @FunctionalInterface
+    public interface PointVisitor {
+        void visit(long id, String name, double latitude, double longitude, int photoCount);
+    }
+
+    /**
+     * 격자 칸 하나의 집계 (여러 그룹의 결과를 합산)
+     */
+    public static final class CellAggregate {
+
+        private int count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private long firstId;
+        private String firstName;
+
+        private void add(int count, double latitudeSum, double longitudeSum, long firstId, String firstName) {
+            if (this.count == 0) {
+                this.firstId = firstId;
+                this.firstName = firstName;
+            }
+            this.count += count;
+            this.latitudeSum += latitudeSum;
+            this.longitudeSum += longitudeSum;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        // 칸에 속한 위치들의 평균 좌표
+        public double getLatitude() {
+            return latitudeSum / count;
+        }
+
+        public double getLongitude() {
+            return longitudeSum / count;
+        }
+
+        // 칸에 위치가 하나뿐일 때의 위치 ID, 이름
+        public long getFirstId() {
+            return firstId;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.codeZero.photoMap.service.location.spatial;
+
+import com.codeZero.photoMap.common.GeoUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 한 그룹의 위치 좌표로 만든 읽기 전용 R-tree (STR 방식 일괄 적재)
+ * 위치를 경도 순으로 세로 띠로 나누고 띠마다 위도 순으로 NODE_CAPACITY개씩 묶어 잎 노드를 만들고,
+ * 같은 방식으로 위 단계 노드를 쌓는다. 최근접 k개 조회는 노드까지의 최소 거리 순으로 탐색(best-first)하여
+ * 위치 수가 많아도 필요한 노드만 방문한다.
+ */
+public final class LocationRTree {
+
+    private static final int NODE_CAPACITY = 16;
+
+    private static final LocationRTree EMPTY = new LocationRTree(null, new GroupLocations.Point[0]);
+
+    private final Node root;
+    private final GroupLocations.Point[] points;
+
+    private LocationRTree(Node root, GroupLocations.Point[] points) {
+        this.root = root;
+        this.points = points;
+    }
+
+    /**
+     * 위치 리스트로 R-tree 생성
+     * @param points 위치 좌표 리스트
+     * @return R-tree
+     */
+    public static LocationRTree of(List<GroupLocations.Point> points) {
+        if (points.isEmpty()) {
+            return EMPTY;
+        }
+
+        GroupLocations.Point[] sorted = points.toArray(new GroupLocations.Point[0]);
+        packSlices(sorted, GroupLocations.Point::longitude, GroupLocations.Point::latitude);
+
+        List<Node> level = new ArrayList<>();
+        for (int start = 0; start < sorted.length; start += NODE_CAPACITY) {
+            level.add(Node.leaf(sorted, start, Math.min(sorted.length, start + NODE_CAPACITY)));
+        }
+
+        while (level.size() > 1) {
+            Node[] children = level.toArray(new Node[0]);
+            packSlices(children, Node::centerLng, Node::centerLat);
+
+            level = new ArrayList<>();
+            for (int start = 0; start < children.length; start += NODE_CAPACITY) {
+                level.add(Node.branch(Arrays.copyOfRange(children, start, Math.min(children.length, start + NODE_CAPACITY))));
+            }
+        }
+
+        return new LocationRTree(level.get(0), sorted);
+    }
+
+    /**
+     * 좌표에서 가까운 순으로 최대 k개의 위치 조회
+     * @param lat 위도
+     * @param lng 경도
+     * @param k 최대 개수
+     * @param maxDistanceMeters 최대 거리 (m, 이보다 먼 위치는 제외)
+     * @return 가까운 순으로 정렬된 위치와 거리
+     */
+    public List<Neighbor> nearest(double lat, double lng, int k, double maxDistanceMeters) {
+        List<Neighbor> result = new ArrayList<>(Math.min(k, points.length));
+        if (root == null || k <= 0) {
+            return result;
+        }
+
+        // 노드는 최소 거리, 위치는 실제 거리로 같은 큐에 넣어 가까운 것부터 꺼냄
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance));
+        queue.add(new Candidate(minDistanceMeters(lat, lng, root), root, -1));
+
+        while (!queue.isEmpty() && result.size() < k) {
+            Candidate candidate = queue.poll();
+            if (candidate.distance() > maxDistanceMeters) {
+                break;
+            }
+            if (candidate.node() == null) {
+                result.add(new Neighbor(points[candidate.index()], candidate.distance()));
+                continue;
+            }
+
+            Node node = candidate.node();
+            if (node.children == null) {
+                for (int i = node.start; i < node.end; i++) {
+                    double distance = GeoUtils.distanceMeters(lat, lng, points[i].latitude(), points[i].longitude());
+                    if (distance <= maxDistanceMeters) {
+                        queue.add(new Candidate(distance, null, i));
+                    }
+                }
+            } else {
+                for (Node child : node.children) {
+                    double distance = minDistanceMeters(lat, lng, child);
+                    if (distance <= maxDistanceMeters) {
+                        queue.add(new Candidate(distance, child, -1));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 좌표에서 반경 안의 위치 조회
+     * @param lat 위도
+     * @param lng 경도
+     * @param radiusMeters 반경 (m)
+     * @return 가까운 순으로 정렬된 위치와 거리
+     */
+    public List<Neighbor> within(double lat, double lng, double radiusMeters) {
+        List<Neighbor> result = new ArrayList<>();
+        if (root != null) {
+            collect(root, lat, lng, radiusMeters, result);
+        }
+        result.sort(Comparator.comparingDouble(Neighbor::distanceMeters));
+        return result;
+    }
+
+    /**
+     * 위치 수
+     */
+    public int size() {
+        return points.length;
+    }
+
+    private void collect(Node node, double lat, double lng, double radiusMeters, List<Neighbor> result) {
+        if (minDistanceMeters(lat, lng, node) > radiusMeters) {
+            return;
+        }
+        if (node.children == null) {
+            for (int i = node.start; i < node.end; i++) {
+                double distance = GeoUtils.distanceMeters(lat, lng, points[i].latitude(), points[i].longitude());
+                if (distance <= radiusMeters) {
+                    result.add(new Neighbor(points[i], distance));
+                }
+            }
+            return;
+        }
+        for (Node child : node.children) {
+            collect(child, lat, lng, radiusMeters, result);
+        }
+    }
+
+    /**
+     * 좌표에서 노드 영역까지의 최소 구면 거리 (탐색 가지치기용 하한)
+     * 경도가 영역 밖이면 가까운 쪽 경계 자오선 위에서 좌표와 가장 가까운 점까지의 거리를 구한다.
+     */
+    static double minDistanceMeters(double lat, double lng, Node node) {
+        double latGap = lat < node.minLat ? node.minLat - lat : (lat > node.maxLat ? lat - node.maxLat : 0);
+
+        if (lng >= node.minLng && lng <= node.maxLng) {
+            return Math.toRadians(latGap) * GeoUtils.EARTH_RADIUS_METERS;
+        }
+
+        double toMin = Math.abs(wrapLng(lng - node.minLng));
+        double toMax = Math.abs(wrapLng(lng - node.maxLng));
+        double edgeLng = toMin < toMax ? node.minLng : node.maxLng;
+        double dLng = Math.min(toMin, toMax);
+
+        if (dLng >= 90) {
+            // 위도 차이만큼은 항상 떨어져 있으므로 하한으로 사용
+            return Math.toRadians(latGap) * GeoUtils.EARTH_RADIUS_METERS;
+        }
+
+        // 경계 자오선 위에서 좌표와 가장 가까운 점의 위도를 노드 위도 범위로 제한
+        double footLat = Math.toDegrees(Math.atan(Math.tan(Math.toRadians(lat)) / Math.cos(Math.toRadians(dLng))));
+        double edgeLat = Math.max(node.minLat, Math.min(node.maxLat, footLat));
+        return GeoUtils.distanceMeters(lat, lng, edgeLat, edgeLng);
+    }
+
+    private static double wrapLng(double dLng) {
+        if (dLng > 180) {
+            return dLng - 360;
+        }
+        if (dLng < -180) {
+            return dLng + 360;
+        }
+        return dLng;
+    }
+
+    /**
+     * STR 정렬: x 순으로 정렬해 sqrt(노드 수)개의 띠로 나누고, 띠마다 y 순으로 정렬
+     */
+    private static <T> void packSlices(T[] items, ToDoubleFunction<T> x, ToDoubleFunction<T> y) {
+        int nodeCount = (items.length + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(nodeCount));
+        int sliceSize = sliceCount * NODE_CAPACITY;
+
+        Arrays.sort(items, Comparator.comparingDouble(x));
+        for (int start = 0; start < items.length; start += sliceSize) {
+            Arrays.sort(items, start, Math.min(items.length, start + sliceSize), Comparator.comparingDouble(y));
+        }
+    }
+
+    private record Candidate(double distance, Node node, int index) {
+    }
+
+    static final class Node {
+
+        private final double minLat;
+        private final double minLng;
+        private final double maxLat;
+        private final double maxLng;
+        private final Node[] children;  // 잎 노드이면 null
+        private final int start;        // 잎 노드가 가진 위치의 points 구간 [start, end)
+        private final int end;
+
+        private Node(double minLat, double minLng, double maxLat, double maxLng, Node[] children, int start, int end) {
+            this.minLat = minLat;
+            this.minLng = minLng;
+            this.maxLat = maxLat;
+            this.maxLng = maxLng;
+            this.children = children;
+            this.start = start;
+            this.end = end;
+        }
+
+        private static Node leaf(GroupLocations.Point[] points, int start, int end) {
+            double minLat = Double.MAX_VALUE, minLng = Double.MAX_VALUE;
+            double maxLat = -Double.MAX_VALUE, maxLng = -Double.MAX_VALUE;
+            for (int i = start; i < end; i++) {
+                minLat = Math.min(minLat, points[i].latitude());
+                maxLat = Math.max(maxLat, points[i].latitude());
+                minLng = Math.min(minLng, points[i].longitude());
+                maxLng = Math.max(maxLng, points[i].longitude());
+            }
+            return new Node(minLat, minLng, maxLat, maxLng, null, start, end);
+        }
+
+        private static Node branch(Node[] children) {
+            double minLat = Double.MAX_VALUE, minLng = Double.MAX_VALUE;
+            double maxLat = -Double.MAX_VALUE, maxLng = -Double.MAX_VALUE;
+            for (Node child : children) {
+                minLat = Math.min(minLat, child.minLat);
+                maxLat = Math.max(maxLat, child.maxLat);
+                minLng = Math.min(minLng, child.minLng);
+                maxLng = Math.max(maxLng, child.maxLng);
+            }
+            return new Node(minLat, minLng, maxLat, maxLng, children, 0, 0);
+        }
+
+        private double centerLat() {
+            return (minLat + maxLat) / 2;
+        }
+
+        private double centerLng() {
+            return (minLng + maxLng) / 2;
+        }
+    }
+
+    /**
+     * 조회된 위치와 기준 좌표로부터의 거리
+     * @param point 위치 좌표
+     * @param distanceMeters 거리 (m)
+     */
+    public record Neighbor(GroupLocations.Point point, double distanceMeters) {
+    }
+}
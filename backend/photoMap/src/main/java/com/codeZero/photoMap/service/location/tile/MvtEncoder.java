@@ -0,0 +1,172 @@
+package com.codeZero.photoMap.service.location.tile;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Mapbox Vector Tile(2.1) 인코더 - 점(POINT) 피처만 담는 레이어 하나로 된 타일을 protobuf로 직접 인코딩
+ * 좌표는 타일 안의 정수 좌표(0 ~ extent, 버퍼 영역은 음수나 extent 이상)로 받는다.
+ */
+public final class MvtEncoder {
+
+    // vector_tile.proto 필드 번호
+    private static final int TILE_LAYERS = 3;
+    private static final int LAYER_NAME = 1;
+    private static final int LAYER_FEATURES = 2;
+    private static final int LAYER_KEYS = 3;
+    private static final int LAYER_VALUES = 4;
+    private static final int LAYER_EXTENT = 5;
+    private static final int LAYER_VERSION = 15;
+    private static final int FEATURE_ID = 1;
+    private static final int FEATURE_TAGS = 2;
+    private static final int FEATURE_TYPE = 3;
+    private static final int FEATURE_GEOMETRY = 4;
+    private static final int VALUE_STRING = 1;
+    private static final int VALUE_UINT = 5;
+    private static final int VALUE_SINT = 6;
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+
+    private static final int GEOM_TYPE_POINT = 1;
+    private static final int CMD_MOVE_TO_ONE = (1 << 3) | 1;
+
+    private final String layerName;
+    private final int extent;
+
+    // 레이어 안에서 키/값은 한 번만 저장하고 피처는 인덱스로 참조
+    private final Map<String, Integer> keys = new LinkedHashMap<>();
+    private final Map<Object, Integer> values = new LinkedHashMap<>();
+    private final ByteArrayOutputStream features = new ByteArrayOutputStream();
+    private int featureCount;
+
+    /**
+     * @param layerName 레이어 이름
+     * @param extent 타일 한 변의 정수 좌표 크기 (보통 4096)
+     */
+    public MvtEncoder(String layerName, int extent) {
+        this.layerName = layerName;
+        this.extent = extent;
+    }
+
+    /**
+     * 점 피처 추가
+     * @param id 피처 ID (0 이하이면 생략)
+     * @param x 타일 안의 x 좌표
+     * @param y 타일 안의 y 좌표 (위쪽이 0)
+     * @param properties 속성 (값은 String 또는 정수)
+     */
+    public void addPoint(long id, int x, int y, Map<String, Object> properties) {
+        ByteArrayOutputStream tags = new ByteArrayOutputStream();
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            if (property.getValue() == null) {
+                continue;
+            }
+            writeVarint(tags, keys.computeIfAbsent(property.getKey(), key -> keys.size()));
+            writeVarint(tags, values.computeIfAbsent(normalize(property.getValue()), value -> values.size()));
+        }
+
+        ByteArrayOutputStream geometry = new ByteArrayOutputStream();
+        writeVarint(geometry, CMD_MOVE_TO_ONE);
+        writeVarint(geometry, zigZag(x));
+        writeVarint(geometry, zigZag(y));
+
+        ByteArrayOutputStream feature = new ByteArrayOutputStream();
+        if (id > 0) {
+            writeTag(feature, FEATURE_ID, WIRE_VARINT);
+            writeVarint(feature, id);
+        }
+        if (tags.size() > 0) {
+            writeBytes(feature, FEATURE_TAGS, tags.toByteArray());
+        }
+        writeTag(feature, FEATURE_TYPE, WIRE_VARINT);
+        writeVarint(feature, GEOM_TYPE_POINT);
+        writeBytes(feature, FEATURE_GEOMETRY, geometry.toByteArray());
+
+        writeBytes(features, LAYER_FEATURES, feature.toByteArray());
+        featureCount++;
+    }
+
+    /**
+     * 추가된 피처 수
+     */
+    public int getFeatureCount() {
+        return featureCount;
+    }
+
+    /**
+     * 타일 인코딩 (피처가 없으면 빈 타일)
+     * @return protobuf로 인코딩된 타일
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream tile = new ByteArrayOutputStream();
+        if (featureCount == 0) {
+            return tile.toByteArray();
+        }
+
+        ByteArrayOutputStream layer = new ByteArrayOutputStream();
+        writeTag(layer, LAYER_VERSION, WIRE_VARINT);
+        writeVarint(layer, 2);
+        writeBytes(layer, LAYER_NAME, layerName.getBytes(StandardCharsets.UTF_8));
+        layer.writeBytes(features.toByteArray());
+        for (String key : keys.keySet()) {
+            writeBytes(layer, LAYER_KEYS, key.getBytes(StandardCharsets.UTF_8));
+        }
+        for (Object value : values.keySet()) {
+            writeBytes(layer, LAYER_VALUES, encodeValue(value));
+        }
+        writeTag(layer, LAYER_EXTENT, WIRE_VARINT);
+        writeVarint(layer, extent);
+
+        writeBytes(tile, TILE_LAYERS, layer.toByteArray());
+        return tile.toByteArray();
+    }
+
+    // 정수 값은 Long으로 맞춰 Integer 1과 Long 1이 같은 값으로 저장되도록 함
+    private static Object normalize(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return value.toString();
+    }
+
+    private static byte[] encodeValue(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (value instanceof Long number) {
+            if (number >= 0) {
+                writeTag(out, VALUE_UINT, WIRE_VARINT);
+                writeVarint(out, number);
+            } else {
+                writeTag(out, VALUE_SINT, WIRE_VARINT);
+                writeVarint(out, (number << 1) ^ (number >> 63));
+            }
+        } else {
+            writeBytes(out, VALUE_STRING, ((String) value).getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static long zigZag(int value) {
+        return ((long) value << 1) ^ (value >> 31);
+    }
+
+    private static void writeTag(ByteArrayOutputStream out, int field, int wireType) {
+        writeVarint(out, ((long) field << 3) | wireType);
+    }
+
+    private static void writeBytes(ByteArrayOutputStream out, int field, byte[] bytes) {
+        writeTag(out, field, WIRE_LENGTH_DELIMITED);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -14,6 +14,7 @@ import com.codeZero.photoMap.dto.member.request.PasswordUpdateRequest;
 import com.codeZero.photoMap.dto.member.response.MemberResponse;
 import com.codeZero.photoMap.dto.member.response.TokenResponse;
 import com.codeZero.photoMap.security.JwtTokenProvider;
+import com.codeZero.photoMap.service.search.SearchIndex;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -33,14 +34,16 @@ public class MemberService {
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberGroupRepository memberGroupRepository;
     private final MemberGroupMappingRepository memberGroupMappingRepository;
+    private final SearchIndex searchIndex;
 
 
-    public MemberService(MemberRepository memberRepository, PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider, MemberGroupRepository memberGroupRepository, MemberGroupMappingRepository memberGroupMappingRepository) {
+    public MemberService(MemberRepository memberRepository, PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider, MemberGroupRepository memberGroupRepository, MemberGroupMappingRepository memberGroupMappingRepository, SearchIndex searchIndex) {
         this.memberRepository = memberRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
         this.memberGroupRepository = memberGroupRepository;
         this.memberGroupMappingRepository = memberGroupMappingRepository;
+        this.searchIndex = searchIndex;
     }
 
     /**
@@ -93,6 +96,7 @@ public class MemberService {
 
         personalGroup.addMemberWithRole(member, Role.OWNER);
         memberGroupRepository.save(personalGroup);
+        searchIndex.refreshGroup(personalGroup.getId());
     }
 
     /**
@@ -207,6 +211,9 @@ public class MemberService {
 
         memberRepository.save(member);
 
+        //멤버가 속한 그룹들의 검색 색인에 바뀐 이름 반영
+        searchIndex.refreshGroups(memberGroupMappingRepository.findGroupIdsByMemberIdAndIsDeletedFalse(memberId));
+
         return MemberResponse.from(member);
     }
 
@@ -245,6 +252,9 @@ public class MemberService {
         member.delete();
         memberRepository.save(member);
 
+        //탈퇴 후 검색 색인을 다시 읽을 그룹 (매핑이 삭제되기 전에 조회)
+        List<Long> groupIds = memberGroupMappingRepository.findGroupIdsByMemberIdAndIsDeletedFalse(memberId);
+
         //그룹장으로 있는 그룹 소프트 딜리트 처리
         List<MemberGroup> ownedGroups = memberGroupRepository.findByOwnerIdAndIsDeletedFalse(memberId);
         for (MemberGroup group : ownedGroups) {
@@ -265,6 +275,8 @@ public class MemberService {
             mapping.delete();
             memberGroupMappingRepository.save(mapping);
         }
+
+        searchIndex.refreshGroups(groupIds);
     }
 
     /**
@@ -0,0 +1,37 @@
+package com.codeZero.photoMap.service.photo;
+
+/**
+ * 업로드된 사진으로부터 생성하는 파생 이미지 크기
+ */
+public enum DerivativeSize {
+
+    THUMBNAIL(200),  // 지도 마커용
+    PREVIEW(1080);   // 미리보기용
+
+    private final int maxDimension;
+
+    DerivativeSize(int maxDimension) {
+        this.maxDimension = maxDimension;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    /**
+     * 원본 fileKey 옆에 저장될 파생 이미지의 key 생성
+     * @param fileKey 원본 파일 key 값 (폴더명/UUID_파일명.확장자)
+     * @return 파생 이미지 key 값 (폴더명/UUID_파일명.확장자_200w.jpg)
+     */
+    public String keyFor(String fileKey) {
+        return fileKey + "_" + maxDimension + "w.jpg";
+    }
+
+    /**
+     * 응답 DTO에서 사용할 이름
+     * @return 소문자 이름 (thumbnail, preview)
+     */
+    public String displayName() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,46 @@
+package com.codeZero.photoMap.service.photo;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 멀티파트 업로드 파트용 고정 크기 버퍼 풀
+ * 동시에 사용할 수 있는 버퍼 수를 제한하여, 업로드가 몰려도 파트 버퍼가 차지하는 메모리가 (파트 크기 x 버퍼 수)를 넘지 않도록 한다.
+ * 버퍼가 모두 사용 중이면 acquire()가 반납될 때까지 대기한다.
+ */
+public class PartBufferPool {
+
+    private final int bufferSize;
+    private final Semaphore permits;
+    private final Queue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+
+    public PartBufferPool(int bufferSize, int maxBuffers) {
+        this.bufferSize = bufferSize;
+        this.permits = new Semaphore(maxBuffers, true);
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * 버퍼 대여 (사용 가능한 버퍼가 없으면 대기, 필요할 때 처음 할당)
+     * @return 파트 크기의 버퍼
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public byte[] acquire() throws InterruptedException {
+        permits.acquire();
+        byte[] buffer = freeBuffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    /**
+     * 버퍼 반납
+     * @param buffer acquire()로 대여한 버퍼
+     */
+    public void release(byte[] buffer) {
+        freeBuffers.offer(buffer);
+        permits.release();
+    }
+}
@@ -0,0 +1,173 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.domain.photo.Photo;
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import com.codeZero.photoMap.service.location.LocationPhotoCounter;
+import com.codeZero.photoMap.service.storage.AsyncObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업로드 완료 처리되지 않은 사진 행 정리 작업
+ * createPhoto로 생성된 뒤 PUT URL 만료 시간이 지나도록 업로드 완료 처리되지 않은 행을 청크 단위로 조회하여,
+ * 실제로 S3에 파일이 있으면 업로드 완료 처리하고, 없으면 행을 물리 삭제한다.
+ */
+@Slf4j
+@Component
+public class PendingUploadReconciler {
+
+    private final PhotoRepository photoRepository;
+    private final PhotoBlobService photoBlobService;
+    private final AsyncObjectStorage asyncObjectStorage;
+    private final LocationPhotoCounter locationPhotoCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int chunkSize;
+    private final int staleMinutes;
+    private final int headConcurrency;
+
+    private final LongAdder confirmedTotal = new LongAdder();
+    private final LongAdder removedTotal = new LongAdder();
+
+    public PendingUploadReconciler(PhotoRepository photoRepository,
+                                   PhotoBlobService photoBlobService,
+                                   AsyncObjectStorage asyncObjectStorage,
+                                   LocationPhotoCounter locationPhotoCounter,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${photo.reconcile.chunk-size:500}") int chunkSize,
+                                   @Value("${photo.reconcile.stale-minutes:30}") int staleMinutes,
+                                   @Value("${photo.reconcile.head-concurrency:8}") int headConcurrency) {
+        this.photoRepository = photoRepository;
+        this.photoBlobService = photoBlobService;
+        this.asyncObjectStorage = asyncObjectStorage;
+        this.locationPhotoCounter = locationPhotoCounter;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.staleMinutes = staleMinutes;
+        this.headConcurrency = headConcurrency;
+    }
+
+    /**
+     * 업로드 대기 상태로 남은 사진 행 정리 (주기적으로 실행)
+     * @return 정리 결과 (업로드 완료 처리된 행 수, 삭제된 행 수)
+     */
+    @Scheduled(fixedDelayString = "${photo.reconcile.interval-millis:1800000}", initialDelayString = "${photo.reconcile.initial-delay-millis:120000}")
+    public Result reconcile() {
+        // PUT 메서드용 Pre-signed URL 유효 기간(10분)에 여유를 둔 기준 시각
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(staleMinutes);
+
+        int confirmed = 0;
+        int removed = 0;
+        long afterId = 0L;
+
+        while (true) {
+            List<Photo> photos = photoRepository.findStalePendingPhotos(cutoff, afterId, PageRequest.of(0, chunkSize));
+            if (photos.isEmpty()) {
+                break;
+            }
+            afterId = photos.get(photos.size() - 1).getId();
+
+            List<Long> uploadedIds = new ArrayList<>();
+            List<Photo> missing = new ArrayList<>();
+            classify(photos, uploadedIds, missing);
+
+            // 파일이 있는 행은 업로드 완료 처리 후 위치의 사진 수에 반영하고 파생 이미지 생성 등 후처리 진행
+            if (!uploadedIds.isEmpty()) {
+                List<Long> confirmedIds = confirm(uploadedIds);
+                confirmed += confirmedIds.size();
+                Set<Long> confirmedIdSet = new HashSet<>(confirmedIds);
+                locationPhotoCounter.added(photos.stream().filter(p -> confirmedIdSet.contains(p.getId())).toList());
+                confirmedIds.forEach(id -> eventPublisher.publishEvent(new PhotoUploadedEvent(id)));
+            }
+
+            // 파일이 없는 행은 물리 삭제 (공유 blob을 참조하는 행은 참조 수도 함께 감소)
+            List<Photo> missingBlobPhotos = missing.stream().filter(p -> p.getBlob() != null).toList();
+            List<Long> missingIds = missing.stream().filter(p -> p.getBlob() == null).map(Photo::getId).toList();
+            if (!missingBlobPhotos.isEmpty()) {
+                removed += photoBlobService.removePendingPhotos(missingBlobPhotos);
+            }
+            if (!missingIds.isEmpty()) {
+                removed += photoRepository.deletePendingByIdIn(missingIds);
+            }
+
+            if (photos.size() < chunkSize) {
+                break;
+            }
+        }
+
+        confirmedTotal.add(confirmed);
+        removedTotal.add(removed);
+        if (confirmed > 0 || removed > 0) {
+            log.info("업로드 대기 사진 정리 완료: 업로드 완료 처리 {}개, 삭제 {}개 (누적 - 완료 처리 {}개, 삭제 {}개)",
+                    confirmed, removed, confirmedTotal.sum(), removedTotal.sum());
+        }
+
+        return new Result(confirmed, removed);
+    }
+
+    /**
+     * 사진마다 업로드 완료 처리하고 이 작업이 실제로 업로드 완료로 바꾼 사진 ID만 반환
+     * (HEAD 확인과 완료 처리 사이에 클라이언트가 먼저 완료 처리한 사진은 그쪽에서 사진 수 반영과 후처리를 하므로 제외)
+     */
+    private List<Long> confirm(List<Long> uploadedIds) {
+        List<Long> confirmedIds = new ArrayList<>(uploadedIds.size());
+        for (Long photoId : uploadedIds) {
+            if (photoRepository.markPendingUploadedByIdIn(List.of(photoId)) > 0) {
+                confirmedIds.add(photoId);
+            }
+        }
+        return confirmedIds;
+    }
+
+    /**
+     * 비동기 HEAD 요청을 최대 headConcurrency개씩 보내 파일 존재 여부에 따라 분류 (확인에 실패한 행은 다음 실행 때 재확인)
+     * 응답을 기다리는 전용 스레드 없이, 응답이 올 때마다 다음 요청을 보낸다.
+     */
+    private void classify(List<Photo> photos, List<Long> uploadedIds, List<Photo> missing) {
+        Semaphore window = new Semaphore(headConcurrency);
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(photos.size());
+
+        try {
+            for (Photo photo : photos) {
+                window.acquire();
+                results.add(asyncObjectStorage.head(photo.getFileKey())
+                        .thenApply(Optional::isPresent)
+                        .whenComplete((exists, e) -> window.release()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            results.forEach(result -> result.cancel(false));
+            return;
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                if (results.get(i).join()) {
+                    uploadedIds.add(photos.get(i).getId());
+                } else {
+                    missing.add(photos.get(i));
+                }
+            } catch (CompletionException e) {
+                log.warn("파일 존재 여부 확인 실패: {}", photos.get(i).getFileKey(), e.getCause());
+            }
+        }
+    }
+
+    public record Result(int confirmed, int removed) {
+    }
+}
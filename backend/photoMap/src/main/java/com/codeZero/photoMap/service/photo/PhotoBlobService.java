@@ -0,0 +1,154 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import com.codeZero.photoMap.domain.photo.Photo;
+import com.codeZero.photoMap.domain.photo.PhotoBlob;
+import com.codeZero.photoMap.domain.photo.PhotoBlobRepository;
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 기반(SHA-256) 사진 중복 제거
+ * 같은 그룹에 같은 내용의 사진이 다시 올라오면 새 오브젝트를 만들지 않고 기존 blob을 참조하며,
+ * 참조 수를 세어 마지막 사진이 정리될 때만 스토리지 오브젝트를 삭제한다.
+ * 클라이언트가 보낸 해시는 업로드된 내용으로 검증된 뒤에만 중복 제거에 사용한다.
+ * blob 오브젝트의 PUT 메서드용 Pre-signed URL은 blob을 만든 첫 사진에만 발급되므로, 검증 전인 blob은 다른 사진이 참조하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PhotoBlobService {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    // blob의 fileKey에 사용할 수 있는 확장자
+    private static final Set<String> ALLOWED_EXTENSIONS = Set.of("jpg", "jpeg", "png", "heic", "webp");
+
+    private final PhotoBlobRepository photoBlobRepository;
+    private final PhotoRepository photoRepository;
+
+    /**
+     * 그룹 내 같은 내용의 검증된 blob을 참조하거나, 없으면 새로 생성
+     * 같은 내용의 blob이 아직 업로드/검증 전이거나 다른 요청이 동시에 만들고 있으면 참조하지 않는다.
+     * (그 blob의 오브젝트는 만든 사진만 업로드할 수 있으므로, 호출한 쪽이 공유하지 않는 별도 fileKey로 업로드)
+     * 호출한 트랜잭션 안에서 실행되며, 사진 저장이 실패하면 참조 수 증가와 blob 생성도 함께 롤백된다.
+     * @param groupId 그룹 ID
+     * @param sha256 클라이언트가 계산한 SHA-256 (16진수)
+     * @param fileExtension 파일 확장자명 (새 blob의 fileKey에 사용, jpg/jpeg/png/heic/webp)
+     * @return 참조한 blob (verified가 true면 업로드 없이 바로 사용, false면 새로 만든 blob이므로 이 사진이 업로드), 참조할 수 없으면 empty
+     * @throws IllegalArgumentException SHA-256 형식이 잘못되었거나 허용하지 않는 확장자인 경우
+     */
+    @Transactional
+    public Optional<PhotoBlob> acquire(Long groupId, String sha256, String fileExtension) {
+        String hash = normalize(sha256);
+        String extension = normalizeExtension(fileExtension);
+
+        Optional<PhotoBlob> existing = photoBlobRepository.findByMemberGroupIdAndSha256AndIsDeletedFalse(groupId, hash);
+        if (existing.isPresent()) {
+            // 검증 전인 blob은 참조하지 않고, 조회 후 참조가 모두 사라져 논리 삭제되었다면 0건
+            if (existing.get().isVerified() && photoBlobRepository.reference(existing.get().getId()) > 0) {
+                return existing;
+            }
+            return Optional.empty();
+        }
+
+        // 정리 중인 blob과 key가 겹치지 않도록 UUID 사용 (다른 요청이 동시에 먼저 만들었다면 0건)
+        String fileKey = "blobs/" + UUID.randomUUID() + "." + extension;
+        if (photoBlobRepository.insertIfAbsent(groupId, hash, fileKey) == 0) {
+            return Optional.empty();
+        }
+        return photoBlobRepository.findByMemberGroupIdAndSha256AndIsDeletedFalse(groupId, hash);
+    }
+
+    /**
+     * 업로드된 내용의 SHA-256 검증 결과 반영
+     * @param blob 검증할 blob
+     * @param actualSha256 업로드된 오브젝트 전체의 SHA-256 (16진수)
+     */
+    public void verify(PhotoBlob blob, String actualSha256) {
+        if (blob.getSha256() != null && blob.getSha256().equals(actualSha256)) {
+            photoBlobRepository.markVerified(blob.getId(), actualSha256);
+        } else {
+            log.warn("업로드된 내용이 SHA-256과 달라 중복 제거 대상에서 제외합니다: blobId = {}", blob.getId());
+            photoBlobRepository.unlinkHash(blob.getId());
+        }
+    }
+
+    /**
+     * 휴지통에서 정리되는 사진들의 blob 참조 해제 (참조가 모두 사라진 blob은 오브젝트 정리 대상이 됨)
+     * 사진마다 정리 완료 표시를 하고 이 호출이 실제로 정리 완료로 바꾼 사진만 참조를 해제하므로,
+     * 정리 작업이 다시 실행되거나 여러 서버에서 동시에 실행되어도 참조 수가 두 번 감소하지 않는다.
+     * (먼저 표시한 쪽이 행 잠금을 커밋할 때까지 다른 쪽의 UPDATE는 기다렸다가 0건으로 끝남)
+     * @param photos 정리할 사진 리스트 (모두 blob을 참조)
+     * @return 이번에 정리 완료 처리된 사진 수
+     */
+    @Transactional
+    public int purgePhotos(List<Photo> photos) {
+        List<Photo> purged = new ArrayList<>();
+        for (Photo photo : photos) {
+            if (photoRepository.markPurgedByIdIn(List.of(photo.getId())) > 0) {
+                purged.add(photo);
+            }
+        }
+        release(purged);
+        return purged.size();
+    }
+
+    /**
+     * 업로드되지 않은 사진 행을 삭제하고 blob 참조 해제 (그 사이 업로드 완료된 행은 제외)
+     * @param photos 삭제할 사진 리스트 (모두 blob을 참조)
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int removePendingPhotos(List<Photo> photos) {
+        List<Photo> removed = new ArrayList<>();
+        for (Photo photo : photos) {
+            if (photoRepository.deletePendingByIdIn(List.of(photo.getId())) > 0) {
+                removed.add(photo);
+            }
+        }
+        release(removed);
+        return removed.size();
+    }
+
+    private void release(List<Photo> photos) {
+        if (photos.isEmpty()) {
+            return;
+        }
+
+        // 같은 blob을 참조하는 사진이 여러 개일 수 있으므로 사진마다 1씩 감소
+        List<Long> blobIds = new ArrayList<>();
+        for (Photo photo : photos) {
+            photoBlobRepository.release(photo.getBlob().getId());
+            blobIds.add(photo.getBlob().getId());
+        }
+        photoBlobRepository.deleteUnreferenced(blobIds.stream().distinct().toList());
+    }
+
+    private String normalize(String sha256) {
+        String hash = sha256.trim().toLowerCase(Locale.ROOT);
+        if (!SHA256_HEX.matcher(hash).matches()) {
+            throw new IllegalArgumentException("SHA-256 값은 64자리 16진수여야 합니다.");
+        }
+        return hash;
+    }
+
+    private String normalizeExtension(String fileExtension) {
+        String extension = fileExtension == null ? "" : fileExtension.trim().toLowerCase(Locale.ROOT);
+        if (!ALLOWED_EXTENSIONS.contains(extension)) {
+            throw new IllegalArgumentException("지원하지 않는 파일 확장자입니다: " + fileExtension);
+        }
+        return extension;
+    }
+}
@@ -0,0 +1,25 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.service.photo.cache.DiskCache;
+import com.codeZero.photoMap.service.storage.ObjectInfo;
+
+import java.nio.file.Path;
+
+/**
+ * 앱에서 직접 전송할 사진 데이터
+ * @param fileKey 스토리지 key 값
+ * @param size 크기 (byte)
+ * @param contentType Content-Type
+ * @param eTag ETag (따옴표 제외)
+ * @param cachedFile 로컬 캐시 파일 (캐시되지 않았으면 null - 스토리지에서 직접 전송)
+ */
+public record PhotoContent(String fileKey, long size, String contentType, String eTag, Path cachedFile) {
+
+    static PhotoContent of(DiskCache.Entry entry) {
+        return new PhotoContent(entry.key(), entry.size(), entry.contentType(), entry.eTag(), entry.path());
+    }
+
+    static PhotoContent of(ObjectInfo info) {
+        return new PhotoContent(info.key(), info.size(), info.contentType(), info.eTag(), null);
+    }
+}
@@ -0,0 +1,115 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.common.exception.NotFoundException;
+import com.codeZero.photoMap.service.photo.cache.DiskCache;
+import com.codeZero.photoMap.service.storage.ObjectInfo;
+import com.codeZero.photoMap.service.storage.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사진 원본의 읽기 전용(read-through) 로컬 디스크 캐시
+ * 자주 조회되는 사진만 디스크에 보관하여 반복 조회 시 스토리지 요청을 줄이고,
+ * 같은 사진을 동시에 처음 조회하면 스토리지에서 한 번만 내려받는다.
+ */
+@Slf4j
+@Component
+public class PhotoContentCache {
+
+    private final ObjectStorage objectStorage;
+    private final DiskCache diskCache;
+
+    // 내려받는 중인 fileKey (동시 요청은 같은 다운로드 결과를 기다림)
+    private final Map<String, CompletableFuture<DiskCache.Entry>> loading = new ConcurrentHashMap<>();
+
+    public PhotoContentCache(ObjectStorage objectStorage,
+                             @Value("${photo.content-cache.dir:./cache/photos}") String directory,
+                             @Value("${photo.content-cache.max-size-mb:1024}") long maxSizeMb,
+                             @Value("${photo.content-cache.expected-entries:10000}") int expectedEntries,
+                             @Value("${photo.content-cache.delete-grace-millis:60000}") long deleteGraceMillis) {
+        this.objectStorage = objectStorage;
+        this.diskCache = new DiskCache(Paths.get(directory), maxSizeMb * 1024 * 1024, expectedEntries, deleteGraceMillis);
+    }
+
+    /**
+     * 사진 원본 조회
+     * 캐시에 있으면 캐시 파일을, 없으면 스토리지 메타데이터를 반환하고 입장 정책을 통과한 경우에만 캐시에 저장한다.
+     * @param fileKey 파일 key 값
+     * @return 사진 원본 (cachedFile이 null이면 스토리지에서 직접 전송해야 함)
+     * @throws NotFoundException 스토리지에 파일이 없을 경우
+     */
+    public PhotoContent get(String fileKey) {
+        Optional<DiskCache.Entry> cached = diskCache.get(fileKey);
+        if (cached.isPresent()) {
+            return PhotoContent.of(cached.get());
+        }
+
+        ObjectInfo info = objectStorage.head(fileKey)
+                .orElseThrow(() -> new NotFoundException("해당 사진 파일을 찾을 수 없습니다."));
+        if (!diskCache.admit(fileKey, info.size())) {
+            return PhotoContent.of(info);
+        }
+
+        try {
+            return PhotoContent.of(load(fileKey, info));
+        } catch (RuntimeException e) {
+            // 캐시 저장에 실패해도 스토리지에서 직접 전송
+            log.warn("사진 원본 캐시 저장 실패: {}", fileKey, e);
+            return PhotoContent.of(info);
+        }
+    }
+
+    /**
+     * 캐시된 원본 파일 조회 (접근 빈도를 기록하지 않고, 없어도 내려받지 않음)
+     * @param fileKey 파일 key 값
+     * @return 캐시 파일 경로 (없으면 empty)
+     */
+    public Optional<Path> peek(String fileKey) {
+        return diskCache.peek(fileKey).map(DiskCache.Entry::path);
+    }
+
+    /**
+     * 캐시 항목 제거 (사진 삭제 시 호출)
+     * @param fileKey 파일 key 값
+     */
+    public void evict(String fileKey) {
+        diskCache.evict(fileKey);
+    }
+
+    private DiskCache.Entry load(String fileKey, ObjectInfo info) {
+        CompletableFuture<DiskCache.Entry> future = new CompletableFuture<>();
+        CompletableFuture<DiskCache.Entry> existing = loading.putIfAbsent(fileKey, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw (RuntimeException) e.getCause();
+            }
+        }
+
+        try {
+            DiskCache.Entry entry = diskCache.put(fileKey, info.eTag(), info.contentType(), out -> {
+                try (InputStream in = objectStorage.get(fileKey)) {
+                    in.transferTo(out);
+                }
+            });
+            future.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(fileKey);
+        }
+    }
+}
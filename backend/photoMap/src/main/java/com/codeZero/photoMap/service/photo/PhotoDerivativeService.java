@@ -0,0 +1,201 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.domain.photo.Photo;
+import com.codeZero.photoMap.domain.photo.PhotoBlob;
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import com.codeZero.photoMap.service.photo.image.ImagePlaceholder;
+import com.codeZero.photoMap.service.photo.image.ImageProcessor;
+import com.codeZero.photoMap.service.photo.image.PerceptualHash;
+import com.codeZero.photoMap.service.storage.ObjectStorage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드된 사진의 파생 이미지(썸네일, 미리보기) 생성 서비스
+ * 업로드 완료 트랜잭션이 커밋된 후 고정 크기의 작업 큐에 넣고, 워커 스레드가 원본을 내려받아 파생 이미지를 저장한다.
+ * 큐가 가득 차면 커밋하는 스레드를 막지 않도록 작업을 바로 버리고,
+ * 주기적인 백필 작업이 파생 이미지가 없는 업로드 완료 사진을 찾아 큐의 남은 자리만큼 다시 등록한다.
+ */
+@Slf4j
+@Service
+public class PhotoDerivativeService {
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final PhotoRepository photoRepository;
+    private final ObjectStorage objectStorage;
+    private final PhotoBlobService photoBlobService;
+    private final PhotoSimilarityIndex photoSimilarityIndex;
+    private final ThreadPoolExecutor executor;
+    private final int backfillDelayMinutes;
+
+    // 백필 작업이 다음 실행에서 이어서 조회할 사진 ID (끝까지 조회하면 0으로 되돌림)
+    private long backfillAfterId = 0L;
+
+    public PhotoDerivativeService(PhotoRepository photoRepository,
+                                  ObjectStorage objectStorage,
+                                  PhotoBlobService photoBlobService,
+                                  PhotoSimilarityIndex photoSimilarityIndex,
+                                  @Value("${photo.derivative.worker-threads:2}") int workerThreads,
+                                  @Value("${photo.derivative.queue-capacity:500}") int queueCapacity,
+                                  @Value("${photo.derivative.backfill-delay-minutes:10}") int backfillDelayMinutes) {
+        this.photoRepository = photoRepository;
+        this.objectStorage = objectStorage;
+        this.photoBlobService = photoBlobService;
+        this.photoSimilarityIndex = photoSimilarityIndex;
+        this.backfillDelayMinutes = backfillDelayMinutes;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "photo-derivative-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, pool) -> {
+                    // 큐가 가득 차면 바로 버림 (백필 작업에서 다시 등록)
+                    log.warn("파생 이미지 생성 큐가 가득 차 작업을 건너뜁니다. (대기 {}개)", pool.getQueue().size());
+                });
+    }
+
+    /**
+     * 업로드 완료 트랜잭션 커밋 후 파생 이미지 생성 작업 등록 (트랜잭션 밖에서 발행된 경우 바로 등록)
+     * @param event 사진 업로드 완료 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPhotoUploaded(PhotoUploadedEvent event) {
+        enqueue(event.photoId());
+    }
+
+    /**
+     * 파생 이미지 생성 작업 등록
+     * @param photoId 사진 ID
+     */
+    public void enqueue(Long photoId) {
+        executor.execute(() -> generate(photoId));
+    }
+
+    /**
+     * 업로드 완료 후 backfillDelayMinutes가 지나도록 파생 이미지가 없는 사진을 큐의 남은 자리만큼 다시 등록 (주기적으로 실행)
+     * 큐가 가득 차 버려졌거나 서버 재시작으로 사라진 작업을 보충한다.
+     * 남은 자리가 없으면 다음 실행에서 이어서 조회하므로 계속 실패하는 사진이 다른 사진의 재등록을 막지 않는다.
+     * @return 다시 등록한 작업 수
+     */
+    @Scheduled(fixedDelayString = "${photo.derivative.backfill-interval-millis:600000}", initialDelayString = "${photo.derivative.backfill-initial-delay-millis:180000}")
+    public int backfill() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(backfillDelayMinutes);
+        int enqueued = 0;
+
+        int capacity;
+        while ((capacity = executor.getQueue().remainingCapacity()) > 0) {
+            List<Long> photoIds = photoRepository.findDerivativesPendingIds(cutoff, backfillAfterId, PageRequest.of(0, capacity));
+            photoIds.forEach(this::enqueue);
+            enqueued += photoIds.size();
+
+            if (photoIds.size() < capacity) {
+                backfillAfterId = 0L;
+                break;
+            }
+            backfillAfterId = photoIds.get(photoIds.size() - 1);
+        }
+
+        if (enqueued > 0) {
+            log.info("파생 이미지 생성 작업 재등록: {}개", enqueued);
+        }
+        return enqueued;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 원본을 한 번만 디코딩하여 모든 크기의 파생 이미지를 생성하고 저장
+     * 공유 blob의 첫 업로드라면 같은 다운로드에서 SHA-256을 계산하여 blob을 검증하고,
+     * 가장 작은 파생 이미지로 유사 사진 검색용 지각 해시와 자리 표시 정보(BlurHash, 대표 색상)를 계산한다.
+     * @param photoId 사진 ID
+     */
+    private void generate(Long photoId) {
+        Photo photo = photoRepository.findByIdAndIsDeletedFalseAndUploadStatusTrue(photoId).orElse(null);
+        if (photo == null || photo.isDerivativesReady()) {
+            return;
+        }
+
+        PhotoBlob blob = photo.getBlob();
+        boolean verifyBlob = blob != null && !blob.isVerified();
+
+        // 같은 오브젝트를 공유하는 다른 사진의 파생 이미지, 지각 해시, 자리 표시 정보가 이미 있으면 재사용
+        Photo sibling = verifyBlob || blob == null ? null
+                : photoRepository.findFirstByFileKeyAndDerivativesReadyTrue(photo.getFileKey()).orElse(null);
+        if (sibling != null && sibling.getPhash() != null && sibling.getBlurHash() != null) {
+            savePerceptualHash(photo, sibling.getPhash());
+            photoRepository.updatePlaceholder(photoId, sibling.getBlurHash(), sibling.getDominantColor(),
+                    sibling.getWidth(), sibling.getHeight());
+            photoRepository.markDerivativesReady(photoId);
+            return;
+        }
+
+        try {
+            // 가장 큰 파생 이미지 크기에 맞춰 서브샘플링 디코딩 (blob 검증이 필요하면 읽는 동안 SHA-256 계산)
+            ImageProcessor.Decoded decoded;
+            MessageDigest digest = verifyBlob ? MessageDigest.getInstance("SHA-256") : null;
+            try (InputStream in = verifyBlob
+                    ? new DigestInputStream(objectStorage.get(photo.getFileKey()), digest)
+                    : objectStorage.get(photo.getFileKey())) {
+                decoded = ImageProcessor.decodeWithSize(in, DerivativeSize.PREVIEW.getMaxDimension());
+                if (verifyBlob) {
+                    in.transferTo(OutputStream.nullOutputStream()); // 디코더가 읽지 않은 나머지 바이트까지 해시에 포함
+                }
+            }
+            if (verifyBlob) {
+                photoBlobService.verify(blob, HexFormat.of().formatHex(digest.digest()));
+            }
+
+            // 큰 크기부터 차례로 축소하여 저장 (작은 파생 이미지는 직전 결과에서 축소)
+            BufferedImage source = decoded.image();
+            DerivativeSize[] sizes = DerivativeSize.values();
+            for (int i = sizes.length - 1; i >= 0; i--) {
+                DerivativeSize size = sizes[i];
+                source = ImageProcessor.resize(source, size.getMaxDimension());
+                objectStorage.put(size.keyFor(photo.getFileKey()), ImageProcessor.encodeJpeg(source, JPEG_QUALITY), "image/jpeg");
+            }
+
+            // 가장 작은 파생 이미지로 지각 해시와 자리 표시 정보 계산
+            savePerceptualHash(photo, PerceptualHash.compute(source));
+            photoRepository.updatePlaceholder(photoId, ImagePlaceholder.blurHash(source), ImagePlaceholder.dominantColor(source),
+                    decoded.width(), decoded.height());
+            photoRepository.markDerivativesReady(photoId);
+            log.debug("파생 이미지 생성 완료: photoId = {}", photoId);
+
+        } catch (Exception e) {
+            log.error("파생 이미지 생성 실패: photoId = {}", photoId, e);
+        }
+    }
+
+    private void savePerceptualHash(Photo photo, long phash) {
+        photoRepository.updatePerceptualHash(photo.getId(), phash);
+        photoSimilarityIndex.put(photo.getId(), photo.getLocation().getMemberGroup().getId(), phash);
+    }
+}
@@ -0,0 +1,207 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.common.GeoUtils;
+import com.codeZero.photoMap.domain.location.Location;
+import com.codeZero.photoMap.domain.location.LocationRepository;
+import com.codeZero.photoMap.domain.photo.Photo;
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import com.codeZero.photoMap.service.location.LocationPhotoCounter;
+import com.codeZero.photoMap.service.location.LocationSpatialIndex;
+import com.codeZero.photoMap.service.photo.image.ExifParser;
+import com.codeZero.photoMap.service.photo.image.ImageMetadata;
+import com.codeZero.photoMap.service.storage.ObjectStorage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드된 사진의 EXIF 메타데이터(촬영 시각, GPS, 크기, 카메라) 추출 서비스
+ * 원본 전체가 아니라 앞부분 64KB만 Range 요청으로 읽어 해석하고,
+ * 촬영 위치가 있으면 그룹 내 가장 가까운 위치를 사진에 자동 지정하거나 추천 위치로 저장한다.
+ * 큐가 가득 차 버려진 작업은 주기적인 백필 작업이 메타데이터를 추출하지 않은 업로드 완료 사진을 찾아 다시 등록한다.
+ */
+@Slf4j
+@Service
+public class PhotoMetadataService {
+
+    // EXIF(APP1) 세그먼트는 최대 64KB
+    private static final int HEAD_SIZE = 64 * 1024;
+
+    private final PhotoRepository photoRepository;
+    private final LocationRepository locationRepository;
+    private final LocationSpatialIndex locationSpatialIndex;
+    private final LocationPhotoCounter locationPhotoCounter;
+    private final ObjectStorage objectStorage;
+    private final ThreadPoolExecutor executor;
+
+    private final double autoAttachRadiusMeters;
+    private final double suggestRadiusMeters;
+    private final int backfillDelayMinutes;
+
+    // 백필 작업이 다음 실행에서 이어서 조회할 사진 ID (끝까지 조회하면 0으로 되돌림)
+    private long backfillAfterId = 0L;
+
+    public PhotoMetadataService(PhotoRepository photoRepository,
+                                LocationRepository locationRepository,
+                                LocationSpatialIndex locationSpatialIndex,
+                                LocationPhotoCounter locationPhotoCounter,
+                                ObjectStorage objectStorage,
+                                @Value("${photo.metadata.worker-threads:2}") int workerThreads,
+                                @Value("${photo.metadata.queue-capacity:1000}") int queueCapacity,
+                                @Value("${photo.metadata.auto-attach-radius-meters:50}") double autoAttachRadiusMeters,
+                                @Value("${photo.metadata.suggest-radius-meters:500}") double suggestRadiusMeters,
+                                @Value("${photo.metadata.backfill-delay-minutes:10}") int backfillDelayMinutes) {
+        this.photoRepository = photoRepository;
+        this.locationRepository = locationRepository;
+        this.locationSpatialIndex = locationSpatialIndex;
+        this.locationPhotoCounter = locationPhotoCounter;
+        this.objectStorage = objectStorage;
+        this.autoAttachRadiusMeters = autoAttachRadiusMeters;
+        this.suggestRadiusMeters = suggestRadiusMeters;
+        this.backfillDelayMinutes = backfillDelayMinutes;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "photo-metadata-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, pool) -> {
+                    // 메타데이터는 필수 정보가 아니므로 큐가 가득 차면 바로 버림 (백필 작업에서 다시 등록)
+                    log.warn("메타데이터 추출 큐가 가득 차 작업을 건너뜁니다. (대기 {}개)", pool.getQueue().size());
+                });
+    }
+
+    /**
+     * 업로드 완료 트랜잭션 커밋 후 메타데이터 추출 작업 등록 (트랜잭션 밖에서 발행된 경우 바로 등록)
+     * @param event 사진 업로드 완료 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPhotoUploaded(PhotoUploadedEvent event) {
+        enqueue(event.photoId());
+    }
+
+    /**
+     * 메타데이터 추출 작업 등록
+     * @param photoId 사진 ID
+     */
+    public void enqueue(Long photoId) {
+        executor.execute(() -> extract(photoId));
+    }
+
+    /**
+     * 업로드 완료 후 backfillDelayMinutes가 지나도록 메타데이터를 추출하지 않은 사진을 큐의 남은 자리만큼 다시 등록 (주기적으로 실행)
+     * 남은 자리가 없으면 다음 실행에서 이어서 조회한다.
+     * @return 다시 등록한 작업 수
+     */
+    @Scheduled(fixedDelayString = "${photo.metadata.backfill-interval-millis:600000}", initialDelayString = "${photo.metadata.backfill-initial-delay-millis:180000}")
+    public int backfill() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(backfillDelayMinutes);
+        int enqueued = 0;
+
+        int capacity;
+        while ((capacity = executor.getQueue().remainingCapacity()) > 0) {
+            List<Long> photoIds = photoRepository.findMetadataPendingIds(cutoff, backfillAfterId, PageRequest.of(0, capacity));
+            photoIds.forEach(this::enqueue);
+            enqueued += photoIds.size();
+
+            if (photoIds.size() < capacity) {
+                backfillAfterId = 0L;
+                break;
+            }
+            backfillAfterId = photoIds.get(photoIds.size() - 1);
+        }
+
+        if (enqueued > 0) {
+            log.info("메타데이터 추출 작업 재등록: {}개", enqueued);
+        }
+        return enqueued;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 원본 앞부분을 읽어 메타데이터를 저장하고 위치를 지정/추천
+     * @param photoId 사진 ID
+     */
+    private void extract(Long photoId) {
+        Photo photo = photoRepository.findByIdAndIsDeletedFalseAndUploadStatusTrue(photoId).orElse(null);
+        if (photo == null) {
+            return;
+        }
+
+        try {
+            byte[] head = new byte[HEAD_SIZE];
+            int length;
+            try (InputStream in = objectStorage.getRange(photo.getFileKey(), 0, HEAD_SIZE - 1)) {
+                length = in.readNBytes(head, 0, HEAD_SIZE);
+            }
+
+            ImageMetadata metadata = ExifParser.parse(head, length);
+            photoRepository.updateMetadata(photoId, metadata.capturedAt(), metadata.latitude(), metadata.longitude(),
+                    metadata.width(), metadata.height(), metadata.cameraMake(), metadata.cameraModel());
+
+            if (metadata.hasLocation()) {
+                assignNearestLocation(photo, metadata.latitude(), metadata.longitude());
+            }
+
+            log.debug("메타데이터 추출 완료: photoId = {}", photoId);
+
+        } catch (IOException | RuntimeException e) {
+            log.error("메타데이터 추출 실패: photoId = {}", photoId, e);
+        }
+    }
+
+    /**
+     * 촬영 위치와 가장 가까운 그룹 내 위치를 찾아 사진에 지정하거나 추천
+     * - 현재 위치가 촬영 위치에서 추천 반경보다 멀고, 가장 가까운 위치가 자동 지정 반경 이내이면 자동 지정
+     * - 그 외에 가장 가까운 위치가 추천 반경 이내이고 현재 위치보다 가까우면 추천 위치로 저장
+     */
+    private void assignNearestLocation(Photo photo, double latitude, double longitude) {
+        Location current = photo.getLocation();
+        Long groupId = current.getMemberGroup().getId();
+
+        // 두 반경보다 먼 위치는 지정/추천 대상이 아니므로 반경 안에서 가장 가까운 위치만 조회
+        double searchRadius = Math.max(autoAttachRadiusMeters, suggestRadiusMeters);
+        List<LocationSpatialIndex.Nearby> nearest = locationSpatialIndex.nearest(List.of(groupId), latitude, longitude, 1, searchRadius);
+        if (nearest.isEmpty() || nearest.get(0).locationId() == current.getId()) {
+            return;
+        }
+
+        double nearestDistance = nearest.get(0).distanceMeters();
+        double currentDistance = distance(current, latitude, longitude);
+        Location nearestLocation = locationRepository.getReferenceById(nearest.get(0).locationId());
+
+        if (currentDistance > suggestRadiusMeters && nearestDistance <= autoAttachRadiusMeters) {
+            if (photoRepository.attachLocation(photo.getId(), nearestLocation) > 0) {
+                locationPhotoCounter.moved(photo, current.getId(), nearestLocation.getId());
+            }
+        } else if (nearestDistance <= suggestRadiusMeters && nearestDistance < currentDistance) {
+            photoRepository.suggestLocation(photo.getId(), nearestLocation);
+        }
+    }
+
+    private double distance(Location location, double latitude, double longitude) {
+        return GeoUtils.distanceMeters(location.getLatitude(), location.getLongitude(), latitude, longitude);
+    }
+}
@@ -0,0 +1,267 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import com.codeZero.photoMap.common.exception.NotFoundException;
+import com.codeZero.photoMap.common.exception.ServiceUnavailableException;
+import com.codeZero.photoMap.domain.photo.Photo;
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import com.codeZero.photoMap.service.photo.cache.ByteBudgetLruCache;
+import com.codeZero.photoMap.service.photo.cache.DiskCache;
+import com.codeZero.photoMap.service.photo.image.ImageProcessor;
+import com.codeZero.photoMap.service.storage.ObjectStorage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청한 가로 크기로 사진을 리사이즈하여 제공하는 서비스 (지도 마커, 그리드, 전체 화면, 레티나 등 화면별 크기)
+ * 요청 크기는 정해진 가로 크기 단계로 올림하여 캐시 적중률을 높이고, 결과는 메모리 LRU(바이트 용량 제한)와 로컬 디스크에 보관한다.
+ * 리사이즈는 CPU 코어 수만큼의 스레드를 가진 전용 풀에서 실행하며, 같은 이미지에 대한 동시 요청은 한 번만 리사이즈한다.
+ */
+@Slf4j
+@Service
+public class PhotoResizeService {
+
+    // 허용하는 가로 크기 단계 (px)
+    private static final int[] WIDTH_BUCKETS = {64, 128, 256, 320, 480, 640, 960, 1280, 1920};
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final PhotoRepository photoRepository;
+    private final ObjectStorage objectStorage;
+    private final PhotoContentCache photoContentCache;
+    private final ByteBudgetLruCache<Rendition> memoryCache;
+    private final DiskCache diskStore;
+    private final ThreadPoolExecutor executor;
+    private final long renderTimeoutMillis;
+
+    // 리사이즈 중인 캐시 키 (동시 요청은 같은 결과를 기다림)
+    private final Map<String, CompletableFuture<Rendition>> rendering = new ConcurrentHashMap<>();
+
+    public PhotoResizeService(PhotoRepository photoRepository,
+                              ObjectStorage objectStorage,
+                              PhotoContentCache photoContentCache,
+                              @Value("${photo.resize.memory-cache-size-mb:64}") long memoryCacheSizeMb,
+                              @Value("${photo.resize.disk-cache.dir:./cache/resized}") String diskCacheDir,
+                              @Value("${photo.resize.disk-cache.max-size-mb:2048}") long diskCacheSizeMb,
+                              @Value("${photo.resize.queue-capacity:64}") int queueCapacity,
+                              @Value("${photo.resize.render-timeout-millis:10000}") long renderTimeoutMillis) {
+        this.photoRepository = photoRepository;
+        this.objectStorage = objectStorage;
+        this.photoContentCache = photoContentCache;
+        this.memoryCache = new ByteBudgetLruCache<>(memoryCacheSizeMb * 1024 * 1024, rendition -> rendition.bytes().length);
+        this.diskStore = new DiskCache(Paths.get(diskCacheDir), diskCacheSizeMb * 1024 * 1024, 50_000, 60_000);
+        this.renderTimeoutMillis = renderTimeoutMillis;
+
+        // 리사이즈는 CPU 작업이므로 코어 수만큼만 동시에 실행하고, 대기열이 가득 차면 바로 거절
+        int threads = Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "photo-resize-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 리사이즈된 사진 조회
+     * @param photoId 사진 ID
+     * @param width 요청 가로 크기 (px, 가장 가까운 큰 단계로 올림)
+     * @param format 결과 이미지 형식
+     * @return 리사이즈된 이미지
+     * @throws NotFoundException 업로드가 완료된 사진이 없을 경우
+     * @throws ServiceUnavailableException 리사이즈 대기열이 가득 찼거나 시간 내에 끝나지 않은 경우
+     */
+    public Rendition getResized(Long photoId, int width, ResizeFormat format) {
+        Photo photo = photoRepository.findByIdAndIsDeletedFalseAndUploadStatusTrue(photoId)
+                .orElseThrow(() -> new NotFoundException("해당 사진 파일을 찾을 수 없습니다."));
+
+        int bucket = toBucket(width);
+        String key = cacheKey(photo.getFileKey(), bucket, format);
+
+        // 1. 메모리 캐시
+        Rendition cached = memoryCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 2. 디스크 저장소
+        Optional<DiskCache.Entry> stored = diskStore.get(key);
+        if (stored.isPresent()) {
+            Rendition rendition = readStored(stored.get());
+            if (rendition != null) {
+                memoryCache.put(key, rendition);
+                return rendition;
+            }
+        }
+
+        // 3. 리사이즈 (같은 키의 동시 요청은 하나로 합침)
+        return await(renderOnce(key, photo.getFileKey(), bucket, format));
+    }
+
+    /**
+     * 사진의 모든 리사이즈 결과 제거 (사진 삭제 시 호출)
+     * @param fileKey 원본 파일 key 값
+     */
+    public void evict(String fileKey) {
+        String prefix = fileKey + "@";
+        memoryCache.evictIf(key -> key.startsWith(prefix));
+        diskStore.evictIf(key -> key.startsWith(prefix));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 요청 가로 크기를 허용 단계로 올림 (가장 큰 단계보다 크면 가장 큰 단계)
+     */
+    private int toBucket(int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("가로 크기는 1 이상이어야 합니다.");
+        }
+        int index = Arrays.binarySearch(WIDTH_BUCKETS, width);
+        if (index >= 0) {
+            return WIDTH_BUCKETS[index];
+        }
+        int insertion = -index - 1;
+        return WIDTH_BUCKETS[Math.min(insertion, WIDTH_BUCKETS.length - 1)];
+    }
+
+    private CompletableFuture<Rendition> renderOnce(String key, String fileKey, int width, ResizeFormat format) {
+        CompletableFuture<Rendition> future = new CompletableFuture<>();
+        CompletableFuture<Rendition> existing = rendering.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(render(key, fileKey, width, format));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    rendering.remove(key, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rendering.remove(key, future);
+            future.completeExceptionally(new ServiceUnavailableException("이미지 리사이즈 요청이 많아 잠시 후 다시 시도해주세요."));
+        }
+        return future;
+    }
+
+    private Rendition render(String key, String fileKey, int width, ResizeFormat format) throws IOException {
+        BufferedImage image;
+        try (InputStream in = openOriginal(fileKey)) {
+            image = ImageProcessor.decodeForWidth(in, width);
+        }
+
+        boolean png = format == ResizeFormat.PNG;
+        BufferedImage resized = ImageProcessor.resizeToWidth(image, width, png);
+        byte[] bytes = png ? ImageProcessor.encodePng(resized) : ImageProcessor.encodeJpeg(resized, JPEG_QUALITY);
+
+        Rendition rendition = new Rendition(bytes, format.getContentType(), md5Hex(bytes));
+
+        memoryCache.put(key, rendition);
+        try {
+            diskStore.put(key, rendition.eTag(), rendition.contentType(), out -> out.write(bytes));
+        } catch (RuntimeException e) {
+            log.warn("리사이즈 결과 디스크 저장 실패: {}", key, e);
+        }
+        return rendition;
+    }
+
+    // 로컬 디스크에 캐시된 원본이 있으면 사용하고, 없으면 스토리지에서 내려받음
+    private InputStream openOriginal(String fileKey) throws IOException {
+        Optional<Path> cachedFile = photoContentCache.peek(fileKey);
+        if (cachedFile.isPresent()) {
+            try {
+                return Files.newInputStream(cachedFile.get());
+            } catch (IOException e) {
+                log.debug("캐시된 원본을 읽을 수 없어 스토리지에서 조회합니다: {}", fileKey);
+            }
+        }
+        return objectStorage.get(fileKey);
+    }
+
+    private Rendition readStored(DiskCache.Entry entry) {
+        try {
+            return new Rendition(Files.readAllBytes(entry.path()), entry.contentType(), entry.eTag());
+        } catch (IOException e) {
+            log.warn("리사이즈 결과 디스크 조회 실패: {}", entry.key(), e);
+            return null;
+        }
+    }
+
+    private Rendition await(CompletableFuture<Rendition> future) {
+        try {
+            return future.get(renderTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("이미지 리사이즈 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("이미지 리사이즈가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof IOException ioException) {
+                throw new UncheckedIOException("이미지 리사이즈에 실패했습니다.", ioException);
+            }
+            throw new IllegalStateException("이미지 리사이즈에 실패했습니다.", cause);
+        }
+    }
+
+    private static String cacheKey(String fileKey, int width, ResizeFormat format) {
+        return fileKey + "@" + width + "w." + format.getExtension();
+    }
+
+    private static String md5Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 리사이즈된 이미지
+     * @param bytes 인코딩된 이미지 데이터
+     * @param contentType Content-Type
+     * @param eTag ETag (따옴표 제외)
+     */
+    public record Rendition(byte[] bytes, String contentType, String eTag) {
+    }
+}
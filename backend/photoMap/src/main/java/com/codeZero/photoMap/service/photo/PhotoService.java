@@ -1,24 +1,50 @@
 package com.codeZero.photoMap.service.photo;
 
+import com.codeZero.photoMap.common.PageCursor;
+import com.codeZero.photoMap.common.exception.ForbiddenException;
 import com.codeZero.photoMap.common.exception.IllegalArgumentException;
 import com.codeZero.photoMap.common.exception.NotFoundException;
+import com.codeZero.photoMap.domain.group.MemberGroupMappingRepository;
 import com.codeZero.photoMap.domain.location.Location;
 import com.codeZero.photoMap.domain.location.LocationRepository;
 import com.codeZero.photoMap.domain.member.Member;
 import com.codeZero.photoMap.domain.member.MemberRepository;
 import com.codeZero.photoMap.domain.photo.Photo;
+import com.codeZero.photoMap.domain.photo.PhotoBlob;
+import com.codeZero.photoMap.domain.photo.PhotoBulkRepository;
 import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import com.codeZero.photoMap.dto.photo.request.PhotoBatchUploadRequest;
 import com.codeZero.photoMap.dto.photo.request.PhotoServiceRequest;
 import com.codeZero.photoMap.dto.photo.request.PhotoUpdateRequest;
 import com.codeZero.photoMap.dto.photo.request.PhotoUploadRequest;
+import com.codeZero.photoMap.dto.photo.response.OnThisDayResponse;
+import com.codeZero.photoMap.dto.photo.response.PhotoClusterResponse;
+import com.codeZero.photoMap.dto.photo.response.PhotoPageResponse;
 import com.codeZero.photoMap.dto.photo.response.PhotoResponse;
+import com.codeZero.photoMap.dto.photo.response.PhotoTimelineBucketResponse;
+import com.codeZero.photoMap.dto.photo.response.PhotoTimelineResponse;
+import com.codeZero.photoMap.service.location.LocationPhotoCounter;
+import com.codeZero.photoMap.service.storage.AsyncObjectStorage;
+import com.codeZero.photoMap.service.storage.ObjectStorage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,24 +53,59 @@ import java.util.stream.Collectors;
 @Transactional
 public class PhotoService {
 
+    // 한 번의 일괄 생성 요청으로 만들 수 있는 최대 사진 수
+    private static final int MAX_BATCH_SIZE = 500;
+
+    // 커서 기반 페이지 조회 시 한 페이지의 최대 사진 수
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 타임라인 조회 범위를 지정하지 않았을 때의 양 끝 (DATETIME 컬럼 범위 안의 값)
+    private static final LocalDateTime TIMELINE_MIN = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime TIMELINE_MAX = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    // 지난 해 같은 날짜 조회 시 거슬러 올라가는 최대 연수
+    private static final int MAX_ON_THIS_DAY_YEARS = 30;
+
+    // 타임라인 정렬 순서 (타임라인 시각 내림차순, 같으면 ID 내림차순)
+    private static final Comparator<Photo> TIMELINE_ORDER =
+            Comparator.comparing(Photo::getTakenAt).thenComparing(Photo::getId).reversed();
+
     private final PhotoRepository photoRepository;
+    private final PhotoBulkRepository photoBulkRepository;
     private final S3PreSignedUrlService s3PreSignedUrlService;
+    private final ObjectStorage objectStorage;
+    private final AsyncObjectStorage asyncObjectStorage;
+    private final PhotoContentCache photoContentCache;
+    private final PhotoResizeService photoResizeService;
+    private final PhotoTrashPurger photoTrashPurger;
+    private final PhotoBlobService photoBlobService;
+    private final PhotoSimilarityIndex photoSimilarityIndex;
+    private final LocationPhotoCounter locationPhotoCounter;
     private final MemberRepository memberRepository;
     private final LocationRepository locationRepository;
+    private final MemberGroupMappingRepository memberGroupMappingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사진 생성
      * @param memberId 멤버 ID
      * @param locationId 위치 ID
-     * @param request 사진 생성 요청 DTO (파일명, 파일 확장자명)
-     * @return PhotoResponse 생성된 사진 응답 DTO (URL - PUT 메서드용 Pre-signed URL)
+     * @param request 사진 생성 요청 DTO (파일명, 파일 확장자명, SHA-256 - 선택)
+     * @return PhotoResponse 생성된 사진 응답 DTO (URL - PUT 메서드용 Pre-signed URL, 같은 내용의 사진이 이미 있으면 uploadStatus가 true이고 GET 메서드용 Pre-signed URL)
      */
     public PhotoResponse createPhoto(Long memberId, Long locationId, PhotoServiceRequest request) {
 
+        // SHA-256이 있으면 같은 그룹의 동일한 사진과 오브젝트를 공유 (공유할 수 없으면 아래에서 별도 fileKey로 생성)
+        if (request.getSha256() != null) {
+            Location location = getLocation(locationId);
+            Optional<PhotoBlob> blob = photoBlobService.acquire(location.getMemberGroup().getId(), request.getSha256(), request.getFileExtension());
+            if (blob.isPresent()) {
+                return createSharedPhoto(getMember(memberId), location, request, blob.get());
+            }
+        }
+
         // 동일한 파일명 업로드 시도 시 덮어쓰기를 방지하기 위해 UUID를 활용하여 fileKey 생성
-        String uuid = UUID.randomUUID().toString();
-        String dirName = "photos"; // S3 내 폴더 명 (photos)
-        String fileKey = dirName + "/" + uuid + "_" + request.getFileName(); // fileKey: "photos/uuid_파일명.파일확장자명"
+        String fileKey = createFileKey(request.getFileName());
 
         // PUT 메서드용 S3 Pre-signed URL 발급
         String preSignedUrl = s3PreSignedUrlService.getPreSignedUploadUrl(fileKey, request.getFileExtension());
@@ -91,6 +152,78 @@ public class PhotoService {
         */
     }
 
+    /**
+     * 사진 일괄 생성
+     * @param memberId 멤버 ID
+     * @param locationId 위치 ID
+     * @param requests 사진 생성 요청 DTO 리스트 (파일명, 파일 확장자명, SHA-256 - 선택)
+     * @return List<PhotoResponse> 생성된 사진 응답 DTO 리스트 (URL - PUT 메서드용 Pre-signed URL, 이미 있는 사진은 GET 메서드용 Pre-signed URL, 요청 순서 유지)
+     */
+    public List<PhotoResponse> createPhotos(Long memberId, Long locationId, List<PhotoServiceRequest> requests) {
+
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("생성할 사진 목록이 비어 있습니다.");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("사진은 한 번에 최대 " + MAX_BATCH_SIZE + "개까지 생성할 수 있습니다.");
+        }
+
+        // Member, Location 객체는 요청 전체에 대해 한 번만 조회
+        Member member = getMember(memberId);
+        Location location = getLocation(locationId);
+
+        // 요청마다 SHA-256으로 공유 blob을 참조하거나, 공유할 수 없으면 fileKey를 생성하여 Photo 객체 생성
+        List<Photo> photos = new ArrayList<>(requests.size());
+        for (PhotoServiceRequest request : requests) {
+            PhotoBlob blob = request.getSha256() == null ? null
+                    : photoBlobService.acquire(location.getMemberGroup().getId(), request.getSha256(), request.getFileExtension()).orElse(null);
+            if (blob != null) {
+                photos.add(request.toEntity(member, location, blob));
+            } else {
+                photos.add(request.toEntity(member, location, createFileKey(request.getFileName())));
+            }
+        }
+
+        // Photo 객체들을 하나의 배치 INSERT로 저장한 후, DB가 채운 컬럼까지 담긴 엔티티로 다시 조회 (요청 순서 유지)
+        List<Long> savedIds = photoBulkRepository.saveAllInBatch(photos);
+        Map<Long, Photo> savedById = photoRepository.findAllById(savedIds).stream()
+                .collect(Collectors.toMap(Photo::getId, Function.identity()));
+        List<Photo> savedPhotos = savedIds.stream().map(savedById::get).toList();
+
+        // 이미 업로드된 blob을 참조한 사진은 위치의 사진 수에 반영하고 바로 후처리 이벤트 발행
+        List<Photo> uploadedPhotos = savedPhotos.stream().filter(Photo::isUploadStatus).toList();
+        if (!uploadedPhotos.isEmpty()) {
+            locationPhotoCounter.added(uploadedPhotos);
+        }
+        uploadedPhotos.forEach(p -> eventPublisher.publishEvent(new PhotoUploadedEvent(p.getId())));
+
+        // 업로드가 필요한 사진은 PUT 메서드용, 이미 있는 사진은 GET 메서드용 Pre-signed URL을 포함한 PhotoResponse 리스트 반환
+        return savedPhotos.stream()
+                .map(p -> p.isUploadStatus()
+                        ? toResponse(p)
+                        : PhotoResponse.of(p, s3PreSignedUrlService.getPreSignedUploadUrl(p.getFileKey(), p.getFileExtension())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 내용이 같은 사진과 오브젝트를 공유하는 사진 생성
+     * 검증된 blob이면 업로드 없이 바로 업로드 완료 상태로 생성하고, 이 요청이 새로 만든 blob이면 blob의 fileKey로 PUT 메서드용 Pre-signed URL을 발급한다.
+     */
+    private PhotoResponse createSharedPhoto(Member member, Location location, PhotoServiceRequest request, PhotoBlob blob) {
+
+        Photo savedPhoto = photoRepository.save(request.toEntity(member, location, blob));
+
+        if (savedPhoto.isUploadStatus()) {
+            // 업로드할 필요가 없으므로 위치의 사진 수에 반영하고 바로 후처리 이벤트 발행
+            locationPhotoCounter.added(List.of(savedPhoto));
+            eventPublisher.publishEvent(new PhotoUploadedEvent(savedPhoto.getId()));
+            return toResponse(savedPhoto);
+        }
+
+        String preSignedUrl = s3PreSignedUrlService.getPreSignedUploadUrl(savedPhoto.getFileKey(), savedPhoto.getFileExtension());
+        return PhotoResponse.of(savedPhoto, preSignedUrl);
+    }
+
     /**
      * 사진 업로드 후 클라이언트에게서 upload 여부를 받아 Photo 객체 업데이트
      * @param photoId 사진 ID
@@ -106,12 +239,110 @@ public class PhotoService {
 
         // photoId로 Photo 객체 조회
         Photo photo = getPhoto(photoId);
+        boolean alreadyUploaded = photo.isUploadStatus();
 
         photo.uploaded(); // 조회된 Photo 객체의 uploadStatus 값을 true로 설정
         Photo savedPhoto = photoRepository.save(photo); // 업로드 완료된 Photo 객체 저장
 
+        // 처음 업로드 완료된 경우에만 위치의 사진 수에 반영
+        if (!alreadyUploaded) {
+            locationPhotoCounter.added(List.of(savedPhoto));
+        }
+
+        // 트랜잭션 커밋 후 파생 이미지 생성 등 후처리를 위한 이벤트 발행
+        eventPublisher.publishEvent(new PhotoUploadedEvent(savedPhoto.getId()));
+
         // 업로드 완료된 Photo 객체와 GET 메서드용 Pre-signed URL을 포함한 PhotoResponse 반환
-        return PhotoResponse.of(savedPhoto, s3PreSignedUrlService.getPreSignedGetUrl(photo.getFileKey(), photo.getFileExtension()));
+        return toResponse(savedPhoto);
+    }
+
+    /**
+     * 사진 파일을 서버를 거쳐 스토리지에 업로드하고 업로드 완료 처리 (Pre-signed URL을 사용할 수 없는 클라이언트용)
+     * 사진을 생성한 멤버가 아직 업로드되지 않은 사진에만 올릴 수 있으며, 검증이 끝난 공유 blob의 오브젝트는 덮어쓸 수 없다.
+     * 스토리지 전송 동안 DB 트랜잭션을 열어 두지 않도록 트랜잭션 없이 실행한다.
+     * @param memberId 멤버 ID
+     * @param photoId 사진 ID (createPhoto로 생성된 사진)
+     * @param content 업로드할 파일 데이터 스트림 (요청 본문)
+     * @return PhotoResponse 사진 응답 DTO (URL - GET 메서드용 Pre-signed URL)
+     * @throws ForbiddenException 사진을 생성한 멤버가 아니거나, 검증된 공유 blob의 사진인 경우
+     * @throws IllegalArgumentException 이미 업로드 완료된 사진인 경우
+     * @throws java.io.UncheckedIOException 요청 본문 읽기 또는 스토리지 업로드에 실패한 경우
+     * @throws com.codeZero.photoMap.common.exception.ServiceUnavailableException 스토리지 동시 요청 수가 한도를 넘은 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PhotoResponse uploadPhotoContent(Long memberId, Long photoId, InputStream content) {
+
+        // photoId로 Photo 객체 조회
+        Photo photo = getPhoto(photoId);
+
+        if (!photo.getMember().getId().equals(memberId)) {
+            throw new ForbiddenException("사진을 생성한 사용자만 파일을 업로드할 수 있습니다.");
+        }
+        if (photo.isUploadStatus()) {
+            throw new IllegalArgumentException("이미 업로드가 완료된 사진입니다.");
+        }
+        // 검증된 blob의 오브젝트는 다른 사진들이 함께 사용하므로 덮어쓰지 않음
+        if (photo.getBlob() != null && photo.getBlob().isVerified()) {
+            throw new ForbiddenException("다른 사진과 공유 중인 파일은 덮어쓸 수 없습니다.");
+        }
+
+        // 요청 본문을 photo의 fileKey 위치로 스트리밍 업로드 (스토리지 동시 요청이 한도를 넘으면 기다리지 않고 503)
+        AsyncObjectStorage.await(asyncObjectStorage.put(photo.getFileKey(), content, "image/" + photo.getFileExtension()));
+
+        // 이전 내용으로 만들어진 로컬 디스크 캐시의 원본 및 리사이즈 결과 제거
+        photoContentCache.evict(photo.getFileKey());
+        photoResizeService.evict(photo.getFileKey());
+
+        // 업로드 중 다른 요청(업로드 완료 API, 미완료 업로드 정리)이 먼저 완료 처리했다면 사진 수 반영과 후처리는 그쪽에서 함
+        boolean changed = photoRepository.markPendingUploadedByIdIn(List.of(photoId)) > 0;
+        photo.uploaded(); // 응답용으로 조회된 Photo 객체에도 반영
+        if (changed) {
+            locationPhotoCounter.added(List.of(photo));
+
+            // 파생 이미지 생성 등 후처리를 위한 이벤트 발행 (트랜잭션이 없으므로 바로 처리됨)
+            eventPublisher.publishEvent(new PhotoUploadedEvent(photo.getId()));
+        }
+
+        return toResponse(photo);
+    }
+
+    /**
+     * 여러 사진의 업로드 완료 처리
+     * @param memberId 멤버 ID
+     * @param request 사진 일괄 업로드 요청 DTO (업로드 완료된 사진 ID 리스트)
+     * @return List<PhotoResponse> 업로드 완료된 사진 응답 DTO 리스트 (URL - GET 메서드용 Pre-signed URL)
+     */
+    public List<PhotoResponse> uploadPhotos(Long memberId, PhotoBatchUploadRequest request) {
+
+        List<Long> photoIds = request.getPhotoIds();
+        if (photoIds == null || photoIds.isEmpty()) {
+            throw new IllegalArgumentException("업로드 완료할 사진 ID 목록이 비어 있습니다.");
+        }
+        if (photoIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("사진은 한 번에 최대 " + MAX_BATCH_SIZE + "개까지 업로드 완료 처리할 수 있습니다.");
+        }
+
+        // 아직 업로드 완료되지 않은 사진 (위치의 사진 수 반영 대상)
+        List<Photo> pendingPhotos = photoRepository.findByIdInAndMemberIdAndIsDeletedFalseAndUploadStatusFalse(photoIds, memberId);
+
+        // 해당 멤버의 사진들의 uploadStatus 값을 한 번의 UPDATE로 true로 설정
+        int updatedCount = photoRepository.markUploadedByIdIn(photoIds, memberId);
+        log.info("사진 일괄 업로드 완료 처리: 요청 {}개, 변경 {}개", photoIds.size(), updatedCount);
+
+        if (!pendingPhotos.isEmpty()) {
+            locationPhotoCounter.added(pendingPhotos);
+        }
+
+        // 업로드 완료된 Photo 객체들 조회
+        List<Photo> photos = photoRepository.findByIdInAndMemberIdAndIsDeletedFalseAndUploadStatusTrue(photoIds, memberId);
+
+        // 이번 요청으로 업로드 완료된 사진만 트랜잭션 커밋 후 파생 이미지 생성 등 후처리를 위한 이벤트 발행 (이미 완료된 사진은 재처리하지 않음)
+        pendingPhotos.forEach(p -> eventPublisher.publishEvent(new PhotoUploadedEvent(p.getId())));
+
+        // 업로드 완료된 Photo 객체들과 GET 메서드용 Pre-signed URL을 포함한 PhotoResponse 리스트 반환
+        return photos.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -125,7 +356,41 @@ public class PhotoService {
         Photo photo = getUploadedPhoto(photoId);
 
         // 조회된 Photo 객체와 GET 메서드용 Pre-signed URL을 포함한 PhotoResponse 반환
-        return PhotoResponse.of(photo, s3PreSignedUrlService.getPreSignedGetUrl(photo.getFileKey(), photo.getFileExtension()));
+        return toResponse(photo);
+    }
+
+    /**
+     * 사진 원본을 앱에서 직접 전송하기 위한 조회 (자주 조회되는 사진은 로컬 디스크 캐시에서 제공)
+     * 스토리지에서 내려받는 동안 DB 트랜잭션을 열어 두지 않도록 트랜잭션 없이 실행한다.
+     * @param photoId 사진 ID
+     * @return PhotoContent 전송할 사진 데이터 정보 (캐시 파일 또는 스토리지 메타데이터)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PhotoContent getPhotoContent(Long photoId) {
+
+        // Photo ID로 업로드가 완료된 Photo 객체 조회 (uploadStatus = true)
+        Photo photo = getUploadedPhoto(photoId);
+
+        PhotoContent content = photoContentCache.get(photo.getFileKey());
+        if (content.contentType() == null) {
+            return new PhotoContent(content.fileKey(), content.size(), "image/" + photo.getFileExtension(), content.eTag(), content.cachedFile());
+        }
+        return content;
+    }
+
+    /**
+     * 캐시되지 않은 사진 원본의 일부 구간을 스토리지에서 조회
+     * @param content getPhotoContent로 조회한 사진 데이터 정보
+     * @param start 시작 위치 (포함)
+     * @param end 끝 위치 (포함)
+     * @return 구간 데이터 스트림 (호출한 쪽에서 닫아야 함)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public InputStream openPhotoContent(PhotoContent content, long start, long end) {
+        if (start == 0 && end == content.size() - 1) {
+            return objectStorage.get(content.fileKey());
+        }
+        return objectStorage.getRange(content.fileKey(), start, end);
     }
 
     /**
@@ -140,7 +405,7 @@ public class PhotoService {
 
         // 조회된 Photo 객체들과 이에 대한 GET 메서드용 Pre-signed URL을 포함한 PhotoResponse 리스트 반환
         return photos.stream()
-                .map(p -> PhotoResponse.of(p, s3PreSignedUrlService.getPreSignedGetUrl(p.getFileKey(), p.getFileExtension())))
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -156,10 +421,163 @@ public class PhotoService {
 
         // 조회된 Photo 객체들과 이에 대한 Get 메서드용 Pre-signed URL을 포함한 PhotoResponse 리스트 반환
         return photos.stream()
-                .map(p -> PhotoResponse.of(p, s3PreSignedUrlService.getPreSignedGetUrl(p.getFileKey(), p.getFileExtension())))
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 위치의 유사 사진(연사, 재인코딩 사본 등) 묶음 조회
+     * 지각 해시의 해밍 거리가 maxDistance 이내인 사진끼리 연결하여 묶는다. (지각 해시가 아직 계산되지 않은 사진은 제외)
+     * @param locationId 위치 ID
+     * @param maxDistance 최대 해밍 거리 (0 ~ 16)
+     * @return List<PhotoClusterResponse> 2장 이상인 유사 사진 묶음 리스트 (묶음 크기 내림차순)
+     */
+    @Transactional(readOnly = true)
+    public List<PhotoClusterResponse> getNearDuplicateClusters(Long locationId, int maxDistance) {
+
+        if (maxDistance < 0 || maxDistance > PhotoSimilarityIndex.MAX_DISTANCE) {
+            throw new IllegalArgumentException("최대 해밍 거리는 0 이상 " + PhotoSimilarityIndex.MAX_DISTANCE + " 이하여야 합니다.");
+        }
+
+        Location location = getLocation(locationId);
+
+        Map<Long, Photo> photosById = photoRepository.findByLocationIdAndIsDeletedFalseAndUploadStatusTrue(locationId).stream()
+                .filter(p -> p.getPhash() != null)
+                .collect(Collectors.toMap(Photo::getId, p -> p));
+        Map<Long, Long> hashes = photosById.values().stream()
+                .collect(Collectors.toMap(Photo::getId, Photo::getPhash));
+
+        return photoSimilarityIndex.findClusters(location.getMemberGroup().getId(), hashes, maxDistance).stream()
+                .map(cluster -> PhotoClusterResponse.of(maxDistance, cluster.stream()
+                        .map(photosById::get)
+                        .map(this::toResponse)
+                        .collect(Collectors.toList())))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 멤버 ID로 사진 조회 URL 페이지 발급 (커서 기반 페이지네이션)
+     * @param memberId 멤버 ID
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return PhotoPageResponse 사진 응답 DTO 리스트와 다음 페이지 커서
+     */
+    public PhotoPageResponse getPhotoPageByMemberId(Long memberId, String cursor, int size) {
+
+        int pageSize = validatePageSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 pageSize + 1개 조회
+        List<Photo> photos = photoRepository.findPageByMemberId(memberId, PageCursor.decode(cursor), PageRequest.of(0, pageSize + 1));
+
+        return toPhotoPageResponse(photos, pageSize);
+    }
+
+    /**
+     * 위치 ID로 사진 조회 URL 페이지 발급 (커서 기반 페이지네이션)
+     * @param locationId 위치 ID
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return PhotoPageResponse 사진 응답 DTO 리스트와 다음 페이지 커서
+     */
+    public PhotoPageResponse getPhotoPageByLocationId(Long locationId, String cursor, int size) {
+
+        int pageSize = validatePageSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 pageSize + 1개 조회
+        List<Photo> photos = photoRepository.findPageByLocationId(locationId, PageCursor.decode(cursor), PageRequest.of(0, pageSize + 1));
+
+        return toPhotoPageResponse(photos, pageSize);
+    }
+
+    /**
+     * 사용자가 속한 그룹들의 사진 타임라인 조회 (타임라인 시각 최신순, 하루/한 달 단위로 묶음, 커서 기반 페이지네이션)
+     * 그룹마다 (group_id, taken_at) 인덱스를 커서 위치부터 pageSize + 1개만 읽어 합치므로,
+     * 그룹의 사진 수나 조회 기간과 무관하게 (그룹 수 x 페이지 크기)개만 읽는다.
+     * @param memberId 멤버 ID
+     * @param groupId 그룹 ID (null이면 사용자가 속한 모든 그룹)
+     * @param unit 묶음 단위 (day, month)
+     * @param from 이 날짜 이후에 찍은 사진만 조회 (null 가능)
+     * @param to 이 날짜까지 찍은 사진만 조회 (null 가능)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return PhotoTimelineResponse 묶음별 사진 응답 DTO 리스트와 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public PhotoTimelineResponse getTimeline(Long memberId, Long groupId, String unit,
+                                             LocalDate from, LocalDate to, String cursor, int size) {
+
+        TimelineUnit timelineUnit = TimelineUnit.from(unit);
+        int pageSize = validatePageSize(size);
+        List<Long> groupIds = resolveGroupIds(memberId, groupId);
+
+        // 커서가 없으면 to 다음 날 0시 직전부터 (커서 조건 takenAt < cursorAt OR (takenAt = cursorAt AND id < cursorId))
+        LocalDateTime lowerBound = from != null ? from.atStartOfDay() : TIMELINE_MIN;
+        PageCursor.TimelinePosition position = PageCursor.decodeTimeline(cursor);
+        LocalDateTime cursorAt = position != null ? position.takenAt() : (to != null ? to.plusDays(1).atStartOfDay() : TIMELINE_MAX);
+        long cursorId = position != null ? position.id() : 0L;
+
+        List<Photo> photos = new ArrayList<>();
+        for (Long id : groupIds) {
+            photos.addAll(photoRepository.findTimelinePage(id, lowerBound, cursorAt, cursorId, PageRequest.of(0, pageSize + 1)));
+        }
+        photos.sort(TIMELINE_ORDER);
+
+        boolean hasNext = photos.size() > pageSize;
+        List<Photo> page = hasNext ? photos.subList(0, pageSize) : photos;
+
+        Map<String, List<PhotoResponse>> buckets = new LinkedHashMap<>();
+        for (Photo photo : page) {
+            buckets.computeIfAbsent(timelineUnit.periodOf(photo.getTakenAt()), period -> new ArrayList<>()).add(toResponse(photo));
+        }
+
+        Photo last = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasNext ? PageCursor.encodeTimeline(last.getTakenAt(), last.getId()) : null;
+        return PhotoTimelineResponse.of(
+                buckets.entrySet().stream()
+                        .map(bucket -> PhotoTimelineBucketResponse.of(bucket.getKey(), bucket.getValue()))
+                        .collect(Collectors.toList()),
+                nextCursor);
+    }
+
+    /**
+     * 지난 해 같은 날짜에 찍은 사진 조회 (가장 최근 해부터, 사진이 있는 해만)
+     * 해마다 (group_id, taken_at) 인덱스의 하루 구간만 읽는다.
+     * @param memberId 멤버 ID
+     * @param groupId 그룹 ID (null이면 사용자가 속한 모든 그룹)
+     * @param date 기준 날짜 (null이면 오늘)
+     * @param size 해마다 조회할 최대 사진 수
+     * @return List<OnThisDayResponse> 해별 사진 응답 DTO 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<OnThisDayResponse> getOnThisDay(Long memberId, Long groupId, LocalDate date, int size) {
+
+        int pageSize = validatePageSize(size);
+        List<Long> groupIds = resolveGroupIds(memberId, groupId);
+        LocalDate today = date != null ? date : LocalDate.now();
+
+        LocalDateTime earliest = photoRepository.findEarliestTakenAt(groupIds).orElse(null);
+        if (earliest == null) {
+            return List.of();
+        }
+        int firstYear = Math.max(earliest.getYear(), today.getYear() - MAX_ON_THIS_DAY_YEARS);
+
+        List<OnThisDayResponse> responses = new ArrayList<>();
+        for (int year = today.getYear() - 1; year >= firstYear; year--) {
+            LocalDate day = today.withYear(year);
+            if (day.getDayOfMonth() != today.getDayOfMonth()) {
+                continue; // 2월 29일은 윤년에만 조회
+            }
+
+            List<Photo> photos = photoRepository.findTakenBetween(groupIds, day.atStartOfDay(), day.plusDays(1).atStartOfDay(),
+                    PageRequest.of(0, pageSize));
+            if (!photos.isEmpty()) {
+                responses.add(OnThisDayResponse.of(year, today.getYear() - year,
+                        photos.stream().map(this::toResponse).collect(Collectors.toList())));
+            }
+        }
+        return responses;
+    }
+
     /**
      * Photo 위치 ID 수정
      * @param photoId 사진 ID
@@ -173,16 +591,26 @@ public class PhotoService {
 
         // Location ID로 Location 객체 조회
         Location location = getLocation(request.getLocationId());
+        Long fromLocationId = photo.getLocation().getId();
 
         photo.updatePhoto(location); // locationId 업데이트
-        Photo updatedPhoto = photoRepository.save(photo); // 업데이트된 Photo 객체 저장
+        Photo updatedPhoto = photoRepository.saveAndFlush(photo); // 업데이트된 Photo 객체 저장 (대표 사진 재계산 전에 반영)
+
+        // 원래 위치와 새 위치의 사진 수, 대표 사진 반영
+        locationPhotoCounter.moved(updatedPhoto, fromLocationId, location.getId());
+
+        // 다른 그룹의 위치로 옮긴 경우 유사 사진 색인의 그룹도 변경
+        if (updatedPhoto.getPhash() != null) {
+            photoSimilarityIndex.put(updatedPhoto.getId(), location.getMemberGroup().getId(), updatedPhoto.getPhash());
+        }
 
         // 업데이트된 Photo 객체와 Get 메서드용 Pre-signed URL을 포함한 PhotoResponse 반환
-        return PhotoResponse.of(updatedPhoto, s3PreSignedUrlService.getPreSignedGetUrl(updatedPhoto.getFileKey(), updatedPhoto.getFileExtension()));
+        return toResponse(updatedPhoto);
     }
 
     /**
-     * 사진 삭제 (S3 - Hard Delete 물리 삭제, DB - Soft Delete 논리 삭제)
+     * 사진 삭제 (DB - Soft Delete 논리 삭제 후 휴지통으로 이동)
+     * S3 파일은 휴지통 보관 기간이 지난 뒤 PhotoTrashPurger가 일괄 삭제한다.
      * @param photoId 사진 ID
      * @return PhotoResponse 사진 응답 DTO (URL - 빈 문자열)
      */
@@ -191,19 +619,154 @@ public class PhotoService {
         // Photo ID로 업로드가 완료된 Photo 객체 조회 (uploadStatus = true)
         Photo photo = getUploadedPhoto(photoId);
 
-        // S3에서 해당 사진 제거 (Hard Delete, 물리 삭제)
-        s3PreSignedUrlService.deleteFile(photo.getFileKey());
-
-        // 조회된 Photo 객체의 isDeleted 값을 True로 설정 (Soft Delete, 논리 삭제)
+        // 조회된 Photo 객체의 isDeleted 값을 True로 설정 (Soft Delete, 논리 삭제 - 삭제 시각 기록)
         photo.delete();
 
-        // 삭제된 Photo 객체 저장
-        Photo deletedPhoto = photoRepository.save(photo);
+        // 삭제된 Photo 객체 저장 (대표 사진 재계산 전에 반영)
+        Photo deletedPhoto = photoRepository.saveAndFlush(photo);
+
+        // 위치의 사진 수, 대표 사진 반영
+        locationPhotoCounter.removed(List.of(deletedPhoto));
+
+        // 캐시된 GET 메서드용 Pre-signed URL 제거 (원본, 파생 이미지)
+        s3PreSignedUrlService.evictPreSignedGetUrl(photo.getFileKey());
+        for (DerivativeSize size : DerivativeSize.values()) {
+            s3PreSignedUrlService.evictPreSignedGetUrl(size.keyFor(photo.getFileKey()));
+        }
+
+        // 로컬 디스크 캐시에서 원본 및 리사이즈 결과 제거
+        photoContentCache.evict(photo.getFileKey());
+        photoResizeService.evict(photo.getFileKey());
+
+        // 유사 사진 색인에서 제거
+        photoSimilarityIndex.remove(photo.getId());
 
         // 삭제된 Photo 객체와 빈 문자열의 URL을 포함한 PhotoResponse 반환
         return PhotoResponse.of(deletedPhoto, "");
     }
-    
+
+    /**
+     * 휴지통의 사진 복원 (휴지통 보관 기간 이내)
+     * @param photoId 사진 ID
+     * @return PhotoResponse 복원된 사진 응답 DTO (URL - GET 메서드용 Pre-signed URL)
+     */
+    public PhotoResponse restorePhoto(Long photoId) {
+
+        // Photo ID로 휴지통에 있는 Photo 객체 조회
+        Photo photo = photoRepository.findByIdAndIsDeletedTrueAndPurgedFalse(photoId)
+                .orElseThrow(() -> new NotFoundException("휴지통에서 해당 사진 파일을 찾을 수 없습니다."));
+
+        // 보관 기간이 지난 사진은 S3 파일 정리 대상이므로 복원 불가
+        if (photo.getDeletedAt() == null || photo.getDeletedAt().isBefore(photoTrashPurger.getRestoreCutoff())) {
+            throw new IllegalArgumentException("휴지통 보관 기간이 지나 복원할 수 없습니다.");
+        }
+
+        photo.restore(); // isDeleted 값을 false, uploadStatus 값을 true로 설정
+        Photo restoredPhoto = photoRepository.save(photo);
+        locationPhotoCounter.added(List.of(restoredPhoto));
+
+        if (restoredPhoto.getPhash() != null) {
+            photoSimilarityIndex.put(restoredPhoto.getId(), restoredPhoto.getLocation().getMemberGroup().getId(), restoredPhoto.getPhash());
+        }
+
+        return toResponse(restoredPhoto);
+    }
+
+    /**
+     * 멤버 ID로 휴지통 사진 리스트 조회 (보관 기간 이내, 삭제 시각 최신순)
+     * @param memberId 멤버 ID
+     * @return List<PhotoResponse> 휴지통 사진 응답 DTO 리스트 (URL - GET 메서드용 Pre-signed URL)
+     */
+    public List<PhotoResponse> getTrashedPhotos(Long memberId) {
+
+        LocalDateTime cutoff = photoTrashPurger.getRestoreCutoff();
+
+        return photoRepository.findByMemberIdAndIsDeletedTrueAndPurgedFalseOrderByDeletedAtDesc(memberId).stream()
+                .filter(p -> p.getDeletedAt() != null && !p.getDeletedAt().isBefore(cutoff))
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Photo 객체를 GET 메서드용 Pre-signed URL을 포함한 PhotoResponse로 변환
+     * @param photo 업로드가 완료된 Photo 객체
+     * @return PhotoResponse 사진 응답 DTO (파생 이미지가 생성된 경우 파생 이미지 URL 포함)
+     */
+    private PhotoResponse toResponse(Photo photo) {
+        String url = s3PreSignedUrlService.getPreSignedGetUrl(photo.getFileKey(), photo.getFileExtension());
+
+        if (!photo.isDerivativesReady()) {
+            return PhotoResponse.of(photo, url);
+        }
+
+        Map<String, String> derivativeUrls = new LinkedHashMap<>();
+        for (DerivativeSize size : DerivativeSize.values()) {
+            derivativeUrls.put(size.displayName(), s3PreSignedUrlService.getPreSignedGetUrl(size.keyFor(photo.getFileKey()), "jpeg"));
+        }
+        return PhotoResponse.of(photo, url, derivativeUrls);
+    }
+
+    /**
+     * 조회 대상 그룹 ID 리스트 (groupId가 있으면 소속 검증 후 해당 그룹, 없으면 사용자가 속한 모든 그룹)
+     * @param memberId 멤버 ID
+     * @param groupId 그룹 ID (null 가능)
+     */
+    private List<Long> resolveGroupIds(Long memberId, Long groupId) {
+        List<Long> groupIds = memberGroupMappingRepository.findGroupIdsByMemberIdAndIsDeletedFalse(memberId);
+        if (groupId != null) {
+            if (!groupIds.contains(groupId)) {
+                throw new ForbiddenException("해당 사용자가 속해 있는 그룹이 아닙니다.");
+            }
+            return List.of(groupId);
+        }
+
+        if (groupIds.isEmpty()) {
+            throw new NotFoundException("해당 멤버가 속한 그룹을 찾을 수 없습니다.");
+        }
+        return groupIds;
+    }
+
+    /**
+     * 페이지 크기 검증
+     * @param size 요청된 페이지 크기
+     * @return 검증된 페이지 크기
+     */
+    private int validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하이어야 합니다.");
+        }
+        return size;
+    }
+
+    /**
+     * pageSize + 1개로 조회된 Photo 리스트를 페이지 응답으로 변환
+     * @param photos ID 내림차순으로 조회된 Photo 리스트 (최대 pageSize + 1개)
+     * @param pageSize 페이지 크기
+     * @return PhotoPageResponse 사진 응답 DTO 리스트와 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private PhotoPageResponse toPhotoPageResponse(List<Photo> photos, int pageSize) {
+        boolean hasNext = photos.size() > pageSize;
+        List<Photo> page = hasNext ? photos.subList(0, pageSize) : photos;
+
+        List<PhotoResponse> responses = page.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+
+        String nextCursor = hasNext ? PageCursor.encode(page.get(page.size() - 1).getId()) : null;
+        return PhotoPageResponse.of(responses, nextCursor);
+    }
+
+    /**
+     * 업로드할 파일의 fileKey 생성
+     * @param fileName 파일명
+     * @return fileKey ("photos/uuid_파일명.파일확장자명")
+     */
+    private String createFileKey(String fileName) {
+        String uuid = UUID.randomUUID().toString();
+        String dirName = "photos"; // S3 내 폴더 명 (photos)
+        return dirName + "/" + uuid + "_" + fileName;
+    }
+
     /**
      * Member ID로 Member 객체 조회
      * @param memberId Member ID
@@ -0,0 +1,371 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.domain.photo.PhotoHash;
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import com.codeZero.photoMap.service.photo.image.PerceptualHash;
+import com.codeZero.photoMap.service.photo.similarity.BkTree;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사진 지각 해시 기반 유사 사진 색인 (그룹별 BK-tree)
+ * 시작 시 로컬 스냅샷 파일을 읽고, 스냅샷 시각 이후 수정된 사진만 DB에서 다시 읽어 반영한다. (스냅샷이 없을 때만 전체 조회)
+ * 실행 중에는 주기적으로 변경분을 반영하고 스냅샷을 갱신하므로, 다른 서버에서 변경된 사진도 일정 시간 내에 반영된다.
+ */
+@Slf4j
+@Component
+public class PhotoSimilarityIndex {
+
+    // 질의에 허용하는 최대 해밍 거리 (64비트 중 1/4 이상 다르면 유사하다고 보기 어려움)
+    public static final int MAX_DISTANCE = 16;
+
+    private static final int SNAPSHOT_MAGIC = 0x50484153; // "PHAS"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    // DB에서 한 번에 읽는 행 수
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    private final PhotoRepository photoRepository;
+    private final Path snapshotPath;
+    private final long clockSkewSeconds;
+
+    private final Map<Long, GroupTree> groups = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private volatile boolean ready;
+    private volatile boolean dirty;
+    private volatile LocalDateTime syncedAt;
+
+    public PhotoSimilarityIndex(PhotoRepository photoRepository,
+                                @Value("${photo.similarity.snapshot-path:./cache/phash-index.bin}") String snapshotPath,
+                                @Value("${photo.similarity.clock-skew-seconds:300}") long clockSkewSeconds) {
+        this.photoRepository = photoRepository;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.clockSkewSeconds = clockSkewSeconds;
+    }
+
+    /**
+     * 애플리케이션 시작 후 별도 스레드에서 색인 적재 (적재가 끝나기 전의 질의는 전달받은 사진끼리 직접 비교)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Thread loader = new Thread(this::loadIndex, "photo-similarity-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * 마지막 반영 시각 이후 수정된 사진을 색인에 반영 (주기적으로 실행)
+     */
+    @Scheduled(fixedDelayString = "${photo.similarity.refresh-interval-millis:60000}", initialDelayString = "${photo.similarity.refresh-interval-millis:60000}")
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            applyChangesSince(syncedAt.minusSeconds(clockSkewSeconds));
+            syncedAt = startedAt;
+        } catch (RuntimeException e) {
+            log.warn("유사 사진 색인 변경분 반영 실패", e);
+        }
+    }
+
+    /**
+     * 색인 스냅샷 저장 (주기적으로, 그리고 종료 시 실행)
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${photo.similarity.snapshot-interval-millis:600000}", initialDelayString = "${photo.similarity.snapshot-interval-millis:600000}")
+    public void saveSnapshot() {
+        if (!ready || !dirty) {
+            return;
+        }
+
+        // 스냅샷 시각을 먼저 기록 (이후 변경분은 다음 시작 시 DB에서 다시 읽음)
+        LocalDateTime snapshotAt = syncedAt;
+        dirty = false;
+
+        try {
+            Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+            Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            Map<Long, Entry> copy = new HashMap<>(entries);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeUTF(snapshotAt.toString());
+                out.writeInt(copy.size());
+                for (Map.Entry<Long, Entry> entry : copy.entrySet()) {
+                    out.writeLong(entry.getKey());
+                    out.writeLong(entry.getValue().groupId());
+                    out.writeLong(entry.getValue().hash());
+                }
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("유사 사진 색인 스냅샷 저장: {}개", copy.size());
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("유사 사진 색인 스냅샷 저장 실패: {}", snapshotPath, e);
+        }
+    }
+
+    /**
+     * 사진 해시 추가 또는 변경 (그룹이 바뀐 경우 이전 그룹에서 제거)
+     * @param photoId 사진 ID
+     * @param groupId 사진이 속한 그룹 ID
+     * @param hash 64비트 지각 해시
+     */
+    public void put(Long photoId, Long groupId, long hash) {
+        synchronized (writeLock) {
+            Entry previous = entries.put(photoId, new Entry(groupId, hash));
+            if (previous != null) {
+                if (previous.groupId().equals(groupId) && previous.hash() == hash) {
+                    return;
+                }
+                removeFromGroup(previous, photoId);
+            }
+            groups.computeIfAbsent(groupId, id -> new GroupTree()).add(hash, photoId);
+            dirty = true;
+        }
+    }
+
+    /**
+     * 사진 해시 제거 (삭제된 사진)
+     * @param photoId 사진 ID
+     */
+    public void remove(Long photoId) {
+        synchronized (writeLock) {
+            Entry previous = entries.remove(photoId);
+            if (previous != null) {
+                removeFromGroup(previous, photoId);
+                dirty = true;
+            }
+        }
+    }
+
+    /**
+     * 주어진 사진들을 해밍 거리 maxDistance 이내로 연결된 유사 사진 묶음으로 분류
+     * 그룹 색인에서 각 사진의 이웃을 찾은 뒤 주어진 사진에 속한 것만 연결하므로, 색인이 조금 늦게 반영되어도 결과는 주어진 사진 안에서만 나온다.
+     * @param groupId 그룹 ID
+     * @param hashes 사진 ID별 지각 해시 (해시가 없는 사진은 제외하고 전달)
+     * @param maxDistance 최대 해밍 거리
+     * @return 2장 이상인 유사 사진 묶음 리스트 (묶음 크기 내림차순, 각 묶음은 사진 ID 오름차순)
+     */
+    public List<List<Long>> findClusters(Long groupId, Map<Long, Long> hashes, int maxDistance) {
+        Map<Long, Long> parents = new HashMap<>();
+
+        GroupTree tree = groups.get(groupId);
+        if (ready && tree != null) {
+            for (Map.Entry<Long, Long> photo : hashes.entrySet()) {
+                Long photoId = photo.getKey();
+                tree.search(photo.getValue(), maxDistance, (otherId, distance) -> {
+                    if (otherId != photoId && hashes.containsKey(otherId)) {
+                        union(parents, photoId, otherId);
+                    }
+                });
+            }
+        } else {
+            // 색인 적재 전이면 주어진 사진끼리 직접 비교
+            List<Map.Entry<Long, Long>> photos = new ArrayList<>(hashes.entrySet());
+            for (int i = 0; i < photos.size(); i++) {
+                for (int j = i + 1; j < photos.size(); j++) {
+                    if (PerceptualHash.distance(photos.get(i).getValue(), photos.get(j).getValue()) <= maxDistance) {
+                        union(parents, photos.get(i).getKey(), photos.get(j).getKey());
+                    }
+                }
+            }
+        }
+
+        Map<Long, List<Long>> clusters = new HashMap<>();
+        for (Long photoId : parents.keySet()) {
+            clusters.computeIfAbsent(find(parents, photoId), root -> new ArrayList<>()).add(photoId);
+        }
+
+        return clusters.values().stream()
+                .peek(cluster -> cluster.sort(Comparator.naturalOrder()))
+                .sorted(Comparator.<List<Long>>comparingInt(List::size).reversed().thenComparing(cluster -> cluster.get(0)))
+                .toList();
+    }
+
+    private void loadIndex() {
+        long started = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            LocalDateTime snapshotAt = readSnapshot();
+            if (snapshotAt != null) {
+                applyChangesSince(snapshotAt.minusSeconds(clockSkewSeconds));
+            } else {
+                loadAll();
+            }
+            syncedAt = startedAt;
+            ready = true;
+            log.info("유사 사진 색인 적재 완료: 사진 {}개, 그룹 {}개 ({}, {}ms)", entries.size(), groups.size(),
+                    snapshotAt != null ? "스냅샷 + 변경분" : "전체 조회", System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("유사 사진 색인 적재 실패 (사진끼리 직접 비교로 동작)", e);
+        }
+    }
+
+    /**
+     * 스냅샷 파일을 읽어 색인에 적재
+     * @return 스냅샷 시각 (파일이 없거나 손상되었으면 null)
+     */
+    private LocalDateTime readSnapshot() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("유사 사진 색인 스냅샷 형식이 맞지 않아 전체 조회합니다: {}", snapshotPath);
+                return null;
+            }
+            LocalDateTime snapshotAt = LocalDateTime.parse(in.readUTF());
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long photoId = in.readLong();
+                long groupId = in.readLong();
+                long hash = in.readLong();
+                put(photoId, groupId, hash);
+            }
+            return snapshotAt;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.warn("유사 사진 색인 스냅샷을 읽지 못해 전체 조회합니다: {}", snapshotPath, e);
+            clear();
+            return null;
+        }
+    }
+
+    private void loadAll() {
+        long afterId = 0L;
+        while (true) {
+            List<PhotoHash> rows = photoRepository.findLiveHashes(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            rows.forEach(row -> put(row.photoId(), row.groupId(), row.phash()));
+            if (rows.size() < LOAD_PAGE_SIZE) {
+                break;
+            }
+            afterId = rows.get(rows.size() - 1).photoId();
+        }
+    }
+
+    private void applyChangesSince(LocalDateTime since) {
+        long afterId = 0L;
+        while (true) {
+            List<PhotoHash> rows = photoRepository.findHashesUpdatedSince(since, afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (PhotoHash row : rows) {
+                if (row.isLive()) {
+                    put(row.photoId(), row.groupId(), row.phash());
+                } else {
+                    remove(row.photoId());
+                }
+            }
+            if (rows.size() < LOAD_PAGE_SIZE) {
+                break;
+            }
+            afterId = rows.get(rows.size() - 1).photoId();
+        }
+    }
+
+    private void clear() {
+        synchronized (writeLock) {
+            entries.clear();
+            groups.clear();
+        }
+    }
+
+    private void removeFromGroup(Entry entry, Long photoId) {
+        GroupTree tree = groups.get(entry.groupId());
+        if (tree != null && tree.remove(entry.hash(), photoId) == 0) {
+            groups.remove(entry.groupId());
+        }
+    }
+
+    private static void union(Map<Long, Long> parents, Long a, Long b) {
+        Long rootA = find(parents, a);
+        Long rootB = find(parents, b);
+        if (!rootA.equals(rootB)) {
+            parents.put(rootA, rootB);
+        }
+    }
+
+    private static Long find(Map<Long, Long> parents, Long id) {
+        Long root = id;
+        Long parent;
+        while ((parent = parents.putIfAbsent(root, root)) != null && !parent.equals(root)) {
+            root = parent;
+        }
+        // 경로 압축
+        Long current = id;
+        while (!current.equals(root)) {
+            Long next = parents.put(current, root);
+            current = next;
+        }
+        return root;
+    }
+
+    /**
+     * 그룹 하나의 BK-tree (읽기는 동시에, 쓰기는 하나씩)
+     */
+    private static final class GroupTree {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private BkTree tree = new BkTree();
+
+        private void add(long hash, long photoId) {
+            lock.writeLock().lock();
+            try {
+                tree.add(hash, photoId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 제거 후 남은 사진 수 반환
+        private int remove(long hash, long photoId) {
+            lock.writeLock().lock();
+            try {
+                tree.remove(hash, photoId);
+                if (tree.needsCompaction()) {
+                    tree = tree.compact();
+                }
+                return tree.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void search(long hash, int maxDistance, BkTree.Visitor visitor) {
+            lock.readLock().lock();
+            try {
+                tree.search(hash, maxDistance, visitor);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    private record Entry(Long groupId, long hash) {
+    }
+}
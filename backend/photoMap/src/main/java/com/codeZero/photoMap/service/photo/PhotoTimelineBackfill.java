@@ -0,0 +1,53 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * group_id, taken_at 컬럼 추가 이전에 생성된 사진의 그룹과 타임라인 시각 채우기
+ * 채워지기 전까지 해당 사진은 타임라인 조회에 나타나지 않으므로, 애플리케이션 시작 후 별도 스레드에서 한 번 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PhotoTimelineBackfill {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final PhotoRepository photoRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread worker = new Thread(this::backfill, "photo-timeline-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void backfill() {
+        int updated = 0;
+        try {
+            while (true) {
+                // 처리한 행은 조건에서 빠지므로 항상 첫 페이지를 읽음
+                List<Long> photoIds = photoRepository.findIdsWithoutTimeline(PageRequest.of(0, CHUNK_SIZE));
+                if (photoIds.isEmpty()) {
+                    break;
+                }
+                photoRepository.fillTimeline(photoIds);
+                updated += photoIds.size();
+            }
+        } catch (RuntimeException e) {
+            log.warn("사진 타임라인 시각 채우기 실패 ({}건 처리 후 중단)", updated, e);
+            return;
+        }
+        if (updated > 0) {
+            log.info("사진 타임라인 시각 채우기 완료: {}건", updated);
+        }
+    }
+}
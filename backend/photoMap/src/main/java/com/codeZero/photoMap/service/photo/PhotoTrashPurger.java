@@ -0,0 +1,212 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.domain.photo.Photo;
+import com.codeZero.photoMap.domain.photo.PhotoBlob;
+import com.codeZero.photoMap.domain.photo.PhotoBlobRepository;
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import com.codeZero.photoMap.service.storage.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 휴지통 보관 기간이 지난 사진의 S3 파일 정리 작업
+ * 사진 삭제 요청은 DB에 소프트 삭제만 하고, 이 작업이 주기적으로 원본과 파생 이미지를 일괄 삭제(최대 1000개씩) 한다.
+ * 공유 blob을 참조하는 사진은 참조 수만 감소시키고, 참조가 모두 사라진 blob의 오브젝트를 따로 삭제한다.
+ */
+@Slf4j
+@Component
+public class PhotoTrashPurger {
+
+    // 한 번에 조회할 정리 대상 사진 수 (사진당 key가 최대 3개이므로 일괄 삭제 1회 분량 이내)
+    private static final int PAGE_SIZE = ObjectStorage.MAX_BATCH_DELETE_SIZE / (DerivativeSize.values().length + 1);
+
+    private final PhotoRepository photoRepository;
+    private final PhotoBlobRepository photoBlobRepository;
+    private final PhotoBlobService photoBlobService;
+    private final ObjectStorage objectStorage;
+
+    private final int retentionDays;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final LongAdder purgedPhotos = new LongAdder();
+    private final LongAdder purgedBlobs = new LongAdder();
+    private final LongAdder deletedObjects = new LongAdder();
+    private final LongAdder failedObjects = new LongAdder();
+    private final LongAdder deleteRequests = new LongAdder();
+
+    public PhotoTrashPurger(PhotoRepository photoRepository,
+                            PhotoBlobRepository photoBlobRepository,
+                            PhotoBlobService photoBlobService,
+                            ObjectStorage objectStorage,
+                            @Value("${photo.trash.retention-days:7}") int retentionDays,
+                            @Value("${photo.trash.max-attempts:3}") int maxAttempts,
+                            @Value("${photo.trash.retry-backoff-millis:1000}") long retryBackoffMillis) {
+        this.photoRepository = photoRepository;
+        this.photoBlobRepository = photoBlobRepository;
+        this.photoBlobService = photoBlobService;
+        this.objectStorage = objectStorage;
+        this.retentionDays = retentionDays;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    /**
+     * 휴지통 보관 기한
+     * @return 이 시각 이전에 삭제된 사진은 복원할 수 없고 정리 대상이 됨
+     */
+    public LocalDateTime getRestoreCutoff() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+
+    /**
+     * 보관 기간이 지난 사진의 S3 파일 일괄 삭제 (주기적으로 실행)
+     */
+    @Scheduled(fixedDelayString = "${photo.trash.purge-interval-millis:600000}", initialDelayString = "${photo.trash.purge-initial-delay-millis:60000}")
+    public void purge() {
+        LocalDateTime cutoff = getRestoreCutoff();
+        long purgedBefore = purgedPhotos.sum();
+        long purgedBlobsBefore = purgedBlobs.sum();
+
+        while (true) {
+            List<Photo> photos = photoRepository.findPurgeCandidates(cutoff, PageRequest.of(0, PAGE_SIZE));
+            if (photos.isEmpty()) {
+                break;
+            }
+
+            // 공유 blob을 참조하는 사진은 오브젝트를 직접 삭제하지 않고 참조만 해제
+            List<Photo> blobPhotos = photos.stream().filter(p -> p.getBlob() != null).toList();
+            if (!blobPhotos.isEmpty()) {
+                purgedPhotos.add(photoBlobService.purgePhotos(blobPhotos));
+            }
+
+            // 사진별 삭제할 key 목록 (원본 + 파생 이미지)
+            Map<Long, List<String>> keysByPhotoId = photos.stream()
+                    .filter(p -> p.getBlob() == null)
+                    .collect(Collectors.toMap(Photo::getId, photo -> objectKeys(photo.getFileKey())));
+            List<String> keys = keysByPhotoId.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+
+            Set<String> failedKeys = deleteWithRetry(keys);
+
+            // 모든 key가 삭제된 사진만 정리 완료 처리 (실패한 사진은 다음 실행 때 재시도)
+            List<Long> purgedIds = keysByPhotoId.entrySet().stream()
+                    .filter(entry -> entry.getValue().stream().noneMatch(failedKeys::contains))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+
+            if (!purgedIds.isEmpty()) {
+                purgedPhotos.add(photoRepository.markPurgedByIdIn(purgedIds));
+            }
+
+            // 이번 페이지에서 하나도 정리하지 못했다면 S3 장애로 보고 다음 실행으로 미룸
+            if ((purgedIds.isEmpty() && blobPhotos.isEmpty()) || photos.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+
+        purgeReleasedBlobs();
+
+        long purged = purgedPhotos.sum() - purgedBefore;
+        long blobs = purgedBlobs.sum() - purgedBlobsBefore;
+        if (purged > 0 || blobs > 0) {
+            log.info("휴지통 정리 완료: 사진 {}개, blob {}개 (누적 - 사진 {}개, blob {}개, 삭제 오브젝트 {}개, 실패 {}개, 일괄 삭제 요청 {}회)",
+                    purged, blobs, purgedPhotos.sum(), purgedBlobs.sum(), deletedObjects.sum(), failedObjects.sum(), deleteRequests.sum());
+        }
+    }
+
+    /**
+     * 참조가 모두 사라진 blob의 원본 및 파생 이미지 일괄 삭제
+     */
+    private void purgeReleasedBlobs() {
+        while (true) {
+            List<PhotoBlob> blobs = photoBlobRepository.findPurgeCandidates(PageRequest.of(0, PAGE_SIZE));
+            if (blobs.isEmpty()) {
+                break;
+            }
+
+            Map<Long, List<String>> keysByBlobId = blobs.stream()
+                    .collect(Collectors.toMap(PhotoBlob::getId, blob -> objectKeys(blob.getFileKey())));
+            List<String> keys = keysByBlobId.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+
+            Set<String> failedKeys = deleteWithRetry(keys);
+
+            List<Long> purgedIds = keysByBlobId.entrySet().stream()
+                    .filter(entry -> entry.getValue().stream().noneMatch(failedKeys::contains))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+
+            if (!purgedIds.isEmpty()) {
+                photoBlobRepository.markPurgedByIdIn(purgedIds);
+                purgedBlobs.add(purgedIds.size());
+            }
+
+            if (purgedIds.isEmpty() || blobs.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 원본 및 모든 크기의 파생 이미지 key 목록
+     * 파생 이미지는 저장 도중 실패하거나 완료 표시 전에 삭제되면 derivativesReady가 false여도 일부가 남아 있을 수 있으므로 항상 포함한다. (없는 key는 무시됨)
+     */
+    private List<String> objectKeys(String fileKey) {
+        List<String> keys = new ArrayList<>(DerivativeSize.values().length + 1);
+        keys.add(fileKey);
+        for (DerivativeSize size : DerivativeSize.values()) {
+            keys.add(size.keyFor(fileKey));
+        }
+        return keys;
+    }
+
+    /**
+     * 일괄 삭제 요청 (실패한 key만 지수 백오프로 재시도)
+     * @param keys 삭제할 key 리스트 (최대 1000개)
+     * @return 재시도 후에도 삭제하지 못한 key 집합
+     */
+    private Set<String> deleteWithRetry(List<String> keys) {
+        List<String> remaining = keys;
+
+        for (int attempt = 1; attempt <= maxAttempts && !remaining.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                sleep(retryBackoffMillis * (1L << (attempt - 2)));
+            }
+
+            deleteRequests.increment();
+            try {
+                List<String> failed = objectStorage.deleteAll(remaining);
+                deletedObjects.add(remaining.size() - failed.size());
+                remaining = failed;
+            } catch (RuntimeException e) {
+                log.warn("S3 일괄 삭제 요청 실패 ({}/{}회): {}개", attempt, maxAttempts, remaining.size(), e);
+            }
+        }
+
+        failedObjects.add(remaining.size());
+        return new HashSet<>(remaining);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.codeZero.photoMap.service.photo;
+
+/**
+ * 사진 업로드가 완료되었을 때 발행되는 이벤트 (트랜잭션 커밋 이후 후처리에 사용)
+ * @param photoId 업로드 완료된 사진 ID
+ */
+public record PhotoUploadedEvent(Long photoId) {
+}
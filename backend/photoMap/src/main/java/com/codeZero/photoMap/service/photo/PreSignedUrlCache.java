@@ -0,0 +1,117 @@
+package com.codeZero.photoMap.service.photo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * GET 메서드용 Pre-signed URL 캐시
+ * fileKey 별로 서명된 URL을 보관하고, 만료 시각에서 안전 마진을 뺀 시점까지 재사용한다.
+ * ConcurrentHashMap 기반으로 락 없이 동작하며, 최대 크기를 넘으면 만료된 항목부터 정리한다.
+ */
+@Slf4j
+@Component
+public class PreSignedUrlCache {
+
+    private final Map<String, CachedUrl> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Value("${cloud.aws.s3.presigned-url-cache.max-size:10000}")
+    private int maxSize;
+
+    // URL 만료 시각 기준으로 이 시간(초) 이전부터는 재서명 (클라이언트가 받은 직후 만료되는 것을 방지)
+    @Value("${cloud.aws.s3.presigned-url-cache.safety-margin-seconds:300}")
+    private long safetyMarginSeconds;
+
+    /**
+     * 캐시된 URL을 반환하고, 없거나 재사용 기한이 지났으면 새로 서명하여 저장
+     * @param fileKey 파일 key 값
+     * @param expirationMillis 새로 서명할 URL의 만료 시각 (epoch millis)
+     * @param signer 만료 시각을 받아 URL을 서명하는 함수
+     * @return GET 메서드용 Pre-signed URL
+     */
+    public String get(String fileKey, long expirationMillis, Function<Long, String> signer) {
+        long now = System.currentTimeMillis();
+
+        CachedUrl cached = cache.get(fileKey);
+        if (cached != null && cached.reusableUntil > now) {
+            hits.increment();
+            return cached.url;
+        }
+
+        misses.increment();
+        String url = signer.apply(expirationMillis);
+
+        long reusableUntil = expirationMillis - safetyMarginSeconds * 1000;
+        if (reusableUntil > now) {
+            if (cached == null && cache.size() >= maxSize) {
+                trim(now);
+            }
+            cache.put(fileKey, new CachedUrl(url, reusableUntil));
+        }
+
+        return url;
+    }
+
+    /**
+     * 특정 fileKey의 캐시 항목 제거 (파일 삭제 시 호출)
+     * @param fileKey 파일 key 값
+     */
+    public void evict(String fileKey) {
+        if (cache.remove(fileKey) != null) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * 캐시 통계 조회
+     * @return 적중/미스/제거 횟수와 현재 항목 수
+     */
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), cache.size());
+    }
+
+    /**
+     * 최대 크기 초과 시 정리 - 만료된 항목을 먼저 제거하고, 그래도 가득 차 있으면 임의 항목을 10% 제거
+     * @param now 현재 시각 (epoch millis)
+     */
+    private void trim(long now) {
+        int removed = 0;
+
+        Iterator<CachedUrl> values = cache.values().iterator();
+        while (values.hasNext()) {
+            if (values.next().reusableUntil <= now) {
+                values.remove();
+                removed++;
+            }
+        }
+
+        int overflow = cache.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> keys = cache.keySet().iterator();
+        while (overflow > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            overflow--;
+            removed++;
+        }
+
+        evictions.add(removed);
+        log.debug("Pre-signed URL 캐시 정리: {}개 제거, 현재 {}개 (누적 - 적중 {}회, 미스 {}회, 제거 {}개)",
+                removed, cache.size(), hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private record CachedUrl(String url, long reusableUntil) {
+    }
+
+    public record Stats(long hits, long misses, long evictions, int size) {
+    }
+}
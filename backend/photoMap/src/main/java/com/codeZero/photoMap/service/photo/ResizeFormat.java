@@ -0,0 +1,41 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+
+/**
+ * 리사이즈 결과 이미지 형식
+ */
+public enum ResizeFormat {
+
+    JPEG("image/jpeg", "jpg"),
+    PNG("image/png", "png");
+
+    private final String contentType;
+    private final String extension;
+
+    ResizeFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 요청 파라미터 값으로 형식 조회 (jpeg, jpg, png - 대소문자 무시)
+     * @param value 요청 파라미터 값
+     * @return 리사이즈 결과 이미지 형식
+     */
+    public static ResizeFormat from(String value) {
+        return switch (value.toLowerCase()) {
+            case "jpeg", "jpg" -> JPEG;
+            case "png" -> PNG;
+            default -> throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + value);
+        };
+    }
+}
@@ -1,92 +1,89 @@
 package com.codeZero.photoMap.service.photo;
 
-import com.amazonaws.HttpMethod;
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.codeZero.photoMap.common.exception.ServiceUnavailableException;
+import com.codeZero.photoMap.service.storage.AsyncObjectStorage;
+import com.codeZero.photoMap.service.storage.ObjectStorage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Date;
+import java.time.Instant;
 
+/**
+ * 사진 업로드/조회용 Pre-signed URL 발급
+ * 서명은 ObjectStorage 구현체가 담당하므로 storage.type이 s3가 아니면 애플리케이션이 제공하는 서명 URL이 발급된다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3PreSignedUrlService {
 
-    private final AmazonS3Client amazonS3Client;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    private final ObjectStorage objectStorage;
+    private final AsyncObjectStorage asyncObjectStorage;
+    private final PreSignedUrlCache preSignedUrlCache;
 
     /**
-     * 업로드용 S3 pre-signed URL 생성
+     * 업로드용 pre-signed URL 생성
      * @param fileKey 파일 key 값 (S3 버킷 내 파일 경로 및 이름, 폴더명/UUID_파일명.확장자)
      * @param fileExtension 파일 확장자명
-     * @return PUT 메서드용 S3 pre-signed URL (유효 기간 10분)
+     * @return PUT 메서드용 pre-signed URL (유효 기간 10분)
      */
     public String getPreSignedUploadUrl(String fileKey, String fileExtension) {
 
         // 유효 기간 설정 (10분)
-        Date expiration = new Date();
-        long expTimeMillis = expiration.getTime() + (10 * 60 * 1000);
-        expiration.setTime(expTimeMillis);
+        Instant expiration = Instant.now().plusSeconds(10 * 60);
 
         // Pre-Signed URL 생성 (PUT 요청용)
-        GeneratePresignedUrlRequest generatePresignedUrlRequest =
-                new GeneratePresignedUrlRequest(bucket, fileKey)
-                        .withMethod(HttpMethod.PUT)
-                        .withKey(fileKey)
-                        .withContentType("image/" + fileExtension)  // 이미지 파일 조회할 때 클라이언트에서 헤더에 Content-Type 지정하지 않아도 조회 가능하도록 주석 처리함.
-                        .withExpiration(expiration);
-
-/*
-        // 업로드 이후 pre-signed URL에 query param을 제거하고 GET 요청을 하면 파일을 보거나 다운받을 수 있도록
-        // pre-signed URL에 public read 권한 부여
-        generatePresignedUrlRequest.addRequestParameter(
-                Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString());
-*/
-
-        return amazonS3Client.generatePresignedUrl(generatePresignedUrlRequest).toString();
+        return objectStorage.presignPut(fileKey, "image/" + fileExtension, expiration);
     }
 
     /**
-     * 사진 조회용 S3 pre-signed URL 생성
+     * 사진 조회용 pre-signed URL 생성
      * @param fileKey 파일 key 값 (S3 버킷 내 파일 경로 및 이름, 폴더명/UUID_파일명.확장자)
      * @param fileExtension 파일 확장자명
-     * @return GET 메서드용 S3 pre-signed URL (유효 기간 60분)
+     * @return GET 메서드용 pre-signed URL (유효 기간 60분)
      */
     public String getPreSignedGetUrl(String fileKey, String fileExtension) {
 
         // 유효 기간 설정 (60분)
-        Date expiration = new Date();
-        long expTimeMillis = expiration.getTime() + (60 * 60 * 1000);
-        expiration.setTime(expTimeMillis);
+        long expTimeMillis = System.currentTimeMillis() + (60 * 60 * 1000);
 
-        // Pre-Signed URL 생성 (GET 요청용)
-        GeneratePresignedUrlRequest generatePresignedUrlRequest =
-                new GeneratePresignedUrlRequest(bucket, fileKey)
-                        .withMethod(HttpMethod.GET)
-//                        .withKey(fileKey)
-//                        .withContentType("image/" + fileExtension) // 이미지 파일 조회할 때 클라이언트에서 헤더에 Content-Type 지정하지 않아도 조회 가능하도록 주석 처리함.
-                        .withExpiration(expiration);
+        // 캐시에 재사용 가능한 URL이 있으면 반환하고, 없으면 새로 서명하여 캐시에 저장
+        return preSignedUrlCache.get(fileKey, expTimeMillis,
+                expiration -> objectStorage.presignGet(fileKey, Instant.ofEpochMilli(expiration)));
+    }
 
-        return amazonS3Client.generatePresignedUrl(generatePresignedUrlRequest).toString();
+    /**
+     * 캐시된 GET 메서드용 Pre-signed URL 제거
+     * @param fileKey 파일 key 값 (S3 버킷 내 파일 경로 및 이름, 폴더명/UUID_파일명.확장자)
+     */
+    public void evictPreSignedGetUrl(String fileKey) {
+        preSignedUrlCache.evict(fileKey);
+    }
+
+    /**
+     * GET 메서드용 Pre-signed URL 캐시 통계 조회
+     * @return 적중/미스/제거 횟수와 현재 캐시 항목 수
+     */
+    public PreSignedUrlCache.Stats getPreSignedGetUrlCacheStats() {
+        return preSignedUrlCache.getStats();
     }
 
     /**
-     * S3에 저장된 파일 삭제
+     * 스토리지에 저장된 파일 삭제
      * @param fileKey 파일 key 값 (S3 버킷 내 파일 경로 및 이름, 폴더명/UUID_파일명.확장자)
-     * @throws RuntimeException 삭제에 실패하거나 버킷 접근에 문제가 있을 경우
+     * @throws RuntimeException 삭제에 실패하거나 스토리지 접근에 문제가 있을 경우
      */
     public void deleteFile(String fileKey) {
+        preSignedUrlCache.evict(fileKey);
         try {
-            amazonS3Client.deleteObject(bucket, fileKey);
-            log.info("S3에서 파일이 삭제되었습니다: {}", fileKey);
+            AsyncObjectStorage.await(asyncObjectStorage.delete(fileKey));
+            log.info("스토리지에서 파일이 삭제되었습니다: {}", fileKey);
+        } catch (ServiceUnavailableException e) {
+            throw e; // 동시 요청 한도 초과는 503으로 응답
         } catch (Exception e) {
-            log.error("S3 파일 삭제 실패: {}", fileKey, e);
-            throw new RuntimeException("S3 파일 삭제에 실패했습니다: " + fileKey, e);
+            log.error("스토리지 파일 삭제 실패: {}", fileKey, e);
+            throw new RuntimeException("스토리지 파일 삭제에 실패했습니다: " + fileKey, e);
         }
     }
 }
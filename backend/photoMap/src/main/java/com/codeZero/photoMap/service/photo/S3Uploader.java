@@ -1,42 +1,94 @@
 package com.codeZero.photoMap.service.photo;
 
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import lombok.RequiredArgsConstructor;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.Optional;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 서버를 거쳐 S3에 파일을 업로드하는 서비스 (Pre-signed URL을 사용할 수 없는 클라이언트용)
+ * 요청 본문을 임시 파일 없이 파트 크기 단위로 읽어 멀티파트 업로드하며, 파트들은 병렬로 전송된다.
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Uploader {
 
     private final AmazonS3Client amazonS3Client;
+    private final PartBufferPool partBufferPool;
+    private final ExecutorService partUploadExecutor;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    public S3Uploader(AmazonS3Client amazonS3Client,
+                      @Value("${cloud.aws.s3.upload.part-size-mb:8}") int partSizeMb,
+                      @Value("${cloud.aws.s3.upload.max-buffers:16}") int maxBuffers,
+                      @Value("${cloud.aws.s3.upload.part-upload-threads:8}") int partUploadThreads) {
+        this.amazonS3Client = amazonS3Client;
+        this.partBufferPool = new PartBufferPool(Math.max(5, partSizeMb) * 1024 * 1024, maxBuffers); // S3 멀티파트 최소 파트 크기는 5MB
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.partUploadExecutor = Executors.newFixedThreadPool(partUploadThreads, r -> {
+            Thread thread = new Thread(r, "s3-part-upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
-     * MultipartFile을 전달받아 File로 전환한 후 S3에 업로드
+     * MultipartFile을 전달받아 S3에 스트리밍 업로드
      * @param multipartFile 이미지 파일
      * @param dirName 버킷 내 저장될 디렉토리명
      * @param uuid 파일명에 추가할 uuid 값
      * @return 업로드된 파일의 S3 URL 주소
-     * @throws IOException 파일 변환 중 I/O 오류가 발생하거나, S3 업로드 중 네트워크 문제가 발생할 경우
+     * @throws IOException 파일 읽기 중 I/O 오류가 발생하거나, S3 업로드 중 네트워크 문제가 발생할 경우
      */
     public String uploadFile(MultipartFile multipartFile, String dirName, String uuid) throws IOException { // dirName의 디렉토리가 S3 Bucket 내부에 생성됨
 
-        File uploadFile = convert(multipartFile)
-                .orElseThrow(() -> new IllegalArgumentException("MultipartFile -> File 전환 실패"));
-        return upload(uploadFile, dirName, uuid);
+        String fileName = dirName + "/" + uuid + "_" + multipartFile.getOriginalFilename();
+
+        try (InputStream in = multipartFile.getInputStream()) {
+            upload(fileName, in, multipartFile.getContentType(), CannedAccessControlList.PublicRead); // PublicRead 권한으로 업로드 됨
+        }
+
+        return amazonS3Client.getUrl(bucket, fileName).toString();      // 업로드된 파일의 S3 URL 주소 반환
+    }
+
+    /**
+     * 입력 스트림을 S3에 스트리밍 업로드 (버킷 기본 권한)
+     * @param fileKey 파일 key 값 (S3 버킷 내 파일 경로 및 이름, 폴더명/UUID_파일명.확장자)
+     * @param in 업로드할 데이터 스트림 (호출한 쪽에서 닫아야 함)
+     * @param contentType Content-Type
+     * @throws IOException 스트림 읽기 중 I/O 오류가 발생하거나, S3 업로드에 실패한 경우
+     */
+    public void upload(String fileKey, InputStream in, String contentType) throws IOException {
+        upload(fileKey, in, contentType, null);
     }
 
     /**
@@ -54,64 +106,205 @@ public class S3Uploader {
         }
     }
 
+    @PreDestroy
+    public void shutdown() {
+        partUploadExecutor.shutdown();
+    }
+
     /**
-     * MultipartFile 객체를 File 객체로 변환
-     * @param file 변환할 MultipartFile 객체
-     * @return 변환된 File 객체를 Optional로 반환
-     * @throws IOException 파일 생성 또는 쓰기 중 I/O 오류가 발생할 경우
+     * 스트림을 파트 크기 단위로 읽어 업로드
+     * 첫 파트를 다 채우기 전에 스트림이 끝나면 단일 PUT으로, 그렇지 않으면 멀티파트 업로드로 전송한다.
+     * @param fileKey S3에 저장될 파일의 이름과 경로
+     * @param in 업로드할 데이터 스트림
+     * @param contentType Content-Type
+     * @param acl 적용할 권한 (null이면 버킷 기본 권한)
      */
-    private Optional<File> convert(MultipartFile file) throws IOException {
-        File convertFile = new File(file.getOriginalFilename()); // 업로드한 파일의 이름
+    private void upload(String fileKey, InputStream in, String contentType, CannedAccessControlList acl) throws IOException {
+
+        byte[] firstPart = acquireBuffer();
+        int firstLength;
+        try {
+            firstLength = readPart(in, firstPart);
+        } catch (IOException | RuntimeException e) {
+            partBufferPool.release(firstPart);
+            throw e;
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+
+        // 파트 하나 크기보다 작은 파일은 단일 PUT으로 업로드
+        if (firstLength < partBufferPool.getBufferSize()) {
+            try {
+                metadata.setContentLength(firstLength);
+                PutObjectRequest request = new PutObjectRequest(bucket, fileKey, new ByteArrayInputStream(firstPart, 0, firstLength), metadata);
+                amazonS3Client.putObject(acl != null ? request.withCannedAcl(acl) : request);
+                return;
+            } finally {
+                partBufferPool.release(firstPart);
+            }
+        }
+
+        InitiateMultipartUploadRequest initiateRequest = new InitiateMultipartUploadRequest(bucket, fileKey, metadata);
+        String uploadId;
+        try {
+            uploadId = amazonS3Client.initiateMultipartUpload(acl != null ? initiateRequest.withCannedACL(acl) : initiateRequest).getUploadId();
+        } catch (RuntimeException e) {
+            partBufferPool.release(firstPart);
+            throw e;
+        }
+
+        List<PartUpload> parts = new ArrayList<>();
+        try {
+            byte[] buffer = firstPart;
+            int length = firstLength;
+            int partNumber = 1;
+
+            // 파트를 읽는 대로 병렬 전송 (버퍼 풀이 비면 앞선 파트 전송이 끝날 때까지 대기)
+            while (true) {
+                parts.add(submitPart(fileKey, uploadId, partNumber++, buffer, length));
+                buffer = null;
+                if (length < partBufferPool.getBufferSize()) {
+                    break;
+                }
+
+                byte[] next = acquireBuffer();
+                int nextLength;
+                try {
+                    nextLength = readPart(in, next);
+                } catch (IOException | RuntimeException e) {
+                    partBufferPool.release(next);
+                    throw e;
+                }
+                if (nextLength == 0) {
+                    partBufferPool.release(next);
+                    break;
+                }
+                buffer = next;
+                length = nextLength;
+            }
+
+            List<PartETag> partETags = new ArrayList<>(parts.size());
+            for (PartUpload part : parts) {
+                partETags.add(part.future().get());
+            }
+
+            amazonS3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, fileKey, uploadId, partETags));
+            log.info("S3 멀티파트 업로드 완료: {} ({}개 파트)", fileKey, partETags.size());
+
+        } catch (Exception e) {
+            cancelParts(parts);
+            abort(fileKey, uploadId);
 
-        if(convertFile.createNewFile()) {
-            try (FileOutputStream fos = new FileOutputStream(convertFile)) {
-                fos.write(file.getBytes());
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("S3 멀티파트 업로드가 중단되었습니다: " + fileKey);
             }
-            return Optional.of(convertFile);
+            if (e instanceof IOException ioException) {
+                throw ioException;
+            }
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            throw new IOException("S3 멀티파트 업로드에 실패했습니다: " + fileKey, cause);
         }
+    }
 
-        return Optional.empty();
+    /**
+     * 파트 업로드 작업 제출 (전송이 끝나면 버퍼 반납)
+     * 시작되기 전에 취소된 작업은 버퍼를 반납하지 못하므로, 작업과 취소하는 쪽 중 started를 먼저 차지한 쪽이 버퍼를 반납한다.
+     */
+    private PartUpload submitPart(String fileKey, String uploadId, int partNumber, byte[] buffer, int length) {
+        AtomicBoolean started = new AtomicBoolean();
+        try {
+            Future<PartETag> future = partUploadExecutor.submit(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    throw new CancellationException("파트 업로드가 시작 전에 취소되었습니다: " + partNumber);
+                }
+                try {
+                    UploadPartRequest request = new UploadPartRequest()
+                            .withBucketName(bucket)
+                            .withKey(fileKey)
+                            .withUploadId(uploadId)
+                            .withPartNumber(partNumber)
+                            .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                            .withPartSize(length);
+                    return amazonS3Client.uploadPart(request).getPartETag();
+                } finally {
+                    partBufferPool.release(buffer);
+                }
+            });
+            return new PartUpload(future, buffer, started);
+        } catch (RuntimeException e) {
+            partBufferPool.release(buffer);
+            throw e;
+        }
     }
 
     /**
-     * File 객체를 S3에 업로드
-     * @param uploadFile 업로드할 File 객체
-     * @param dirName 버킷 내 저장될 디렉토리명
-     * @return 업로드된 파일의 S3 URL 주소
+     * 실패한 멀티파트 업로드의 파트 작업 정리
+     * 아직 시작되지 않은 파트는 실행되지 않도록 막고 버퍼를 대신 반납하며, 전송 중인 파트는 끝날 때까지 기다린다.
+     * (전송 중인 파트가 취소 후에 올라가 업로드가 남지 않도록 abort 전에 기다림)
      */
-    private String upload(File uploadFile, String dirName, String uuid) {
-        String fileName = dirName + "/" + uuid + "_" + uploadFile.getName();
-        String uploadImageUrl = putS3(uploadFile, fileName);
+    private void cancelParts(List<PartUpload> parts) {
+        for (PartUpload part : parts) {
+            if (part.started().compareAndSet(false, true)) {
+                part.future().cancel(false);
+                partBufferPool.release(part.buffer());
+            }
+        }
+        for (PartUpload part : parts) {
+            try {
+                part.future().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | CancellationException e) {
+                // 실패/취소된 파트는 abort로 정리
+            }
+        }
+    }
 
-        removeNewFile(uploadFile);  // convert()함수로 인해서 로컬에 생성된 File 삭제 (MultipartFile -> File 전환 하며 로컬에 파일 생성됨)
+    /**
+     * 실패한 멀티파트 업로드 취소 (업로드된 파트 정리)
+     */
+    private void abort(String fileKey, String uploadId) {
+        try {
+            amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, fileKey, uploadId));
+        } catch (Exception e) {
+            log.error("S3 멀티파트 업로드 취소 실패: {} (uploadId = {})", fileKey, uploadId, e);
+        }
+    }
 
-        return uploadImageUrl;      // 업로드된 파일의 S3 URL 주소 반환
+    private byte[] acquireBuffer() throws InterruptedIOException {
+        try {
+            return partBufferPool.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("업로드 버퍼 대기 중 중단되었습니다.");
+        }
     }
 
     /**
-     * S3 버킷에 파일 업로드
-     * @param uploadFile 업로드할 File 객체
-     * @param fileName S3에 저장될 파일의 이름과 경로
-     * @return 업로드된 파일의 S3 URL 주소
+     * 제출된 파트 업로드 작업
+     * @param future 파트 업로드 결과
+     * @param buffer 파트 데이터가 담긴 버퍼 (작업이 시작되지 못하고 취소되면 취소한 쪽이 반납)
+     * @param started 작업 시작 또는 취소 여부 (먼저 차지한 쪽이 버퍼를 반납)
      */
-    private String putS3(File uploadFile, String fileName) {
-        amazonS3Client.putObject(
-                new PutObjectRequest(bucket, fileName, uploadFile)
-                        .withCannedAcl(CannedAccessControlList.PublicRead)	// PublicRead 권한으로 업로드 됨
-        );
-        return amazonS3Client.getUrl(bucket, fileName).toString();
+    private record PartUpload(Future<PartETag> future, byte[] buffer, AtomicBoolean started) {
     }
 
     /**
-     * 로컬에 생성된 임시 파일 삭제
-     * @param targetFile 삭제할 File 객체
+     * 버퍼가 가득 차거나 스트림이 끝날 때까지 읽기
+     * @return 읽은 바이트 수
      */
-    private void removeNewFile(File targetFile) {
-        if(targetFile.delete()) {
-            log.info("파일이 삭제되었습니다.");
-        } else {
-            log.info("파일이 삭제되지 못했습니다.");
+    private int readPart(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = in.read(buffer, total, buffer.length - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
         }
+        return total;
     }
-
 }
@@ -0,0 +1,37 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 타임라인 묶음 단위
+ */
+public enum TimelineUnit {
+
+    DAY,
+    MONTH;
+
+    /**
+     * 시각이 속한 묶음 키 (DAY: "2024-07-01", MONTH: "2024-07")
+     * @param dateTime 타임라인 시각
+     * @return 묶음 키
+     */
+    public String periodOf(LocalDateTime dateTime) {
+        return this == DAY ? dateTime.toLocalDate().toString() : YearMonth.from(dateTime).toString();
+    }
+
+    /**
+     * 요청 파라미터 값으로 단위 조회 (day, month - 대소문자 무시)
+     * @param value 요청 파라미터 값
+     * @return 타임라인 묶음 단위
+     */
+    public static TimelineUnit from(String value) {
+        return switch (value.toLowerCase()) {
+            case "day" -> DAY;
+            case "month" -> MONTH;
+            default -> throw new IllegalArgumentException("지원하지 않는 타임라인 단위입니다: " + value);
+        };
+    }
+}
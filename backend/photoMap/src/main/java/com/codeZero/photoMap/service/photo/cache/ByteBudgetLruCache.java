@@ -0,0 +1,75 @@
+package com.codeZero.photoMap.service.photo.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 항목 수가 아니라 총 바이트 크기로 용량을 제한하는 메모리 LRU 캐시
+ * @param <V> 캐시 값 타입
+ */
+public class ByteBudgetLruCache<V> {
+
+    private final long maxBytes;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<String, V> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long usedBytes;
+
+    /**
+     * @param maxBytes 최대 총 크기 (byte)
+     * @param weigher 값의 크기(byte)를 계산하는 함수
+     */
+    public ByteBudgetLruCache(long maxBytes, ToLongFunction<V> weigher) {
+        this.maxBytes = maxBytes;
+        this.weigher = weigher;
+    }
+
+    public synchronized V get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 값 저장 (용량을 넘으면 가장 오래 조회되지 않은 항목부터 제거, 용량보다 큰 값은 저장하지 않음)
+     * @param key 캐시 키
+     * @param value 캐시 값
+     */
+    public synchronized void put(String key, V value) {
+        long weight = weigher.applyAsLong(value);
+        if (weight > maxBytes) {
+            return;
+        }
+
+        V previous = entries.put(key, value);
+        if (previous != null) {
+            usedBytes -= weigher.applyAsLong(previous);
+        }
+        usedBytes += weight;
+
+        Iterator<Map.Entry<String, V>> lru = entries.entrySet().iterator();
+        while (usedBytes > maxBytes && lru.hasNext()) {
+            Map.Entry<String, V> eldest = lru.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            usedBytes -= weigher.applyAsLong(eldest.getValue());
+            lru.remove();
+        }
+    }
+
+    /**
+     * 조건에 맞는 항목 일괄 제거
+     * @param keyFilter 제거할 캐시 키 조건
+     */
+    public synchronized void evictIf(Predicate<String> keyFilter) {
+        Iterator<Map.Entry<String, V>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, V> entry = iterator.next();
+            if (keyFilter.test(entry.getKey())) {
+                usedBytes -= weigher.applyAsLong(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+}
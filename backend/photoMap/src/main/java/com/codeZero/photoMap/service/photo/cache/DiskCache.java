@@ -0,0 +1,248 @@
+package com.codeZero.photoMap.service.photo.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 총 용량이 제한된 로컬 디스크 캐시 (LRU 제거 + TinyLFU 입장 정책)
+ * 캐시가 가득 찼을 때 새 항목은 밀려날 항목들보다 최근 접근 빈도가 높을 때만 저장되므로,
+ * 한 번 보고 마는 조회가 자주 보는 항목을 밀어내지 않는다.
+ * 인덱스는 메모리에만 있으므로 시작 시 디렉토리를 비우고, 제거된 파일은 전송 중인 응답을 위해 유예 시간 후 삭제한다.
+ */
+@Slf4j
+public class DiskCache {
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final long deleteGraceMillis;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final Deque<PendingDelete> pendingDeletes = new ArrayDeque<>();
+    private long usedBytes;
+
+    /**
+     * @param directory 캐시 파일 저장 디렉토리
+     * @param maxBytes 최대 총 용량 (byte)
+     * @param expectedEntries 예상 항목 수 (접근 빈도 추적 테이블 크기)
+     * @param deleteGraceMillis 제거된 파일을 실제로 삭제하기까지의 유예 시간
+     */
+    public DiskCache(Path directory, long maxBytes, int expectedEntries, long deleteGraceMillis) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = Math.max(1, maxBytes / 4); // 항목 하나가 캐시 대부분을 차지하지 않도록 제한
+        this.deleteGraceMillis = deleteGraceMillis;
+        this.sketch = new FrequencySketch(expectedEntries * 2);
+
+        try {
+            Files.createDirectories(this.directory);
+            clearDirectory();
+        } catch (IOException e) {
+            throw new UncheckedIOException("캐시 디렉토리를 초기화할 수 없습니다: " + this.directory, e);
+        }
+    }
+
+    /**
+     * 캐시 조회 (조회할 때마다 접근 빈도가 기록됨)
+     * @param key 캐시 키
+     * @return 캐시 항목 (없으면 empty)
+     */
+    public synchronized Optional<Entry> get(String key) {
+        sketch.increment(key);
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    /**
+     * 접근 빈도를 기록하지 않는 캐시 조회 (다른 캐시를 채우기 위한 내부 조회용)
+     * @param key 캐시 키
+     * @return 캐시 항목 (없으면 empty)
+     */
+    public synchronized Optional<Entry> peek(String key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    /**
+     * 새 항목을 저장할 가치가 있는지 판단 (여유 공간이 있거나, 밀려날 항목들보다 자주 조회된 경우)
+     * @param key 캐시 키
+     * @param size 항목 크기 (byte)
+     * @return 저장해야 하면 true
+     */
+    public synchronized boolean admit(String key, long size) {
+        if (size > maxEntryBytes) {
+            return false;
+        }
+        if (usedBytes + size <= maxBytes) {
+            return true;
+        }
+
+        int candidateFrequency = sketch.frequency(key);
+        long freed = 0;
+        Iterator<Map.Entry<String, Entry>> lru = entries.entrySet().iterator();
+        while (usedBytes - freed + size > maxBytes && lru.hasNext()) {
+            Map.Entry<String, Entry> victim = lru.next();
+            if (sketch.frequency(victim.getKey()) >= candidateFrequency) {
+                return false;
+            }
+            freed += victim.getValue().size();
+        }
+        return true;
+    }
+
+    /**
+     * 항목 저장 (임시 파일에 쓴 뒤 이동하고, 용량을 넘으면 오래된 항목부터 제거)
+     * @param key 캐시 키
+     * @param eTag 항목의 ETag
+     * @param contentType 항목의 Content-Type
+     * @param writer 임시 파일에 내용을 쓰는 함수
+     * @return 저장된 캐시 항목
+     */
+    public Entry put(String key, String eTag, String contentType, ContentWriter writer) {
+        Path target = directory.resolve(fileName(key));
+        Path temp = null;
+        long size;
+        try {
+            temp = Files.createTempFile(directory, ".fill", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.write(out);
+            }
+            size = Files.size(temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException("캐시 파일 저장에 실패했습니다: " + key, e);
+        }
+
+        Entry entry = new Entry(key, target, size, eTag, contentType);
+        synchronized (this) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                usedBytes -= previous.size();
+            }
+            usedBytes += size;
+            evictOverflow();
+            deleteExpired();
+        }
+        return entry;
+    }
+
+    /**
+     * 항목 제거
+     * @param key 캐시 키
+     */
+    public synchronized void evict(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            remove(entry);
+        }
+    }
+
+    /**
+     * 조건에 맞는 항목 일괄 제거
+     * @param keyFilter 제거할 캐시 키 조건
+     */
+    public synchronized void evictIf(Predicate<String> keyFilter) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (keyFilter.test(entry.key())) {
+                iterator.remove();
+                remove(entry);
+            }
+        }
+    }
+
+    // 최대 용량 이하가 될 때까지 가장 오래 조회되지 않은 항목부터 제거
+    private void evictOverflow() {
+        Iterator<Entry> lru = entries.values().iterator();
+        while (usedBytes > maxBytes && lru.hasNext()) {
+            Entry entry = lru.next();
+            lru.remove();
+            remove(entry);
+        }
+    }
+
+    private void remove(Entry entry) {
+        usedBytes -= entry.size();
+        pendingDeletes.addLast(new PendingDelete(entry.path(), System.currentTimeMillis() + deleteGraceMillis));
+    }
+
+    // 유예 시간이 지난 제거 파일 삭제 (같은 키로 다시 저장된 파일은 유지)
+    private void deleteExpired() {
+        long now = System.currentTimeMillis();
+        while (!pendingDeletes.isEmpty() && pendingDeletes.peekFirst().deleteAt() <= now) {
+            Path path = pendingDeletes.pollFirst().path();
+            boolean reused = entries.values().stream().anyMatch(entry -> entry.path().equals(path));
+            if (!reused) {
+                deleteQuietly(path);
+            }
+        }
+    }
+
+    private void clearDirectory() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            stream.forEach(files::add);
+        }
+        for (Path file : files) {
+            if (Files.isRegularFile(file)) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("캐시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    // 캐시 키를 파일 시스템에 안전한 파일명으로 변환
+    private static String fileName(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 캐시 파일에 내용을 쓰는 함수
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    public record Entry(String key, Path path, long size, String eTag, String contentType) {
+    }
+
+    private record PendingDelete(Path path, long deleteAt) {
+    }
+}
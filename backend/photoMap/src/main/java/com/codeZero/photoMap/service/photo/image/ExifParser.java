@@ -0,0 +1,334 @@
+package com.codeZero.photoMap.service.photo.image;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 이미지 파일 앞부분에서 EXIF(APP1) 정보와 이미지 크기를 읽는 파서
+ * 파일 전체가 아니라 앞부분(64KB 정도)만 있으면 되므로, 스토리지에서 Range 요청으로 받은 바이트를 그대로 해석한다.
+ * 잘린 데이터나 잘못된 오프셋은 해당 값을 건너뛰며 예외를 던지지 않는다.
+ */
+public final class ExifParser {
+
+    // IFD0 태그
+    private static final int TAG_MAKE = 0x010F;
+    private static final int TAG_MODEL = 0x0110;
+    private static final int TAG_ORIENTATION = 0x0112;
+    private static final int TAG_DATE_TIME = 0x0132;
+    private static final int TAG_EXIF_IFD = 0x8769;
+    private static final int TAG_GPS_IFD = 0x8825;
+
+    // Exif IFD 태그
+    private static final int TAG_DATE_TIME_ORIGINAL = 0x9003;
+    private static final int TAG_PIXEL_X_DIMENSION = 0xA002;
+    private static final int TAG_PIXEL_Y_DIMENSION = 0xA003;
+
+    // GPS IFD 태그
+    private static final int TAG_GPS_LATITUDE_REF = 0x0001;
+    private static final int TAG_GPS_LATITUDE = 0x0002;
+    private static final int TAG_GPS_LONGITUDE_REF = 0x0003;
+    private static final int TAG_GPS_LONGITUDE = 0x0004;
+
+    // IFD 값 타입
+    private static final int TYPE_ASCII = 2;
+    private static final int TYPE_SHORT = 3;
+    private static final int TYPE_LONG = 4;
+    private static final int TYPE_RATIONAL = 5;
+
+    private static final DateTimeFormatter EXIF_DATE_TIME = DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss");
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private ExifParser() {
+    }
+
+    /**
+     * EXIF 방향(Orientation) 값 조회
+     * @param head JPEG 파일의 앞부분 바이트 (APP1 세그먼트를 포함하도록 64KB 정도)
+     * @param length head 중 유효한 바이트 수
+     * @return EXIF 방향 값 (1~8, 정보가 없으면 1)
+     */
+    public static int readOrientation(byte[] head, int length) {
+        return parse(head, length).orientation();
+    }
+
+    /**
+     * 이미지 메타데이터 조회 (JPEG - EXIF 및 SOF 크기, PNG - IHDR 크기)
+     * @param head 이미지 파일의 앞부분 바이트 (64KB 정도)
+     * @param length head 중 유효한 바이트 수
+     * @return 이미지 메타데이터 (읽지 못한 값은 null)
+     */
+    public static ImageMetadata parse(byte[] head, int length) {
+        Parser parser = new Parser(head, Math.min(length, head.length));
+        if (parser.isPng()) {
+            parser.readPngHeader();
+        } else {
+            parser.readJpegSegments();
+        }
+        return parser.toMetadata();
+    }
+
+    private static final class Parser {
+
+        private final byte[] data;
+        private final int length;
+
+        private int tiff = -1;
+        private boolean littleEndian;
+
+        private int orientation = 1;
+        private String dateTime;
+        private String dateTimeOriginal;
+        private String make;
+        private String model;
+        private Double latitude;
+        private Double longitude;
+        private char latitudeRef = 'N';
+        private char longitudeRef = 'E';
+        private Integer exifWidth;
+        private Integer exifHeight;
+        private Integer frameWidth;
+        private Integer frameHeight;
+
+        private Parser(byte[] data, int length) {
+            this.data = data;
+            this.length = length;
+        }
+
+        private boolean isPng() {
+            if (length < PNG_SIGNATURE.length) {
+                return false;
+            }
+            for (int i = 0; i < PNG_SIGNATURE.length; i++) {
+                if (data[i] != PNG_SIGNATURE[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // PNG는 시그니처 바로 뒤 IHDR 청크에 가로/세로 크기가 있음
+        private void readPngHeader() {
+            if (length >= 24 && data[12] == 'I' && data[13] == 'H' && data[14] == 'D' && data[15] == 'R') {
+                frameWidth = readInt(16, false);
+                frameHeight = readInt(20, false);
+            }
+        }
+
+        /**
+         * JPEG 마커를 따라가며 EXIF APP1 세그먼트와 프레임 크기(SOF)를 읽음
+         */
+        private void readJpegSegments() {
+            if (length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8) {
+                return;
+            }
+
+            int pos = 2;
+            while (pos + 4 <= length) {
+                if ((data[pos] & 0xFF) != 0xFF) {
+                    return;
+                }
+                int marker = data[pos + 1] & 0xFF;
+                if (marker == 0xFF) { // 채움 바이트
+                    pos++;
+                    continue;
+                }
+                if (marker == 0xDA || marker == 0xD9) { // 이미지 데이터 시작(SOS) 또는 끝(EOI) 이후에는 메타데이터가 없음
+                    return;
+                }
+
+                int segmentLength = readShort(pos + 2, false);
+                if (marker == 0xE1 && tiff < 0 && pos + 10 <= length
+                        && data[pos + 4] == 'E' && data[pos + 5] == 'x' && data[pos + 6] == 'i' && data[pos + 7] == 'f'
+                        && data[pos + 8] == 0 && data[pos + 9] == 0) {
+                    readTiff(pos + 10);
+                } else if (isStartOfFrame(marker) && pos + 9 <= length) {
+                    frameHeight = readShort(pos + 5, false);
+                    frameWidth = readShort(pos + 7, false);
+                    return; // SOF 이후에는 필요한 정보가 없음
+                }
+                pos += 2 + segmentLength;
+            }
+        }
+
+        // SOF0~SOF15 중 DHT(C4), JPG(C8), DAC(CC)를 제외한 프레임 시작 마커
+        private boolean isStartOfFrame(int marker) {
+            return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+        }
+
+        private void readTiff(int start) {
+            if (start + 8 > length) {
+                return;
+            }
+            tiff = start;
+            littleEndian = data[tiff] == 'I';
+
+            int ifd0 = tiff + readInt(tiff + 4, littleEndian);
+            readIfd(ifd0, IfdType.IFD0);
+        }
+
+        private void readIfd(int offset, IfdType ifdType) {
+            if (offset < tiff || offset + 2 > length) {
+                return;
+            }
+
+            int entryCount = readShort(offset, littleEndian);
+            for (int i = 0; i < entryCount; i++) {
+                int entry = offset + 2 + i * 12;
+                if (entry + 12 > length) {
+                    return;
+                }
+                readEntry(entry, ifdType);
+            }
+        }
+
+        private void readEntry(int entry, IfdType ifdType) {
+            int tag = readShort(entry, littleEndian);
+            int type = readShort(entry + 2, littleEndian);
+            int count = readInt(entry + 4, littleEndian);
+
+            switch (ifdType) {
+                case IFD0 -> {
+                    switch (tag) {
+                        case TAG_ORIENTATION -> {
+                            int value = readShort(entry + 8, littleEndian);
+                            orientation = value >= 1 && value <= 8 ? value : 1;
+                        }
+                        case TAG_MAKE -> make = readAscii(entry, type, count);
+                        case TAG_MODEL -> model = readAscii(entry, type, count);
+                        case TAG_DATE_TIME -> dateTime = readAscii(entry, type, count);
+                        case TAG_EXIF_IFD -> readIfd(tiff + readInt(entry + 8, littleEndian), IfdType.EXIF);
+                        case TAG_GPS_IFD -> readIfd(tiff + readInt(entry + 8, littleEndian), IfdType.GPS);
+                        default -> {
+                        }
+                    }
+                }
+                case EXIF -> {
+                    switch (tag) {
+                        case TAG_DATE_TIME_ORIGINAL -> dateTimeOriginal = readAscii(entry, type, count);
+                        case TAG_PIXEL_X_DIMENSION -> exifWidth = readUnsigned(entry, type);
+                        case TAG_PIXEL_Y_DIMENSION -> exifHeight = readUnsigned(entry, type);
+                        default -> {
+                        }
+                    }
+                }
+                case GPS -> {
+                    switch (tag) {
+                        case TAG_GPS_LATITUDE -> latitude = readDegrees(entry, type, count, latitude);
+                        case TAG_GPS_LONGITUDE -> longitude = readDegrees(entry, type, count, longitude);
+                        case TAG_GPS_LATITUDE_REF -> latitudeRef = (char) data[entry + 8];
+                        case TAG_GPS_LONGITUDE_REF -> longitudeRef = (char) data[entry + 8];
+                        default -> {
+                        }
+                    }
+                }
+            }
+        }
+
+        private String readAscii(int entry, int type, int count) {
+            if (type != TYPE_ASCII || count <= 0) {
+                return null;
+            }
+            int offset = count <= 4 ? entry + 8 : tiff + readInt(entry + 8, littleEndian);
+            if (offset < 0 || offset + count > length) {
+                return null;
+            }
+
+            int end = offset;
+            while (end < offset + count && data[end] != 0) {
+                end++;
+            }
+            String value = new String(data, offset, end - offset, StandardCharsets.US_ASCII).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private Integer readUnsigned(int entry, int type) {
+            return switch (type) {
+                case TYPE_SHORT -> readShort(entry + 8, littleEndian);
+                case TYPE_LONG -> readInt(entry + 8, littleEndian);
+                default -> null;
+            };
+        }
+
+        // 도, 분, 초 3개의 RATIONAL 값을 십진 도 단위로 변환
+        private Double readDegrees(int entry, int type, int count, Double fallback) {
+            if (type != TYPE_RATIONAL || count < 3) {
+                return fallback;
+            }
+            int offset = tiff + readInt(entry + 8, littleEndian);
+            if (offset < tiff || offset + 24 > length) {
+                return fallback;
+            }
+
+            double degrees = 0;
+            double unit = 1;
+            for (int i = 0; i < 3; i++) {
+                long numerator = readInt(offset + i * 8, littleEndian) & 0xFFFFFFFFL;
+                long denominator = readInt(offset + i * 8 + 4, littleEndian) & 0xFFFFFFFFL;
+                if (denominator == 0) {
+                    return fallback;
+                }
+                degrees += (double) numerator / denominator / unit;
+                unit *= 60;
+            }
+            return degrees;
+        }
+
+        private ImageMetadata toMetadata() {
+            Double lat = latitude;
+            Double lng = longitude;
+            // (0, 0)은 GPS 수신 전 기본값으로 기록되는 경우가 많아 위치 정보가 없는 것으로 간주
+            if (lat == null || lng == null || Math.abs(lat) > 90 || Math.abs(lng) > 180 || (lat == 0 && lng == 0)) {
+                lat = null;
+                lng = null;
+            } else {
+                lat = latitudeRef == 'S' ? -lat : lat;
+                lng = longitudeRef == 'W' ? -lng : lng;
+            }
+
+            // 프레임 크기가 없으면 EXIF 크기 사용, 90도 회전된 사진은 가로/세로를 바꿈
+            Integer width = frameWidth != null ? frameWidth : exifWidth;
+            Integer height = frameHeight != null ? frameHeight : exifHeight;
+            if (orientation >= 5) {
+                Integer swap = width;
+                width = height;
+                height = swap;
+            }
+
+            return new ImageMetadata(orientation, parseDateTime(dateTimeOriginal != null ? dateTimeOriginal : dateTime),
+                    lat, lng, width, height, make, model);
+        }
+
+        private LocalDateTime parseDateTime(String value) {
+            if (value == null || value.length() < 19) {
+                return null;
+            }
+            try {
+                return LocalDateTime.parse(value.substring(0, 19), EXIF_DATE_TIME);
+            } catch (DateTimeParseException e) {
+                return null; // "0000:00:00 00:00:00" 등 기록되지 않은 값
+            }
+        }
+
+        private int readShort(int offset, boolean littleEndian) {
+            if (offset < 0 || offset + 2 > length) {
+                return 0;
+            }
+            int b0 = data[offset] & 0xFF;
+            int b1 = data[offset + 1] & 0xFF;
+            return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+        }
+
+        private int readInt(int offset, boolean littleEndian) {
+            int hi = readShort(offset, littleEndian);
+            int lo = readShort(offset + 2, littleEndian);
+            return littleEndian ? (lo << 16) | hi : (hi << 16) | lo;
+        }
+    }
+
+    private enum IfdType {
+        IFD0, EXIF, GPS
+    }
+}
@@ -0,0 +1,22 @@
+package com.codeZero.photoMap.service.photo.image;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이미지 파일 앞부분에서 읽은 메타데이터 (없는 값은 null)
+ * @param orientation EXIF 방향 값 (1~8, 정보가 없으면 1)
+ * @param capturedAt 촬영 시각 (EXIF DateTimeOriginal, 없으면 DateTime - 카메라 기준 현지 시각)
+ * @param latitude 촬영 위치 위도 (남위는 음수)
+ * @param longitude 촬영 위치 경도 (서경은 음수)
+ * @param width 방향 보정 후 가로 크기 (px)
+ * @param height 방향 보정 후 세로 크기 (px)
+ * @param cameraMake 카메라 제조사
+ * @param cameraModel 카메라 모델명
+ */
+public record ImageMetadata(int orientation, LocalDateTime capturedAt, Double latitude, Double longitude,
+                            Integer width, Integer height, String cameraMake, String cameraModel) {
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+}
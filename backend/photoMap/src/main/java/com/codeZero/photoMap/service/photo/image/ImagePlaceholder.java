@@ -0,0 +1,186 @@
+package com.codeZero.photoMap.service.photo.image;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 이미지를 받기 전에 보여줄 저화질 자리 표시 정보 (BlurHash 문자열, 대표 색상) 계산 유틸리티
+ * BlurHash는 이미지를 몇 개의 코사인 성분으로 근사한 뒤 base83으로 인코딩한 30자 내외의 문자열로,
+ * 클라이언트가 같은 알고리즘으로 흐린 미리보기를 그릴 수 있다.
+ */
+public final class ImagePlaceholder {
+
+    private static final String BASE83 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    // 긴 변 방향 성분 수 x 짧은 변 방향 성분 수
+    private static final int MAJOR_COMPONENTS = 4;
+    private static final int MINOR_COMPONENTS = 3;
+
+    // sRGB(0~255) → 선형 RGB 변환 테이블
+    private static final double[] SRGB_TO_LINEAR = new double[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            double v = i / 255.0;
+            SRGB_TO_LINEAR[i] = v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+        }
+    }
+
+    private ImagePlaceholder() {
+    }
+
+    /**
+     * BlurHash 문자열 계산
+     * @param image 방향이 보정된 이미지 (썸네일 크기면 충분)
+     * @return BlurHash 문자열 (4x3 또는 3x4 성분, 28자)
+     */
+    public static String blurHash(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int componentsX = width >= height ? MAJOR_COMPONENTS : MINOR_COMPONENTS;
+        int componentsY = width >= height ? MINOR_COMPONENTS : MAJOR_COMPONENTS;
+
+        // 축별 코사인 값을 미리 계산하여 픽셀마다 반복 계산하지 않음
+        double[][] cosX = cosTable(componentsX, width);
+        double[][] cosY = cosTable(componentsY, height);
+
+        double[][] factors = new double[componentsX * componentsY][3];
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                double r = SRGB_TO_LINEAR[(rgb >> 16) & 0xFF];
+                double g = SRGB_TO_LINEAR[(rgb >> 8) & 0xFF];
+                double b = SRGB_TO_LINEAR[rgb & 0xFF];
+                for (int j = 0; j < componentsY; j++) {
+                    for (int i = 0; i < componentsX; i++) {
+                        double basis = cosX[i][x] * cosY[j][y];
+                        double[] factor = factors[j * componentsX + i];
+                        factor[0] += basis * r;
+                        factor[1] += basis * g;
+                        factor[2] += basis * b;
+                    }
+                }
+            }
+        }
+
+        for (int k = 0; k < factors.length; k++) {
+            double scale = (k == 0 ? 1.0 : 2.0) / (width * height);
+            factors[k][0] *= scale;
+            factors[k][1] *= scale;
+            factors[k][2] *= scale;
+        }
+
+        StringBuilder hash = new StringBuilder();
+        encode83((componentsX - 1) + (componentsY - 1) * 9, 1, hash);
+
+        // 교류 성분의 최대 크기로 양자화 범위 결정
+        double maximumValue;
+        if (factors.length > 1) {
+            double actualMaximum = 0;
+            for (int k = 1; k < factors.length; k++) {
+                actualMaximum = Math.max(actualMaximum, Math.max(Math.abs(factors[k][0]),
+                        Math.max(Math.abs(factors[k][1]), Math.abs(factors[k][2]))));
+            }
+            int quantisedMaximum = (int) Math.max(0, Math.min(82, Math.floor(actualMaximum * 166 - 0.5)));
+            maximumValue = (quantisedMaximum + 1) / 166.0;
+            encode83(quantisedMaximum, 1, hash);
+        } else {
+            maximumValue = 1;
+            encode83(0, 1, hash);
+        }
+
+        encode83(encodeDc(factors[0]), 4, hash);
+        for (int k = 1; k < factors.length; k++) {
+            encode83(encodeAc(factors[k], maximumValue), 2, hash);
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 대표 색상 계산 - 채널별 상위 4비트로 양자화한 색상 중 가장 많은 픽셀이 속한 칸의 평균 색상
+     * (전체 평균 색상과 달리 여러 색이 섞인 사진에서도 실제로 보이는 색이 나옴)
+     * @param image 방향이 보정된 이미지 (썸네일 크기면 충분)
+     * @return "#rrggbb" 형식의 색상
+     */
+    public static String dominantColor(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] counts = new int[4096];
+        long[][] sums = new long[4096][3];
+
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                int r = (rgb >> 16) & 0xFF;
+                int g = (rgb >> 8) & 0xFF;
+                int b = rgb & 0xFF;
+                int bin = ((r >> 4) << 8) | ((g >> 4) << 4) | (b >> 4);
+                counts[bin]++;
+                sums[bin][0] += r;
+                sums[bin][1] += g;
+                sums[bin][2] += b;
+            }
+        }
+
+        int best = 0;
+        for (int bin = 1; bin < counts.length; bin++) {
+            if (counts[bin] > counts[best]) {
+                best = bin;
+            }
+        }
+        int count = Math.max(1, counts[best]);
+        return String.format("#%02x%02x%02x", sums[best][0] / count, sums[best][1] / count, sums[best][2] / count);
+    }
+
+    private static double[][] cosTable(int components, int length) {
+        double[][] table = new double[components][length];
+        for (int c = 0; c < components; c++) {
+            for (int p = 0; p < length; p++) {
+                table[c][p] = Math.cos(Math.PI * c * p / length);
+            }
+        }
+        return table;
+    }
+
+    private static int encodeDc(double[] color) {
+        return (linearToSrgb(color[0]) << 16) + (linearToSrgb(color[1]) << 8) + linearToSrgb(color[2]);
+    }
+
+    private static int encodeAc(double[] color, double maximumValue) {
+        int r = quantiseAc(color[0] / maximumValue);
+        int g = quantiseAc(color[1] / maximumValue);
+        int b = quantiseAc(color[2] / maximumValue);
+        return r * 19 * 19 + g * 19 + b;
+    }
+
+    private static int quantiseAc(double value) {
+        double signedSqrt = Math.copySign(Math.sqrt(Math.abs(value)), value);
+        return (int) Math.max(0, Math.min(18, Math.floor(signedSqrt * 9 + 9.5)));
+    }
+
+    private static int linearToSrgb(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        return v <= 0.0031308
+                ? (int) (v * 12.92 * 255 + 0.5)
+                : (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+    }
+
+    private static void encode83(int value, int length, StringBuilder out) {
+        for (int i = 1; i <= length; i++) {
+            int digit = (value / pow83(length - i)) % 83;
+            out.append(BASE83.charAt(digit));
+        }
+    }
+
+    private static int pow83(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 83;
+        }
+        return result;
+    }
+}
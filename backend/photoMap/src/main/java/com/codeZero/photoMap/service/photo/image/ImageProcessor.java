@@ -0,0 +1,268 @@
+package com.codeZero.photoMap.service.photo.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 사진 디코딩, 방향 보정, 축소, 인코딩을 담당하는 이미지 처리 유틸리티
+ */
+public final class ImageProcessor {
+
+    // EXIF 정보를 찾기 위해 읽는 파일 앞부분 크기
+    private static final int HEAD_SIZE = 64 * 1024;
+
+    private ImageProcessor() {
+    }
+
+    /**
+     * 이미지를 서브샘플링하여 디코딩하고 EXIF 방향을 보정
+     * 원본의 긴 변이 maxDimension의 2배 이상이면 픽셀을 건너뛰며 읽으므로, 고해상도 원본 전체가 힙에 올라가지 않는다.
+     * @param in 원본 이미지 스트림
+     * @param maxDimension 결과 이미지에 필요한 긴 변의 최대 길이 (px)
+     * @return 방향이 보정된 이미지 (긴 변이 maxDimension 이상일 수 있음)
+     * @throws IOException 지원하지 않는 이미지 형식이거나 읽기에 실패한 경우
+     */
+    public static BufferedImage decode(InputStream in, int maxDimension) throws IOException {
+        return decode(in, maxDimension, false).image();
+    }
+
+    /**
+     * 이미지를 서브샘플링하여 디코딩하고 EXIF 방향을 보정 (원본 크기 포함)
+     * @param in 원본 이미지 스트림
+     * @param maxDimension 결과 이미지에 필요한 긴 변의 최대 길이 (px)
+     * @return 방향이 보정된 이미지와 방향 보정 후 원본 가로, 세로 크기
+     * @throws IOException 지원하지 않는 이미지 형식이거나 읽기에 실패한 경우
+     */
+    public static Decoded decodeWithSize(InputStream in, int maxDimension) throws IOException {
+        return decode(in, maxDimension, false);
+    }
+
+    /**
+     * 이미지를 서브샘플링하여 디코딩하고 EXIF 방향을 보정 (방향 보정 후 가로 길이 기준)
+     * @param in 원본 이미지 스트림
+     * @param width 결과 이미지에 필요한 가로 길이 (px)
+     * @return 방향이 보정된 이미지 (가로가 width 이상일 수 있음)
+     * @throws IOException 지원하지 않는 이미지 형식이거나 읽기에 실패한 경우
+     */
+    public static BufferedImage decodeForWidth(InputStream in, int width) throws IOException {
+        return decode(in, width, true).image();
+    }
+
+    private static Decoded decode(InputStream in, int target, boolean byWidth) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) {
+                throw new IOException("이미지 스트림을 생성할 수 없습니다.");
+            }
+
+            // EXIF 방향 값을 읽기 위해 앞부분을 읽은 후 처음 위치로 되돌림
+            byte[] head = new byte[HEAD_SIZE];
+            int length = readFully(iis, head);
+            int orientation = ExifParser.readOrientation(head, length);
+            iis.seek(0);
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+
+                // 90도 회전(방향 값 5~8)된 사진은 원본의 세로가 결과의 가로가 됨
+                boolean rotated = orientation >= 5 && orientation <= 8;
+                int width = rotated ? reader.getHeight(0) : reader.getWidth(0);
+                int height = rotated ? reader.getWidth(0) : reader.getHeight(0);
+                int side = byWidth ? width : Math.max(width, height);
+                int subsampling = Math.max(1, side / target);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return new Decoded(applyOrientation(reader.read(0, param), orientation), width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxDimension이 되도록 비율을 유지하며 축소 (이미 작으면 크기 유지)
+     * @param source 원본 이미지
+     * @param maxDimension 긴 변의 최대 길이 (px)
+     * @return 축소된 RGB 이미지
+     */
+    public static BufferedImage resize(BufferedImage source, int maxDimension) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 가로가 width가 되도록 비율을 유지하며 축소 (이미 작으면 크기 유지)
+     * @param source 원본 이미지
+     * @param width 가로 최대 길이 (px)
+     * @param keepAlpha 투명도를 유지할지 여부 (PNG 인코딩용)
+     * @return 축소된 이미지
+     */
+    public static BufferedImage resizeToWidth(BufferedImage source, int width, boolean keepAlpha) {
+        double scale = Math.min(1.0, (double) width / source.getWidth());
+
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight,
+                keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 이미지를 PNG로 인코딩
+     * @param image 인코딩할 이미지
+     * @return PNG 바이트 배열
+     * @throws IOException 인코딩에 실패한 경우
+     */
+    public static byte[] encodePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "png", out)) {
+            throw new IOException("PNG 인코더를 찾을 수 없습니다.");
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 이미지를 JPEG으로 인코딩
+     * @param image 인코딩할 이미지
+     * @param quality JPEG 품질 (0.0 ~ 1.0)
+     * @return JPEG 바이트 배열
+     * @throws IOException 인코딩에 실패한 경우
+     */
+    public static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+
+            writer.write(null, new IIOImage(toRgb(image), null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * EXIF 방향 값에 따라 이미지를 회전/반전
+     * @param source 원본 이미지
+     * @param orientation EXIF 방향 값 (1~8)
+     * @return 방향이 보정된 이미지 (원본에 알파 채널이 있으면 투명도 유지)
+     */
+    public static BufferedImage applyOrientation(BufferedImage source, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return source;
+        }
+
+        int w = source.getWidth();
+        int h = source.getHeight();
+        boolean swap = orientation >= 5;
+
+        // AffineTransform(m00, m10, m01, m11, m02, m12): x' = m00*x + m01*y + m02, y' = m10*x + m11*y + m12
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도 회전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 좌상-우하 대각선 기준 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도 회전
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 우상-좌하 대각선 기준 반전
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);  // 반시계 방향 90도 회전 (8)
+        };
+
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage target = new BufferedImage(swap ? h : w, swap ? w : h, type);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 알파 채널 등이 포함된 이미지를 JPEG 인코딩이 가능한 RGB 이미지로 변환
+     */
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.drawImage(image, 0, 0, java.awt.Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * 디코딩 결과
+     * @param image 방향이 보정된 (서브샘플링된) 이미지
+     * @param width 방향 보정 후 원본 가로 크기 (px)
+     * @param height 방향 보정 후 원본 세로 크기 (px)
+     */
+    public record Decoded(BufferedImage image, int width, int height) {
+    }
+
+    private static int readFully(ImageInputStream iis, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = iis.read(buffer, total, buffer.length - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,119 @@
+package com.codeZero.photoMap.service.photo.image;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * 64비트 지각 해시(pHash) 계산 유틸리티
+ * 이미지를 32x32 흑백으로 줄여 2차원 DCT를 적용한 뒤, 저주파 8x8 계수가 중앙값보다 큰지를 비트로 기록한다.
+ * 재인코딩, 크기 변경, 약한 색 보정에는 해시가 거의 변하지 않으므로 해밍 거리로 유사한 사진을 찾을 수 있다.
+ */
+public final class PerceptualHash {
+
+    private static final int SIZE = 32;
+    private static final int LOW = 8;
+
+    // DCT-II 계수 테이블 (COS[u][x] = cos((2x + 1) * u * PI / 2N))
+    private static final double[][] COS = new double[LOW][SIZE];
+
+    static {
+        for (int u = 0; u < LOW; u++) {
+            for (int x = 0; x < SIZE; x++) {
+                COS[u][x] = Math.cos((2 * x + 1) * u * Math.PI / (2 * SIZE));
+            }
+        }
+    }
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * 이미지의 지각 해시 계산
+     * @param image 방향이 보정된 이미지 (썸네일 크기면 충분)
+     * @return 64비트 해시
+     */
+    public static long compute(BufferedImage image) {
+        double[][] pixels = toGrayscale(image);
+
+        // 필요한 저주파 8x8 계수만 계산 (행 방향 → 열 방향)
+        double[][] rows = new double[SIZE][LOW];
+        for (int y = 0; y < SIZE; y++) {
+            for (int u = 0; u < LOW; u++) {
+                double sum = 0;
+                for (int x = 0; x < SIZE; x++) {
+                    sum += pixels[y][x] * COS[u][x];
+                }
+                rows[y][u] = sum;
+            }
+        }
+
+        double[] coefficients = new double[LOW * LOW];
+        for (int v = 0; v < LOW; v++) {
+            for (int u = 0; u < LOW; u++) {
+                double sum = 0;
+                for (int y = 0; y < SIZE; y++) {
+                    sum += rows[y][u] * COS[v][y];
+                }
+                coefficients[v * LOW + u] = sum;
+            }
+        }
+
+        // 밝기 평균에 해당하는 DC 성분(0번)은 중앙값 계산에서 제외
+        double[] sorted = Arrays.copyOfRange(coefficients, 1, coefficients.length);
+        Arrays.sort(sorted);
+        double median = (sorted[sorted.length / 2 - 1] + sorted[sorted.length / 2]) / 2;
+
+        long hash = 0L;
+        for (int i = 0; i < coefficients.length; i++) {
+            if (coefficients[i] > median) {
+                hash |= 1L << i;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 두 해시의 해밍 거리
+     * @return 서로 다른 비트 수 (0 ~ 64)
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /**
+     * 영역 평균으로 32x32 흑백 이미지 생성 (단순 보간보다 축소 시 앨리어싱이 적음)
+     */
+    private static double[][] toGrayscale(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double[][] sums = new double[SIZE][SIZE];
+        int[][] counts = new int[SIZE][SIZE];
+
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int cellY = Math.min(SIZE - 1, y * SIZE / height);
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                double luma = 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF) + 0.114 * (rgb & 0xFF);
+                int cellX = Math.min(SIZE - 1, x * SIZE / width);
+                sums[cellY][cellX] += luma;
+                counts[cellY][cellX]++;
+            }
+        }
+
+        // 32px보다 작은 이미지는 비어 있는 칸을 가장 가까운 원본 픽셀로 채움
+        double[][] pixels = new double[SIZE][SIZE];
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                if (counts[y][x] > 0) {
+                    pixels[y][x] = sums[y][x] / counts[y][x];
+                } else {
+                    int rgb = image.getRGB(Math.min(width - 1, x * width / SIZE), Math.min(height - 1, y * height / SIZE));
+                    pixels[y][x] = 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF) + 0.114 * (rgb & 0xFF);
+                }
+            }
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,206 @@
+package com.codeZero.photoMap.service.photo.similarity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 64비트 해시의 해밍 거리 검색용 BK-tree
+ * 각 노드의 자식은 부모와의 거리로 구분되며, 검색 시 삼각 부등식으로 |자식 거리 - 질의 거리| > 최대 거리인 가지를 건너뛴다.
+ * 같은 해시를 가진 ID는 한 노드에 모아 저장하고, 삭제 시 노드는 남겨둔 채 ID만 제거한다. (빈 노드가 많아지면 compact로 재구성)
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+    private int nodeCount;
+    private int emptyNodes;
+
+    /**
+     * ID 추가
+     * @param hash 64비트 해시
+     * @param id 해시를 가진 항목의 ID
+     */
+    public void add(long hash, long id) {
+        if (root == null) {
+            root = new Node(hash, 0);
+            nodeCount++;
+            root.add(id);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = Long.bitCount(node.hash ^ hash);
+            if (distance == 0) {
+                if (node.count == 0) {
+                    emptyNodes--;
+                }
+                node.add(id);
+                size++;
+                return;
+            }
+
+            Node child = node.child(distance);
+            if (child == null) {
+                child = new Node(hash, distance);
+                child.nextSibling = node.firstChild;
+                node.firstChild = child;
+                nodeCount++;
+                child.add(id);
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * ID 제거
+     * @param hash 추가할 때 사용한 해시
+     * @param id 제거할 ID
+     * @return 제거되었으면 true
+     */
+    public boolean remove(long hash, long id) {
+        Node node = root;
+        while (node != null) {
+            int distance = Long.bitCount(node.hash ^ hash);
+            if (distance == 0) {
+                if (!node.remove(id)) {
+                    return false;
+                }
+                size--;
+                if (node.count == 0) {
+                    emptyNodes++;
+                }
+                return true;
+            }
+            node = node.child(distance);
+        }
+        return false;
+    }
+
+    /**
+     * 해밍 거리가 maxDistance 이하인 모든 ID 검색
+     * @param hash 질의 해시
+     * @param maxDistance 최대 해밍 거리
+     * @param visitor 찾은 ID와 거리를 받는 함수
+     */
+    public void search(long hash, int maxDistance, Visitor visitor) {
+        if (root == null) {
+            return;
+        }
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            int distance = Long.bitCount(node.hash ^ hash);
+            if (distance <= maxDistance) {
+                for (int i = 0; i < node.count; i++) {
+                    visitor.visit(node.ids[i], distance);
+                }
+            }
+            for (Node child = node.firstChild; child != null; child = child.nextSibling) {
+                if (Math.abs(child.distance - distance) <= maxDistance) {
+                    stack.push(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * 저장된 ID 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 빈 노드가 살아있는 노드보다 많아져 재구성이 필요한지 여부
+     */
+    public boolean needsCompaction() {
+        return emptyNodes > 1024 && emptyNodes > nodeCount - emptyNodes;
+    }
+
+    /**
+     * 빈 노드를 제외하고 재구성한 트리 (삽입 순서를 섞어 한쪽으로 깊어지지 않도록 함)
+     * @return 새 트리
+     */
+    public BkTree compact() {
+        List<Node> live = new ArrayList<>(nodeCount - emptyNodes);
+        if (root != null) {
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                if (node.count > 0) {
+                    live.add(node);
+                }
+                for (Node child = node.firstChild; child != null; child = child.nextSibling) {
+                    stack.push(child);
+                }
+            }
+        }
+        Collections.shuffle(live);
+
+        BkTree tree = new BkTree();
+        for (Node node : live) {
+            for (int i = 0; i < node.count; i++) {
+                tree.add(node.hash, node.ids[i]);
+            }
+        }
+        return tree;
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(long id, int distance);
+    }
+
+    private static final class Node {
+
+        private final long hash;
+        private final int distance; // 부모 노드와의 해밍 거리
+        private long[] ids = new long[1];
+        private int count;
+        private Node firstChild;
+        private Node nextSibling;
+
+        private Node(long hash, int distance) {
+            this.hash = hash;
+            this.distance = distance;
+        }
+
+        private Node child(int distance) {
+            for (Node child = firstChild; child != null; child = child.nextSibling) {
+                if (child.distance == distance) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private void add(long id) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+            }
+            ids[count++] = id;
+        }
+
+        private boolean remove(long id) {
+            for (int i = 0; i < count; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--count];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
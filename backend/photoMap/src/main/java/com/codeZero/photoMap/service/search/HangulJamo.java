@@ -0,0 +1,110 @@
+package com.codeZero.photoMap.service.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 검색용 문자열 정규화 (한글 자모 분해)
+ * 완성형 음절을 초성/중성/종성 호환 자모로 풀고, 겹모음/겹받침도 입력 순서대로 낱자로 나눈다.
+ * 그래서 입력 중인 글자("성" → "서우" → "서울")나 받침이 다음 음절로 넘어가기 전 상태도 자모 문자열에서는 앞부분이 일치한다.
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 낱자로 입력된 겹받침/겹모음 (COMPOUND의 i번째 글자 = COMPOUND_PARTS[i])
+    private static final String COMPOUND = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * NFC 정규화, 소문자 변환, 공백 제거
+     * (macOS에서 올린 파일 이름처럼 자모가 풀려 있는 NFD 문자열도 완성형으로 합쳐서 비교)
+     */
+    static String normalize(String text) {
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder result = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 정규화된 문자열을 자모 문자열로 분해 ("서울숲" → "ㅅㅓㅇㅜㄹㅅㅜㅍ", 한글이 아닌 글자는 그대로)
+     */
+    static String decompose(String normalized) {
+        StringBuilder result = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_FIRST;
+                result.append(CHOSEONG.charAt(index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)))
+                        .append(JUNGSEONG[index / JONGSEONG_COUNT % JUNGSEONG_COUNT])
+                        .append(JONGSEONG[index % JONGSEONG_COUNT]);
+                continue;
+            }
+            int compound = COMPOUND.indexOf(c);
+            if (compound >= 0) {
+                result.append(COMPOUND_PARTS[compound]);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 정규화된 문자열의 초성 문자열 ("서울숲 2호점" → "ㅅㅇㅅ2ㅎㅈ", 한글이 아닌 글자는 그대로)
+     */
+    static String initials(String normalized) {
+        StringBuilder result = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            result.append(isSyllable(c) ? CHOSEONG.charAt((c - SYLLABLE_FIRST) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)) : c);
+        }
+        return result.toString();
+    }
+
+    /**
+     * 초성으로만 이루어진 검색어인지 확인 ("ㅅㅇㅅ")
+     */
+    static boolean isInitialsOnly(String normalized) {
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < normalized.length(); i++) {
+            if (CHOSEONG.indexOf(normalized.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+}
@@ -0,0 +1,336 @@
+package com.codeZero.photoMap.service.search;
+
+import com.codeZero.photoMap.domain.group.GroupMemberName;
+import com.codeZero.photoMap.domain.group.MemberGroup;
+import com.codeZero.photoMap.domain.group.MemberGroupMappingRepository;
+import com.codeZero.photoMap.domain.group.MemberGroupRepository;
+import com.codeZero.photoMap.domain.location.Location;
+import com.codeZero.photoMap.domain.location.LocationName;
+import com.codeZero.photoMap.domain.location.LocationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * 그룹별 이름 검색 색인 (위치 이름, 그룹 이름, 그룹 멤버 이름)
+ * 애플리케이션 시작 후 별도 스레드에서 모든 그룹을 DB에서 읽어 그룹마다 n-gram 역색인(SearchShard)을 만들고,
+ * 이 서버에서 위치가 생성/수정/삭제되면 커밋 후 메모리의 색인에 반영한다.
+ * 그룹 이름/멤버 구성/멤버 이름처럼 드물게 바뀌는 것은 커밋 후 해당 그룹을 DB에서 다시 읽는다.
+ * (다른 서버의 변경은 max-age가 지나면 조회 시 DB에서 다시 읽어 반영)
+ */
+@Slf4j
+@Component
+public class SearchIndex {
+
+    private static final int CHUNK_SIZE = 500;
+
+    // 그룹 색인을 읽는 동안 같은 그룹에 다른 변경이 반영되어 설치하지 못했을 때 다시 읽는 최대 횟수
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    // 그룹별 변경 횟수를 나눠 세는 칸 수 (2의 거듭제곱)
+    private static final int VERSION_STRIPES = 64;
+
+    private final MemberGroupRepository memberGroupRepository;
+    private final MemberGroupMappingRepository memberGroupMappingRepository;
+    private final LocationRepository locationRepository;
+    private final long maxAgeMillis;
+
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    // 색인 변경 횟수 (시작 시 적재 도중 반영된 변경이 덮어쓰였는지 확인용)
+    private final LongAdder writes = new LongAdder();
+
+    // 그룹 ID로 나눈 칸별 변경 횟수 (그룹 색인을 읽는 동안 같은 그룹에 변경이 반영되었는지 확인용)
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public SearchIndex(MemberGroupRepository memberGroupRepository,
+                       MemberGroupMappingRepository memberGroupMappingRepository,
+                       LocationRepository locationRepository,
+                       @Value("${search.index.max-age-seconds:300}") long maxAgeSeconds) {
+        this.memberGroupRepository = memberGroupRepository;
+        this.memberGroupMappingRepository = memberGroupMappingRepository;
+        this.locationRepository = locationRepository;
+        this.maxAgeMillis = maxAgeSeconds * 1000;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread worker = new Thread(this::rebuild, "search-index-rebuild");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 그룹들에서 이름에 검색어가 들어간 항목 찾기
+     * 같은 항목(예: 여러 그룹에 속한 멤버)은 가장 좋은 일치 등급으로 한 번만 담는다.
+     * @param groupIds 검색할 그룹 ID 리스트
+     * @param query 검색어 (공백/대소문자 무시, 초성만 입력하면 초성으로도 찾음)
+     * @param type 검색 대상 종류 (null이면 전체)
+     * @param limit 최대 개수
+     * @return 일치 등급(일치, 앞부분 일치, 중간 일치), 이름 길이, 이름 순으로 정렬한 결과
+     */
+    public List<Hit> search(List<Long> groupIds, String query, SearchTargetType type, int limit) {
+        String normalized = HangulJamo.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        String jamoQuery = HangulJamo.decompose(normalized);
+        String initialsQuery = HangulJamo.isInitialsOnly(normalized) ? normalized : null;
+
+        Map<String, Hit> hits = new HashMap<>();
+        for (Long groupId : groupIds) {
+            get(groupId).search(jamoQuery, initialsQuery, type, (entry, rank) ->
+                    hits.merge(entry.type() + ":" + entry.id(), Hit.of(entry, rank),
+                            (existing, candidate) -> candidate.rank() < existing.rank() ? candidate : existing));
+        }
+
+        return hits.values().stream()
+                .sorted(Comparator.comparingInt(Hit::rank)
+                        .thenComparingInt(hit -> hit.name().length())
+                        .thenComparing(Hit::name)
+                        .thenComparing(Hit::type)
+                        .thenComparingLong(Hit::id))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 생성/수정된 위치를 그룹 색인에 반영 (색인이 없으면 다음 조회 때 DB에서 읽음)
+     * 트랜잭션 안에서 호출되면 커밋 후에 반영한다.
+     * @param location 생성/수정된 위치
+     */
+    public void putLocation(Location location) {
+        Long groupId = location.getMemberGroup().getId();
+        SearchShard.Entry entry = new SearchShard.Entry(SearchTargetType.LOCATION, location.getId(), groupId, location.getName());
+        afterCommit(() -> apply(groupId, shard -> shard.with(entry)));
+    }
+
+    /**
+     * 삭제된 위치를 그룹 색인에서 제거
+     * 트랜잭션 안에서 호출되면 커밋 후에 반영한다.
+     * @param groupId 그룹 ID
+     * @param locationId 위치 ID
+     */
+    public void removeLocation(Long groupId, Long locationId) {
+        afterCommit(() -> apply(groupId, shard -> shard.without(SearchTargetType.LOCATION, locationId)));
+    }
+
+    /**
+     * 그룹 색인을 DB에서 다시 읽기 (그룹 생성/이름 변경/삭제, 멤버 추가/제거 후)
+     * 트랜잭션 안에서 호출되면 커밋 후에 반영한다.
+     * @param groupId 그룹 ID
+     */
+    public void refreshGroup(Long groupId) {
+        refreshGroups(List.of(groupId));
+    }
+
+    /**
+     * 여러 그룹 색인을 DB에서 다시 읽기 (멤버 이름 변경/탈퇴 후)
+     * 트랜잭션 안에서 호출되면 커밋 후에 반영한다.
+     * @param groupIds 그룹 ID 리스트
+     */
+    public void refreshGroups(Collection<Long> groupIds) {
+        List<Long> ids = List.copyOf(groupIds);
+        afterCommit(() -> ids.forEach(this::reload));
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+
+    private void apply(Long groupId, UnaryOperator<SearchShard> change) {
+        recordWrite(groupId);
+        snapshots.computeIfPresent(groupId, (id, snapshot) -> new Snapshot(change.apply(snapshot.shard), snapshot.loadedAt));
+    }
+
+    /**
+     * 그룹 색인을 DB에서 다시 읽어 교체 (삭제된 그룹이면 제거)
+     */
+    private void reload(Long groupId) {
+        recordWrite(groupId);
+        try {
+            refresh(groupId);
+        } catch (RuntimeException e) {
+            // 다음 조회 때 다시 읽도록 제거
+            snapshots.remove(groupId);
+            log.warn("검색 색인 갱신 실패: groupId={}", groupId, e);
+        }
+    }
+
+    /**
+     * 그룹의 색인 조회 (없거나 오래되었으면 DB에서 다시 읽음)
+     */
+    private SearchShard get(Long groupId) {
+        Snapshot snapshot = snapshots.get(groupId);
+        if (snapshot != null && System.currentTimeMillis() - snapshot.loadedAt < maxAgeMillis) {
+            return snapshot.shard;
+        }
+        return refresh(groupId);
+    }
+
+    /**
+     * 그룹 색인을 DB에서 읽어 설치
+     * DB 조회는 맵 갱신(compute) 밖에서 하여 같은 칸의 다른 그룹 조회/반영을 막지 않고,
+     * 읽기 전에 본 스냅샷이 그대로일 때만 교체(putIfAbsent/replace)한다.
+     * 읽는 동안 같은 그룹에 변경이 반영되어 설치하지 못하면 다시 읽고, MAX_LOAD_ATTEMPTS번 모두 실패하면 색인을 제거하여 다음 조회 때 다시 읽게 한다.
+     * @return 읽은 색인 (삭제된 그룹이면 EMPTY)
+     */
+    private SearchShard refresh(Long groupId) {
+        SearchShard shard = SearchShard.EMPTY;
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long version = versions.get(stripe(groupId));
+            Snapshot current = snapshots.get(groupId);
+            SearchShard loaded = load(List.of(groupId)).get(groupId);
+            shard = loaded != null ? loaded : SearchShard.EMPTY;
+            if (install(groupId, current, loaded, version)) {
+                return shard;
+            }
+        }
+        snapshots.remove(groupId);
+        return shard;
+    }
+
+    /**
+     * 읽은 그룹 색인 설치 (삭제된 그룹이면 제거)
+     * @param current 읽기 전에 본 스냅샷 (없으면 null)
+     * @param loaded 읽은 색인 (삭제된 그룹이면 null)
+     * @param version 읽기 전의 변경 횟수
+     * @return 설치 여부 (읽는 동안 다른 변경이 반영되었으면 false)
+     */
+    private boolean install(Long groupId, Snapshot current, SearchShard loaded, long version) {
+        if (loaded == null) {
+            return current == null || snapshots.remove(groupId, current);
+        }
+
+        Snapshot snapshot = new Snapshot(loaded, System.currentTimeMillis());
+        if (current != null) {
+            // 읽는 동안 반영된 변경(apply)은 스냅샷 객체를 바꾸므로 교체가 실패함
+            return snapshots.replace(groupId, current, snapshot);
+        }
+        if (snapshots.putIfAbsent(groupId, snapshot) != null) {
+            return false;
+        }
+        // 색인이 없던 동안 반영된 변경은 맵에 닿지 못했으므로 (computeIfPresent) 변경 횟수가 바뀌었으면 설치를 취소
+        if (versions.get(stripe(groupId)) != version) {
+            snapshots.remove(groupId, snapshot);
+            return false;
+        }
+        return true;
+    }
+
+    private void recordWrite(Long groupId) {
+        writes.increment();
+        versions.incrementAndGet(stripe(groupId));
+    }
+
+    private static int stripe(Long groupId) {
+        return Long.hashCode(groupId) & (VERSION_STRIPES - 1);
+    }
+
+    /**
+     * 모든 그룹의 색인을 CHUNK_SIZE개 그룹씩 DB에서 읽어 만들기
+     */
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        int groups = 0;
+        long entries = 0;
+        Long afterId = 0L;
+        try {
+            while (true) {
+                List<Long> groupIds = memberGroupRepository.findIdsAfter(afterId, PageRequest.of(0, CHUNK_SIZE));
+                if (groupIds.isEmpty()) {
+                    break;
+                }
+
+                long writesBefore = writes.sum();
+                long now = System.currentTimeMillis();
+                for (Map.Entry<Long, SearchShard> loaded : load(groupIds).entrySet()) {
+                    snapshots.putIfAbsent(loaded.getKey(), new Snapshot(loaded.getValue(), now));
+                    entries += loaded.getValue().size();
+                }
+                // 읽는 도중 반영된 변경이 이전 내용으로 덮어쓰였을 수 있으므로 해당 묶음을 그룹별로 다시 읽음
+                if (writes.sum() != writesBefore) {
+                    groupIds.forEach(this::reload);
+                }
+
+                groups += groupIds.size();
+                afterId = groupIds.get(groupIds.size() - 1);
+            }
+        } catch (RuntimeException e) {
+            log.warn("검색 색인 적재 실패 (그룹 {}개 적재 후 중단, 나머지는 조회 시 적재)", groups, e);
+            return;
+        }
+        log.info("검색 색인 적재 완료: 그룹 {}개, 항목 {}개 ({}ms)", groups, entries, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 그룹들의 이름, 위치 이름, 멤버 이름을 읽어 그룹별 색인 만들기 (삭제된 그룹은 결과에 없음)
+     */
+    private Map<Long, SearchShard> load(List<Long> groupIds) {
+        Map<Long, List<SearchShard.Entry>> entries = new HashMap<>();
+        for (MemberGroup group : memberGroupRepository.findByIdInAndIsDeletedFalse(groupIds)) {
+            List<SearchShard.Entry> groupEntries = new ArrayList<>();
+            groupEntries.add(new SearchShard.Entry(SearchTargetType.GROUP, group.getId(), group.getId(), group.getGroupName()));
+            entries.put(group.getId(), groupEntries);
+        }
+        for (LocationName location : locationRepository.findNamesByGroupIdIn(groupIds)) {
+            List<SearchShard.Entry> groupEntries = entries.get(location.groupId());
+            if (groupEntries != null) {
+                groupEntries.add(new SearchShard.Entry(SearchTargetType.LOCATION, location.locationId(), location.groupId(), location.name()));
+            }
+        }
+        for (GroupMemberName member : memberGroupMappingRepository.findMemberNamesByGroupIdIn(groupIds)) {
+            List<SearchShard.Entry> groupEntries = entries.get(member.groupId());
+            if (groupEntries != null) {
+                groupEntries.add(new SearchShard.Entry(SearchTargetType.MEMBER, member.memberId(), member.groupId(), member.name()));
+            }
+        }
+
+        Map<Long, SearchShard> shards = new HashMap<>();
+        entries.forEach((groupId, groupEntries) -> shards.put(groupId, SearchShard.of(groupEntries)));
+        return shards;
+    }
+
+    private record Snapshot(SearchShard shard, long loadedAt) {
+    }
+
+    /**
+     * 검색 결과 항목
+     * @param type 검색 대상 종류
+     * @param id 위치/그룹/멤버 ID
+     * @param groupId 항목을 찾은 그룹 ID
+     * @param name 이름
+     * @param rank 일치 등급 (0: 이름 전체 일치, 1: 앞부분 일치, 2: 중간 일치)
+     */
+    public record Hit(SearchTargetType type, long id, long groupId, String name, int rank) {
+
+        private static Hit of(SearchShard.Entry entry, int rank) {
+            return new Hit(entry.type(), entry.id(), entry.groupId(), entry.name(), rank);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.codeZero.photoMap.service.search;
+
+import com.codeZero.photoMap.common.exception.ForbiddenException;
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import com.codeZero.photoMap.common.exception.NotFoundException;
+import com.codeZero.photoMap.domain.group.MemberGroupMappingRepository;
+import com.codeZero.photoMap.dto.search.response.SearchResultResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final int MAX_LIMIT = 50;
+    private static final int MAX_QUERY_LENGTH = 50;
+
+    private final MemberGroupMappingRepository memberGroupMappingRepository;
+    private final SearchIndex searchIndex;
+
+    /**
+     * 사용자가 속한 그룹의 위치 이름, 그룹 이름, 멤버 이름 검색
+     * 이름의 앞부분/중간 어디에 있어도 찾으며, 한글은 자모 단위로 비교하므로 입력 중인 글자("서우")나 초성("ㅅㅇ")으로도 찾는다.
+     * @param memberId 사용자 ID
+     * @param query 검색어
+     * @param type 검색 대상 (location, group, member - null이면 전체)
+     * @param groupId 그룹 ID (null이면 사용자가 속한 모든 그룹)
+     * @param limit 최대 개수 (1 ~ 50)
+     * @return List<SearchResultResponse> 검색 결과 응답 DTO 리스트 (이름 전체 일치, 앞부분 일치, 중간 일치 순)
+     * @throws IllegalArgumentException 검색어가 비어 있거나 너무 긴 경우, 조회 개수가 범위를 벗어난 경우
+     * @throws ForbiddenException 사용자가 속하지 않은 그룹을 지정한 경우
+     * @throws NotFoundException 사용자가 속한 그룹이 없을 경우
+     */
+    public List<SearchResultResponse> search(Long memberId, String query, String type, Long groupId, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해 주세요.");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+        SearchTargetType targetType = type != null ? SearchTargetType.from(type) : null;
+
+        return searchIndex.search(resolveGroupIds(memberId, groupId), query, targetType, limit).stream()
+                .map(SearchResultResponse::of)
+                .toList();
+    }
+
+    /**
+     * 검색 대상 그룹 ID 리스트 (groupId가 있으면 소속 검증 후 해당 그룹, 없으면 사용자가 속한 모든 그룹)
+     */
+    private List<Long> resolveGroupIds(Long memberId, Long groupId) {
+        List<Long> groupIds = memberGroupMappingRepository.findGroupIdsByMemberIdAndIsDeletedFalse(memberId);
+        if (groupId != null) {
+            if (!groupIds.contains(groupId)) {
+                throw new ForbiddenException("해당 사용자가 속해 있는 그룹이 아닙니다.");
+            }
+            return List.of(groupId);
+        }
+
+        if (groupIds.isEmpty()) {
+            throw new NotFoundException("해당 멤버가 속한 그룹을 찾을 수 없습니다.");
+        }
+        return groupIds;
+    }
+}
@@ -0,0 +1,200 @@
+package com.codeZero.photoMap.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 그룹 하나의 검색 대상(그룹 이름, 위치 이름, 멤버 이름)에 대한 n-gram 역색인 (불변)
+ * 이름마다 자모 문자열과 초성 문자열을 만들고, 각 문자열의 글자(1-gram)와 연속한 두 글자(2-gram)별로 이름 번호 목록을 둔다.
+ * 검색어의 n-gram 중 목록이 가장 짧은 것의 이름들만 실제 포함 여부를 확인하므로, 그룹의 이름 수가 아니라 후보 수만큼만 비교한다.
+ * 변경은 새 색인을 만들어 교체한다 (SearchIndex가 커밋 후에 반영).
+ */
+final class SearchShard {
+
+    static final SearchShard EMPTY = of(List.of());
+
+    static final int EXACT = 0;
+    static final int PREFIX = 1;
+    static final int INFIX = 2;
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final List<Entry> entries;
+    private final String[] jamo;
+    private final String[] initials;
+    private final Map<Integer, int[]> jamoGrams;
+    private final Map<Integer, int[]> initialGrams;
+
+    private SearchShard(List<Entry> entries) {
+        this.entries = entries;
+        this.jamo = new String[entries.size()];
+        this.initials = new String[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            String normalized = HangulJamo.normalize(entries.get(i).name());
+            jamo[i] = HangulJamo.decompose(normalized);
+            initials[i] = HangulJamo.initials(normalized);
+        }
+        this.jamoGrams = index(jamo);
+        this.initialGrams = index(initials);
+    }
+
+    static SearchShard of(List<Entry> entries) {
+        return new SearchShard(List.copyOf(entries));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 같은 종류/ID의 항목을 entry로 바꾼 (없으면 추가한) 새 색인
+     */
+    SearchShard with(Entry entry) {
+        List<Entry> updated = new ArrayList<>(entries.size() + 1);
+        for (Entry existing : entries) {
+            if (!existing.sameTarget(entry.type(), entry.id())) {
+                updated.add(existing);
+            }
+        }
+        updated.add(entry);
+        return new SearchShard(updated);
+    }
+
+    /**
+     * 같은 종류/ID의 항목을 뺀 새 색인 (없으면 자기 자신)
+     */
+    SearchShard without(SearchTargetType type, long id) {
+        List<Entry> updated = new ArrayList<>(entries.size());
+        for (Entry existing : entries) {
+            if (!existing.sameTarget(type, id)) {
+                updated.add(existing);
+            }
+        }
+        return updated.size() == entries.size() ? this : new SearchShard(updated);
+    }
+
+    /**
+     * 검색어를 포함하는 항목 찾기
+     * @param jamoQuery 자모로 분해한 검색어
+     * @param initialsQuery 초성으로만 이루어진 검색어면 그 검색어 (아니면 null, 초성 문자열에서도 찾음)
+     * @param type 검색 대상 종류 (null이면 전체)
+     * @param visitor 일치한 항목과 일치 등급(EXACT, PREFIX, INFIX)을 받는 함수 (자모/초성 양쪽에서 일치하면 두 번 호출됨)
+     */
+    void search(String jamoQuery, String initialsQuery, SearchTargetType type, MatchVisitor visitor) {
+        match(jamo, jamoGrams, jamoQuery, type, visitor);
+        if (initialsQuery != null) {
+            match(initials, initialGrams, initialsQuery, type, visitor);
+        }
+    }
+
+    private void match(String[] texts, Map<Integer, int[]> grams, String query, SearchTargetType type, MatchVisitor visitor) {
+        for (int i : candidates(grams, query)) {
+            if (type != null && entries.get(i).type() != type) {
+                continue;
+            }
+            String text = texts[i];
+            int rank;
+            if (text.equals(query)) {
+                rank = EXACT;
+            } else if (text.startsWith(query)) {
+                rank = PREFIX;
+            } else if (text.contains(query)) {
+                rank = INFIX;
+            } else {
+                continue;
+            }
+            visitor.visit(entries.get(i), rank);
+        }
+    }
+
+    /**
+     * 검색어의 1-gram(한 글자) 또는 2-gram들 중 이름 목록이 가장 짧은 것 (하나라도 없으면 빈 목록)
+     */
+    private static int[] candidates(Map<Integer, int[]> grams, String query) {
+        if (query.length() == 1) {
+            return grams.getOrDefault(unigram(query.charAt(0)), NO_POSTINGS);
+        }
+        int[] shortest = null;
+        for (int i = 0; i + 1 < query.length(); i++) {
+            int[] postings = grams.get(bigram(query.charAt(i), query.charAt(i + 1)));
+            if (postings == null) {
+                return NO_POSTINGS;
+            }
+            if (shortest == null || postings.length < shortest.length) {
+                shortest = postings;
+            }
+        }
+        return shortest;
+    }
+
+    private static Map<Integer, int[]> index(String[] texts) {
+        Map<Integer, Postings> postings = new HashMap<>();
+        for (int i = 0; i < texts.length; i++) {
+            String text = texts[i];
+            for (int j = 0; j < text.length(); j++) {
+                postings.computeIfAbsent(unigram(text.charAt(j)), key -> new Postings()).add(i);
+                if (j + 1 < text.length()) {
+                    postings.computeIfAbsent(bigram(text.charAt(j), text.charAt(j + 1)), key -> new Postings()).add(i);
+                }
+            }
+        }
+        Map<Integer, int[]> result = new HashMap<>(postings.size() * 2);
+        postings.forEach((gram, list) -> result.put(gram, list.toArray()));
+        return result;
+    }
+
+    // 1-gram 키는 음수, 2-gram 키는 두 글자를 이어 붙인 양수라 겹치지 않음
+    // (첫 글자의 최상위 비트를 버리므로 드물게 서로 다른 2-gram이 같은 키가 되지만, 후보가 늘 뿐 포함 여부 확인에서 걸러짐)
+    private static int unigram(char c) {
+        return -1 - c;
+    }
+
+    private static int bigram(char first, char second) {
+        return ((first & 0x7FFF) << 16) | second;
+    }
+
+    /**
+     * n-gram 하나의 이름 번호 목록 (이름 번호 순으로만 추가되므로 정렬/중복 제거가 필요 없음)
+     */
+    private static final class Postings {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+
+    @FunctionalInterface
+    interface MatchVisitor {
+        void visit(Entry entry, int rank);
+    }
+
+    /**
+     * 검색 대상 항목
+     * @param type 검색 대상 종류
+     * @param id 위치/그룹/멤버 ID
+     * @param groupId 항목이 속한 그룹 ID
+     * @param name 이름
+     */
+    record Entry(SearchTargetType type, long id, long groupId, String name) {
+
+        private boolean sameTarget(SearchTargetType otherType, long otherId) {
+            return type == otherType && id == otherId;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.codeZero.photoMap.service.search;
+
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+
+/**
+ * 검색 대상 종류
+ */
+public enum SearchTargetType {
+
+    LOCATION,
+    GROUP,
+    MEMBER;
+
+    /**
+     * 요청 파라미터 값으로 검색 대상 조회 (location, group, member - 대소문자 무시)
+     * @param value 요청 파라미터 값
+     * @return 검색 대상 종류
+     */
+    public static SearchTargetType from(String value) {
+        return switch (value.toLowerCase()) {
+            case "location" -> LOCATION;
+            case "group" -> GROUP;
+            case "member" -> MEMBER;
+            default -> throw new IllegalArgumentException("지원하지 않는 검색 대상입니다: " + value);
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.codeZero.photoMap.service.storage;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응답 시간 기울기(gradient) 기반 동시 요청 수 제한기
+ * 장기 평균 응답 시간 대비 최근 응답 시간이 늘어나면 한도를 줄이고, 응답 시간이 유지되면 한도를 조금씩 늘린다.
+ * 시간 초과나 과부하 응답(503 등)은 즉시 한도를 10% 줄인다.
+ * 한도를 넘는 요청은 대기시키지 않고 바로 거절하므로, 스토리지가 느려져도 호출하는 스레드가 쌓이지 않는다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // 장기 평균 응답 시간의 지수 이동 평균 창 크기 (샘플 수)
+    private static final double LONG_WINDOW = 600;
+
+    // 최근 응답 시간이 장기 평균의 이 배수 이내면 지연이 늘지 않은 것으로 봄
+    private static final double RTT_TOLERANCE = 1.5;
+
+    // 과부하(시간 초과, 503) 시 한도 감소 비율
+    private static final double BACKOFF_RATIO = 0.9;
+
+    // 새 한도를 반영하는 비율 (급격한 변동 방지)
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private double longRttNanos;
+
+    /**
+     * @param initialLimit 초기 동시 요청 한도
+     * @param minLimit 최소 한도
+     * @param maxLimit 최대 한도 (HTTP 연결 풀 크기 이하로 설정)
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+    }
+
+    /**
+     * 요청 허가 획득 (한도에 도달했으면 대기하지 않고 null 반환)
+     * @return 요청 완료 후 반드시 release해야 하는 허가, 또는 null
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(System.nanoTime(), current + 1);
+            }
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart, boolean overloaded) {
+        double current = limit;
+        double next;
+
+        if (overloaded) {
+            next = current * BACKOFF_RATIO;
+        } else {
+            longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + (rttNanos - longRttNanos) / LONG_WINDOW;
+
+            // 과부하가 끝난 뒤 높아진 장기 평균이 천천히 내려오는 것을 기다리지 않음
+            if (longRttNanos / rttNanos > 2) {
+                longRttNanos *= 0.95;
+            }
+
+            // 한도의 절반도 쓰지 않는 상태에서는 응답 시간으로 한도를 판단할 수 없으므로 늘리지 않음
+            if (inFlightAtStart < current / 2) {
+                return;
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRttNanos / rttNanos));
+            next = current * gradient + Math.sqrt(current); // 지연이 없으면 √limit 만큼 여유를 두고 증가
+        }
+
+        next = current * (1 - SMOOTHING) + next * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    /**
+     * 요청 허가 (한 번만 release됨)
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * 요청 완료 처리
+         * @param overloaded 시간 초과 또는 과부하 응답으로 실패했으면 true
+         */
+        public void release(boolean overloaded) {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                onSample(Math.max(1, System.nanoTime() - startNanos), inFlightAtStart, overloaded);
+            }
+        }
+    }
+}
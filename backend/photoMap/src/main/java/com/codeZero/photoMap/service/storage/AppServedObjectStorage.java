@@ -0,0 +1,44 @@
+package com.codeZero.photoMap.service.storage;
+
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * 서명 URL을 애플리케이션이 직접 제공하는 ObjectStorage 구현체의 공통 부분 (local, memory)
+ * 서명 URL은 {base-url}/storage/{key}?expires=...&signature=... 형태이며 StorageController가 검증 후 처리한다.
+ */
+public abstract class AppServedObjectStorage implements ObjectStorage {
+
+    public static final String URL_PREFIX = "/storage/";
+
+    private final StorageUrlSigner signer;
+    private final String baseUrl;
+
+    protected AppServedObjectStorage(StorageUrlSigner signer, String baseUrl) {
+        this.signer = signer;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    public StorageUrlSigner getSigner() {
+        return signer;
+    }
+
+    @Override
+    public String presignGet(String key, Instant expiresAt) {
+        return signedUrl("GET", key, expiresAt);
+    }
+
+    @Override
+    public String presignPut(String key, String contentType, Instant expiresAt) {
+        return signedUrl("PUT", key, expiresAt);
+    }
+
+    private String signedUrl(String method, String key, Instant expiresAt) {
+        long expires = expiresAt.getEpochSecond();
+        return baseUrl + URL_PREFIX + UriUtils.encodePath(key, StandardCharsets.UTF_8)
+                + "?expires=" + expires
+                + "&signature=" + signer.sign(method, key, expires);
+    }
+}
@@ -0,0 +1,87 @@
+package com.codeZero.photoMap.service.storage;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 호출한 스레드를 막지 않는 오브젝트 스토리지
+ * storage.type이 s3이고 cloud.aws.s3.async.enabled가 true(기본값)면 AWS SDK v2 비동기 클라이언트(S3AsyncObjectStorage)가,
+ * 그 외에는 ObjectStorage를 제한된 스레드 풀에서 실행하는 구현체(BlockingAsyncObjectStorage)가 등록된다.
+ * 동시 요청 수가 한도를 넘으면 대기하지 않고 ServiceUnavailableException으로 실패한 future를 반환한다.
+ * 반환된 future의 후속 작업은 SDK 스레드에서 실행될 수 있으므로, 오래 걸리는 처리는 별도 Executor를 지정해서 연결해야 한다.
+ */
+public interface AsyncObjectStorage {
+
+    /**
+     * 오브젝트 저장 (같은 key가 있으면 덮어쓰기)
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     * @param bytes 저장할 데이터
+     * @param contentType Content-Type
+     */
+    CompletableFuture<Void> put(String key, byte[] bytes, String contentType);
+
+    /**
+     * 스트림을 오브젝트로 저장 (길이를 모르는 스트림도 전체를 메모리에 올리지 않고 저장)
+     * 구현체에 따라 스트림을 호출한 스레드에서 파트 단위로 읽을 수 있으며, 반환된 future가 완료될 때까지 스트림을 닫으면 안 된다.
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     * @param in 저장할 데이터 스트림 (호출한 쪽에서 닫아야 함)
+     * @param contentType Content-Type
+     */
+    CompletableFuture<Void> put(String key, InputStream in, String contentType);
+
+    /**
+     * 오브젝트 전체 조회 (작은 오브젝트용)
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     * @return 오브젝트 데이터 (없으면 NotFoundException으로 실패)
+     */
+    CompletableFuture<byte[]> get(String key);
+
+    /**
+     * 오브젝트의 일부 구간 조회
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     * @param start 시작 위치 (포함)
+     * @param end 끝 위치 (포함, 오브젝트 크기를 넘으면 끝까지)
+     * @return 구간 데이터 (없으면 NotFoundException으로 실패)
+     */
+    CompletableFuture<byte[]> getRange(String key, long start, long end);
+
+    /**
+     * 오브젝트 메타데이터 조회
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     * @return 오브젝트 메타데이터 (없으면 empty)
+     */
+    CompletableFuture<Optional<ObjectInfo>> head(String key);
+
+    /**
+     * 오브젝트 삭제 (없는 key면 무시)
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     */
+    CompletableFuture<Void> delete(String key);
+
+    /**
+     * 여러 오브젝트를 한 번에 삭제 (없는 key는 삭제된 것으로 간주)
+     * @param keys 삭제할 오브젝트 key 리스트 (최대 ObjectStorage.MAX_BATCH_DELETE_SIZE개)
+     * @return 삭제에 실패한 key 리스트
+     */
+    CompletableFuture<List<String>> deleteAll(List<String> keys);
+
+    /**
+     * 요청 스레드에서 결과를 기다림 (실패하면 CompletionException으로 감싸지 않은 원래 예외를 던짐)
+     * 동시 요청 수가 한도를 넘었다면 기다리지 않고 바로 ServiceUnavailableException이 발생한다.
+     * @param future AsyncObjectStorage가 반환한 future
+     * @return 결과
+     */
+    static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
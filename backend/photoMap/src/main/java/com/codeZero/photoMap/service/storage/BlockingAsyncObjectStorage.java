@@ -0,0 +1,117 @@
+package com.codeZero.photoMap.service.storage;
+
+import com.codeZero.photoMap.common.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 동기 ObjectStorage를 제한된 전용 스레드 풀에서 실행하는 AsyncObjectStorage 구현체
+ * S3 비동기 클라이언트를 끄거나(cloud.aws.s3.async.enabled=false) local, memory 스토리지를 사용할 때 등록된다.
+ * 스레드와 대기열이 모두 차면 대기하지 않고 바로 실패하므로, 요청 스레드는 스토리지 응답을 기다리지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${storage.type:s3}' != 's3' or !${cloud.aws.s3.async.enabled:true}")
+public class BlockingAsyncObjectStorage implements AsyncObjectStorage {
+
+    private final ObjectStorage objectStorage;
+    private final ThreadPoolExecutor executor;
+
+    public BlockingAsyncObjectStorage(ObjectStorage objectStorage,
+                                      @Value("${storage.blocking-async.threads:16}") int threads,
+                                      @Value("${storage.blocking-async.queue-capacity:256}") int queueCapacity) {
+        this.objectStorage = objectStorage;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "storage-blocking-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public CompletableFuture<Void> put(String key, byte[] bytes, String contentType) {
+        return submit(() -> {
+            objectStorage.put(key, bytes, contentType);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> put(String key, InputStream in, String contentType) {
+        return submit(() -> {
+            objectStorage.put(key, in, contentType);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<byte[]> get(String key) {
+        return submit(() -> readAll(objectStorage.get(key), key));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> getRange(String key, long start, long end) {
+        return submit(() -> readAll(objectStorage.getRange(key, start, end), key));
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectInfo>> head(String key) {
+        return submit(() -> objectStorage.head(key));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key) {
+        return submit(() -> {
+            objectStorage.delete(key);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<String>> deleteAll(List<String> keys) {
+        return submit(() -> objectStorage.deleteAll(keys));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new ServiceUnavailableException("스토리지 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+        }
+    }
+
+    private byte[] readAll(InputStream stream, String key) {
+        try (InputStream in = stream) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("스토리지 파일 읽기에 실패했습니다: " + key, e);
+        }
+    }
+}
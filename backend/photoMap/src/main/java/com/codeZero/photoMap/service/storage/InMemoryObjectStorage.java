@@ -0,0 +1,104 @@
+package com.codeZero.photoMap.service.storage;
+
+import com.codeZero.photoMap.common.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리를 사용하는 ObjectStorage 구현체 (storage.type=memory)
+ * 애플리케이션 재시작 시 데이터가 사라지므로 테스트와 부하 테스트에서만 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "memory")
+public class InMemoryObjectStorage extends AppServedObjectStorage {
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    public InMemoryObjectStorage(@Value("${storage.local.base-url:http://localhost:8080}") String baseUrl,
+                                 @Value("${storage.local.signing-key:${random.value}}") String signingKey) {
+        super(new StorageUrlSigner(signingKey), baseUrl);
+    }
+
+    @Override
+    public void put(String key, byte[] bytes, String contentType) {
+        byte[] copy = bytes.clone();
+        objects.put(key, new StoredObject(copy, contentType, md5Hex(copy), Instant.now()));
+    }
+
+    @Override
+    public void put(String key, InputStream in, String contentType) {
+        try {
+            byte[] bytes = in.readAllBytes();
+            objects.put(key, new StoredObject(bytes, contentType, md5Hex(bytes), Instant.now()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("메모리 스토리지 파일 저장에 실패했습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) {
+        return new ByteArrayInputStream(getObject(key).bytes());
+    }
+
+    @Override
+    public InputStream getRange(String key, long start, long end) {
+        byte[] bytes = getObject(key).bytes();
+        int from = (int) Math.min(start, bytes.length);
+        int to = (int) Math.min(end + 1, bytes.length);
+        return new ByteArrayInputStream(bytes, from, Math.max(0, to - from));
+    }
+
+    @Override
+    public Optional<ObjectInfo> head(String key) {
+        StoredObject object = objects.get(key);
+        if (object == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ObjectInfo(key, object.bytes().length, object.contentType(), object.eTag(), object.lastModified()));
+    }
+
+    @Override
+    public void delete(String key) {
+        objects.remove(key);
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        keys.forEach(objects::remove);
+        return List.of();
+    }
+
+    private StoredObject getObject(String key) {
+        StoredObject object = objects.get(key);
+        if (object == null) {
+            throw new NotFoundException("메모리 스토리지에서 파일을 찾을 수 없습니다: " + key);
+        }
+        return object;
+    }
+
+    // S3와 같은 방식(단일 PUT 업로드 시 MD5)으로 ETag 생성
+    private static String md5Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record StoredObject(byte[] bytes, String contentType, String eTag, Instant lastModified) {
+    }
+}
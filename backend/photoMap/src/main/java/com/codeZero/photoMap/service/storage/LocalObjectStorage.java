@@ -0,0 +1,157 @@
+package com.codeZero.photoMap.service.storage;
+
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import com.codeZero.photoMap.common.exception.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 로컬 파일 시스템을 사용하는 ObjectStorage 구현체
+ * S3 없이 개발 환경이나 테스트에서 사진 처리 파이프라인을 실행할 때 사용한다. (storage.type=local)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage extends AppServedObjectStorage {
+
+    private final Path rootDir;
+
+    public LocalObjectStorage(@Value("${storage.local.root-dir:./storage}") String rootDir,
+                              @Value("${storage.local.base-url:http://localhost:8080}") String baseUrl,
+                              @Value("${storage.local.signing-key:${random.value}}") String signingKey) {
+        super(new StorageUrlSigner(signingKey), baseUrl);
+        this.rootDir = Paths.get(rootDir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void put(String key, byte[] bytes, String contentType) {
+        put(key, new ByteArrayInputStream(bytes), contentType);
+    }
+
+    @Override
+    public void put(String key, InputStream in, String contentType) {
+        Path target = resolve(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+
+            // 임시 파일에 쓴 뒤 이동하여 읽는 쪽에서 쓰다 만 파일을 보지 않도록 함
+            temp = Files.createTempFile(target.getParent(), ".upload", ".tmp");
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException("로컬 스토리지 파일 저장에 실패했습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException e) {
+            throw new NotFoundException("로컬 스토리지에서 파일을 찾을 수 없습니다: " + key);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 스토리지 파일 조회에 실패했습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream getRange(String key, long start, long end) {
+        try {
+            SeekableByteChannel channel = Files.newByteChannel(resolve(key));
+            channel.position(start);
+            InputStream in = Channels.newInputStream(channel);
+            return new BoundedInputStream(in, end - start + 1);
+        } catch (NoSuchFileException e) {
+            throw new NotFoundException("로컬 스토리지에서 파일을 찾을 수 없습니다: " + key);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 스토리지 파일 조회에 실패했습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<ObjectInfo> head(String key) {
+        Path path = resolve(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            Instant lastModified = attributes.lastModifiedTime().toInstant();
+            // 파일 시스템에는 ETag가 없으므로 크기와 수정 시각으로 약한 식별값 생성
+            String eTag = Long.toHexString(attributes.size()) + "-" + Long.toHexString(lastModified.toEpochMilli());
+            return Optional.of(new ObjectInfo(key, attributes.size(), Files.probeContentType(path), eTag, lastModified));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 스토리지 파일 조회에 실패했습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 스토리지 파일 삭제에 실패했습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        List<String> failedKeys = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                delete(key);
+            } catch (RuntimeException e) {
+                log.warn("로컬 스토리지 파일 삭제 실패: {}", key, e);
+                failedKeys.add(key);
+            }
+        }
+        return failedKeys;
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("로컬 스토리지 임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    /**
+     * 오브젝트 key를 루트 디렉토리 하위 경로로 변환
+     * @param key 오브젝트 key 값
+     * @return 파일 경로
+     */
+    private Path resolve(String key) {
+        Path path = rootDir.resolve(key).normalize();
+        if (!path.startsWith(rootDir)) {
+            throw new IllegalArgumentException("잘못된 파일 key입니다: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,14 @@
+package com.codeZero.photoMap.service.storage;
+
+import java.time.Instant;
+
+/**
+ * 오브젝트 메타데이터
+ * @param key 오브젝트 key 값
+ * @param size 크기 (byte)
+ * @param contentType Content-Type
+ * @param eTag ETag (따옴표 제외)
+ * @param lastModified 마지막 수정 시각
+ */
+public record ObjectInfo(String key, long size, String contentType, String eTag, Instant lastModified) {
+}
@@ -0,0 +1,97 @@
+package com.codeZero.photoMap.service.storage;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사진 원본 및 파생 이미지를 저장하는 오브젝트 스토리지
+ * storage.type 설정에 따라 S3(s3), 로컬 파일 시스템(local), 메모리(memory) 구현체 중 하나가 등록된다.
+ * local, memory 구현체는 S3 없이 개발 환경, 테스트, 부하 테스트에서 사진 처리 흐름 전체를 실행하기 위해 사용한다.
+ */
+public interface ObjectStorage {
+
+    // 한 번의 일괄 삭제 요청으로 삭제할 수 있는 최대 오브젝트 수 (S3 DeleteObjects 제한)
+    int MAX_BATCH_DELETE_SIZE = 1000;
+
+    /**
+     * 오브젝트 저장 (같은 key가 있으면 덮어쓰기)
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     * @param bytes 저장할 데이터
+     * @param contentType Content-Type
+     */
+    void put(String key, byte[] bytes, String contentType);
+
+    /**
+     * 스트림을 오브젝트로 저장 (길이를 모르는 스트림도 전체를 메모리에 올리지 않고 저장)
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     * @param in 저장할 데이터 스트림 (호출한 쪽에서 닫아야 함)
+     * @param contentType Content-Type
+     */
+    void put(String key, InputStream in, String contentType);
+
+    /**
+     * 오브젝트 조회
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     * @return 오브젝트 데이터 스트림 (호출한 쪽에서 닫아야 함)
+     * @throws com.codeZero.photoMap.common.exception.NotFoundException 오브젝트가 없을 경우
+     */
+    InputStream get(String key);
+
+    /**
+     * 오브젝트의 일부 구간 조회 (HTTP Range 요청)
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     * @param start 시작 위치 (포함)
+     * @param end 끝 위치 (포함, 오브젝트 크기를 넘으면 끝까지)
+     * @return 구간 데이터 스트림 (호출한 쪽에서 닫아야 함)
+     * @throws com.codeZero.photoMap.common.exception.NotFoundException 오브젝트가 없을 경우
+     */
+    InputStream getRange(String key, long start, long end);
+
+    /**
+     * 오브젝트 메타데이터 조회 (S3 HEAD 요청)
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     * @return 오브젝트 메타데이터 (없으면 empty)
+     */
+    Optional<ObjectInfo> head(String key);
+
+    /**
+     * 오브젝트 존재 여부 확인
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     * @return 존재하면 true
+     */
+    default boolean exists(String key) {
+        return head(key).isPresent();
+    }
+
+    /**
+     * 오브젝트 삭제 (없는 key면 무시)
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     */
+    void delete(String key);
+
+    /**
+     * 여러 오브젝트를 한 번에 삭제 (없는 key는 삭제된 것으로 간주)
+     * @param keys 삭제할 오브젝트 key 리스트 (최대 MAX_BATCH_DELETE_SIZE개)
+     * @return 삭제에 실패한 key 리스트
+     */
+    List<String> deleteAll(List<String> keys);
+
+    /**
+     * 조회용(GET) 서명 URL 생성
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     * @param expiresAt 만료 시각
+     * @return GET 메서드용 서명 URL
+     */
+    String presignGet(String key, Instant expiresAt);
+
+    /**
+     * 업로드용(PUT) 서명 URL 생성
+     * @param key 오브젝트 key 값 (폴더명/파일명)
+     * @param contentType 업로드할 파일의 Content-Type
+     * @param expiresAt 만료 시각
+     * @return PUT 메서드용 서명 URL
+     */
+    String presignPut(String key, String contentType, Instant expiresAt);
+}
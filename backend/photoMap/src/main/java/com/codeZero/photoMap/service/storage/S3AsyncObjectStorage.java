@@ -0,0 +1,366 @@
+package com.codeZero.photoMap.service.storage;
+
+import com.codeZero.photoMap.common.exception.NotFoundException;
+import com.codeZero.photoMap.common.exception.ServiceUnavailableException;
+import com.codeZero.photoMap.service.photo.PartBufferPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * AWS SDK v2 비동기 클라이언트(Netty)를 사용하는 AsyncObjectStorage 구현체
+ * 요청은 이벤트 루프에서 처리되어 응답을 기다리는 동안 스레드를 점유하지 않으며,
+ * 동시 요청 수는 응답 시간에 따라 조정되는 한도(AdaptiveConcurrencyLimiter)로 제한된다.
+ * 길이를 모르는 스트림은 파트 크기 단위로 읽어 멀티파트 업로드하며, 파트 버퍼 수로 업로드 중인 메모리를 제한한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${storage.type:s3}' == 's3' and ${cloud.aws.s3.async.enabled:true}")
+public class S3AsyncObjectStorage implements AsyncObjectStorage {
+
+    private final S3AsyncClient s3AsyncClient;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final PartBufferPool partBufferPool;
+    private final String bucket;
+
+    public S3AsyncObjectStorage(S3AsyncClient s3AsyncClient,
+                                @Value("${cloud.aws.s3.bucket}") String bucket,
+                                @Value("${cloud.aws.s3.async.max-concurrency:64}") int maxConcurrency,
+                                @Value("${cloud.aws.s3.async.limiter.initial-limit:16}") int initialLimit,
+                                @Value("${cloud.aws.s3.async.limiter.min-limit:4}") int minLimit,
+                                @Value("${cloud.aws.s3.upload.part-size-mb:8}") int partSizeMb,
+                                @Value("${cloud.aws.s3.upload.max-buffers:16}") int maxBuffers) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucket = bucket;
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxConcurrency);
+        this.partBufferPool = new PartBufferPool(Math.max(5, partSizeMb) * 1024 * 1024, maxBuffers); // S3 멀티파트 최소 파트 크기는 5MB
+    }
+
+    @Override
+    public CompletableFuture<Void> put(String key, byte[] bytes, String contentType) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength((long) bytes.length)
+                .build();
+
+        return limited(() -> s3AsyncClient.putObject(request, AsyncRequestBody.fromBytes(bytes)))
+                .thenApply(response -> null);
+    }
+
+    /**
+     * 스트림을 호출한 스레드에서 파트 크기 단위로 읽어 업로드
+     * 첫 파트를 다 채우기 전에 스트림이 끝나면 단일 PUT으로, 그렇지 않으면 멀티파트 업로드로 전송한다.
+     * 파트 전송은 읽는 대로 비동기로 시작하며, 버퍼 풀이 비면 앞선 파트 전송이 끝날 때까지 읽기를 기다린다.
+     * 실패하면 전송 중인 파트가 끝난 뒤 멀티파트 업로드를 취소(abort)한다.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, InputStream in, String contentType) {
+        byte[] buffer;
+        int length;
+        try {
+            buffer = acquireBuffer();
+            try {
+                length = readPart(in, buffer);
+            } catch (IOException | RuntimeException e) {
+                partBufferPool.release(buffer);
+                throw e;
+            }
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new UncheckedIOException("S3 파일 업로드에 실패했습니다: " + key, e));
+        }
+
+        // 파트 하나 크기보다 작은 파일은 단일 PUT으로 업로드
+        if (length < partBufferPool.getBufferSize()) {
+            byte[] bytes = Arrays.copyOf(buffer, length);
+            partBufferPool.release(buffer);
+            return put(key, bytes, contentType);
+        }
+
+        CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+        String uploadId;
+        try {
+            uploadId = limited(() -> s3AsyncClient.createMultipartUpload(createRequest)).join().uploadId();
+        } catch (CompletionException e) {
+            partBufferPool.release(buffer);
+            return CompletableFuture.failedFuture(unwrap(e));
+        }
+
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            while (true) {
+                CompletableFuture<CompletedPart> part = uploadPart(key, uploadId, partNumber++, buffer, length);
+                parts.add(part);
+                // 이미 실패한 파트가 있으면(동시 요청 한도 초과 등) 나머지를 읽지 않고 취소
+                if (part.isCompletedExceptionally() || length < partBufferPool.getBufferSize()) {
+                    break;
+                }
+
+                byte[] next = acquireBuffer();
+                int nextLength;
+                try {
+                    nextLength = readPart(in, next);
+                } catch (IOException | RuntimeException e) {
+                    partBufferPool.release(next);
+                    throw e;
+                }
+                if (nextLength == 0) {
+                    partBufferPool.release(next);
+                    break;
+                }
+                buffer = next;
+                length = nextLength;
+            }
+        } catch (IOException | RuntimeException e) {
+            Throwable cause = e instanceof IOException ioException
+                    ? new UncheckedIOException("S3 파일 업로드에 실패했습니다: " + key, ioException)
+                    : e;
+            return abort(key, uploadId, parts, cause);
+        }
+
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .thenCompose(done -> {
+                    CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder()
+                                    .parts(parts.stream().map(CompletableFuture::join).toList())
+                                    .build())
+                            .build();
+                    return limited(() -> s3AsyncClient.completeMultipartUpload(completeRequest));
+                })
+                .handle((response, e) -> {
+                    if (e == null) {
+                        log.info("S3 멀티파트 업로드 완료: {} ({}개 파트)", key, parts.size());
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    return abort(key, uploadId, parts, unwrap(e));
+                })
+                .thenCompose(result -> result);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> get(String key) {
+        return getObject(key, GetObjectRequest.builder().bucket(bucket).key(key).build());
+    }
+
+    @Override
+    public CompletableFuture<byte[]> getRange(String key, long start, long end) {
+        return getObject(key, GetObjectRequest.builder().bucket(bucket).key(key).range("bytes=" + start + "-" + end).build());
+    }
+
+    @Override
+    public CompletableFuture<Optional<ObjectInfo>> head(String key) {
+        HeadObjectRequest request = HeadObjectRequest.builder().bucket(bucket).key(key).build();
+
+        return limited(() -> s3AsyncClient.headObject(request))
+                .handle((response, e) -> {
+                    if (e == null) {
+                        return Optional.of(new ObjectInfo(key, response.contentLength(), response.contentType(),
+                                response.eTag(), response.lastModified()));
+                    }
+                    if (isNotFound(unwrap(e))) {
+                        return Optional.<ObjectInfo>empty();
+                    }
+                    throw new CompletionException(unwrap(e));
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key) {
+        DeleteObjectRequest request = DeleteObjectRequest.builder().bucket(bucket).key(key).build();
+
+        return limited(() -> s3AsyncClient.deleteObject(request))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> deleteAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        // quiet 모드: 실패한 key만 응답으로 받음
+        DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder()
+                        .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                        .quiet(true)
+                        .build())
+                .build();
+
+        return limited(() -> s3AsyncClient.deleteObjects(request))
+                .thenApply(response -> response.errors().stream()
+                        .map(S3Error::key)
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * 파트 업로드 요청 (전송이 끝나면 버퍼 반납)
+     */
+    private CompletableFuture<CompletedPart> uploadPart(String key, String uploadId, int partNumber, byte[] buffer, int length) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) length)
+                .build();
+
+        // 버퍼는 전송이 끝난 뒤에만 반납되므로 복사하지 않고 전달
+        return limited(() -> s3AsyncClient.uploadPart(request, AsyncRequestBody.fromRemainingByteBufferUnsafe(ByteBuffer.wrap(buffer, 0, length))))
+                .whenComplete((response, e) -> partBufferPool.release(buffer))
+                .thenApply(response -> CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+    }
+
+    /**
+     * 실패한 멀티파트 업로드 취소 (전송 중인 파트가 취소 후에 올라가 업로드가 남지 않도록 모든 파트가 끝난 뒤 취소)
+     * 취소 요청은 정리 작업이므로 동시 요청 한도와 관계없이 보낸다.
+     * @return cause로 실패한 future
+     */
+    private CompletableFuture<Void> abort(String key, String uploadId, List<CompletableFuture<CompletedPart>> parts, Throwable cause) {
+        AbortMultipartUploadRequest request = AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .build();
+
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .handle((done, e) -> null)
+                .thenCompose(done -> s3AsyncClient.abortMultipartUpload(request))
+                .handle((response, e) -> {
+                    if (e != null) {
+                        log.error("S3 멀티파트 업로드 취소 실패: {} (uploadId = {})", key, uploadId, unwrap(e));
+                    }
+                    return null;
+                })
+                .thenCompose(done -> CompletableFuture.failedFuture(cause));
+    }
+
+    private byte[] acquireBuffer() throws InterruptedIOException {
+        try {
+            return partBufferPool.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("업로드 버퍼 대기 중 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 버퍼가 가득 차거나 스트림이 끝날 때까지 읽기
+     * @return 읽은 바이트 수
+     */
+    private int readPart(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = in.read(buffer, total, buffer.length - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private CompletableFuture<byte[]> getObject(String key, GetObjectRequest request) {
+        return limited(() -> s3AsyncClient.getObject(request, AsyncResponseTransformer.toBytes()))
+                .handle((response, e) -> {
+                    if (e == null) {
+                        return response.asByteArray();
+                    }
+                    Throwable cause = unwrap(e);
+                    if (isNotFound(cause)) {
+                        throw new NotFoundException("S3에서 파일을 찾을 수 없습니다: " + key);
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    /**
+     * 동시 요청 한도 안에서 요청 실행 (한도를 넘으면 대기하지 않고 실패)
+     * @param call SDK 비동기 호출
+     * @return 호출 결과 future
+     */
+    private <T> CompletableFuture<T> limited(Supplier<CompletableFuture<T>> call) {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            return CompletableFuture.failedFuture(new ServiceUnavailableException("스토리지 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            permit.release(false);
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, e) -> permit.release(e != null && isOverload(unwrap(e))));
+    }
+
+    /**
+     * 한도를 줄여야 하는 실패인지 판단 (시간 초과, 연결 획득 실패, 503/500 응답)
+     */
+    private boolean isOverload(Throwable e) {
+        if (e instanceof ApiCallTimeoutException || e instanceof ApiCallAttemptTimeoutException) {
+            return true;
+        }
+        if (e instanceof S3Exception s3Exception) {
+            return s3Exception.statusCode() == 503 || s3Exception.statusCode() == 500;
+        }
+        return e instanceof SdkClientException;
+    }
+
+    private boolean isNotFound(Throwable e) {
+        return e instanceof S3Exception s3Exception && s3Exception.statusCode() == 404;
+    }
+
+    private Throwable unwrap(Throwable e) {
+        while (e instanceof CompletionException && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+}
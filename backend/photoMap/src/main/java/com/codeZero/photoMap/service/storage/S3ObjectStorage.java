@@ -0,0 +1,155 @@
+package com.codeZero.photoMap.service.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.codeZero.photoMap.common.exception.NotFoundException;
+import com.codeZero.photoMap.service.photo.S3Uploader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * S3 버킷을 사용하는 ObjectStorage 구현체 (기본값)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    private final AmazonS3Client amazonS3Client;
+    private final S3Uploader s3Uploader;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Override
+    public void put(String key, byte[] bytes, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentType);
+
+        amazonS3Client.putObject(bucket, key, new ByteArrayInputStream(bytes), metadata);
+    }
+
+    @Override
+    public void put(String key, InputStream in, String contentType) {
+        // 길이를 모르는 스트림은 멀티파트 업로드로 파트 단위 전송
+        try {
+            s3Uploader.upload(key, in, contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException("S3 파일 업로드에 실패했습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) {
+        try {
+            return amazonS3Client.getObject(bucket, key).getObjectContent();
+        } catch (AmazonS3Exception e) {
+            throw translate(e, key);
+        }
+    }
+
+    @Override
+    public InputStream getRange(String key, long start, long end) {
+        try {
+            return amazonS3Client.getObject(new GetObjectRequest(bucket, key).withRange(start, end)).getObjectContent();
+        } catch (AmazonS3Exception e) {
+            throw translate(e, key);
+        }
+    }
+
+    @Override
+    public Optional<ObjectInfo> head(String key) {
+        try {
+            ObjectMetadata metadata = amazonS3Client.getObjectMetadata(bucket, key);
+            return Optional.of(new ObjectInfo(
+                    key,
+                    metadata.getContentLength(),
+                    metadata.getContentType(),
+                    metadata.getETag(),
+                    metadata.getLastModified() != null ? metadata.getLastModified().toInstant() : null));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        amazonS3Client.deleteObject(bucket, key);
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        // quiet 모드: 실패한 key만 응답으로 받음
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                .withKeys(keys.toArray(new String[0]))
+                .withQuiet(true);
+        try {
+            amazonS3Client.deleteObjects(request);
+            return List.of();
+        } catch (MultiObjectDeleteException e) {
+            return e.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public String presignGet(String key, Instant expiresAt) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key)
+                .withMethod(HttpMethod.GET)
+                .withExpiration(Date.from(expiresAt));
+
+        return amazonS3Client.generatePresignedUrl(request).toString();
+    }
+
+    @Override
+    public String presignPut(String key, String contentType, Instant expiresAt) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key)
+                .withMethod(HttpMethod.PUT)
+                .withContentType(contentType)
+                .withExpiration(Date.from(expiresAt));
+
+        return amazonS3Client.generatePresignedUrl(request).toString();
+    }
+
+    /**
+     * 404 응답을 NotFoundException으로 변환
+     * @param e S3 예외
+     * @param key 오브젝트 key 값
+     * @return 변환된 예외
+     */
+    private RuntimeException translate(AmazonS3Exception e, String key) {
+        if (e.getStatusCode() == 404) {
+            return new NotFoundException("S3에서 파일을 찾을 수 없습니다: " + key);
+        }
+        return e;
+    }
+}
@@ -0,0 +1,57 @@
+package com.codeZero.photoMap.service.storage;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 애플리케이션이 직접 제공하는 스토리지 URL의 HMAC-SHA256 서명 생성/검증
+ * 서명 대상은 HTTP 메서드, 오브젝트 key, 만료 시각이므로 GET URL로 PUT 요청을 하거나 만료 시각을 바꿀 수 없다.
+ */
+public class StorageUrlSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec secretKey;
+
+    public StorageUrlSigner(String secret) {
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * 서명 생성
+     * @param method HTTP 메서드 (GET, PUT)
+     * @param key 오브젝트 key 값
+     * @param expiresEpochSecond 만료 시각 (epoch second)
+     * @return URL-safe Base64 서명
+     */
+    public String sign(String method, String key, long expiresEpochSecond) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            byte[] signature = mac.doFinal((method + "\n" + key + "\n" + expiresEpochSecond).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("스토리지 URL 서명 생성에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 서명 검증 (만료 여부 포함)
+     * @param method HTTP 메서드 (GET, PUT)
+     * @param key 오브젝트 key 값
+     * @param expiresEpochSecond 만료 시각 (epoch second)
+     * @param signature 요청에 포함된 서명
+     * @return 유효하면 true
+     */
+    public boolean verify(String method, String key, long expiresEpochSecond, String signature) {
+        if (signature == null || expiresEpochSecond < System.currentTimeMillis() / 1000) {
+            return false;
+        }
+        byte[] expected = sign(method, key, expiresEpochSecond).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,57 @@
+package com.codeZero.photoMap.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoUtilsTest {
+
+    @Test
+    void interleaveRoundTrips() {
+        Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            long x = random.nextLong(1L << GeoUtils.MORTON_ZOOM);
+            long y = random.nextLong(1L << GeoUtils.MORTON_ZOOM);
+
+            long code = GeoUtils.interleave(x, y);
+
+            assertEquals(x, GeoUtils.deinterleaveX(code));
+            assertEquals(y, GeoUtils.deinterleaveY(code));
+        }
+        // x는 짝수 번째, y는 홀수 번째 비트
+        assertEquals(0b01, GeoUtils.interleave(1, 0));
+        assertEquals(0b10, GeoUtils.interleave(0, 1));
+        assertEquals(0b1101, GeoUtils.interleave(0b11, 0b10));
+    }
+
+    @Test
+    void mortonCodePrefixIsCellCode() {
+        Random random = new Random(2);
+        for (int i = 0; i < 1000; i++) {
+            double lat = -85 + random.nextDouble() * 170;
+            double lng = -180 + random.nextDouble() * 360;
+            int zoom = random.nextInt(GeoUtils.MORTON_ZOOM + 1);
+            long cells = 1L << zoom;
+
+            long code = GeoUtils.mortonCode(lat, lng);
+            long cellX = (long) (GeoUtils.mercatorX(lng) * cells);
+            long cellY = (long) (GeoUtils.mercatorY(lat) * cells);
+
+            // zoom 레벨 칸의 좌표는 모두 cellCode << 2 * (MORTON_ZOOM - zoom)부터 시작하는 구간에 속함
+            assertEquals(GeoUtils.interleave(cellX, cellY), code >>> 2 * (GeoUtils.MORTON_ZOOM - zoom));
+        }
+    }
+
+    @Test
+    void mercatorIsClampedToUnitRange() {
+        assertEquals(0.0, GeoUtils.mercatorX(-180));
+        assertTrue(GeoUtils.mercatorX(180) < 1.0);
+        assertEquals(0.0, GeoUtils.mercatorY(90));
+        assertTrue(GeoUtils.mercatorY(-90) < 1.0);
+        assertEquals(0.5, GeoUtils.mercatorY(0), 1e-12);
+        assertTrue(GeoUtils.mortonCode(-90, 180) < 1L << 2 * GeoUtils.MORTON_ZOOM);
+    }
+}
@@ -0,0 +1,84 @@
+package com.codeZero.photoMap.common;
+
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageCursorTest {
+
+    @Test
+    void decodesEncodedId() {
+        assertEquals(42L, PageCursor.decode(PageCursor.encode(42L)));
+        assertEquals(Long.MAX_VALUE - 1, PageCursor.decode(PageCursor.encode(Long.MAX_VALUE - 1)));
+    }
+
+    @Test
+    void encodedCursorIsUrlSafeWithoutPadding() {
+        String cursor = PageCursor.encode(123456789L);
+
+        assertFalse(cursor.contains("="));
+        assertFalse(cursor.contains("+"));
+        assertFalse(cursor.contains("/"));
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertEquals(Long.MAX_VALUE, PageCursor.decode(null));
+        assertEquals(Long.MAX_VALUE, PageCursor.decode(""));
+        assertEquals(Long.MAX_VALUE, PageCursor.decode("  "));
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        // Base64가 아닌 문자열, 접두어가 다른 값, 숫자가 아닌 ID
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("!!not-base64!!"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(encodeRaw("42")));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(encodeRaw("id:42 OR 1=1")));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(encodeRaw("id:")));
+    }
+
+    @Test
+    void blankTimelineCursorMeansFirstPage() {
+        assertNull(PageCursor.decodeTimeline(null));
+        assertNull(PageCursor.decodeTimeline(""));
+    }
+
+    @Test
+    void idCursorIsNotAcceptedAsTimelineCursor() {
+        String idCursor = PageCursor.encode(42L);
+        String timelineCursor = PageCursor.encodeTimeline(LocalDateTime.of(2024, 5, 1, 12, 0), 42L);
+
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeTimeline(idCursor));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(timelineCursor));
+    }
+
+    @Test
+    void decodesEncodedTimelinePosition() {
+        LocalDateTime takenAt = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000);
+
+        PageCursor.TimelinePosition position = PageCursor.decodeTimeline(PageCursor.encodeTimeline(takenAt, 7L));
+
+        assertEquals(takenAt, position.takenAt());
+        assertEquals(7L, position.id());
+    }
+
+    @Test
+    void rejectsTamperedTimelineCursor() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeTimeline("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeTimeline(encodeRaw("t:2024-05-01T12:00")));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeTimeline(encodeRaw("t:yesterday,7")));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeTimeline(encodeRaw("t:2024-05-01T12:00,seven")));
+    }
+
+    private static String encodeRaw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
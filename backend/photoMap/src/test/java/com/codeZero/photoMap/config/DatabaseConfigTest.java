@@ -0,0 +1,54 @@
+package com.codeZero.photoMap.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseConfigTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private DatabaseMetaData metaData;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+    }
+
+    @Test
+    void mysqlIsAccepted() throws SQLException {
+        when(metaData.getDatabaseProductName()).thenReturn("MySQL");
+        when(metaData.getDatabaseProductVersion()).thenReturn("8.0.35");
+
+        assertDoesNotThrow(() -> new DatabaseConfig(dataSource).checkDatabaseProduct());
+        verify(connection).close();
+    }
+
+    @Test
+    void otherDatabaseIsRejected() throws SQLException {
+        // H2는 MySQL 호환 모드여도 제품명이 H2
+        when(metaData.getDatabaseProductName()).thenReturn("H2");
+
+        assertThrows(IllegalStateException.class, () -> new DatabaseConfig(dataSource).checkDatabaseProduct());
+        verify(connection).close();
+    }
+}
@@ -0,0 +1,179 @@
+package com.codeZero.photoMap.domain.location;
+
+import com.codeZero.photoMap.common.BoundingBox;
+import com.codeZero.photoMap.common.GeoUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocationViewportRepositoryTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TypedQuery<Location> query;
+
+    @InjectMocks
+    private LocationViewportRepository locationViewportRepository;
+
+    @Test
+    void coveringRangesContainEveryPointInBox() {
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            double minLat = -80 + random.nextDouble() * 150;
+            double maxLat = Math.min(85, minLat + random.nextDouble() * Math.pow(10, -random.nextInt(5)) * 20);
+            double minLng = -180 + random.nextDouble() * 360;
+            double width = random.nextDouble() * Math.pow(10, -random.nextInt(5)) * 40;
+            double maxLng = minLng + width > 180 ? minLng + width - 360 : minLng + width;
+            BoundingBox bbox = new BoundingBox(minLng, minLat, maxLng, maxLat);
+
+            List<long[]> ranges = LocationViewportRepository.coveringRanges(bbox);
+
+            assertSortedAndDisjoint(ranges);
+            // 축별 최대 4칸(경계가 걸치면 5칸), 날짜 변경선을 넘으면 두 배
+            assertTrue(ranges.size() <= 50, "구간 수: " + ranges.size());
+
+            for (int j = 0; j < 50; j++) {
+                double lat = minLat + random.nextDouble() * (maxLat - minLat);
+                double lng = minLng + random.nextDouble() * width;
+                lng = lng > 180 ? lng - 360 : lng;
+                assertTrue(covers(ranges, GeoUtils.mortonCode(lat, lng)), "영역 안 좌표가 구간에 포함되지 않음: " + lat + "," + lng);
+            }
+            // 모서리 좌표도 포함
+            assertTrue(covers(ranges, GeoUtils.mortonCode(minLat, minLng)));
+            assertTrue(covers(ranges, GeoUtils.mortonCode(maxLat, maxLng)));
+        }
+    }
+
+    @Test
+    void coveringRangesReadLittleOutsideTheBox() {
+        // 서울 시내 정도의 영역은 전체 코드 공간의 아주 작은 부분만 읽음
+        BoundingBox bbox = new BoundingBox(126.9, 37.5, 127.1, 37.6);
+
+        long covered = LocationViewportRepository.coveringRanges(bbox).stream()
+                .mapToLong(range -> range[1] - range[0])
+                .sum();
+
+        assertTrue(covered < (1L << 2 * GeoUtils.MORTON_ZOOM) / 100_000);
+    }
+
+    @Test
+    void coveringRangesForPointBoxIsSingleBaseCell() {
+        BoundingBox bbox = new BoundingBox(127.0, 37.5, 127.0, 37.5);
+
+        List<long[]> ranges = LocationViewportRepository.coveringRanges(bbox);
+
+        long code = GeoUtils.mortonCode(37.5, 127.0);
+        assertEquals(1, ranges.size());
+        assertEquals(code, ranges.get(0)[0]);
+        assertEquals(code + 1, ranges.get(0)[1]);
+    }
+
+    @Test
+    void aroundCoversRadius() {
+        double[][] centers = {{37.5, 127.0}, {0.0, 179.99}, {0.0, -179.99}, {-60.0, 10.0}, {89.9, 0.0}};
+        for (double[] center : centers) {
+            double lat = center[0];
+            double lng = center[1];
+            double radius = 5_000;
+
+            BoundingBox bbox = LocationViewportRepository.around(lat, lng, radius);
+
+            // 반경 경계(동서남북)의 좌표가 모두 영역 안에 있어야 함
+            double dLat = Math.toDegrees(radius / GeoUtils.EARTH_RADIUS_METERS) * 0.999;
+            double dLng = dLat / Math.cos(Math.toRadians(lat));
+            assertTrue(bbox.contains(Math.min(90, lat + dLat), lng));
+            assertTrue(bbox.contains(Math.max(-90, lat - dLat), lng));
+            if (dLng < 180) {
+                assertTrue(bbox.contains(lat, wrap(lng + dLng)));
+                assertTrue(bbox.contains(lat, wrap(lng - dLng)));
+            }
+        }
+        // 극 근처에서는 경도 전체
+        BoundingBox polar = LocationViewportRepository.around(89.99, 0.0, 10_000);
+        assertEquals(-180, polar.minLng());
+        assertEquals(180, polar.maxLng());
+    }
+
+    @Test
+    void findInBoundingBoxScansRangesAndFiltersOutsideRows() {
+        BoundingBox bbox = new BoundingBox(126.9, 37.5, 127.1, 37.6);
+        Location inside = location(1L, 37.55, 127.0);
+        // 구간에는 포함되지만 실제 영역 밖인 행
+        Location outside = location(2L, 37.61, 127.0);
+        when(entityManager.createQuery(anyString(), eq(Location.class))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(inside, outside));
+
+        List<Location> result = locationViewportRepository.findInBoundingBox(List.of(10L), bbox);
+
+        assertEquals(List.of(inside), result);
+
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        verify(entityManager).createQuery(jpql.capture(), eq(Location.class));
+        int rangeCount = LocationViewportRepository.coveringRanges(bbox).size();
+        for (int i = 0; i < rangeCount; i++) {
+            assertTrue(jpql.getValue().contains("l.geoCell >= :start" + i + " AND l.geoCell < :end" + i));
+        }
+        verify(query).setParameter("groupIds", List.of(10L));
+    }
+
+    @Test
+    void findWithinRadiusSortsByDistance() {
+        Location far = location(1L, 37.5 + 0.02, 127.0);
+        Location near = location(2L, 37.5 + 0.001, 127.0);
+        Location outside = location(3L, 37.5, 127.0 + 0.03);
+        when(entityManager.createQuery(anyString(), eq(Location.class))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(far, near, outside));
+
+        List<Location> result = locationViewportRepository.findWithinRadius(List.of(10L), 37.5, 127.0, 2_500);
+
+        assertEquals(List.of(near, far), result);
+    }
+
+    private static void assertSortedAndDisjoint(List<long[]> ranges) {
+        for (int i = 0; i < ranges.size(); i++) {
+            assertTrue(ranges.get(i)[0] < ranges.get(i)[1]);
+            if (i > 0) {
+                // 이어지는 구간은 병합되므로 앞 구간의 끝보다 뒤에서 시작
+                assertTrue(ranges.get(i - 1)[1] < ranges.get(i)[0]);
+            }
+        }
+    }
+
+    private static boolean covers(List<long[]> ranges, long code) {
+        return ranges.stream().anyMatch(range -> range[0] <= code && code < range[1]);
+    }
+
+    private static double wrap(double lng) {
+        return lng > 180 ? lng - 360 : lng < -180 ? lng + 360 : lng;
+    }
+
+    private static Location location(Long id, double latitude, double longitude) {
+        return Location.builder()
+                .id(id)
+                .name("위치 " + id)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+}
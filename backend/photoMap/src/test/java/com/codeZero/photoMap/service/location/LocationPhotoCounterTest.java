@@ -0,0 +1,118 @@
+package com.codeZero.photoMap.service.location;
+
+import com.codeZero.photoMap.domain.location.Location;
+import com.codeZero.photoMap.domain.location.LocationPhotoCount;
+import com.codeZero.photoMap.domain.location.LocationRepository;
+import com.codeZero.photoMap.domain.photo.Photo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocationPhotoCounterTest {
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private PhotoHeatmap photoHeatmap;
+
+    @Mock
+    private LocationSpatialIndex locationSpatialIndex;
+
+    private LocationPhotoCounter locationPhotoCounter;
+
+    @BeforeEach
+    void setUp() {
+        locationPhotoCounter = new LocationPhotoCounter(locationRepository, photoHeatmap, locationSpatialIndex, 2);
+    }
+
+    @Test
+    void recountAllIsDisabledUnlessCronIsConfigured() throws NoSuchMethodException {
+        Scheduled scheduled = LocationPhotoCounter.class.getMethod("recountAll").getAnnotation(Scheduled.class);
+
+        // 기본값 "-"는 스케줄 비활성화 (서버 시작 시에도 실행하지 않음)
+        assertEquals("${location.photo-count.recount-cron:-}", scheduled.cron());
+        assertEquals(-1, scheduled.initialDelay());
+        assertEquals("", scheduled.initialDelayString());
+    }
+
+    @Test
+    void recountAllPagesByIdThenRebuildsHeatmaps() {
+        when(locationRepository.findIdsAfter(0L, PageRequest.of(0, 2))).thenReturn(List.of(1L, 2L));
+        when(locationRepository.findIdsAfter(2L, PageRequest.of(0, 2))).thenReturn(List.of(5L));
+        when(locationRepository.findIdsAfter(5L, PageRequest.of(0, 2))).thenReturn(List.of());
+        when(locationRepository.findGroupIdsWithLocations()).thenReturn(List.of(10L, 20L));
+
+        locationPhotoCounter.recountAll();
+
+        verify(locationRepository).recountPhotos(List.of(1L, 2L));
+        verify(locationRepository).recountPhotos(List.of(5L));
+        verify(photoHeatmap).rebuild(10L);
+        verify(photoHeatmap).rebuild(20L);
+    }
+
+    @Test
+    void recountAllSkipsHeatmapWhenRecountFails() {
+        when(locationRepository.findIdsAfter(anyLong(), any())).thenReturn(List.of(1L, 2L));
+        when(locationRepository.recountPhotos(List.of(1L, 2L))).thenThrow(new RuntimeException("db down"));
+
+        locationPhotoCounter.recountAll();
+
+        verify(locationRepository, never()).findGroupIdsWithLocations();
+        verify(photoHeatmap, never()).rebuild(anyLong());
+    }
+
+    @Test
+    void addedAppliesDeltasAndRefreshesSpatialIndex() {
+        Location location = Location.builder().id(1L).build();
+        List<Photo> photos = List.of(
+                Photo.builder().id(100L).location(location).build(),
+                Photo.builder().id(101L).location(location).build());
+        when(locationRepository.findPhotoCountsByIdIn(List.of(1L))).thenReturn(List.of(new LocationPhotoCount(1L, 10L, 7)));
+
+        locationPhotoCounter.added(photos);
+
+        verify(locationRepository).addPhotos(eq(1L), eq(2), eq(101L), any());
+        verify(photoHeatmap).adjust(Map.of(1L, 2));
+        // 벌크 UPDATE 결과를 DB에서 다시 읽어 색인에 반영
+        verify(locationSpatialIndex).updatePhotoCounts(10L, Map.of(1L, 7));
+    }
+
+    @Test
+    void recountRefreshesSpatialIndexPerGroup() {
+        when(locationRepository.findPhotoCountsByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new LocationPhotoCount(1L, 10L, 4),
+                new LocationPhotoCount(2L, 10L, 0),
+                new LocationPhotoCount(3L, 20L, 9)));
+
+        locationPhotoCounter.recount(List.of(1L, 2L, 3L));
+
+        verify(locationRepository).recountPhotos(List.of(1L, 2L, 3L));
+        verify(locationSpatialIndex).updatePhotoCounts(10L, Map.of(1L, 4, 2L, 0));
+        verify(locationSpatialIndex).updatePhotoCounts(20L, Map.of(3L, 9));
+    }
+
+    @Test
+    void recountOfNoLocationsDoesNothing() {
+        locationPhotoCounter.recount(List.of());
+
+        verify(locationRepository, never()).recountPhotos(any());
+        verify(locationRepository, never()).findPhotoCountsByIdIn(any());
+    }
+}
@@ -0,0 +1,133 @@
+package com.codeZero.photoMap.service.location;
+
+import com.codeZero.photoMap.common.exception.ForbiddenException;
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import com.codeZero.photoMap.domain.group.MemberGroupMappingRepository;
+import com.codeZero.photoMap.domain.group.Role;
+import com.codeZero.photoMap.domain.location.Location;
+import com.codeZero.photoMap.domain.location.LocationRepository;
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import com.codeZero.photoMap.dto.location.response.LocationMergeResponse;
+import com.codeZero.photoMap.service.search.SearchIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocationServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long GROUP_ID = 10L;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private MemberGroupMappingRepository memberGroupMappingRepository;
+
+    @Mock
+    private LocationSpatialIndex locationSpatialIndex;
+
+    @Mock
+    private LocationDuplicateFinder locationDuplicateFinder;
+
+    @Mock
+    private LocationPhotoCounter locationPhotoCounter;
+
+    @Mock
+    private PhotoHeatmap photoHeatmap;
+
+    @Mock
+    private PhotoRepository photoRepository;
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @InjectMocks
+    private LocationService locationService;
+
+    @Test
+    void mergeMovesPhotosToFirstLocationOfEachCluster() {
+        Location target = location(1L);
+        Location other = location(4L);
+        List<Location> locations = List.of(target, location(2L), location(3L), other, location(5L));
+        givenOwner();
+        when(locationRepository.findByMemberGroupIdAndIsDeletedFalse(GROUP_ID)).thenReturn(locations);
+        when(locationDuplicateFinder.findClusters(locations, 30.0)).thenReturn(List.of(
+                List.of(target, locations.get(1), locations.get(2)),
+                List.of(other, locations.get(4))));
+        when(photoRepository.moveLocation(List.of(2L, 3L), target)).thenReturn(4);
+        when(photoRepository.moveLocation(List.of(5L), other)).thenReturn(1);
+
+        List<LocationMergeResponse> responses = locationService.mergeNearDuplicates(MEMBER_ID, GROUP_ID, 30.0);
+
+        assertEquals(2, responses.size());
+        assertEquals(1L, responses.get(0).getTargetId());
+        assertEquals(List.of(2L, 3L), responses.get(0).getMergedLocationIds());
+        assertEquals(4, responses.get(0).getMovedPhotoCount());
+        assertEquals(4L, responses.get(1).getTargetId());
+        assertEquals(1, responses.get(1).getMovedPhotoCount());
+
+        verify(photoRepository).clearSuggestedLocation(List.of(2L, 3L));
+        verify(locationRepository).deleteByIdIn(List.of(2L, 3L, 5L));
+        // 남긴 위치의 사진 수는 다시 계산하면서 공간 색인에도 반영됨
+        verify(locationPhotoCounter).recount(List.of(1L, 4L));
+        verify(photoHeatmap).rebuild(GROUP_ID);
+        for (Long mergedId : List.of(2L, 3L, 5L)) {
+            verify(locationSpatialIndex).remove(GROUP_ID, mergedId);
+            verify(searchIndex).removeLocation(GROUP_ID, mergedId);
+        }
+    }
+
+    @Test
+    void mergeWithoutDuplicatesChangesNothing() {
+        givenOwner();
+        when(locationRepository.findByMemberGroupIdAndIsDeletedFalse(GROUP_ID)).thenReturn(List.of(location(1L)));
+        when(locationDuplicateFinder.findClusters(any(), any(Double.class))).thenReturn(List.of());
+
+        assertTrue(locationService.mergeNearDuplicates(MEMBER_ID, GROUP_ID, 30.0).isEmpty());
+
+        verify(locationRepository, never()).deleteByIdIn(any());
+        verify(locationPhotoCounter, never()).recount(any());
+        verify(photoHeatmap, never()).rebuild(anyLong());
+    }
+
+    @Test
+    void mergeRequiresGroupOwner() {
+        when(memberGroupMappingRepository.existsByMemberGroupIdAndMemberIdAndRoleAndIsDeletedFalse(GROUP_ID, MEMBER_ID, Role.OWNER))
+                .thenReturn(false);
+
+        assertThrows(ForbiddenException.class, () -> locationService.mergeNearDuplicates(MEMBER_ID, GROUP_ID, 30.0));
+        verify(locationRepository, never()).findByMemberGroupIdAndIsDeletedFalse(anyLong());
+    }
+
+    @Test
+    void mergeRejectsRadiusOutOfRange() {
+        givenOwner();
+
+        assertThrows(IllegalArgumentException.class, () -> locationService.mergeNearDuplicates(MEMBER_ID, GROUP_ID, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> locationService.mergeNearDuplicates(MEMBER_ID, GROUP_ID, 1001.0));
+    }
+
+    private void givenOwner() {
+        when(memberGroupMappingRepository.existsByMemberGroupIdAndMemberIdAndRoleAndIsDeletedFalse(GROUP_ID, MEMBER_ID, Role.OWNER))
+                .thenReturn(true);
+    }
+
+    private static Location location(Long id) {
+        return Location.builder().id(id).name("위치 " + id).latitude(37.5).longitude(127.0).build();
+    }
+}
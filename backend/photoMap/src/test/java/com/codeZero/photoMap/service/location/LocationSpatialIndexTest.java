@@ -0,0 +1,160 @@
+package com.codeZero.photoMap.service.location;
+
+import com.codeZero.photoMap.common.BoundingBox;
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import com.codeZero.photoMap.domain.group.MemberGroup;
+import com.codeZero.photoMap.domain.location.Location;
+import com.codeZero.photoMap.domain.location.LocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocationSpatialIndexTest {
+
+    private static final Long GROUP_ID = 10L;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    private LocationSpatialIndex locationSpatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        locationSpatialIndex = new LocationSpatialIndex(locationRepository, 60, 1000, 1_000_000);
+    }
+
+    @Test
+    void updatePhotoCountsReplacesCachedCountsWithoutReloading() {
+        MemberGroup group = MemberGroup.builder().id(GROUP_ID).build();
+        when(locationRepository.findByMemberGroupIdAndIsDeletedFalse(GROUP_ID)).thenReturn(List.of(
+                location(1L, group, 37.5, 127.0, 3),
+                location(2L, group, 35.1, 129.0, 5)));
+        LocationSpatialIndex.GroupView before = locationSpatialIndex.view(GROUP_ID);
+
+        // 트랜잭션 밖에서는 바로 반영
+        locationSpatialIndex.updatePhotoCounts(GROUP_ID, Map.of(1L, 8, 99L, 1));
+        LocationSpatialIndex.GroupView after = locationSpatialIndex.view(GROUP_ID);
+
+        assertNotEquals(before.version(), after.version());
+        assertEquals(Map.of(1L, 8, 2L, 5), photoCounts(after));
+        verify(locationRepository, times(1)).findByMemberGroupIdAndIsDeletedFalse(GROUP_ID);
+    }
+
+    @Test
+    void unchangedCountsKeepSnapshotVersion() {
+        MemberGroup group = MemberGroup.builder().id(GROUP_ID).build();
+        when(locationRepository.findByMemberGroupIdAndIsDeletedFalse(GROUP_ID)).thenReturn(List.of(
+                location(1L, group, 37.5, 127.0, 3)));
+        long version = locationSpatialIndex.view(GROUP_ID).version();
+
+        locationSpatialIndex.updatePhotoCounts(GROUP_ID, Map.of(1L, 3));
+
+        // 같은 값이면 스냅샷(과 인코딩된 타일 캐시)을 새로 만들지 않음
+        assertEquals(version, locationSpatialIndex.view(GROUP_ID).version());
+    }
+
+    @Test
+    void clusterMergesNearbyLocationsAtLowZoom() {
+        MemberGroup group = MemberGroup.builder().id(GROUP_ID).build();
+        when(locationRepository.findByMemberGroupIdAndIsDeletedFalse(GROUP_ID)).thenReturn(List.of(
+                location(1L, group, 37.5, 127.0, 3),
+                location(2L, group, 35.1, 129.0, 5)));
+
+        List<LocationSpatialIndex.Cluster> clusters =
+                locationSpatialIndex.cluster(List.of(GROUP_ID), new BoundingBox(-180, -85, 180, 85), 0);
+
+        // 줌 0의 격자 한 칸은 경도 90도이므로 서울과 부산이 한 클러스터로 묶임
+        assertEquals(1, clusters.size());
+        LocationSpatialIndex.Cluster cluster = clusters.get(0);
+        assertEquals(2, cluster.count());
+        assertEquals((37.5 + 35.1) / 2, cluster.latitude(), 1e-9);
+        assertEquals((127.0 + 129.0) / 2, cluster.longitude(), 1e-9);
+        assertNull(cluster.locationId());
+        assertNull(cluster.name());
+    }
+
+    @Test
+    void clusterSplitsLocationsAtHighZoomAndSumsGroups() {
+        MemberGroup group = MemberGroup.builder().id(GROUP_ID).build();
+        MemberGroup otherGroup = MemberGroup.builder().id(20L).build();
+        when(locationRepository.findByMemberGroupIdAndIsDeletedFalse(GROUP_ID)).thenReturn(List.of(
+                location(1L, group, 37.5, 127.0, 3),
+                location(2L, group, 35.1, 129.0, 5)));
+        when(locationRepository.findByMemberGroupIdAndIsDeletedFalse(20L)).thenReturn(List.of(
+                location(3L, otherGroup, 35.1, 129.0, 1)));
+
+        List<LocationSpatialIndex.Cluster> clusters =
+                locationSpatialIndex.cluster(List.of(GROUP_ID, 20L), new BoundingBox(126, 34, 130, 38), 10);
+
+        // 부산 칸에는 두 그룹의 위치가 합산되고, 위치 수 내림차순으로 정렬됨
+        assertEquals(2, clusters.size());
+        assertEquals(2, clusters.get(0).count());
+        assertEquals(35.1, clusters.get(0).latitude(), 1e-9);
+        assertNull(clusters.get(0).locationId());
+
+        // 위치가 하나뿐인 칸은 위치 ID와 이름을 함께 내려줌
+        assertEquals(1, clusters.get(1).count());
+        assertEquals(1L, clusters.get(1).locationId());
+        assertEquals("위치 1", clusters.get(1).name());
+    }
+
+    @Test
+    void clusterHandlesAntimeridianCrossingBox() {
+        MemberGroup group = MemberGroup.builder().id(GROUP_ID).build();
+        when(locationRepository.findByMemberGroupIdAndIsDeletedFalse(GROUP_ID)).thenReturn(List.of(
+                location(1L, group, 0.0, 179.5, 0),
+                location(2L, group, 0.0, -179.5, 0),
+                location(3L, group, 0.0, 0.0, 0)));
+
+        List<LocationSpatialIndex.Cluster> clusters =
+                locationSpatialIndex.cluster(List.of(GROUP_ID), new BoundingBox(179, -1, -179, 1), 5);
+
+        // 날짜 변경선 양쪽의 위치만 포함되고 영역 밖(경도 0도)의 위치는 제외됨
+        assertEquals(List.of(1L, 2L), clusters.stream().map(LocationSpatialIndex.Cluster::locationId).sorted().toList());
+    }
+
+    @Test
+    void clusterRejectsInvalidRequests() {
+        BoundingBox world = new BoundingBox(-180, -85, 180, 85);
+
+        assertThrows(IllegalArgumentException.class, () -> locationSpatialIndex.cluster(List.of(GROUP_ID), world, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> locationSpatialIndex.cluster(List.of(GROUP_ID), world, LocationSpatialIndex.MAX_ZOOM + 1));
+        // 줌 레벨에 비해 영역이 너무 넓으면 격자 칸을 확인하기 전에 거절
+        assertThrows(IllegalArgumentException.class, () -> locationSpatialIndex.cluster(List.of(GROUP_ID), world, 10));
+        verify(locationRepository, never()).findByMemberGroupIdAndIsDeletedFalse(GROUP_ID);
+    }
+
+    private static Location location(Long id, MemberGroup group, double latitude, double longitude, int photoCount) {
+        return Location.builder()
+                .id(id)
+                .memberGroup(group)
+                .name("위치 " + id)
+                .latitude(latitude)
+                .longitude(longitude)
+                .photoCount(photoCount)
+                .build();
+    }
+
+    private static Map<Long, Integer> photoCounts(LocationSpatialIndex.GroupView view) {
+        Map<Long, Integer> photoCounts = new HashMap<>();
+        view.locations().forEachInCell(0, 0, 0, (id, name, latitude, longitude, photoCount) -> photoCounts.put(id, photoCount));
+        return photoCounts;
+    }
+}
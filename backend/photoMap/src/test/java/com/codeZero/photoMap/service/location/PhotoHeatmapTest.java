@@ -0,0 +1,149 @@
+package com.codeZero.photoMap.service.location;
+
+import com.codeZero.photoMap.common.GeoUtils;
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import com.codeZero.photoMap.domain.location.LocationCell;
+import com.codeZero.photoMap.domain.location.LocationRepository;
+import com.codeZero.photoMap.domain.location.PhotoHeatCell;
+import com.codeZero.photoMap.domain.location.PhotoHeatCellRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PhotoHeatmapTest {
+
+    private static final Long GROUP_ID = 10L;
+
+    @Mock
+    private PhotoHeatCellRepository photoHeatCellRepository;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @InjectMocks
+    private PhotoHeatmap photoHeatmap;
+
+    @Test
+    void levelForUsesFinestLevelWithinOffset() {
+        // 타일 한 변이 32칸 이하가 되는 가장 세밀한 저장 레벨
+        assertEquals(3, PhotoHeatmap.levelFor(0));
+        assertEquals(6, PhotoHeatmap.levelFor(1));
+        assertEquals(6, PhotoHeatmap.levelFor(3));
+        assertEquals(9, PhotoHeatmap.levelFor(4));
+        assertEquals(15, PhotoHeatmap.levelFor(10));
+        assertEquals(18, PhotoHeatmap.levelFor(13));
+        // 가장 세밀한 저장 레벨보다 큰 줌에서는 타일보다 작은 칸이 없음
+        assertEquals(18, PhotoHeatmap.levelFor(LocationSpatialIndex.MAX_ZOOM));
+    }
+
+    @Test
+    void adjustIncrementsCellOnEveryLevel() {
+        long geoCell = GeoUtils.mortonCode(37.5, 127.0);
+
+        photoHeatmap.adjust(GROUP_ID, geoCell, -2);
+
+        for (int level : PhotoHeatmap.LEVELS) {
+            verify(photoHeatCellRepository).increment(GROUP_ID, level, geoCell >> 2 * (GeoUtils.MORTON_ZOOM - level), -2);
+        }
+    }
+
+    @Test
+    void adjustIgnoresMissingCellAndZeroDelta() {
+        photoHeatmap.adjust(GROUP_ID, null, 3);
+        photoHeatmap.adjust(GROUP_ID, 123L, 0);
+        photoHeatmap.adjust(Map.of());
+
+        verifyNoInteractions(photoHeatCellRepository, locationRepository);
+    }
+
+    @Test
+    void adjustResolvesLocationCells() {
+        long seoul = GeoUtils.mortonCode(37.5, 127.0);
+        when(locationRepository.findCellsByIdIn(List.of(1L))).thenReturn(List.of(new LocationCell(1L, GROUP_ID, seoul)));
+
+        photoHeatmap.adjust(Map.of(1L, 4));
+
+        verify(photoHeatCellRepository).increment(GROUP_ID, 18, seoul >> 12, 4);
+        verify(photoHeatCellRepository).increment(GROUP_ID, 3, seoul >> 42, 4);
+    }
+
+    @Test
+    void rebuildDeletesThenInsertsEveryLevel() {
+        photoHeatmap.rebuild(GROUP_ID);
+
+        InOrder inOrder = inOrder(photoHeatCellRepository);
+        inOrder.verify(photoHeatCellRepository).deleteByGroupId(GROUP_ID);
+        for (int level : PhotoHeatmap.LEVELS) {
+            inOrder.verify(photoHeatCellRepository).insertFromLocations(GROUP_ID, level, 2 * (GeoUtils.MORTON_ZOOM - level));
+        }
+    }
+
+    @Test
+    void getTileScansCellsInsideTile() {
+        int z = 10;
+        long cells = 1L << z;
+        long x = (long) (GeoUtils.mercatorX(127.0) * cells);
+        long y = (long) (GeoUtils.mercatorY(37.5) * cells);
+        // 줌 10 타일은 레벨 15 격자의 32 x 32 칸
+        long cell = GeoUtils.mortonCode(37.5, 127.0) >> 2 * (GeoUtils.MORTON_ZOOM - 15);
+        when(photoHeatCellRepository.findInRange(eq(GROUP_ID), eq(15), anyLong(), anyLong()))
+                .thenReturn(List.of(PhotoHeatCell.builder().zoomLevel(15).cell(cell).photoCount(7).build()));
+
+        PhotoHeatmap.Tile tile = photoHeatmap.getTile(GROUP_ID, z, x, y);
+
+        ArgumentCaptor<Long> start = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<Long> end = ArgumentCaptor.forClass(Long.class);
+        verify(photoHeatCellRepository).findInRange(eq(GROUP_ID), eq(15), start.capture(), end.capture());
+        assertEquals(GeoUtils.interleave(x, y) << 10, start.getValue());
+        assertEquals(32 * 32, end.getValue() - start.getValue());
+        assertTrue(start.getValue() <= cell && cell < end.getValue());
+
+        assertEquals(15, tile.level());
+        assertEquals(List.of(new PhotoHeatmap.Cell(GeoUtils.deinterleaveX(cell), GeoUtils.deinterleaveY(cell), 7)), tile.cells());
+        // 칸 좌표는 타일 좌표를 격자 레벨로 확대한 범위 안
+        assertEquals(x, tile.cells().get(0).x() >> 5);
+        assertEquals(y, tile.cells().get(0).y() >> 5);
+    }
+
+    @Test
+    void getTileAboveFinestLevelReadsEnclosingCell() {
+        // 줌 20 타일은 레벨 18 격자 한 칸 안에 들어감
+        long x = 123_457;
+        long y = 654_321;
+
+        photoHeatmap.getTile(GROUP_ID, 20, x, y);
+
+        long start = GeoUtils.interleave(x >> 2, y >> 2);
+        verify(photoHeatCellRepository).findInRange(GROUP_ID, 18, start, start + 1);
+    }
+
+    @Test
+    void getTileRejectsInvalidCoordinates() {
+        assertThrows(IllegalArgumentException.class, () -> photoHeatmap.getTile(GROUP_ID, -1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> photoHeatmap.getTile(GROUP_ID, LocationSpatialIndex.MAX_ZOOM + 1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> photoHeatmap.getTile(GROUP_ID, 2, 4, 0));
+        assertThrows(IllegalArgumentException.class, () -> photoHeatmap.getTile(GROUP_ID, 2, 0, -1));
+
+        verify(photoHeatCellRepository, never()).findInRange(anyLong(), anyInt(), anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,113 @@
+package com.codeZero.photoMap.service.location.spatial;
+
+import com.codeZero.photoMap.common.GeoUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupLocationsTest {
+
+    @Test
+    void aggregateMatchesBruteForce() {
+        Random random = new Random(1);
+        List<GroupLocations.Point> points = randomPoints(random, 3000, 33.0, 38.6, 124.6, 131.9);
+        GroupLocations locations = GroupLocations.of(points);
+
+        for (int gridZoom : new int[]{0, 4, 8, 12, 16}) {
+            Map<Long, List<GroupLocations.Point>> expected = byCell(points, gridZoom);
+
+            for (Map.Entry<Long, List<GroupLocations.Point>> entry : expected.entrySet()) {
+                long x = entry.getKey() >> 32;
+                long y = entry.getKey() & 0xFFFFFFFFL;
+                List<GroupLocations.Point> cellPoints = entry.getValue();
+
+                GroupLocations.CellAggregate aggregate = new GroupLocations.CellAggregate();
+                locations.aggregate(gridZoom, x, y, aggregate);
+
+                assertEquals(cellPoints.size(), aggregate.getCount());
+                assertEquals(cellPoints.stream().mapToDouble(GroupLocations.Point::latitude).average().orElseThrow(),
+                        aggregate.getLatitude(), 1e-9);
+                assertEquals(cellPoints.stream().mapToDouble(GroupLocations.Point::longitude).average().orElseThrow(),
+                        aggregate.getLongitude(), 1e-9);
+            }
+            assertEquals(points.size(), expected.values().stream().mapToInt(List::size).sum());
+        }
+    }
+
+    @Test
+    void emptyCellAddsNothing() {
+        GroupLocations locations = GroupLocations.of(List.of(point(1, 37.5, 127.0)));
+
+        // 서울이 아닌 칸 (줌 2 기준 서쪽 끝 칸)
+        GroupLocations.CellAggregate aggregate = new GroupLocations.CellAggregate();
+        locations.aggregate(2, 0, 0, aggregate);
+
+        assertEquals(0, aggregate.getCount());
+    }
+
+    @Test
+    void aggregateSumsAcrossGroupsAndKeepsFirstPoint() {
+        GroupLocations seoul = GroupLocations.of(List.of(point(1, 37.5, 127.0)));
+        GroupLocations busan = GroupLocations.of(List.of(point(2, 35.1, 129.0), point(3, 35.2, 129.1)));
+
+        // 줌 0에서는 모든 위치가 한 칸에 속함
+        GroupLocations.CellAggregate aggregate = new GroupLocations.CellAggregate();
+        seoul.aggregate(0, 0, 0, aggregate);
+        busan.aggregate(0, 0, 0, aggregate);
+
+        assertEquals(3, aggregate.getCount());
+        assertEquals((37.5 + 35.1 + 35.2) / 3, aggregate.getLatitude(), 1e-9);
+        assertEquals((127.0 + 129.0 + 129.1) / 3, aggregate.getLongitude(), 1e-9);
+        assertEquals(1L, aggregate.getFirstId());
+        assertEquals("위치 1", aggregate.getFirstName());
+    }
+
+    @Test
+    void forEachInCellVisitsOnlyCellPoints() {
+        Random random = new Random(2);
+        List<GroupLocations.Point> points = randomPoints(random, 1000, -60, 60, -180, 180);
+        GroupLocations locations = GroupLocations.of(points);
+        int gridZoom = 3;
+
+        for (Map.Entry<Long, List<GroupLocations.Point>> entry : byCell(points, gridZoom).entrySet()) {
+            long x = entry.getKey() >> 32;
+            long y = entry.getKey() & 0xFFFFFFFFL;
+            List<Long> visited = new ArrayList<>();
+            locations.forEachInCell(gridZoom, x, y, (id, name, latitude, longitude, photoCount) -> visited.add(id));
+
+            assertEquals(entry.getValue().size(), visited.size());
+            assertTrue(entry.getValue().stream().allMatch(p -> visited.contains(p.id())));
+        }
+    }
+
+    // 격자 칸별로 위치를 나눔 (key = x << 32 | y)
+    private static Map<Long, List<GroupLocations.Point>> byCell(List<GroupLocations.Point> points, int gridZoom) {
+        long cells = 1L << gridZoom;
+        Map<Long, List<GroupLocations.Point>> result = new HashMap<>();
+        for (GroupLocations.Point point : points) {
+            long x = (long) (GeoUtils.mercatorX(point.longitude()) * cells);
+            long y = (long) (GeoUtils.mercatorY(point.latitude()) * cells);
+            result.computeIfAbsent(x << 32 | y, key -> new ArrayList<>()).add(point);
+        }
+        return result;
+    }
+
+    private static List<GroupLocations.Point> randomPoints(Random random, int count, double minLat, double maxLat, double minLng, double maxLng) {
+        List<GroupLocations.Point> points = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            points.add(point(i, minLat + random.nextDouble() * (maxLat - minLat), minLng + random.nextDouble() * (maxLng - minLng)));
+        }
+        return points;
+    }
+
+    private static GroupLocations.Point point(long id, double latitude, double longitude) {
+        return new GroupLocations.Point(id, "위치 " + id, latitude, longitude, 0);
+    }
+}
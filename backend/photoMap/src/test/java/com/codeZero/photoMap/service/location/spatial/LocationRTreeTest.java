@@ -0,0 +1,139 @@
+package com.codeZero.photoMap.service.location.spatial;
+
+import com.codeZero.photoMap.common.GeoUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocationRTreeTest {
+
+    @Test
+    void nearestMatchesBruteForce() {
+        Random random = new Random(1);
+        List<GroupLocations.Point> points = randomPoints(random, 5000, 37.4, 37.7, 126.8, 127.2);
+        LocationRTree tree = LocationRTree.of(points);
+
+        for (int query = 0; query < 100; query++) {
+            double lat = 37.3 + random.nextDouble() * 0.5;
+            double lng = 126.7 + random.nextDouble() * 0.6;
+            int k = 1 + random.nextInt(20);
+            double maxDistance = random.nextBoolean() ? Double.MAX_VALUE : random.nextDouble() * 3000;
+
+            assertEquals(ids(bruteForce(points, lat, lng, maxDistance).stream().limit(k).toList()),
+                    ids(tree.nearest(lat, lng, k, maxDistance)));
+        }
+    }
+
+    @Test
+    void withinMatchesBruteForce() {
+        Random random = new Random(2);
+        List<GroupLocations.Point> points = randomPoints(random, 5000, 37.4, 37.7, 126.8, 127.2);
+        LocationRTree tree = LocationRTree.of(points);
+
+        for (int query = 0; query < 100; query++) {
+            double lat = 37.3 + random.nextDouble() * 0.5;
+            double lng = 126.7 + random.nextDouble() * 0.6;
+            double radius = random.nextDouble() * 5000;
+
+            assertEquals(ids(bruteForce(points, lat, lng, radius)), ids(tree.within(lat, lng, radius)));
+        }
+    }
+
+    @Test
+    void matchesBruteForceAcrossTheGlobe() {
+        Random random = new Random(3);
+        List<GroupLocations.Point> points = randomPoints(random, 3000, -89.9, 89.9, -180, 180);
+        LocationRTree tree = LocationRTree.of(points);
+
+        for (int query = 0; query < 100; query++) {
+            double lat = -90 + random.nextDouble() * 180;
+            double lng = -180 + random.nextDouble() * 360;
+
+            assertEquals(ids(bruteForce(points, lat, lng, Double.MAX_VALUE).stream().limit(5).toList()),
+                    ids(tree.nearest(lat, lng, 5, Double.MAX_VALUE)));
+            assertEquals(ids(bruteForce(points, lat, lng, 500_000)), ids(tree.within(lat, lng, 500_000)));
+        }
+    }
+
+    @Test
+    void findsNeighborsAcrossTheAntimeridian() {
+        // 피지 부근: 날짜 변경선 양쪽에 나뉜 위치
+        List<GroupLocations.Point> points = new ArrayList<>();
+        points.add(point(1, -17.0, 179.99));
+        points.add(point(2, -17.0, -179.99));
+        points.add(point(3, -17.0, 179.0));
+        points.add(point(4, -17.0, -179.0));
+        Random random = new Random(4);
+        points.addAll(randomPoints(random, 500, -60, 60, -170, 170));
+        LocationRTree tree = LocationRTree.of(points);
+
+        List<LocationRTree.Neighbor> nearest = tree.nearest(-17.0, 179.995, 2, 10_000);
+        assertEquals(List.of(1L, 2L), ids(nearest));
+        assertTrue(nearest.get(1).distanceMeters() < 2_000, "거리: " + nearest.get(1).distanceMeters());
+
+        assertEquals(List.of(2L, 1L), ids(tree.nearest(-17.0, -179.995, 2, 10_000)));
+        assertEquals(List.of(2L, 1L, 4L, 3L), ids(tree.within(-17.0, -179.995, 150_000)));
+
+        for (int query = 0; query < 50; query++) {
+            double lat = -20 + random.nextDouble() * 6;
+            double lng = random.nextBoolean() ? 178 + random.nextDouble() * 2 : -180 + random.nextDouble() * 2;
+            assertEquals(ids(bruteForce(points, lat, lng, Double.MAX_VALUE).stream().limit(3).toList()),
+                    ids(tree.nearest(lat, lng, 3, Double.MAX_VALUE)));
+            assertEquals(ids(bruteForce(points, lat, lng, 300_000)), ids(tree.within(lat, lng, 300_000)));
+        }
+    }
+
+    @Test
+    void excludesLocationsBeyondMaxDistance() {
+        LocationRTree tree = LocationRTree.of(List.of(point(1, 37.5, 127.0), point(2, 37.6, 127.0)));
+
+        // 위도 0.1도는 약 11km
+        assertEquals(List.of(1L), ids(tree.nearest(37.5, 127.0, 5, 5_000)));
+        assertEquals(List.of(1L, 2L), ids(tree.nearest(37.5, 127.0, 5, 20_000)));
+        assertEquals(List.of(), ids(tree.nearest(37.5, 127.0, 0, 20_000)));
+    }
+
+    @Test
+    void emptyTreeFindsNothing() {
+        LocationRTree tree = LocationRTree.of(List.of());
+
+        assertEquals(0, tree.size());
+        assertEquals(List.of(), tree.nearest(37.5, 127.0, 5, Double.MAX_VALUE));
+        assertEquals(List.of(), tree.within(37.5, 127.0, 1_000_000));
+    }
+
+    private static List<GroupLocations.Point> randomPoints(Random random, int count,
+                                                           double minLat, double maxLat, double minLng, double maxLng) {
+        List<GroupLocations.Point> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(point(1000 + i, minLat + random.nextDouble() * (maxLat - minLat), minLng + random.nextDouble() * (maxLng - minLng)));
+        }
+        return points;
+    }
+
+    private static GroupLocations.Point point(long id, double lat, double lng) {
+        return new GroupLocations.Point(id, "위치 " + id, lat, lng, 0);
+    }
+
+    private static List<LocationRTree.Neighbor> bruteForce(List<GroupLocations.Point> points, double lat, double lng, double maxDistance) {
+        List<LocationRTree.Neighbor> result = new ArrayList<>();
+        for (GroupLocations.Point point : points) {
+            double distance = GeoUtils.distanceMeters(lat, lng, point.latitude(), point.longitude());
+            if (distance <= maxDistance) {
+                result.add(new LocationRTree.Neighbor(point, distance));
+            }
+        }
+        result.sort(Comparator.comparingDouble(LocationRTree.Neighbor::distanceMeters));
+        return result;
+    }
+
+    private static List<Long> ids(List<LocationRTree.Neighbor> neighbors) {
+        return neighbors.stream().map(neighbor -> neighbor.point().id()).toList();
+    }
+}
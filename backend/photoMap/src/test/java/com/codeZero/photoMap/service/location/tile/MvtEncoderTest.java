@@ -0,0 +1,217 @@
+package com.codeZero.photoMap.service.location.tile;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MvtEncoderTest {
+
+    @Test
+    void emptyTileHasNoBytes() {
+        MvtEncoder encoder = new MvtEncoder("locations", 4096);
+
+        assertEquals(0, encoder.encode().length);
+        assertEquals(0, encoder.getFeatureCount());
+    }
+
+    @Test
+    void decodesEncodedPoints() {
+        MvtEncoder encoder = new MvtEncoder("locations", 4096);
+        encoder.addPoint(7, 100, 200, properties("name", "서울숲", "photoCount", 12));
+        encoder.addPoint(300, 4095, 0, properties("name", "한강공원", "photoCount", 0));
+
+        Layer layer = Layer.decode(encoder.encode());
+
+        assertEquals(2, layer.version);
+        assertEquals("locations", layer.name);
+        assertEquals(4096, layer.extent);
+        assertEquals(2, encoder.getFeatureCount());
+        assertEquals(List.of(
+                new Feature(7, 100, 200, properties("name", "서울숲", "photoCount", 12L)),
+                new Feature(300, 4095, 0, properties("name", "한강공원", "photoCount", 0L))
+        ), layer.features);
+    }
+
+    @Test
+    void encodesBufferCoordinatesOutsideTile() {
+        // 타일 경계 밖 버퍼 영역의 점은 음수나 extent 이상의 좌표 (zigzag 인코딩)
+        MvtEncoder encoder = new MvtEncoder("clusters", 4096);
+        encoder.addPoint(1, -64, 4160, Map.of());
+        encoder.addPoint(2, Integer.MIN_VALUE, Integer.MAX_VALUE, Map.of());
+
+        Layer layer = Layer.decode(encoder.encode());
+
+        assertEquals(new Feature(1, -64, 4160, Map.of()), layer.features.get(0));
+        assertEquals(new Feature(2, Integer.MIN_VALUE, Integer.MAX_VALUE, Map.of()), layer.features.get(1));
+    }
+
+    @Test
+    void sharesKeysAndValuesAcrossFeatures() {
+        MvtEncoder encoder = new MvtEncoder("locations", 4096);
+        encoder.addPoint(1, 0, 0, properties("count", 5, "kind", "cluster"));
+        encoder.addPoint(2, 1, 1, properties("count", 5L, "kind", "cluster"));
+        encoder.addPoint(3, 2, 2, properties("count", -3, "kind", "location"));
+
+        Layer layer = Layer.decode(encoder.encode());
+
+        assertEquals(List.of("count", "kind"), layer.keys);
+        assertEquals(List.of(5L, "cluster", -3L, "location"), layer.values);
+        assertEquals(properties("count", -3L, "kind", "location"), layer.features.get(2).properties);
+    }
+
+    @Test
+    void skipsNullPropertiesAndNonPositiveIds() {
+        MvtEncoder encoder = new MvtEncoder("locations", 512);
+        Map<String, Object> withNull = new LinkedHashMap<>();
+        withNull.put("name", null);
+        withNull.put("photoCount", 1);
+        encoder.addPoint(0, 10, 20, withNull);
+
+        Layer layer = Layer.decode(encoder.encode());
+
+        assertEquals(512, layer.extent);
+        assertEquals(List.of("photoCount"), layer.keys);
+        assertEquals(new Feature(0, 10, 20, properties("photoCount", 1L)), layer.features.get(0));
+    }
+
+    private static Map<String, Object> properties(Object... keyValues) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return properties;
+    }
+
+    private record Feature(long id, int x, int y, Map<String, Object> properties) {
+    }
+
+    /**
+     * vector_tile.proto의 레이어 하나를 읽는 최소한의 protobuf 디코더 (POINT 피처만)
+     */
+    private static final class Layer {
+
+        private int version;
+        private String name;
+        private int extent;
+        private final List<String> keys = new ArrayList<>();
+        private final List<Object> values = new ArrayList<>();
+        private final List<byte[]> rawFeatures = new ArrayList<>();
+        private final List<Feature> features = new ArrayList<>();
+
+        private static Layer decode(byte[] tile) {
+            Reader tileReader = new Reader(tile);
+            byte[] layerBytes = null;
+            while (tileReader.hasMore()) {
+                int tag = (int) tileReader.varint();
+                assertEquals((3 << 3) | 2, tag, "tile.layers");
+                assertNull(layerBytes, "레이어는 하나");
+                layerBytes = tileReader.bytes();
+            }
+
+            Layer layer = new Layer();
+            Reader reader = new Reader(layerBytes);
+            while (reader.hasMore()) {
+                int tag = (int) reader.varint();
+                switch (tag >>> 3) {
+                    case 15 -> layer.version = (int) reader.varint();
+                    case 1 -> layer.name = new String(reader.bytes(), StandardCharsets.UTF_8);
+                    case 2 -> layer.rawFeatures.add(reader.bytes());
+                    case 3 -> layer.keys.add(new String(reader.bytes(), StandardCharsets.UTF_8));
+                    case 4 -> layer.values.add(decodeValue(reader.bytes()));
+                    case 5 -> layer.extent = (int) reader.varint();
+                    default -> throw new AssertionError("알 수 없는 레이어 필드: " + (tag >>> 3));
+                }
+            }
+            for (byte[] feature : layer.rawFeatures) {
+                layer.features.add(layer.decodeFeature(feature));
+            }
+            return layer;
+        }
+
+        private Feature decodeFeature(byte[] bytes) {
+            Reader reader = new Reader(bytes);
+            long id = 0;
+            Map<String, Object> properties = new LinkedHashMap<>();
+            int x = 0;
+            int y = 0;
+            while (reader.hasMore()) {
+                int tag = (int) reader.varint();
+                switch (tag >>> 3) {
+                    case 1 -> id = reader.varint();
+                    case 2 -> {
+                        Reader tags = new Reader(reader.bytes());
+                        while (tags.hasMore()) {
+                            properties.put(keys.get((int) tags.varint()), values.get((int) tags.varint()));
+                        }
+                    }
+                    case 3 -> assertEquals(1L, reader.varint(), "POINT");
+                    case 4 -> {
+                        Reader geometry = new Reader(reader.bytes());
+                        assertEquals((1 << 3) | 1, (int) geometry.varint(), "MoveTo 1회");
+                        x = (int) unZigZag(geometry.varint());
+                        y = (int) unZigZag(geometry.varint());
+                        assertFalse(geometry.hasMore());
+                    }
+                    default -> throw new AssertionError("알 수 없는 피처 필드: " + (tag >>> 3));
+                }
+            }
+            return new Feature(id, x, y, properties);
+        }
+
+        private static Object decodeValue(byte[] bytes) {
+            Reader reader = new Reader(bytes);
+            int tag = (int) reader.varint();
+            return switch (tag >>> 3) {
+                case 1 -> new String(reader.bytes(), StandardCharsets.UTF_8);
+                case 5 -> reader.varint();
+                case 6 -> unZigZag(reader.varint());
+                default -> throw new AssertionError("알 수 없는 값 타입: " + (tag >>> 3));
+            };
+        }
+
+        private static long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private boolean hasMore() {
+            return position < data.length;
+        }
+
+        private long varint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        private byte[] bytes() {
+            int length = (int) varint();
+            byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+            position += length;
+            return bytes;
+        }
+    }
+}
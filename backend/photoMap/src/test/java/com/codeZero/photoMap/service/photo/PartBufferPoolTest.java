@@ -0,0 +1,46 @@
+package com.codeZero.photoMap.service.photo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PartBufferPoolTest {
+
+    @Test
+    void releasedBufferIsReused() throws InterruptedException {
+        PartBufferPool pool = new PartBufferPool(16, 2);
+
+        byte[] buffer = pool.acquire();
+        pool.release(buffer);
+
+        assertEquals(16, buffer.length);
+        assertSame(buffer, pool.acquire());
+    }
+
+    @Test
+    void acquireWaitsWhileAllBuffersAreInUse() throws Exception {
+        PartBufferPool pool = new PartBufferPool(16, 1);
+        byte[] buffer = pool.acquire();
+
+        CompletableFuture<byte[]> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.acquire();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThrows(TimeoutException.class, () -> waiting.get(200, TimeUnit.MILLISECONDS));
+        assertFalse(waiting.isDone());
+
+        pool.release(buffer);
+        assertSame(buffer, waiting.get(5, TimeUnit.SECONDS));
+    }
+}
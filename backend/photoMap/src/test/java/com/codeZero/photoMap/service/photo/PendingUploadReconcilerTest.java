@@ -0,0 +1,135 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.domain.photo.Photo;
+import com.codeZero.photoMap.domain.photo.PhotoBlob;
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import com.codeZero.photoMap.service.location.LocationPhotoCounter;
+import com.codeZero.photoMap.service.storage.AsyncObjectStorage;
+import com.codeZero.photoMap.service.storage.ObjectInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PendingUploadReconcilerTest {
+
+    @Mock
+    private PhotoRepository photoRepository;
+
+    @Mock
+    private PhotoBlobService photoBlobService;
+
+    @Mock
+    private AsyncObjectStorage asyncObjectStorage;
+
+    @Mock
+    private LocationPhotoCounter locationPhotoCounter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PendingUploadReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new PendingUploadReconciler(photoRepository, photoBlobService, asyncObjectStorage,
+                locationPhotoCounter, eventPublisher, 3, 30, 2);
+    }
+
+    @Test
+    void confirmsUploadedAndRemovesMissingRows() {
+        Photo uploaded = photo(1L);
+        Photo missing = photo(2L);
+        when(photoRepository.findStalePendingPhotos(any(), eq(0L), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(uploaded, missing));
+        givenHead(uploaded, true);
+        givenHead(missing, false);
+        when(photoRepository.markPendingUploadedByIdIn(List.of(1L))).thenReturn(1);
+        when(photoRepository.deletePendingByIdIn(List.of(2L))).thenReturn(1);
+
+        PendingUploadReconciler.Result result = reconciler.reconcile();
+
+        assertEquals(new PendingUploadReconciler.Result(1, 1), result);
+        verify(locationPhotoCounter).added(List.of(uploaded));
+        verify(eventPublisher).publishEvent(new PhotoUploadedEvent(1L));
+    }
+
+    @Test
+    void failedHeadLeavesRowForNextRun() {
+        Photo photo = photo(1L);
+        when(photoRepository.findStalePendingPhotos(any(), eq(0L), any())).thenReturn(List.of(photo));
+        when(asyncObjectStorage.head(photo.getFileKey()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("timeout")));
+
+        assertEquals(new PendingUploadReconciler.Result(0, 0), reconciler.reconcile());
+
+        verify(photoRepository, never()).markPendingUploadedByIdIn(any());
+        verify(photoRepository, never()).deletePendingByIdIn(any());
+    }
+
+    @Test
+    void photoConfirmedByClientMeanwhileIsNotCountedTwice() {
+        Photo photo = photo(1L);
+        when(photoRepository.findStalePendingPhotos(any(), eq(0L), any())).thenReturn(List.of(photo));
+        givenHead(photo, true);
+        when(photoRepository.markPendingUploadedByIdIn(List.of(1L))).thenReturn(0);
+
+        assertEquals(new PendingUploadReconciler.Result(0, 0), reconciler.reconcile());
+
+        verify(locationPhotoCounter).added(List.of());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void missingSharedBlobPhotoReleasesReference() {
+        Photo shared = Photo.builder().id(1L).fileKey("blobs/same.jpg").blob(PhotoBlob.builder().id(7L).build()).build();
+        when(photoRepository.findStalePendingPhotos(any(), eq(0L), any())).thenReturn(List.of(shared));
+        givenHead(shared, false);
+        when(photoBlobService.removePendingPhotos(List.of(shared))).thenReturn(1);
+
+        assertEquals(new PendingUploadReconciler.Result(0, 1), reconciler.reconcile());
+
+        verify(photoRepository, never()).deletePendingByIdIn(any());
+    }
+
+    @Test
+    void pagesByIdUntilShortChunk() {
+        List<Photo> first = List.of(photo(1L), photo(2L), photo(3L));
+        when(photoRepository.findStalePendingPhotos(any(), eq(0L), any())).thenReturn(first);
+        when(photoRepository.findStalePendingPhotos(any(), eq(3L), any())).thenReturn(List.of(photo(5L)));
+        when(asyncObjectStorage.head(any())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(photoRepository.deletePendingByIdIn(any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        assertEquals(new PendingUploadReconciler.Result(0, 4), reconciler.reconcile());
+
+        verify(photoRepository).deletePendingByIdIn(List.of(1L, 2L, 3L));
+        verify(photoRepository).deletePendingByIdIn(List.of(5L));
+    }
+
+    private void givenHead(Photo photo, boolean exists) {
+        Optional<ObjectInfo> info = exists
+                ? Optional.of(new ObjectInfo(photo.getFileKey(), 10, "image/jpg", "etag", Instant.now()))
+                : Optional.empty();
+        when(asyncObjectStorage.head(photo.getFileKey())).thenReturn(CompletableFuture.completedFuture(info));
+    }
+
+    private static Photo photo(Long id) {
+        return Photo.builder().id(id).fileKey("photos/" + id + ".jpg").build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import com.codeZero.photoMap.domain.photo.PhotoBlob;
+import com.codeZero.photoMap.domain.photo.PhotoBlobRepository;
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PhotoBlobServiceTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @Mock
+    private PhotoBlobRepository photoBlobRepository;
+
+    @Mock
+    private PhotoRepository photoRepository;
+
+    @InjectMocks
+    private PhotoBlobService photoBlobService;
+
+    @Test
+    void referencesVerifiedBlob() {
+        PhotoBlob blob = blob(1L, true);
+        when(photoBlobRepository.findByMemberGroupIdAndSha256AndIsDeletedFalse(10L, HASH)).thenReturn(Optional.of(blob));
+        when(photoBlobRepository.reference(1L)).thenReturn(1);
+
+        assertSame(blob, photoBlobService.acquire(10L, HASH.toUpperCase(), "jpg").orElseThrow());
+        verify(photoBlobRepository, never()).insertIfAbsent(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void doesNotShareUnverifiedBlob() {
+        // 검증 전인 blob은 만든 사진만 업로드하므로 다른 사진은 참조하지 않음
+        when(photoBlobRepository.findByMemberGroupIdAndSha256AndIsDeletedFalse(10L, HASH)).thenReturn(Optional.of(blob(1L, false)));
+
+        assertTrue(photoBlobService.acquire(10L, HASH, "jpg").isEmpty());
+        verify(photoBlobRepository, never()).reference(any());
+        verify(photoBlobRepository, never()).insertIfAbsent(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void doesNotShareBlobDeletedAfterLookup() {
+        when(photoBlobRepository.findByMemberGroupIdAndSha256AndIsDeletedFalse(10L, HASH)).thenReturn(Optional.of(blob(1L, true)));
+        when(photoBlobRepository.reference(1L)).thenReturn(0);
+
+        assertTrue(photoBlobService.acquire(10L, HASH, "jpg").isEmpty());
+    }
+
+    @Test
+    void createsBlobWithNormalizedExtension() {
+        PhotoBlob created = blob(2L, false);
+        when(photoBlobRepository.findByMemberGroupIdAndSha256AndIsDeletedFalse(10L, HASH))
+                .thenReturn(Optional.empty(), Optional.of(created));
+        when(photoBlobRepository.insertIfAbsent(eq(10L), eq(HASH), anyString())).thenReturn(1);
+
+        assertSame(created, photoBlobService.acquire(10L, HASH, " HEIC ").orElseThrow());
+
+        ArgumentCaptor<String> fileKey = ArgumentCaptor.forClass(String.class);
+        verify(photoBlobRepository).insertIfAbsent(eq(10L), eq(HASH), fileKey.capture());
+        assertTrue(fileKey.getValue().startsWith("blobs/"));
+        assertTrue(fileKey.getValue().endsWith(".heic"));
+    }
+
+    @Test
+    void doesNotShareBlobCreatedConcurrently() {
+        when(photoBlobRepository.findByMemberGroupIdAndSha256AndIsDeletedFalse(10L, HASH)).thenReturn(Optional.empty());
+        when(photoBlobRepository.insertIfAbsent(eq(10L), eq(HASH), anyString())).thenReturn(0);
+
+        assertTrue(photoBlobService.acquire(10L, HASH, "png").isEmpty());
+    }
+
+    @Test
+    void rejectsUnsupportedExtension() {
+        for (String extension : new String[]{"exe", "jpg/../x", "", null}) {
+            assertThrows(IllegalArgumentException.class, () -> photoBlobService.acquire(10L, HASH, extension));
+        }
+        verify(photoBlobRepository, never()).insertIfAbsent(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void rejectsMalformedHash() {
+        assertThrows(IllegalArgumentException.class, () -> photoBlobService.acquire(10L, "abc", "jpg"));
+        assertThrows(IllegalArgumentException.class, () -> photoBlobService.acquire(10L, "g".repeat(64), "jpg"));
+    }
+
+    @Test
+    void verifyMarksMatchingBlobAndUnlinksMismatch() {
+        photoBlobService.verify(blob(1L, false), HASH);
+        verify(photoBlobRepository).markVerified(1L, HASH);
+
+        photoBlobService.verify(blob(2L, false), "b".repeat(64));
+        verify(photoBlobRepository).unlinkHash(2L);
+        verify(photoBlobRepository, never()).markVerified(eq(2L), anyString());
+    }
+
+    private static PhotoBlob blob(Long id, boolean verified) {
+        return PhotoBlob.builder().id(id).sha256(HASH).fileKey("blobs/" + id + ".jpg").verified(verified).build();
+    }
+}
@@ -0,0 +1,227 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.common.PageCursor;
+import com.codeZero.photoMap.common.exception.ForbiddenException;
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import com.codeZero.photoMap.domain.group.MemberGroup;
+import com.codeZero.photoMap.domain.group.MemberGroupMappingRepository;
+import com.codeZero.photoMap.domain.location.Location;
+import com.codeZero.photoMap.domain.location.LocationRepository;
+import com.codeZero.photoMap.domain.member.Member;
+import com.codeZero.photoMap.domain.member.MemberRepository;
+import com.codeZero.photoMap.domain.photo.Photo;
+import com.codeZero.photoMap.domain.photo.PhotoBlob;
+import com.codeZero.photoMap.domain.photo.PhotoBulkRepository;
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import com.codeZero.photoMap.dto.photo.request.PhotoBatchUploadRequest;
+import com.codeZero.photoMap.dto.photo.request.PhotoServiceRequest;
+import com.codeZero.photoMap.dto.photo.response.PhotoResponse;
+import com.codeZero.photoMap.dto.photo.response.PhotoTimelineResponse;
+import com.codeZero.photoMap.service.location.LocationPhotoCounter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PhotoServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Mock
+    private PhotoRepository photoRepository;
+
+    @Mock
+    private MemberGroupMappingRepository memberGroupMappingRepository;
+
+    @Mock
+    private S3PreSignedUrlService s3PreSignedUrlService;
+
+    @Mock
+    private PhotoBulkRepository photoBulkRepository;
+
+    @Mock
+    private PhotoBlobService photoBlobService;
+
+    @Mock
+    private LocationPhotoCounter locationPhotoCounter;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PhotoService photoService;
+
+    @Test
+    void timelineMergesGroupsNewestFirstAndPagesByCursor() {
+        when(memberGroupMappingRepository.findGroupIdsByMemberIdAndIsDeletedFalse(MEMBER_ID)).thenReturn(List.of(10L, 20L));
+        Photo newest = photo(5L, LocalDateTime.of(2024, 7, 1, 10, 0));
+        Photo sameDay = photo(9L, LocalDateTime.of(2024, 7, 1, 8, 0));
+        Photo older = photo(8L, LocalDateTime.of(2024, 6, 30, 9, 0));
+        when(photoRepository.findTimelinePage(eq(10L), any(), any(), eq(0L), eq(PageRequest.of(0, 3)))).thenReturn(List.of(newest, older));
+        when(photoRepository.findTimelinePage(eq(20L), any(), any(), eq(0L), eq(PageRequest.of(0, 3)))).thenReturn(List.of(sameDay));
+
+        PhotoTimelineResponse response = photoService.getTimeline(MEMBER_ID, null, "day", null, null, null, 2);
+
+        assertEquals(1, response.getBuckets().size());
+        assertEquals("2024-07-01", response.getBuckets().get(0).getPeriod());
+        assertEquals(List.of(5L, 9L), response.getBuckets().get(0).getPhotos().stream().map(PhotoResponse::getId).toList());
+        PageCursor.TimelinePosition next = PageCursor.decodeTimeline(response.getNextCursor());
+        assertEquals(sameDay.getTakenAt(), next.takenAt());
+        assertEquals(9L, next.id());
+    }
+
+    @Test
+    void timelineRejectsGroupOfOtherMember() {
+        when(memberGroupMappingRepository.findGroupIdsByMemberIdAndIsDeletedFalse(MEMBER_ID)).thenReturn(List.of(10L));
+
+        assertThrows(ForbiddenException.class, () -> photoService.getTimeline(MEMBER_ID, 30L, "day", null, null, null, 10));
+    }
+
+    @Test
+    void onThisDayQueriesLeapDayOnlyInLeapYears() {
+        when(memberGroupMappingRepository.findGroupIdsByMemberIdAndIsDeletedFalse(MEMBER_ID)).thenReturn(List.of(10L));
+        when(photoRepository.findEarliestTakenAt(List.of(10L))).thenReturn(Optional.of(LocalDateTime.of(2016, 3, 1, 0, 0)));
+        when(photoRepository.findTakenBetween(eq(List.of(10L)), any(), any(), any())).thenReturn(List.of());
+
+        assertTrue(photoService.getOnThisDay(MEMBER_ID, null, LocalDate.of(2024, 2, 29), 10).isEmpty());
+
+        ArgumentCaptor<LocalDateTime> start = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(photoRepository, times(2)).findTakenBetween(eq(List.of(10L)), start.capture(), any(), any());
+        assertEquals(List.of(LocalDateTime.of(2020, 2, 29, 0, 0), LocalDateTime.of(2016, 2, 29, 0, 0)), start.getAllValues());
+    }
+
+    @Test
+    void onThisDayWithoutPhotosSkipsYearQueries() {
+        when(memberGroupMappingRepository.findGroupIdsByMemberIdAndIsDeletedFalse(MEMBER_ID)).thenReturn(List.of(10L));
+        when(photoRepository.findEarliestTakenAt(List.of(10L))).thenReturn(Optional.empty());
+
+        assertTrue(photoService.getOnThisDay(MEMBER_ID, null, LocalDate.of(2024, 7, 1), 10).isEmpty());
+        verify(photoRepository, never()).findTakenBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    void createPhotosSavesInOneBatchAndKeepsRequestOrder() {
+        givenMemberAndLocation();
+        when(photoBulkRepository.saveAllInBatch(anyList())).thenReturn(List.of(21L, 22L));
+        // 다시 조회한 결과의 순서와 관계없이 요청 순서로 응답
+        when(photoRepository.findAllById(List.of(21L, 22L))).thenReturn(List.of(photo(22L, null), photo(21L, null)));
+        when(s3PreSignedUrlService.getPreSignedUploadUrl(any(), eq("jpg"))).thenAnswer(invocation -> "put:" + invocation.getArgument(0));
+
+        List<PhotoResponse> responses = photoService.createPhotos(MEMBER_ID, 100L, List.of(request("a.jpg", null), request("b.jpg", null)));
+
+        assertEquals(List.of(21L, 22L), responses.stream().map(PhotoResponse::getId).toList());
+        assertEquals("put:photos/21.jpg", responses.get(0).getUrl());
+        ArgumentCaptor<List<Photo>> saved = ArgumentCaptor.forClass(List.class);
+        verify(photoBulkRepository).saveAllInBatch(saved.capture());
+        assertEquals(List.of("a.jpg", "b.jpg"), saved.getValue().stream().map(Photo::getFileName).toList());
+        assertTrue(saved.getValue().stream().allMatch(p -> p.getFileKey().startsWith("photos/")));
+        verify(locationPhotoCounter, never()).added(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void createPhotosReusesVerifiedBlobWithoutUpload() {
+        givenMemberAndLocation();
+        PhotoBlob blob = PhotoBlob.builder().id(7L).fileKey("blobs/same.jpg").verified(true).build();
+        when(photoBlobService.acquire(10L, "a".repeat(64), "jpg")).thenReturn(Optional.of(blob));
+        when(photoBulkRepository.saveAllInBatch(anyList())).thenReturn(List.of(21L));
+        Photo shared = Photo.builder().id(21L).member(Member.builder().id(MEMBER_ID).build()).location(Location.builder().id(100L).build())
+                .fileKey("blobs/same.jpg").fileExtension("jpg").blob(blob).uploadStatus(true).build();
+        when(photoRepository.findAllById(List.of(21L))).thenReturn(List.of(shared));
+
+        List<PhotoResponse> responses = photoService.createPhotos(MEMBER_ID, 100L, List.of(request("a.jpg", "a".repeat(64))));
+
+        assertTrue(responses.get(0).isUploadStatus());
+        verify(s3PreSignedUrlService, never()).getPreSignedUploadUrl(any(), any());
+        verify(locationPhotoCounter).added(List.of(shared));
+        verify(eventPublisher).publishEvent(new PhotoUploadedEvent(21L));
+    }
+
+    @Test
+    void createPhotosRejectsEmptyOrOversizedBatch() {
+        assertThrows(IllegalArgumentException.class, () -> photoService.createPhotos(MEMBER_ID, 100L, List.of()));
+
+        List<PhotoServiceRequest> tooMany = IntStream.range(0, 501).mapToObj(i -> request(i + ".jpg", null)).toList();
+        assertThrows(IllegalArgumentException.class, () -> photoService.createPhotos(MEMBER_ID, 100L, tooMany));
+        verify(photoBulkRepository, never()).saveAllInBatch(any());
+    }
+
+    @Test
+    void uploadPhotosCountsAndNotifiesOnlyNewlyUploadedPhotos() {
+        Photo pending = photo(31L, null);
+        Photo alreadyUploaded = photo(32L, null);
+        alreadyUploaded.uploaded();
+        List<Long> photoIds = List.of(31L, 32L, 33L);
+        when(photoRepository.findByIdInAndMemberIdAndIsDeletedFalseAndUploadStatusFalse(photoIds, MEMBER_ID)).thenReturn(List.of(pending));
+        when(photoRepository.markUploadedByIdIn(photoIds, MEMBER_ID)).thenReturn(1);
+        when(photoRepository.findByIdInAndMemberIdAndIsDeletedFalseAndUploadStatusTrue(photoIds, MEMBER_ID))
+                .thenReturn(List.of(pending, alreadyUploaded));
+
+        // 다른 멤버의 사진(33)은 UPDATE 조건에서 빠져 응답에도 포함되지 않음
+        List<PhotoResponse> responses = photoService.uploadPhotos(MEMBER_ID, new PhotoBatchUploadRequest(photoIds));
+
+        assertEquals(List.of(31L, 32L), responses.stream().map(PhotoResponse::getId).toList());
+        verify(locationPhotoCounter).added(List.of(pending));
+        verify(eventPublisher).publishEvent(new PhotoUploadedEvent(31L));
+        verify(eventPublisher, never()).publishEvent(new PhotoUploadedEvent(32L));
+    }
+
+    @Test
+    void uploadPhotosRejectsEmptyOrOversizedBatch() {
+        assertThrows(IllegalArgumentException.class, () -> photoService.uploadPhotos(MEMBER_ID, new PhotoBatchUploadRequest(null)));
+        assertThrows(IllegalArgumentException.class, () -> photoService.uploadPhotos(MEMBER_ID, new PhotoBatchUploadRequest(List.of())));
+
+        List<Long> tooMany = IntStream.range(0, 501).mapToObj(i -> (long) i).toList();
+        assertThrows(IllegalArgumentException.class, () -> photoService.uploadPhotos(MEMBER_ID, new PhotoBatchUploadRequest(tooMany)));
+        verify(photoRepository, never()).markUploadedByIdIn(any(), any());
+    }
+
+    private void givenMemberAndLocation() {
+        when(memberRepository.findByIdAndIsDeletedFalse(MEMBER_ID)).thenReturn(Optional.of(Member.builder().id(MEMBER_ID).build()));
+        when(locationRepository.findByIdAndIsDeletedFalse(100L)).thenReturn(Optional.of(
+                Location.builder().id(100L).memberGroup(MemberGroup.builder().id(10L).build()).build()));
+    }
+
+    private static PhotoServiceRequest request(String fileName, String sha256) {
+        return PhotoServiceRequest.builder().fileName(fileName).fileExtension("jpg").sha256(sha256).build();
+    }
+
+    private static Photo photo(Long id, LocalDateTime takenAt) {
+        return Photo.builder()
+                .id(id)
+                .member(Member.builder().id(MEMBER_ID).build())
+                .location(Location.builder().id(100L).build())
+                .fileKey("photos/" + id + ".jpg")
+                .fileExtension("jpg")
+                .takenAt(takenAt)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.domain.photo.Photo;
+import com.codeZero.photoMap.domain.photo.PhotoBlob;
+import com.codeZero.photoMap.domain.photo.PhotoBlobRepository;
+import com.codeZero.photoMap.domain.photo.PhotoRepository;
+import com.codeZero.photoMap.service.storage.ObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PhotoTrashPurgerTest {
+
+    @Mock
+    private PhotoRepository photoRepository;
+
+    @Mock
+    private PhotoBlobRepository photoBlobRepository;
+
+    @Mock
+    private PhotoBlobService photoBlobService;
+
+    @Mock
+    private ObjectStorage objectStorage;
+
+    private PhotoTrashPurger photoTrashPurger;
+
+    @BeforeEach
+    void setUp() {
+        photoTrashPurger = new PhotoTrashPurger(photoRepository, photoBlobRepository, photoBlobService, objectStorage, 7, 3, 1);
+    }
+
+    @Test
+    void retriesOnlyFailedKeysAndMarksPhotosPurged() {
+        when(photoRepository.findPurgeCandidates(any(), any())).thenReturn(List.of(photo(1L), photo(2L)));
+        when(objectStorage.deleteAll(any())).thenReturn(List.of("photos/2.jpg"), List.of());
+
+        photoTrashPurger.purge();
+
+        List<List<String>> requests = deleteRequests(2);
+        assertEquals(keys(1L, 2L), requests.get(0));
+        assertEquals(List.of("photos/2.jpg"), requests.get(1));
+        verify(photoRepository).markPurgedByIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    void photoWithKeysFailingEveryAttemptIsLeftForNextRun() {
+        when(photoRepository.findPurgeCandidates(any(), any())).thenReturn(List.of(photo(1L), photo(2L)));
+        when(objectStorage.deleteAll(any())).thenReturn(List.of("photos/2.jpg"));
+
+        photoTrashPurger.purge();
+
+        // 최대 시도 횟수(3회)까지만 재시도
+        deleteRequests(3);
+        verify(photoRepository).markPurgedByIdIn(List.of(1L));
+    }
+
+    @Test
+    void failedDeleteRequestCountsAsAttempt() {
+        when(photoRepository.findPurgeCandidates(any(), any())).thenReturn(List.of(photo(1L)));
+        when(objectStorage.deleteAll(any()))
+                .thenThrow(new RuntimeException("timeout"))
+                .thenReturn(List.of());
+
+        photoTrashPurger.purge();
+
+        List<List<String>> requests = deleteRequests(2);
+        assertEquals(requests.get(0), requests.get(1));
+        verify(photoRepository).markPurgedByIdIn(List.of(1L));
+    }
+
+    @Test
+    void nothingIsMarkedWhenStorageIsDown() {
+        when(photoRepository.findPurgeCandidates(any(), any())).thenReturn(List.of(photo(1L)));
+        when(objectStorage.deleteAll(any())).thenThrow(new RuntimeException("unavailable"));
+
+        photoTrashPurger.purge();
+
+        deleteRequests(3);
+        verify(photoRepository, never()).markPurgedByIdIn(any());
+    }
+
+    @Test
+    void sharedBlobPhotosReleaseReferenceInsteadOfDeletingObjects() {
+        Photo shared = Photo.builder().id(3L).fileKey("blobs/same.jpg").blob(PhotoBlob.builder().id(7L).build()).build();
+        when(photoRepository.findPurgeCandidates(any(), any())).thenReturn(List.of(shared));
+        when(photoBlobService.purgePhotos(List.of(shared))).thenReturn(1);
+        when(photoBlobRepository.findPurgeCandidates(any()))
+                .thenReturn(List.of(PhotoBlob.builder().id(7L).fileKey("blobs/same.jpg").build()));
+        when(objectStorage.deleteAll(any())).thenReturn(List.of());
+
+        photoTrashPurger.purge();
+
+        // 참조가 사라진 blob의 오브젝트만 삭제
+        assertEquals(keysOf("blobs/same.jpg"), deleteRequests(1).get(0));
+        verify(photoRepository, never()).markPurgedByIdIn(any());
+        verify(photoBlobRepository).markPurgedByIdIn(List.of(7L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<String>> deleteRequests(int expected) {
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(objectStorage, times(expected)).deleteAll(keys.capture());
+        return keys.getAllValues();
+    }
+
+    private static Photo photo(Long id) {
+        return Photo.builder().id(id).fileKey("photos/" + id + ".jpg").build();
+    }
+
+    private static List<String> keys(Long... photoIds) {
+        List<String> keys = new ArrayList<>();
+        for (Long id : photoIds) {
+            keys.addAll(keysOf("photos/" + id + ".jpg"));
+        }
+        return keys;
+    }
+
+    private static List<String> keysOf(String fileKey) {
+        List<String> keys = new ArrayList<>();
+        keys.add(fileKey);
+        for (DerivativeSize size : DerivativeSize.values()) {
+            keys.add(size.keyFor(fileKey));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,80 @@
+package com.codeZero.photoMap.service.photo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PreSignedUrlCacheTest {
+
+    private static final long HOUR_MILLIS = 60 * 60 * 1000;
+
+    private PreSignedUrlCache cache;
+    private AtomicInteger signed;
+    private Function<Long, String> signer;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PreSignedUrlCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 10);
+        ReflectionTestUtils.setField(cache, "safetyMarginSeconds", 300L);
+        signed = new AtomicInteger();
+        signer = expiration -> "https://bucket/key?sig=" + signed.incrementAndGet();
+    }
+
+    @Test
+    void reusesSignedUrlUntilSafetyMargin() {
+        long expiration = System.currentTimeMillis() + HOUR_MILLIS;
+
+        String first = cache.get("photos/a.jpg", expiration, signer);
+        String second = cache.get("photos/a.jpg", expiration, signer);
+
+        assertEquals(first, second);
+        assertEquals(1, signed.get());
+        assertEquals(new PreSignedUrlCache.Stats(1, 1, 0, 1), cache.getStats());
+    }
+
+    @Test
+    void urlExpiringWithinSafetyMarginIsNotCached() {
+        long expiration = System.currentTimeMillis() + 60_000; // 안전 마진(5분)보다 먼저 만료
+
+        cache.get("photos/a.jpg", expiration, signer);
+        cache.get("photos/a.jpg", expiration, signer);
+
+        assertEquals(2, signed.get());
+        assertEquals(new PreSignedUrlCache.Stats(0, 2, 0, 0), cache.getStats());
+    }
+
+    @Test
+    void evictForcesResign() {
+        long expiration = System.currentTimeMillis() + HOUR_MILLIS;
+        cache.get("photos/a.jpg", expiration, signer);
+
+        cache.evict("photos/a.jpg");
+        cache.evict("photos/a.jpg");
+        cache.get("photos/a.jpg", expiration, signer);
+
+        assertEquals(2, signed.get());
+        assertEquals(1, cache.getStats().evictions());
+    }
+
+    @Test
+    void fullCacheTrimsBeforeAddingNewKey() {
+        long expiration = System.currentTimeMillis() + HOUR_MILLIS;
+        for (int i = 0; i < 10; i++) {
+            cache.get("photos/" + i + ".jpg", expiration, signer);
+        }
+
+        cache.get("photos/new.jpg", expiration, signer);
+
+        // 만료된 항목이 없으므로 최대 크기의 10%(1개)를 제거한 뒤 추가
+        PreSignedUrlCache.Stats stats = cache.getStats();
+        assertEquals(10, stats.size());
+        assertEquals(1, stats.evictions());
+        assertEquals(11, stats.misses());
+    }
+}
@@ -0,0 +1,156 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3UploaderTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @Mock
+    private AmazonS3Client amazonS3Client;
+
+    private S3Uploader s3Uploader;
+
+    @BeforeEach
+    void setUp() {
+        // 버퍼 2개로 파트 3개 이상을 올리므로, 전송이 끝난 버퍼가 반납되지 않으면 멈춤
+        s3Uploader = new S3Uploader(amazonS3Client, 5, 2, 2);
+        ReflectionTestUtils.setField(s3Uploader, "bucket", "bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Uploader.shutdown();
+    }
+
+    @Test
+    void smallStreamIsUploadedWithSinglePut() throws IOException {
+        s3Uploader.upload("photos/a.jpg", new ByteArrayInputStream(new byte[1024]), "image/jpeg");
+
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3Client).putObject(request.capture());
+        assertEquals(1024L, request.getValue().getMetadata().getContentLength());
+        verify(amazonS3Client, never()).initiateMultipartUpload(any());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void largeStreamIsUploadedInPartsAndCompleted() throws IOException {
+        givenMultipartUpload();
+        when(amazonS3Client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> partResult(invocation.getArgument(0)));
+        when(amazonS3Client.completeMultipartUpload(any())).thenReturn(new CompleteMultipartUploadResult());
+
+        s3Uploader.upload("photos/large.jpg", new ByteArrayInputStream(new byte[PART_SIZE * 3 + 100]), "image/jpeg");
+
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(amazonS3Client, times(4)).uploadPart(parts.capture());
+        assertEquals(List.of((long) PART_SIZE, (long) PART_SIZE, (long) PART_SIZE, 100L),
+                parts.getAllValues().stream()
+                        .sorted(Comparator.comparingInt(UploadPartRequest::getPartNumber))
+                        .map(UploadPartRequest::getPartSize)
+                        .toList());
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3Client).completeMultipartUpload(complete.capture());
+        assertEquals(List.of("etag-1", "etag-2", "etag-3", "etag-4"),
+                complete.getValue().getPartETags().stream().map(PartETag::getETag).toList());
+        verify(amazonS3Client, never()).abortMultipartUpload(any());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void failedPartAbortsUpload() {
+        AmazonServiceException failure = new AmazonServiceException("internal error");
+        givenMultipartUpload();
+        when(amazonS3Client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            if (request.getPartNumber() == 2) {
+                throw failure;
+            }
+            return partResult(request);
+        });
+
+        IOException thrown = assertThrows(IOException.class,
+                () -> s3Uploader.upload("photos/large.jpg", new ByteArrayInputStream(new byte[PART_SIZE * 3]), "image/jpeg"));
+
+        assertSame(failure, thrown.getCause());
+        verifyAborted();
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void readFailureAbortsUpload() {
+        givenMultipartUpload();
+        // 첫 파트는 전송 시작 전에 취소될 수도 있음
+        lenient().when(amazonS3Client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> partResult(invocation.getArgument(0)));
+        InputStream broken = new SequenceInputStream(new ByteArrayInputStream(new byte[PART_SIZE + 10]), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        });
+
+        IOException thrown = assertThrows(IOException.class, () -> s3Uploader.upload("photos/large.jpg", broken, "image/jpeg"));
+
+        assertEquals("connection reset", thrown.getMessage());
+        verifyAborted();
+    }
+
+    private void givenMultipartUpload() {
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setUploadId("upload-1");
+        when(amazonS3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(result);
+    }
+
+    private void verifyAborted() {
+        ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(amazonS3Client).abortMultipartUpload(abort.capture());
+        assertEquals("upload-1", abort.getValue().getUploadId());
+        verify(amazonS3Client, never()).completeMultipartUpload(any());
+    }
+
+    private static UploadPartResult partResult(UploadPartRequest request) {
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag("etag-" + request.getPartNumber());
+        return result;
+    }
+}
@@ -0,0 +1,27 @@
+package com.codeZero.photoMap.service.photo;
+
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimelineUnitTest {
+
+    @Test
+    void periodKeysByDayAndMonth() {
+        LocalDateTime takenAt = LocalDateTime.of(2024, 7, 1, 23, 59, 59);
+
+        assertEquals("2024-07-01", TimelineUnit.DAY.periodOf(takenAt));
+        assertEquals("2024-07", TimelineUnit.MONTH.periodOf(takenAt));
+    }
+
+    @Test
+    void parsesUnitIgnoringCase() {
+        assertEquals(TimelineUnit.DAY, TimelineUnit.from("day"));
+        assertEquals(TimelineUnit.MONTH, TimelineUnit.from("MONTH"));
+        assertThrows(IllegalArgumentException.class, () -> TimelineUnit.from("week"));
+    }
+}
@@ -0,0 +1,208 @@
+package com.codeZero.photoMap.service.photo.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DiskCacheTest {
+
+    private static final int ENTRY_SIZE = 100;
+
+    @Test
+    void storesAndReadsBackEntries() throws IOException {
+        Path directory = Files.createTempDirectory("disk-cache-test");
+        try {
+            DiskCache cache = new DiskCache(directory, 1000, 100, 0);
+
+            DiskCache.Entry stored = put(cache, "a");
+            DiskCache.Entry found = cache.get("a").orElseThrow();
+
+            assertEquals(stored, found);
+            assertEquals(ENTRY_SIZE, found.size());
+            assertEquals("etag-a", found.eTag());
+            assertEquals("image/jpeg", found.contentType());
+            assertArrayEquals(content("a"), Files.readAllBytes(found.path()));
+            assertFalse(cache.get("missing").isPresent());
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    void clearsLeftoverFilesOnStart() throws IOException {
+        Path directory = Files.createTempDirectory("disk-cache-test");
+        try {
+            Path leftover = Files.write(directory.resolve("leftover"), new byte[]{1, 2, 3});
+
+            new DiskCache(directory, 1000, 100, 0);
+
+            assertFalse(Files.exists(leftover));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    void rejectsEntriesLargerThanQuarterOfCapacity() throws IOException {
+        Path directory = Files.createTempDirectory("disk-cache-test");
+        try {
+            DiskCache cache = new DiskCache(directory, 400, 100, 0);
+
+            assertTrue(cache.admit("fits", 100));
+            assertFalse(cache.admit("too-large", 101));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    void admitsColdKeyOnlyWhileThereIsRoom() throws IOException {
+        Path directory = Files.createTempDirectory("disk-cache-test");
+        try {
+            DiskCache cache = new DiskCache(directory, 400, 100, 0);
+            assertTrue(cache.admit("a", ENTRY_SIZE));
+            put(cache, "a");
+            put(cache, "b");
+            put(cache, "c");
+            put(cache, "d");
+
+            // 가득 찬 상태에서 한 번도 조회되지 않은 키는 같은 빈도의 항목을 밀어내지 못함
+            assertFalse(cache.admit("e", ENTRY_SIZE));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    void admitsKeyMoreFrequentThanVictims() throws IOException {
+        Path directory = Files.createTempDirectory("disk-cache-test");
+        try {
+            DiskCache cache = new DiskCache(directory, 400, 100, 0);
+            put(cache, "a");
+            put(cache, "b");
+            put(cache, "c");
+            put(cache, "d");
+
+            cache.get("e");
+            cache.get("e");
+
+            assertTrue(cache.admit("e", ENTRY_SIZE));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    void rejectsKeyWhenVictimIsMoreFrequent() throws IOException {
+        Path directory = Files.createTempDirectory("disk-cache-test");
+        try {
+            DiskCache cache = new DiskCache(directory, 400, 100, 0);
+            put(cache, "a");
+            put(cache, "b");
+            put(cache, "c");
+            put(cache, "d");
+            for (int i = 0; i < 3; i++) {
+                cache.get("a");
+                cache.get("b");
+                cache.get("c");
+                cache.get("d");
+            }
+
+            cache.get("e");
+
+            assertFalse(cache.admit("e", ENTRY_SIZE));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() throws IOException {
+        Path directory = Files.createTempDirectory("disk-cache-test");
+        try {
+            DiskCache cache = new DiskCache(directory, 400, 100, 0);
+            put(cache, "a");
+            Path bPath = put(cache, "b").path();
+            put(cache, "c");
+            put(cache, "d");
+            cache.get("a");
+
+            put(cache, "e");
+
+            // 가장 오래 조회되지 않은 b가 제거되고, 유예 시간(0)이 지나 파일도 삭제됨
+            assertFalse(cache.peek("b").isPresent());
+            assertFalse(Files.exists(bPath));
+            assertTrue(cache.peek("a").isPresent());
+            assertTrue(cache.peek("e").isPresent());
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    void keepsFileWhenKeyIsStoredAgain() throws IOException {
+        Path directory = Files.createTempDirectory("disk-cache-test");
+        try {
+            DiskCache cache = new DiskCache(directory, 1000, 100, 0);
+            put(cache, "a");
+            cache.evict("a");
+
+            // 같은 키는 같은 파일명을 쓰므로 제거 대기 중인 파일이 다시 저장된 내용을 지우지 않아야 함
+            DiskCache.Entry stored = put(cache, "a");
+            put(cache, "b");
+
+            assertTrue(Files.exists(stored.path()));
+            assertArrayEquals(content("a"), Files.readAllBytes(stored.path()));
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test
+    void evictsMatchingKeys() throws IOException {
+        Path directory = Files.createTempDirectory("disk-cache-test");
+        try {
+            DiskCache cache = new DiskCache(directory, 1000, 100, 0);
+            put(cache, "photo-1:thumb");
+            put(cache, "photo-1:preview");
+            put(cache, "photo-2:thumb");
+
+            cache.evictIf(key -> key.startsWith("photo-1:"));
+
+            assertFalse(cache.peek("photo-1:thumb").isPresent());
+            assertFalse(cache.peek("photo-1:preview").isPresent());
+            assertTrue(cache.peek("photo-2:thumb").isPresent());
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private static DiskCache.Entry put(DiskCache cache, String key) {
+        return cache.put(key, "etag-" + key, "image/jpeg", out -> out.write(content(key)));
+    }
+
+    private static byte[] content(String key) {
+        byte[] bytes = new byte[ENTRY_SIZE];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (key.hashCode() + i);
+        }
+        return bytes;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.codeZero.photoMap.service.photo.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrequencySketchTest {
+
+    @Test
+    void countsAccessesPerKey() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("hot");
+        }
+        sketch.increment("warm");
+
+        assertEquals(5, sketch.frequency("hot"));
+        assertEquals(1, sketch.frequency("warm"));
+        assertEquals(0, sketch.frequency("cold"));
+    }
+
+    @Test
+    void saturatesAtFifteen() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+
+        for (int i = 0; i < 100; i++) {
+            sketch.increment("hot");
+        }
+
+        assertEquals(15, sketch.frequency("hot"));
+    }
+
+    @Test
+    void neverUnderestimates() {
+        // Count-Min Sketch는 충돌로 과대 추정할 수는 있어도 실제보다 작게 추정하지 않음 (aging 전까지)
+        FrequencySketch sketch = new FrequencySketch(64);
+
+        for (int key = 0; key < 200; key++) {
+            for (int i = 0; i < key % 4; i++) {
+                sketch.increment("key-" + key);
+            }
+        }
+
+        for (int key = 0; key < 200; key++) {
+            assertTrue(sketch.frequency("key-" + key) >= key % 4, "key-" + key);
+        }
+    }
+
+    @Test
+    void halvesCountersAfterSampleSize() {
+        // 너비 128 -> 샘플 크기 1280: 다른 키로 기록 수를 채우면 모든 카운터가 절반으로 줄어듦
+        FrequencySketch sketch = new FrequencySketch(64);
+        for (int i = 0; i < 15; i++) {
+            sketch.increment("hot");
+        }
+        assertEquals(15, sketch.frequency("hot"));
+
+        int lowest = 15;
+        for (int i = 0; i < 2000; i++) {
+            sketch.increment("filler-" + i);
+            lowest = Math.min(lowest, sketch.frequency("hot"));
+        }
+
+        assertTrue(lowest <= 7, "aging 후 최소 빈도: " + lowest);
+    }
+}
@@ -0,0 +1,328 @@
+package com.codeZero.photoMap.service.photo.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExifParserTest {
+
+    // 37° 33' 36" = 37.56, 126° 58' 45" = 126.979166...
+    private static final double LATITUDE = 37.56;
+    private static final double LONGITUDE = 126 + 58 / 60.0 + 45 / 3600.0;
+
+    @Test
+    void readsExifFromBigEndianJpeg() {
+        byte[] jpeg = new JpegBuilder(ByteOrder.BIG_ENDIAN).build();
+
+        ImageMetadata metadata = ExifParser.parse(jpeg, jpeg.length);
+
+        assertEquals(1, metadata.orientation());
+        assertEquals(LocalDateTime.of(2024, 5, 1, 12, 30, 15), metadata.capturedAt());
+        assertEquals(LATITUDE, metadata.latitude(), 1e-9);
+        assertEquals(LONGITUDE, metadata.longitude(), 1e-9);
+        assertEquals(4000, metadata.width());
+        assertEquals(3000, metadata.height());
+        assertEquals("Canon", metadata.cameraMake());
+        assertEquals("EOS R5", metadata.cameraModel());
+        assertTrue(metadata.hasLocation());
+    }
+
+    @Test
+    void readsExifFromLittleEndianJpeg() {
+        byte[] jpeg = new JpegBuilder(ByteOrder.LITTLE_ENDIAN).build();
+
+        ImageMetadata metadata = ExifParser.parse(jpeg, jpeg.length);
+
+        assertEquals(LocalDateTime.of(2024, 5, 1, 12, 30, 15), metadata.capturedAt());
+        assertEquals(LATITUDE, metadata.latitude(), 1e-9);
+        assertEquals(LONGITUDE, metadata.longitude(), 1e-9);
+        assertEquals("Canon", metadata.cameraMake());
+    }
+
+    @Test
+    void southAndWestReferencesAreNegative() {
+        byte[] jpeg = new JpegBuilder(ByteOrder.BIG_ENDIAN).gpsRefs('S', 'W').build();
+
+        ImageMetadata metadata = ExifParser.parse(jpeg, jpeg.length);
+
+        assertEquals(-LATITUDE, metadata.latitude(), 1e-9);
+        assertEquals(-LONGITUDE, metadata.longitude(), 1e-9);
+    }
+
+    @Test
+    void zeroZeroGpsMeansNoLocation() {
+        byte[] jpeg = new JpegBuilder(ByteOrder.BIG_ENDIAN).gps(new int[]{0, 1, 0, 1, 0, 1}, new int[]{0, 1, 0, 1, 0, 1}).build();
+
+        ImageMetadata metadata = ExifParser.parse(jpeg, jpeg.length);
+
+        assertNull(metadata.latitude());
+        assertNull(metadata.longitude());
+        assertFalse(metadata.hasLocation());
+    }
+
+    @Test
+    void zeroDenominatorMeansNoLocation() {
+        byte[] jpeg = new JpegBuilder(ByteOrder.BIG_ENDIAN).gps(new int[]{37, 0, 33, 1, 36, 1}, new int[]{126, 1, 58, 1, 45, 1}).build();
+
+        ImageMetadata metadata = ExifParser.parse(jpeg, jpeg.length);
+
+        assertFalse(metadata.hasLocation());
+    }
+
+    @Test
+    void rotatedOrientationSwapsWidthAndHeight() {
+        byte[] jpeg = new JpegBuilder(ByteOrder.BIG_ENDIAN).orientation(6).build();
+
+        ImageMetadata metadata = ExifParser.parse(jpeg, jpeg.length);
+
+        assertEquals(6, metadata.orientation());
+        assertEquals(6, ExifParser.readOrientation(jpeg, jpeg.length));
+        assertEquals(3000, metadata.width());
+        assertEquals(4000, metadata.height());
+    }
+
+    @Test
+    void invalidOrientationFallsBackToDefault() {
+        byte[] jpeg = new JpegBuilder(ByteOrder.BIG_ENDIAN).orientation(9).build();
+
+        assertEquals(1, ExifParser.readOrientation(jpeg, jpeg.length));
+    }
+
+    @Test
+    void usesExifDimensionsWithoutFrameHeader() {
+        byte[] jpeg = new JpegBuilder(ByteOrder.BIG_ENDIAN).withoutFrame().build();
+
+        ImageMetadata metadata = ExifParser.parse(jpeg, jpeg.length);
+
+        assertEquals(6000, metadata.width());
+        assertEquals(4500, metadata.height());
+    }
+
+    @Test
+    void readsPngHeaderSize() {
+        ByteBuffer png = ByteBuffer.allocate(33);
+        png.put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        png.putInt(13).put("IHDR".getBytes(StandardCharsets.US_ASCII)).putInt(1920).putInt(1080);
+
+        ImageMetadata metadata = ExifParser.parse(png.array(), png.capacity());
+
+        assertEquals(1920, metadata.width());
+        assertEquals(1080, metadata.height());
+        assertEquals(1, metadata.orientation());
+    }
+
+    @Test
+    void ignoresValidLengthBeyondBuffer() {
+        byte[] jpeg = new JpegBuilder(ByteOrder.BIG_ENDIAN).build();
+
+        ImageMetadata metadata = ExifParser.parse(jpeg, jpeg.length + 1000);
+
+        assertEquals("Canon", metadata.cameraMake());
+    }
+
+    @Test
+    void truncatedInputNeverThrows() {
+        byte[] jpeg = new JpegBuilder(ByteOrder.LITTLE_ENDIAN).orientation(6).build();
+
+        for (int length = 0; length <= jpeg.length; length++) {
+            byte[] head = Arrays.copyOf(jpeg, length);
+            int validLength = length;
+            assertDoesNotThrow(() -> ExifParser.parse(head, validLength));
+        }
+    }
+
+    @Test
+    void truncatedGpsValuesAreSkipped() {
+        JpegBuilder builder = new JpegBuilder(ByteOrder.BIG_ENDIAN);
+        byte[] jpeg = builder.build();
+
+        // 경도 RATIONAL 값 중간에서 잘린 경우 위치 없이 나머지 값은 읽음
+        ImageMetadata metadata = ExifParser.parse(jpeg, builder.longitudeValueEnd() - 4);
+
+        assertFalse(metadata.hasLocation());
+        assertEquals("Canon", metadata.cameraMake());
+        assertEquals(LocalDateTime.of(2024, 5, 1, 12, 30, 15), metadata.capturedAt());
+    }
+
+    @Test
+    void malformedInputNeverThrows() {
+        Random random = new Random(42);
+        byte[] valid = new JpegBuilder(ByteOrder.BIG_ENDIAN).build();
+
+        for (int i = 0; i < 2000; i++) {
+            // 올바른 파일의 바이트 일부를 임의로 바꿔 잘못된 오프셋/개수/타입을 만듦
+            byte[] corrupted = valid.clone();
+            for (int j = 0; j < 8; j++) {
+                corrupted[2 + random.nextInt(corrupted.length - 2)] = (byte) random.nextInt(256);
+            }
+            assertDoesNotThrow(() -> ExifParser.parse(corrupted, corrupted.length));
+
+            byte[] noise = new byte[random.nextInt(256)];
+            random.nextBytes(noise);
+            if (noise.length >= 2) {
+                noise[0] = (byte) 0xFF;
+                noise[1] = (byte) 0xD8;
+            }
+            assertDoesNotThrow(() -> ExifParser.parse(noise, noise.length));
+        }
+    }
+
+    @Test
+    void nonImageInputHasNoMetadata() {
+        byte[] text = "not an image".getBytes(StandardCharsets.US_ASCII);
+
+        ImageMetadata metadata = ExifParser.parse(text, text.length);
+
+        assertEquals(new ImageMetadata(1, null, null, null, null, null, null, null), metadata);
+    }
+
+    /**
+     * EXIF(APP1)와 SOF0 세그먼트를 가진 최소한의 JPEG 앞부분
+     * TIFF 구조: IFD0(방향, 제조사, 모델, Exif IFD, GPS IFD) -> Exif IFD(촬영 시각, 크기) -> GPS IFD(위도/경도와 방향)
+     */
+    private static final class JpegBuilder {
+
+        private static final int TYPE_ASCII = 2;
+        private static final int TYPE_SHORT = 3;
+        private static final int TYPE_LONG = 4;
+        private static final int TYPE_RATIONAL = 5;
+
+        private final ByteOrder order;
+        private int orientation = 1;
+        private char latitudeRef = 'N';
+        private char longitudeRef = 'E';
+        private int[] latitude = {37, 1, 33, 1, 3600, 100};
+        private int[] longitude = {126, 1, 58, 1, 4500, 100};
+        private boolean frame = true;
+
+        private int longitudeValueEnd;
+
+        private JpegBuilder(ByteOrder order) {
+            this.order = order;
+        }
+
+        private JpegBuilder orientation(int orientation) {
+            this.orientation = orientation;
+            return this;
+        }
+
+        private JpegBuilder gpsRefs(char latitudeRef, char longitudeRef) {
+            this.latitudeRef = latitudeRef;
+            this.longitudeRef = longitudeRef;
+            return this;
+        }
+
+        private JpegBuilder gps(int[] latitude, int[] longitude) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            return this;
+        }
+
+        private JpegBuilder withoutFrame() {
+            this.frame = false;
+            return this;
+        }
+
+        // 파일 앞에서부터 경도 RATIONAL 값이 끝나는 위치 (build 후 유효)
+        private int longitudeValueEnd() {
+            return longitudeValueEnd;
+        }
+
+        private byte[] build() {
+            byte[] make = ascii("Canon");
+            byte[] model = ascii("EOS R5");
+            byte[] dateTime = ascii("2024:05:01 12:30:15");
+
+            int ifd0 = 8;
+            int makeOffset = ifd0 + ifdSize(5);
+            int modelOffset = makeOffset + make.length;
+            int exifIfd = modelOffset + model.length;
+            int dateTimeOffset = exifIfd + ifdSize(3);
+            int gpsIfd = dateTimeOffset + dateTime.length;
+            int latitudeOffset = gpsIfd + ifdSize(4);
+            int longitudeOffset = latitudeOffset + 24;
+            int tiffSize = longitudeOffset + 24;
+
+            ByteBuffer tiff = ByteBuffer.allocate(tiffSize).order(order);
+            tiff.put(order == ByteOrder.LITTLE_ENDIAN ? (byte) 'I' : (byte) 'M');
+            tiff.put(order == ByteOrder.LITTLE_ENDIAN ? (byte) 'I' : (byte) 'M');
+            tiff.putShort((short) 42).putInt(ifd0);
+
+            tiff.putShort((short) 5);
+            shortEntry(tiff, 0x0112, orientation);
+            entry(tiff, 0x010F, TYPE_ASCII, make.length, makeOffset);
+            entry(tiff, 0x0110, TYPE_ASCII, model.length, modelOffset);
+            entry(tiff, 0x8769, TYPE_LONG, 1, exifIfd);
+            entry(tiff, 0x8825, TYPE_LONG, 1, gpsIfd);
+            tiff.putInt(0);
+            tiff.put(make).put(model);
+
+            tiff.putShort((short) 3);
+            entry(tiff, 0x9003, TYPE_ASCII, dateTime.length, dateTimeOffset);
+            shortEntry(tiff, 0xA002, 6000);
+            entry(tiff, 0xA003, TYPE_LONG, 1, 4500);
+            tiff.putInt(0);
+            tiff.put(dateTime);
+
+            tiff.putShort((short) 4);
+            refEntry(tiff, 0x0001, latitudeRef);
+            entry(tiff, 0x0002, TYPE_RATIONAL, 3, latitudeOffset);
+            refEntry(tiff, 0x0003, longitudeRef);
+            entry(tiff, 0x0004, TYPE_RATIONAL, 3, longitudeOffset);
+            tiff.putInt(0);
+            for (int value : latitude) {
+                tiff.putInt(value);
+            }
+            for (int value : longitude) {
+                tiff.putInt(value);
+            }
+
+            // SOI + APP1(Exif) + SOF0(세로 3000, 가로 4000) + SOS - 세그먼트 길이는 항상 빅엔디언 (길이 필드 2바이트 포함)
+            int app1Length = 2 + 6 + tiffSize;
+            ByteBuffer jpeg = ByteBuffer.allocate(2 + 2 + app1Length + (frame ? 2 + 17 : 0) + 2);
+            jpeg.put((byte) 0xFF).put((byte) 0xD8);
+            jpeg.put((byte) 0xFF).put((byte) 0xE1).putShort((short) app1Length);
+            jpeg.put("Exif".getBytes(StandardCharsets.US_ASCII)).put((byte) 0).put((byte) 0);
+            int tiffStart = jpeg.position();
+            jpeg.put(tiff.array());
+            longitudeValueEnd = tiffStart + tiffSize;
+            if (frame) {
+                jpeg.put((byte) 0xFF).put((byte) 0xC0).putShort((short) 17).put((byte) 8)
+                        .putShort((short) 3000).putShort((short) 4000).put(new byte[10]);
+            }
+            jpeg.put((byte) 0xFF).put((byte) 0xDA);
+            return jpeg.array();
+        }
+
+        private static int ifdSize(int entries) {
+            return 2 + entries * 12 + 4;
+        }
+
+        private static byte[] ascii(String value) {
+            return (value + "\0").getBytes(StandardCharsets.US_ASCII);
+        }
+
+        private static void entry(ByteBuffer tiff, int tag, int type, int count, int value) {
+            tiff.putShort((short) tag).putShort((short) type).putInt(count).putInt(value);
+        }
+
+        private static void shortEntry(ByteBuffer tiff, int tag, int value) {
+            tiff.putShort((short) tag).putShort((short) TYPE_SHORT).putInt(1).putShort((short) value).putShort((short) 0);
+        }
+
+        private static void refEntry(ByteBuffer tiff, int tag, char ref) {
+            tiff.putShort((short) tag).putShort((short) TYPE_ASCII).putInt(2).put((byte) ref).put(new byte[3]);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.codeZero.photoMap.service.photo.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ImageProcessorTest {
+
+    private static final int RED = 0xFFFF0000;
+    private static final int BLUE = 0xFF0000FF;
+    private static final int TRANSPARENT = 0x00000000;
+
+    @Test
+    void normalOrientationReturnsSource() {
+        BufferedImage source = new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB);
+
+        assertSame(source, ImageProcessor.applyOrientation(source, 1));
+        assertSame(source, ImageProcessor.applyOrientation(source, 9));
+    }
+
+    @Test
+    void clockwiseRotationSwapsDimensionsAndMovesPixels() {
+        BufferedImage source = new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, RED);
+        source.setRGB(2, 1, BLUE);
+
+        BufferedImage rotated = ImageProcessor.applyOrientation(source, 6);
+
+        assertEquals(2, rotated.getWidth());
+        assertEquals(3, rotated.getHeight());
+        assertEquals(BufferedImage.TYPE_INT_RGB, rotated.getType());
+        // 시계 방향 90도: 왼쪽 위 -> 오른쪽 위, 오른쪽 아래 -> 왼쪽 아래
+        assertEquals(RED, rotated.getRGB(1, 0));
+        assertEquals(BLUE, rotated.getRGB(0, 2));
+    }
+
+    @Test
+    void rotationKeepsAlphaChannel() {
+        BufferedImage source = new BufferedImage(3, 2, BufferedImage.TYPE_INT_ARGB);
+        source.setRGB(0, 0, RED);
+        source.setRGB(1, 0, TRANSPARENT);
+
+        BufferedImage rotated = ImageProcessor.applyOrientation(source, 6);
+
+        assertEquals(BufferedImage.TYPE_INT_ARGB, rotated.getType());
+        assertEquals(RED, rotated.getRGB(1, 0));
+        // 투명한 픽셀이 검은색으로 바뀌지 않음
+        assertEquals(0, rotated.getRGB(1, 1) >>> 24);
+    }
+}
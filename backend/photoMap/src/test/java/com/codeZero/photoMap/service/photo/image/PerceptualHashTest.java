@@ -0,0 +1,93 @@
+package com.codeZero.photoMap.service.photo.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PerceptualHashTest {
+
+    @Test
+    void sameImageHasSameHash() {
+        BufferedImage image = scene(256, 192, 0);
+
+        assertEquals(PerceptualHash.compute(image), PerceptualHash.compute(scene(256, 192, 0)));
+    }
+
+    @Test
+    void resizedImageIsNearDuplicate() {
+        BufferedImage original = scene(512, 384, 0);
+        BufferedImage thumbnail = resize(original, 96, 72);
+
+        int distance = PerceptualHash.distance(PerceptualHash.compute(original), PerceptualHash.compute(thumbnail));
+
+        assertTrue(distance <= 6, "거리: " + distance);
+    }
+
+    @Test
+    void brightenedImageIsNearDuplicate() {
+        int distance = PerceptualHash.distance(PerceptualHash.compute(scene(256, 192, 0)), PerceptualHash.compute(scene(256, 192, 30)));
+
+        assertTrue(distance <= 6, "거리: " + distance);
+    }
+
+    @Test
+    void differentImageIsFar() {
+        BufferedImage mirrored = new BufferedImage(256, 192, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = mirrored.createGraphics();
+        g.drawImage(scene(256, 192, 0), 256, 0, -256, 192, null);
+        g.dispose();
+
+        int distance = PerceptualHash.distance(PerceptualHash.compute(scene(256, 192, 0)), PerceptualHash.compute(mirrored));
+
+        assertTrue(distance >= 16, "거리: " + distance);
+    }
+
+    @Test
+    void handlesImagesSmallerThanHashGrid() {
+        BufferedImage tiny = resize(scene(256, 192, 0), 8, 6);
+
+        int distance = PerceptualHash.distance(PerceptualHash.compute(scene(256, 192, 0)), PerceptualHash.compute(tiny));
+
+        assertTrue(distance <= 16, "거리: " + distance);
+    }
+
+    @Test
+    void distanceCountsDifferingBits() {
+        assertEquals(0, PerceptualHash.distance(0x1234L, 0x1234L));
+        assertEquals(1, PerceptualHash.distance(0L, 1L << 63));
+        assertEquals(64, PerceptualHash.distance(0L, -1L));
+    }
+
+    // 왼쪽 위가 밝고 오른쪽 아래가 어두운 그라디언트 위에 도형을 그린 이미지 (brightness만큼 밝게)
+    private static BufferedImage scene(int width, int height, int brightness) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int value = Math.min(255, 200 - 150 * (x + y) / (width + height) + brightness);
+                image.setRGB(x, y, new Color(value, value, Math.min(255, value + 20)).getRGB());
+            }
+        }
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(Math.min(255, 230 + brightness), Math.min(255, 60 + brightness), Math.min(255, 40 + brightness)));
+        g.fillOval(width / 8, height / 6, width / 3, height / 3);
+        g.setColor(new Color(Math.min(255, 20 + brightness), Math.min(255, 40 + brightness), Math.min(255, 90 + brightness)));
+        g.fillRect(width / 2, height / 2, width / 3, height / 3);
+        g.dispose();
+        return image;
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return resized;
+    }
+}
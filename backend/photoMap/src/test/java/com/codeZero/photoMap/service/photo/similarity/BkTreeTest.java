@@ -0,0 +1,164 @@
+package com.codeZero.photoMap.service.photo.similarity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BkTreeTest {
+
+    @Test
+    void radiusSearchMatchesBruteForce() {
+        Random random = new Random(7);
+        Map<Long, Long> hashes = randomHashes(random, 3000);
+        BkTree tree = new BkTree();
+        hashes.forEach((id, hash) -> tree.add(hash, id));
+
+        for (int query = 0; query < 50; query++) {
+            long hash = nearby(random, hashes.get((long) random.nextInt(hashes.size())), random.nextInt(6));
+            for (int radius : new int[]{0, 3, 8, 12}) {
+                assertEquals(bruteForce(hashes, hash, radius), search(tree, hash, radius), "radius " + radius);
+            }
+        }
+    }
+
+    @Test
+    void reportsHammingDistance() {
+        BkTree tree = new BkTree();
+        tree.add(0b1011L, 1L);
+
+        Map<Long, Integer> found = search(tree, 0b0001L, 64);
+
+        assertEquals(Map.of(1L, 2), found);
+    }
+
+    @Test
+    void keepsEveryIdOfTheSameHash() {
+        BkTree tree = new BkTree();
+        tree.add(42L, 1L);
+        tree.add(42L, 2L);
+        tree.add(42L, 3L);
+
+        assertEquals(Map.of(1L, 0, 2L, 0, 3L, 0), search(tree, 42L, 0));
+        assertEquals(3, tree.size());
+    }
+
+    @Test
+    void removedIdsAreNotFound() {
+        Random random = new Random(11);
+        Map<Long, Long> hashes = randomHashes(random, 1000);
+        BkTree tree = new BkTree();
+        hashes.forEach((id, hash) -> tree.add(hash, id));
+
+        for (long id = 0; id < 1000; id += 2) {
+            assertTrue(tree.remove(hashes.remove(id), id));
+        }
+
+        assertEquals(500, tree.size());
+        for (int query = 0; query < 20; query++) {
+            long hash = random.nextLong();
+            assertEquals(bruteForce(hashes, hash, 24), search(tree, hash, 24));
+        }
+    }
+
+    @Test
+    void removeReturnsFalseForUnknownIdOrHash() {
+        BkTree tree = new BkTree();
+        tree.add(0xFFL, 1L);
+        tree.add(0x0FL, 2L);
+
+        assertFalse(tree.remove(0xFFL, 2L));
+        assertFalse(tree.remove(0xF0L, 1L));
+        assertTrue(tree.remove(0xFFL, 1L));
+        assertFalse(tree.remove(0xFFL, 1L));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    void reusesEmptyNodeWhenHashIsAddedAgain() {
+        BkTree tree = new BkTree();
+        tree.add(1L, 1L);
+        tree.add(3L, 2L);
+        tree.remove(3L, 2L);
+
+        tree.add(3L, 5L);
+
+        assertEquals(Map.of(5L, 0), search(tree, 3L, 0));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    void compactDropsEmptyNodesAndKeepsResults() {
+        Random random = new Random(13);
+        Map<Long, Long> hashes = randomHashes(random, 5000);
+        BkTree tree = new BkTree();
+        hashes.forEach((id, hash) -> tree.add(hash, id));
+
+        assertFalse(tree.needsCompaction());
+        for (long id = 0; id < 4000; id++) {
+            tree.remove(hashes.remove(id), id);
+        }
+        assertTrue(tree.needsCompaction());
+
+        BkTree compacted = tree.compact();
+
+        assertFalse(compacted.needsCompaction());
+        assertEquals(1000, compacted.size());
+        for (int query = 0; query < 20; query++) {
+            long hash = random.nextLong();
+            assertEquals(bruteForce(hashes, hash, 26), search(compacted, hash, 26));
+        }
+    }
+
+    @Test
+    void searchOnEmptyTreeFindsNothing() {
+        assertEquals(Map.of(), search(new BkTree(), 0L, 64));
+        assertEquals(Map.of(), search(new BkTree().compact(), 0L, 64));
+    }
+
+    // 절반은 무작위, 절반은 이미 있는 해시에서 몇 비트만 바꾼 해시 (유사 사진 분포)
+    private static Map<Long, Long> randomHashes(Random random, int count) {
+        Map<Long, Long> hashes = new HashMap<>();
+        List<Long> values = new ArrayList<>();
+        for (long id = 0; id < count; id++) {
+            long hash = values.isEmpty() || random.nextBoolean()
+                    ? random.nextLong()
+                    : nearby(random, values.get(random.nextInt(values.size())), random.nextInt(8));
+            values.add(hash);
+            hashes.put(id, hash);
+        }
+        return hashes;
+    }
+
+    private static long nearby(Random random, long hash, int flips) {
+        for (int i = 0; i < flips; i++) {
+            hash ^= 1L << random.nextInt(64);
+        }
+        return hash;
+    }
+
+    private static Map<Long, Integer> search(BkTree tree, long hash, int radius) {
+        Map<Long, Integer> found = new HashMap<>();
+        tree.search(hash, radius, (id, distance) -> assertNull(found.put(id, distance), "중복 결과: " + id));
+        return found;
+    }
+
+    private static Map<Long, Integer> bruteForce(Map<Long, Long> hashes, long hash, int radius) {
+        Map<Long, Integer> found = new HashMap<>();
+        hashes.forEach((id, value) -> {
+            int distance = Long.bitCount(value ^ hash);
+            if (distance <= radius) {
+                found.put(id, distance);
+            }
+        });
+        return found;
+    }
+}
@@ -0,0 +1,67 @@
+package com.codeZero.photoMap.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HangulJamoTest {
+
+    @Test
+    void normalizeRemovesWhitespaceAndLowercases() {
+        assertEquals("서울숲2호점", HangulJamo.normalize(" 서울숲 \t2호점 "));
+        assertEquals("seoulforest", HangulJamo.normalize("Seoul Forest"));
+    }
+
+    @Test
+    void normalizeComposesDecomposedSyllables() {
+        String nfd = Normalizer.normalize("서울숲", Normalizer.Form.NFD);
+
+        assertEquals("서울숲", HangulJamo.normalize(nfd));
+    }
+
+    @Test
+    void decomposesSyllablesIntoJamo() {
+        assertEquals("ㅅㅓㅇㅜㄹㅅㅜㅍ", HangulJamo.decompose("서울숲"));
+        assertEquals("abc-1", HangulJamo.decompose("abc-1"));
+    }
+
+    @Test
+    void splitsCompoundVowelsAndFinalConsonants() {
+        assertEquals("ㄱㅗㅏㄴ", HangulJamo.decompose("관"));
+        assertEquals("ㄷㅏㄹㄱ", HangulJamo.decompose("닭"));
+        assertEquals("ㅇㅡㅣ", HangulJamo.decompose("의"));
+        // 낱자로 입력된 겹받침/겹모음도 같은 낱자로 나눔
+        assertEquals("ㄹㄱ", HangulJamo.decompose("ㄺ"));
+        assertEquals("ㅗㅏ", HangulJamo.decompose("ㅘ"));
+    }
+
+    @Test
+    void syllablesBeingTypedArePrefixes() {
+        // "서울"을 입력하는 중간 상태: ㅅ -> 서 -> 성 -> 서우 -> 서울
+        String target = HangulJamo.decompose("서울");
+        for (String partial : new String[]{"ㅅ", "서", "성", "서우", "서울"}) {
+            assertTrue(target.startsWith(HangulJamo.decompose(partial)), partial);
+        }
+        // 겹받침/겹모음이 완성되기 전 상태
+        assertTrue(HangulJamo.decompose("닭갈비").startsWith(HangulJamo.decompose("달")));
+        assertTrue(HangulJamo.decompose("광장").startsWith(HangulJamo.decompose("고")));
+    }
+
+    @Test
+    void extractsInitials() {
+        assertEquals("ㅅㅇㅅ2ㅎㅈ", HangulJamo.initials(HangulJamo.normalize("서울숲 2호점")));
+        assertEquals("ㄲㅊ", HangulJamo.initials("꽃천"));
+    }
+
+    @Test
+    void detectsInitialsOnlyQuery() {
+        assertTrue(HangulJamo.isInitialsOnly("ㅅㅇㅅ"));
+        assertFalse(HangulJamo.isInitialsOnly("ㅅㅇ숲"));
+        assertFalse(HangulJamo.isInitialsOnly("ㅏ"));
+        assertFalse(HangulJamo.isInitialsOnly(""));
+    }
+}
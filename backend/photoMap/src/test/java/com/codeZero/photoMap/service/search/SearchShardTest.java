@@ -0,0 +1,124 @@
+package com.codeZero.photoMap.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SearchShardTest {
+
+    private static final SearchShard SHARD = SearchShard.of(List.of(
+            location(1, "서울숲"),
+            location(2, "서울숲 2호점"),
+            location(3, "남산서울타워"),
+            location(4, "Seoul Forest"),
+            location(5, "닭갈비 골목"),
+            new SearchShard.Entry(SearchTargetType.GROUP, 10, 10, "서울 여행"),
+            new SearchShard.Entry(SearchTargetType.MEMBER, 20, 10, "김서울")
+    ));
+
+    @Test
+    void ranksExactPrefixAndInfixMatches() {
+        assertEquals(Map.of(
+                "LOCATION:1", SearchShard.PREFIX,
+                "LOCATION:2", SearchShard.PREFIX,
+                "LOCATION:3", SearchShard.INFIX,
+                "GROUP:10", SearchShard.PREFIX,
+                "MEMBER:20", SearchShard.INFIX
+        ), search("서울", null));
+        assertEquals(Map.of("LOCATION:1", SearchShard.EXACT, "LOCATION:2", SearchShard.PREFIX), search("서울숲", null));
+    }
+
+    @Test
+    void matchesPartialSyllables() {
+        // 마지막 글자를 입력하는 중인 검색어 ("서울" -> "성", "닭" -> "달")
+        assertEquals(Map.of(
+                "LOCATION:1", SearchShard.PREFIX,
+                "LOCATION:2", SearchShard.PREFIX,
+                "LOCATION:3", SearchShard.INFIX,
+                "GROUP:10", SearchShard.PREFIX,
+                "MEMBER:20", SearchShard.INFIX
+        ), search("성", null));
+        assertEquals(Map.of("LOCATION:1", SearchShard.PREFIX, "LOCATION:2", SearchShard.PREFIX), search("서울수", null));
+        assertEquals(Map.of("LOCATION:5", SearchShard.PREFIX), search("달", null));
+    }
+
+    @Test
+    void matchesInitialsQuery() {
+        assertEquals(Map.of(
+                "LOCATION:1", SearchShard.EXACT,
+                "LOCATION:2", SearchShard.PREFIX
+        ), search("ㅅㅇㅅ", null));
+        assertEquals(Map.of("LOCATION:5", SearchShard.PREFIX), search("ㄷㄱㅂ", null));
+        assertEquals(Map.of("LOCATION:3", SearchShard.INFIX), search("ㅅㅇㅌ", null));
+    }
+
+    @Test
+    void ignoresCaseAndWhitespace() {
+        assertEquals(Map.of("LOCATION:4", SearchShard.EXACT), search("seoul forest", null));
+        assertEquals(Map.of("LOCATION:4", SearchShard.PREFIX), search("SEOULF", null));
+        assertEquals(Map.of("LOCATION:2", SearchShard.INFIX), search("숲 2", null));
+    }
+
+    @Test
+    void filtersByTargetType() {
+        assertEquals(Map.of("MEMBER:20", SearchShard.INFIX), search("서울", SearchTargetType.MEMBER));
+        assertEquals(Map.of("GROUP:10", SearchShard.PREFIX), search("서울", SearchTargetType.GROUP));
+    }
+
+    @Test
+    void findsNothingForMissingGram() {
+        assertEquals(Map.of(), search("부산", null));
+        assertEquals(Map.of(), search("ㅋ", null));
+        assertEquals(Map.of(), search("숲서", null));
+    }
+
+    @Test
+    void withReplacesEntryOfSameTarget() {
+        SearchShard renamed = SHARD.with(location(1, "성수동"));
+
+        assertEquals(SHARD.size(), renamed.size());
+        assertEquals(Map.of("LOCATION:1", SearchShard.EXACT), search(renamed, "성수동", null));
+        assertEquals(Map.of("LOCATION:2", SearchShard.EXACT), search(renamed, "서울숲2호점", null));
+        assertEquals(SHARD.size() + 1, SHARD.with(location(6, "성수동")).size());
+    }
+
+    @Test
+    void withoutRemovesEntry() {
+        SearchShard removed = SHARD.without(SearchTargetType.LOCATION, 1);
+
+        assertEquals(SHARD.size() - 1, removed.size());
+        assertEquals(Map.of("LOCATION:2", SearchShard.PREFIX), search(removed, "서울숲", null));
+        assertSame(SHARD, SHARD.without(SearchTargetType.LOCATION, 999));
+        // 종류가 다르면 같은 ID여도 제거하지 않음
+        assertSame(SHARD, SHARD.without(SearchTargetType.MEMBER, 1));
+    }
+
+    @Test
+    void emptyShardFindsNothing() {
+        assertEquals(Map.of(), search(SearchShard.EMPTY, "서울", null));
+    }
+
+    private static SearchShard.Entry location(long id, String name) {
+        return new SearchShard.Entry(SearchTargetType.LOCATION, id, 10, name);
+    }
+
+    private static Map<String, Integer> search(String query, SearchTargetType type) {
+        return search(SHARD, query, type);
+    }
+
+    // SearchIndex.search와 같은 방식으로 검색어를 변환하고 항목마다 가장 좋은 일치 등급만 남김
+    private static Map<String, Integer> search(SearchShard shard, String query, SearchTargetType type) {
+        String normalized = HangulJamo.normalize(query);
+        String initialsQuery = HangulJamo.isInitialsOnly(normalized) ? normalized : null;
+
+        Map<String, Integer> ranks = new TreeMap<>();
+        shard.search(HangulJamo.decompose(normalized), initialsQuery, type,
+                (entry, rank) -> ranks.merge(entry.type() + ":" + entry.id(), rank, Math::min));
+        return ranks;
+    }
+}
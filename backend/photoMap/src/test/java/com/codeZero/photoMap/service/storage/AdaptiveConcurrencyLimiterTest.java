@@ -0,0 +1,89 @@
+package com.codeZero.photoMap.service.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void rejectsBeyondLimitWithoutWaiting() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(3, 1, 10);
+
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquireAll(limiter);
+
+        assertEquals(3, permits.size());
+        assertNull(limiter.tryAcquire());
+
+        // 하나를 반납하면 다시 허가
+        permits.get(0).release(false);
+        assertNotNull(limiter.tryAcquire());
+    }
+
+    @Test
+    void releasingTwiceFreesOnlyOneSlot() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 2, 2);
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquireAll(limiter);
+
+        permits.get(0).release(false);
+        permits.get(0).release(false);
+
+        assertNotNull(limiter.tryAcquire());
+        assertNull(limiter.tryAcquire());
+    }
+
+    @Test
+    void overloadShrinksLimitDownToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 8);
+
+        acquireAll(limiter).forEach(permit -> permit.release(true));
+        List<AdaptiveConcurrencyLimiter.Permit> afterOneRound = acquireAll(limiter);
+        assertTrue(afterOneRound.size() < 8, "과부하 응답 후 한도 감소: " + afterOneRound.size());
+        afterOneRound.forEach(permit -> permit.release(true));
+
+        for (int i = 0; i < 50; i++) {
+            acquireAll(limiter).forEach(permit -> permit.release(true));
+        }
+        assertEquals(2, capacity(limiter));
+    }
+
+    @Test
+    void steadyResponsesGrowLimitUpToMaximum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 12);
+
+        for (int i = 0; i < 200; i++) {
+            acquireAll(limiter).forEach(permit -> permit.release(false));
+        }
+
+        int grown = capacity(limiter);
+        assertTrue(grown > 4 && grown <= 12, "한도가 최대치 안에서 증가: " + grown);
+    }
+
+    @Test
+    void initialLimitIsClampedToBounds() {
+        assertEquals(5, capacity(new AdaptiveConcurrencyLimiter(100, 1, 5)));
+        assertEquals(3, capacity(new AdaptiveConcurrencyLimiter(1, 3, 5)));
+        // 최소 한도는 1 이상
+        assertEquals(1, capacity(new AdaptiveConcurrencyLimiter(0, 0, 0)));
+    }
+
+    private static List<AdaptiveConcurrencyLimiter.Permit> acquireAll(AdaptiveConcurrencyLimiter limiter) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        AdaptiveConcurrencyLimiter.Permit permit;
+        while ((permit = limiter.tryAcquire()) != null) {
+            permits.add(permit);
+        }
+        return permits;
+    }
+
+    // 현재 동시에 받을 수 있는 허가 수 (받은 허가는 반납하지 않으므로 테스트 마지막에만 사용)
+    private static int capacity(AdaptiveConcurrencyLimiter limiter) {
+        return acquireAll(limiter).size();
+    }
+}
@@ -0,0 +1,130 @@
+package com.codeZero.photoMap.service.storage;
+
+import com.codeZero.photoMap.common.exception.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryObjectStorageTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    private final InMemoryObjectStorage storage = new InMemoryObjectStorage("http://localhost:8080/", "test-key");
+
+    @Test
+    void putAndGet() throws IOException {
+        storage.put("photos/a.jpg", CONTENT, "image/jpeg");
+        storage.put("photos/b.jpg", new ByteArrayInputStream(CONTENT), "image/jpeg");
+
+        assertArrayEquals(CONTENT, read(storage.get("photos/a.jpg")));
+        assertArrayEquals(CONTENT, read(storage.get("photos/b.jpg")));
+    }
+
+    @Test
+    void putCopiesBytes() throws IOException {
+        byte[] bytes = CONTENT.clone();
+        storage.put("photos/a.jpg", bytes, "image/jpeg");
+
+        // 저장 후 원본 배열을 바꿔도 저장된 내용은 그대로여야 함
+        bytes[0] = 'X';
+
+        assertArrayEquals(CONTENT, read(storage.get("photos/a.jpg")));
+    }
+
+    @Test
+    void getMissingKeyThrowsNotFound() {
+        assertThrows(NotFoundException.class, () -> storage.get("photos/missing.jpg"));
+        assertThrows(NotFoundException.class, () -> storage.getRange("photos/missing.jpg", 0, 1));
+    }
+
+    @Test
+    void getRangeIsInclusiveAndClampedToSize() throws IOException {
+        storage.put("photos/a.jpg", CONTENT, "image/jpeg");
+
+        assertEquals("234", new String(read(storage.getRange("photos/a.jpg", 2, 4)), StandardCharsets.UTF_8));
+        assertEquals("89", new String(read(storage.getRange("photos/a.jpg", 8, 100)), StandardCharsets.UTF_8));
+        assertEquals(0, read(storage.getRange("photos/a.jpg", 20, 30)).length);
+    }
+
+    @Test
+    void headReturnsMd5ETag() {
+        Instant before = Instant.now();
+        storage.put("photos/a.jpg", CONTENT, "image/jpeg");
+
+        ObjectInfo info = storage.head("photos/a.jpg").orElseThrow();
+
+        assertEquals("photos/a.jpg", info.key());
+        assertEquals(CONTENT.length, info.size());
+        assertEquals("image/jpeg", info.contentType());
+        // "0123456789"의 MD5
+        assertEquals("781e5e245d69b566979b86e28d23f2c7", info.eTag());
+        assertFalse(info.lastModified().isBefore(before));
+        assertTrue(storage.exists("photos/a.jpg"));
+        assertTrue(storage.head("photos/missing.jpg").isEmpty());
+    }
+
+    @Test
+    void deleteAndDeleteAll() {
+        storage.put("photos/a.jpg", CONTENT, "image/jpeg");
+        storage.put("photos/b.jpg", CONTENT, "image/jpeg");
+        storage.put("photos/c.jpg", CONTENT, "image/jpeg");
+
+        storage.delete("photos/a.jpg");
+        List<String> failedKeys = storage.deleteAll(List.of("photos/b.jpg", "photos/missing.jpg"));
+
+        assertTrue(failedKeys.isEmpty());
+        assertFalse(storage.exists("photos/a.jpg"));
+        assertFalse(storage.exists("photos/b.jpg"));
+        assertTrue(storage.exists("photos/c.jpg"));
+    }
+
+    @Test
+    void presignedUrlsAreSignedPerMethod() {
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        long expires = expiresAt.getEpochSecond();
+        StorageUrlSigner signer = storage.getSigner();
+
+        String getUrl = storage.presignGet("photos/내 사진.jpg", expiresAt);
+        String putUrl = storage.presignPut("photos/내 사진.jpg", "image/jpeg", expiresAt);
+
+        // base-url 끝의 "/"는 제거되고 key는 경로 인코딩됨
+        String prefix = "http://localhost:8080/storage/photos/%EB%82%B4%20%EC%82%AC%EC%A7%84.jpg?expires=" + expires + "&signature=";
+        assertTrue(getUrl.startsWith(prefix));
+        assertTrue(putUrl.startsWith(prefix));
+
+        String getSignature = getUrl.substring(prefix.length());
+        String putSignature = putUrl.substring(prefix.length());
+        assertTrue(signer.verify("GET", "photos/내 사진.jpg", expires, getSignature));
+        assertTrue(signer.verify("PUT", "photos/내 사진.jpg", expires, putSignature));
+
+        // GET 서명으로 PUT 요청을 하거나 만료 시각을 바꿀 수 없어야 함
+        assertFalse(signer.verify("PUT", "photos/내 사진.jpg", expires, getSignature));
+        assertFalse(signer.verify("GET", "photos/내 사진.jpg", expires + 1, getSignature));
+    }
+
+    @Test
+    void expiredSignatureIsRejected() {
+        StorageUrlSigner signer = storage.getSigner();
+        long expired = Instant.now().minusSeconds(1).getEpochSecond();
+
+        assertFalse(signer.verify("GET", "photos/a.jpg", expired, signer.sign("GET", "photos/a.jpg", expired)));
+        assertFalse(signer.verify("GET", "photos/a.jpg", Instant.now().plusSeconds(60).getEpochSecond(), null));
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.codeZero.photoMap.service.storage;
+
+import com.codeZero.photoMap.common.exception.IllegalArgumentException;
+import com.codeZero.photoMap.common.exception.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalObjectStorageTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path rootDir;
+
+    private LocalObjectStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalObjectStorage(rootDir.toString(), "http://localhost:8080", "test-key");
+    }
+
+    @Test
+    void putCreatesDirectoriesAndLeavesNoTempFile() throws IOException {
+        storage.put("photos/1/a.jpg", CONTENT, "image/jpeg");
+        storage.put("photos/1/b.jpg", new ByteArrayInputStream(CONTENT), "image/jpeg");
+
+        assertArrayEquals(CONTENT, Files.readAllBytes(rootDir.resolve("photos/1/a.jpg")));
+        assertArrayEquals(CONTENT, read(storage.get("photos/1/b.jpg")));
+
+        // 임시 파일은 이동 후 남지 않아야 함
+        try (Stream<Path> files = Files.list(rootDir.resolve("photos/1"))) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void putOverwritesExistingFile() throws IOException {
+        storage.put("photos/a.jpg", CONTENT, "image/jpeg");
+        storage.put("photos/a.jpg", "new".getBytes(StandardCharsets.UTF_8), "image/jpeg");
+
+        assertEquals("new", new String(read(storage.get("photos/a.jpg")), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void getMissingKeyThrowsNotFound() {
+        assertThrows(NotFoundException.class, () -> storage.get("photos/missing.jpg"));
+        assertThrows(NotFoundException.class, () -> storage.getRange("photos/missing.jpg", 0, 1));
+    }
+
+    @Test
+    void getRangeIsInclusive() throws IOException {
+        storage.put("photos/a.jpg", CONTENT, "image/jpeg");
+
+        assertEquals("234", new String(read(storage.getRange("photos/a.jpg", 2, 4)), StandardCharsets.UTF_8));
+        assertEquals("89", new String(read(storage.getRange("photos/a.jpg", 8, 100)), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void headReturnsSizeAndETag() {
+        storage.put("photos/a.jpg", CONTENT, "image/jpeg");
+
+        ObjectInfo info = storage.head("photos/a.jpg").orElseThrow();
+
+        assertEquals("photos/a.jpg", info.key());
+        assertEquals(CONTENT.length, info.size());
+        assertTrue(info.eTag().startsWith(Long.toHexString(CONTENT.length) + "-"));
+        assertTrue(storage.exists("photos/a.jpg"));
+
+        // 없는 파일과 디렉토리는 오브젝트로 취급하지 않음
+        assertTrue(storage.head("photos/missing.jpg").isEmpty());
+        assertTrue(storage.head("photos").isEmpty());
+    }
+
+    @Test
+    void eTagChangesWhenContentChanges() throws IOException {
+        storage.put("photos/a.jpg", CONTENT, "image/jpeg");
+        String before = storage.head("photos/a.jpg").orElseThrow().eTag();
+
+        storage.put("photos/a.jpg", "changed content".getBytes(StandardCharsets.UTF_8), "image/jpeg");
+        Files.setLastModifiedTime(rootDir.resolve("photos/a.jpg"),
+                FileTime.from(Instant.now().plusSeconds(10)));
+
+        assertNotEquals(before, storage.head("photos/a.jpg").orElseThrow().eTag());
+    }
+
+    @Test
+    void deleteAllReturnsFailedKeys() throws IOException {
+        storage.put("photos/a.jpg", CONTENT, "image/jpeg");
+        storage.put("photos/b.jpg", CONTENT, "image/jpeg");
+        // 비어 있지 않은 디렉토리는 삭제에 실패함
+        storage.put("photos/dir/c.jpg", CONTENT, "image/jpeg");
+
+        List<String> failedKeys = storage.deleteAll(List.of("photos/a.jpg", "photos/missing.jpg", "photos/dir", "photos/b.jpg"));
+
+        assertEquals(List.of("photos/dir"), failedKeys);
+        assertFalse(storage.exists("photos/a.jpg"));
+        assertFalse(storage.exists("photos/b.jpg"));
+        assertTrue(storage.exists("photos/dir/c.jpg"));
+    }
+
+    @Test
+    void keyOutsideRootDirIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> storage.put("../escape.jpg", CONTENT, "image/jpeg"));
+        assertThrows(IllegalArgumentException.class, () -> storage.get("photos/../../escape.jpg"));
+        assertThrows(IllegalArgumentException.class, () -> storage.delete("../escape.jpg"));
+        assertFalse(Files.exists(rootDir.getParent().resolve("escape.jpg")));
+    }
+
+    @Test
+    void presignedUrlPointsToStorageController() {
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        long expires = expiresAt.getEpochSecond();
+
+        String url = storage.presignGet("photos/a.jpg", expiresAt);
+
+        String prefix = "http://localhost:8080" + AppServedObjectStorage.URL_PREFIX + "photos/a.jpg?expires=" + expires + "&signature=";
+        assertTrue(url.startsWith(prefix));
+        assertTrue(storage.getSigner().verify("GET", "photos/a.jpg", expires, url.substring(prefix.length())));
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+}
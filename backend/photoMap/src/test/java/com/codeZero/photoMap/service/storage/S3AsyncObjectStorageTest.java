@@ -0,0 +1,139 @@
+package com.codeZero.photoMap.service.storage;
+
+import com.codeZero.photoMap.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3AsyncObjectStorageTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    @Test
+    void smallStreamIsUploadedWithSinglePut() {
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        AsyncObjectStorage.await(storage(16).put("photos/a.jpg", new ByteArrayInputStream(new byte[1024]), "image/jpg"));
+
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3AsyncClient).putObject(request.capture(), any(AsyncRequestBody.class));
+        assertEquals(1024L, request.getValue().contentLength());
+        assertEquals("image/jpg", request.getValue().contentType());
+        verify(s3AsyncClient, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    // 버퍼 2개로 파트 3개를 올리므로, 전송이 끝난 버퍼가 반납되지 않으면 멈춤
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void largeStreamIsUploadedInPartsAndCompleted() {
+        stubCreateMultipartUpload();
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenAnswer(invocation -> {
+                    UploadPartRequest part = invocation.getArgument(0);
+                    return CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("etag-" + part.partNumber()).build());
+                });
+        when(s3AsyncClient.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+
+        byte[] content = new byte[PART_SIZE * 2 + 100];
+        AsyncObjectStorage.await(storage(2).put("photos/large.jpg", new ByteArrayInputStream(content), "image/jpg"));
+
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3AsyncClient, times(3)).uploadPart(parts.capture(), any(AsyncRequestBody.class));
+        assertEquals(List.of((long) PART_SIZE, (long) PART_SIZE, 100L),
+                parts.getAllValues().stream().map(UploadPartRequest::contentLength).toList());
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3AsyncClient).completeMultipartUpload(complete.capture());
+        assertEquals("upload-1", complete.getValue().uploadId());
+        assertEquals(List.of("etag-1", "etag-2", "etag-3"),
+                complete.getValue().multipartUpload().parts().stream().map(CompletedPart::eTag).toList());
+        verify(s3AsyncClient, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void failedPartAbortsUploadWithoutReadingRest() {
+        S3Exception failure = (S3Exception) S3Exception.builder().statusCode(500).message("internal error").build();
+        stubCreateMultipartUpload();
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenAnswer(invocation -> {
+                    UploadPartRequest part = invocation.getArgument(0);
+                    return part.partNumber() == 2
+                            ? CompletableFuture.failedFuture(failure)
+                            : CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("etag").build());
+                });
+        when(s3AsyncClient.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+
+        byte[] content = new byte[PART_SIZE * 3 + 100];
+        CompletableFuture<Void> result = storage(16).put("photos/large.jpg", new ByteArrayInputStream(content), "image/jpg");
+
+        S3Exception thrown = assertThrows(S3Exception.class, () -> AsyncObjectStorage.await(result));
+        assertSame(failure, thrown);
+        // 2번 파트가 실패하면 3번 파트부터는 읽지 않음
+        verify(s3AsyncClient, times(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3AsyncClient).abortMultipartUpload(abort.capture());
+        assertEquals("upload-1", abort.getValue().uploadId());
+        verify(s3AsyncClient, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void requestBeyondConcurrencyLimitFailsFast() {
+        // 첫 요청이 끝나지 않은 상태로 한도(1)를 채움
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(new CompletableFuture<>());
+        S3AsyncObjectStorage storage = new S3AsyncObjectStorage(s3AsyncClient, "bucket", 1, 1, 1, 5, 16);
+
+        storage.put("photos/a.jpg", new byte[10], "image/jpg");
+        CompletableFuture<Void> rejected = storage.put("photos/b.jpg", new byte[10], "image/jpg");
+
+        assertThrows(ServiceUnavailableException.class, () -> AsyncObjectStorage.await(rejected));
+        verify(s3AsyncClient, times(1)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+    }
+
+    private S3AsyncObjectStorage storage(int maxBuffers) {
+        return new S3AsyncObjectStorage(s3AsyncClient, "bucket", 64, 16, 4, 5, maxBuffers);
+    }
+
+    private void stubCreateMultipartUpload() {
+        when(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId("upload-1").build()));
+    }
+}